@@ -0,0 +1,96 @@
+package com.team19.musuimsa.shelter.index;
+
+import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 기존 findNearbyShelters(ACOS 전수 계산 + 정렬)와 인덱스 기반 k-NN/반경 검색의 지연 비교.
+// DB I/O 는 제외하고, 기존 쿼리가 행마다 수행하던 계산(구면 코사인 법칙 2회 + 정렬)만 동일하게 재현한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearbySearchBenchmark {
+
+    @Param({"60000", "1000000"})
+    int size;
+
+    @Param({"1000", "3000"})
+    int radius;
+
+    private double[] lats;
+    private double[] lngs;
+    private ShelterIndexSnapshot snapshot;
+
+    // 서울 시청 부근 (밀집 지역)
+    private final double userLat = 37.5665;
+    private final double userLng = 126.9780;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(19);
+        lats = new double[size];
+        lngs = new double[size];
+        List<MapShelterRow> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // 국토 범위 균등 분포 + 30% 는 수도권 밀집
+            boolean metro = random.nextDouble() < 0.3;
+            lats[i] = metro ? 37.3 + random.nextDouble() * 0.5 : 33.0 + random.nextDouble() * 5.5;
+            lngs[i] = metro ? 126.7 + random.nextDouble() * 0.6 : 125.0 + random.nextDouble() * 4.5;
+            rows.add(new MapShelterRow((long) i + 1, "s", "a", lats[i], lngs[i], true, false, 10, null,
+                    null, null, null, null, null, null, null, null, null, null, 0L, 0L));
+        }
+        snapshot = ShelterIndexSnapshot.build(rows);
+    }
+
+    @Benchmark
+    public long[] legacyAcosFullScan() {
+        double[] dist = new double[size];
+        int[] hit = new int[size];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            double d = acosDistance(userLat, userLng, lats[i], lngs[i]);
+            if (acosDistance(userLat, userLng, lats[i], lngs[i]) <= radius) {
+                dist[n] = d;
+                hit[n++] = i;
+            }
+        }
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(dist[a], dist[b]));
+        long[] out = new long[n];
+        for (int i = 0; i < n; i++) {
+            out[i] = hit[order[i]] + 1L;
+        }
+        return out;
+    }
+
+    @Benchmark
+    public List<NearbyHit> indexRadius() {
+        return snapshot.nearest(userLat, userLng, radius, null);
+    }
+
+    @Benchmark
+    public List<NearbyHit> indexTop20() {
+        return snapshot.nearest(userLat, userLng, radius, 20);
+    }
+
+    private static double acosDistance(double lat, double lng, double sLat, double sLng) {
+        return 6371000 * Math.acos(
+                Math.cos(Math.toRadians(lat)) * Math.cos(Math.toRadians(sLat))
+                        * Math.cos(Math.toRadians(sLng) - Math.toRadians(lng))
+                        + Math.sin(Math.toRadians(lat)) * Math.sin(Math.toRadians(sLat)));
+    }
+}
@@ -0,0 +1,177 @@
+package com.team19.musuimsa.shelter.service;
+
+import com.team19.musuimsa.shelter.dto.OperatingHoursResponse;
+import com.team19.musuimsa.shelter.dto.map.MapShelterResponse;
+import com.team19.musuimsa.shelter.util.DistanceOrigin;
+import com.team19.musuimsa.shelter.util.MapTiles;
+import com.team19.musuimsa.shelter.util.ShelterDtoUtils;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 지도 응답 캐시 키 설계별 적중률과, 캐시 조회 후 요청마다 붙이는 거리 계산 비용 비교.
+// 적중률은 hits/misses 보조 카운터(EVENTS)로 출력되며 hit rate = hits / (hits + misses) 이다.
+// - userKeyed: bbox + 사용자 위치를 키에 넣는 방식 (거리를 캐시에 구워 넣으려면 필요)
+// - bboxKeyed: 사용자 무관 bbox 키 (뷰포트가 조금만 움직여도 다른 키)
+// - tileKeyed: 현재 방식, 뷰포트를 덮는 XYZ 타일 키
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapPayloadBenchmark {
+
+    private static final int REQUESTS = 100_000;
+    private static final int CACHE_ENTRIES = 10_000;
+
+    @Param({"50", "200"})
+    int pageSize;
+
+    private List<MapShelterResponse> page;
+    private double userLat;
+    private double userLng;
+
+    // 사용자들이 서울 도심에서 조금씩 지도를 움직이는 요청열
+    private double[][] requests;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(19);
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(new MapShelterResponse((long) i + 1, "쉼터" + i, "주소" + i,
+                    37.55 + random.nextDouble() * 0.03, 126.96 + random.nextDouble() * 0.04,
+                    null, true, 10, null, new OperatingHoursResponse("09:00~18:00", null), 4.0));
+        }
+        userLat = 37.5665;
+        userLng = 126.9780;
+
+        int users = 500;
+        double[][] at = new double[users][];
+        for (int u = 0; u < users; u++) {
+            at[u] = new double[]{37.50 + random.nextDouble() * 0.12, 126.90 + random.nextDouble() * 0.18};
+        }
+        requests = new double[REQUESTS][];
+        for (int i = 0; i < REQUESTS; i++) {
+            int u = random.nextInt(users);
+            at[u][0] += (random.nextDouble() - 0.5) * 0.004;
+            at[u][1] += (random.nextDouble() - 0.5) * 0.004;
+            double lat = at[u][0];
+            double lng = at[u][1];
+            // zoom 15 뷰포트 (약 1.1km x 1.8km), 사용자는 뷰포트 중심 근처
+            requests[i] = new double[]{lat - 0.005, lng - 0.01, lat + 0.005, lng + 0.01,
+                    lat + (random.nextDouble() - 0.5) * 0.002, lng + (random.nextDouble() - 0.5) * 0.002};
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HitRate {
+
+        public long hits;
+        public long misses;
+
+        int cursor;
+        Map<String, Boolean> lru;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+            lru = new LinkedHashMap<>(CACHE_ENTRIES * 2, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > CACHE_ENTRIES;
+                }
+            };
+        }
+
+        void lookup(String key) {
+            if (lru.get(key) != null) {
+                hits++;
+            } else {
+                misses++;
+                lru.put(key, Boolean.TRUE);
+            }
+        }
+
+        double[] next(double[][] requests) {
+            double[] r = requests[cursor];
+            cursor = (cursor + 1) % requests.length;
+            return r;
+        }
+    }
+
+    @Benchmark
+    public int userKeyed(HitRate state) {
+        double[] r = state.next(requests);
+        String key = String.format(Locale.US, "%.4f:%.4f:%.4f:%.4f:15:%.4f:%.4f",
+                r[0], r[1], r[2], r[3], r[4], r[5]);
+        state.lookup(key);
+        return key.length();
+    }
+
+    @Benchmark
+    public int bboxKeyed(HitRate state) {
+        double[] r = state.next(requests);
+        String key = String.format(Locale.US, "%.4f:%.4f:%.4f:%.4f:15", r[0], r[1], r[2], r[3]);
+        state.lookup(key);
+        return key.length();
+    }
+
+    @Benchmark
+    public int tileKeyed(HitRate state) {
+        double[] r = state.next(requests);
+        int z = MapTiles.tileZoomFor(MapTiles.levelFor(r[0], r[1], r[2], r[3], 15), 15);
+        int n = 0;
+        for (MapTiles.Tile tile : MapTiles.covering(r[0], r[1], r[2], r[3], z)) {
+            state.lookup(tile.cacheKey(0));
+            n++;
+        }
+        return n;
+    }
+
+    // 기존: 항목마다 사용자 쪽 삼각함수까지 다시 계산하고 String.format 으로 km 표기
+    @Benchmark
+    public List<MapShelterResponse> decorateLegacy() {
+        List<MapShelterResponse> out = new ArrayList<>(page.size());
+        for (MapShelterResponse s : page) {
+            double meters = ShelterDtoUtils.haversineMeters(userLat, userLng, s.latitude(), s.longitude());
+            String distance = meters < 999.5
+                    ? Math.round(meters) + "m"
+                    : String.format(Locale.US, "%.1fkm", meters / 1000.0);
+            out.add(copyWithDistance(s, distance));
+        }
+        return out;
+    }
+
+    // 현재: 사용자 쪽 값은 한 번만 계산하고 primitive 좌표로 거리만 계산
+    @Benchmark
+    public List<MapShelterResponse> decoratePrimitive() {
+        DistanceOrigin origin = new DistanceOrigin(userLat, userLng);
+        List<MapShelterResponse> out = new ArrayList<>(page.size());
+        for (MapShelterResponse s : page) {
+            out.add(copyWithDistance(s,
+                    ShelterDtoUtils.formatDistance(origin.metersTo(s.latitude(), s.longitude()))));
+        }
+        return out;
+    }
+
+    private static MapShelterResponse copyWithDistance(MapShelterResponse s, String distance) {
+        return new MapShelterResponse(s.id(), s.name(), s.address(), s.latitude(), s.longitude(),
+                distance, s.hasAircon(), s.capacity(), s.photoUrl(), s.operatingHours(),
+                s.averageRating());
+    }
+}
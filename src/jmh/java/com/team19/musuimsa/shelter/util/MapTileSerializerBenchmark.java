@@ -0,0 +1,122 @@
+package com.team19.musuimsa.shelter.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team19.musuimsa.config.MapTileRedisSerializer;
+import com.team19.musuimsa.config.RedisCacheConfig;
+import com.team19.musuimsa.shelter.dto.OperatingHoursResponse;
+import com.team19.musuimsa.shelter.dto.map.ClusterFeature;
+import com.team19.musuimsa.shelter.dto.map.MapShelterResponse;
+import com.team19.musuimsa.shelter.dto.map.MapTile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+// sheltersMap 값 직렬화 비교: 기존 JSON(default typing) vs MapTileCodec(열 단위 바이너리 + 임계값 초과 시 Deflate).
+// 인코딩/디코딩 시간은 벤치마크 점수로, 값 크기(byte)는 encode* 의 bytes 보조 카운터로 출력된다.
+// detail 줌 타일(쉼터 n개)과 cluster 줌 타일(셀 n개) 두 가지를 잰다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapTileSerializerBenchmark {
+
+    @Param({"20", "200"})
+    int size;
+
+    @Param({"detail", "cluster"})
+    String level;
+
+    private RedisSerializer<Object> json;
+    private RedisSerializer<Object> binary;
+
+    private MapTile tile;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() {
+        json = new GenericJackson2JsonRedisSerializer(RedisCacheConfig.cacheObjectMapper(new ObjectMapper()));
+        binary = new MapTileRedisSerializer();
+
+        Random random = new Random(19);
+        if ("cluster".equals(level)) {
+            List<ClusterFeature> clusters = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                clusters.add(new ClusterFeature("c:12:" + (3100 + i) + ":" + (8900 + i),
+                        37.0 + random.nextDouble(), 127.0 + random.nextDouble(),
+                        1 + random.nextInt(300), random.nextInt(100), random.nextInt(30_000)));
+            }
+            tile = MapTile.ofClusters(level, clusters);
+        } else {
+            List<MapShelterResponse> shelters = new ArrayList<>(size);
+            int[] openMinutes = MapTile.newOpenMinutes(size);
+            boolean[] outdoors = new boolean[size];
+            long id = 100_000;
+            for (int i = 0; i < size; i++) {
+                id += 1 + random.nextInt(40);
+                shelters.add(new MapShelterResponse(id, "무더위쉼터 " + i, "서울특별시 중구 세종대로 " + (100 + i),
+                        37.55 + random.nextDouble() * 0.02, 126.97 + random.nextDouble() * 0.02,
+                        null, random.nextBoolean(), 10 + random.nextInt(90),
+                        random.nextInt(3) == 0 ? "https://musuimsa.s3.ap-northeast-2.amazonaws.com/shelters/" + id + ".jpg" : null,
+                        new OperatingHoursResponse("09:00~18:00", random.nextBoolean() ? "10:00~17:00" : null),
+                        random.nextInt(4) == 0 ? null : random.nextInt(50) / 10.0));
+                openMinutes[i * 4] = 540;
+                openMinutes[i * 4 + 1] = 1080;
+                openMinutes[i * 4 + 2] = random.nextBoolean() ? 600 : -1;
+                openMinutes[i * 4 + 3] = random.nextBoolean() ? 1020 : -1;
+                outdoors[i] = random.nextInt(5) == 0;
+            }
+            tile = MapTile.ofShelters(level, shelters, openMinutes, outdoors);
+        }
+        jsonBytes = json.serialize(tile);
+        binaryBytes = binary.serialize(tile);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Benchmark
+    public byte[] encodeJson(Size size) {
+        byte[] out = json.serialize(tile);
+        size.bytes = out.length;
+        return out;
+    }
+
+    @Benchmark
+    public byte[] encodeBinary(Size size) {
+        byte[] out = binary.serialize(tile);
+        size.bytes = out.length;
+        return out;
+    }
+
+    @Benchmark
+    public Object decodeJson() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public Object decodeBinary() {
+        return binary.deserialize(binaryBytes);
+    }
+}
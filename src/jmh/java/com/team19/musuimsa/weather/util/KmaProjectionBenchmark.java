@@ -0,0 +1,95 @@
+package com.team19.musuimsa.weather.util;
+
+import com.team19.musuimsa.weather.dto.NxNy;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// 위경도 → KMA 격자 변환 비교 (국내 범위 무작위 좌표 size 개):
+//  - legacy: 호출마다 투영 상수(sn, sf, ro)를 다시 계산하던 기존 KmaGrid.fromLatLon
+//  - projection: 상수를 미리 계산한 KmaProjection.toGrid 단건 호출
+//  - batch: KmaProjection 배열 일괄 변환 (NxNy 객체 생성 없음)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KmaProjectionBenchmark {
+
+    @Param({"1000", "50000"})
+    int size;
+
+    private double[] lats;
+    private double[] lons;
+    private int[] nx;
+    private int[] ny;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(19);
+        lats = new double[size];
+        lons = new double[size];
+        for (int i = 0; i < size; i++) {
+            lats[i] = 33.0 + random.nextDouble() * 5.5;
+            lons[i] = 125.0 + random.nextDouble() * 5.0;
+        }
+        nx = new int[size];
+        ny = new int[size];
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(legacyFromLatLon(lats[i], lons[i]));
+        }
+    }
+
+    @Benchmark
+    public void projection(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(KmaProjection.KMA.toGrid(lats[i], lons[i]));
+        }
+    }
+
+    @Benchmark
+    public int[] batch() {
+        KmaProjection.KMA.toGrid(lats, lons, nx, ny);
+        return nx;
+    }
+
+    // 변경 전 KmaGrid.fromLatLon
+    private static NxNy legacyFromLatLon(double lat, double lon) {
+        final double RE = 6371.00877, GRID = 5.0, SLAT1 = 30.0, SLAT2 = 60.0, OLON = 126.0, OLAT = 38.0;
+        final double XO = 43.0, YO = 136.0, DEGRAD = Math.PI / 180.0;
+
+        double re = RE / GRID;
+        double slat1 = SLAT1 * DEGRAD, slat2 = SLAT2 * DEGRAD;
+        double olon = OLON * DEGRAD, olat = OLAT * DEGRAD;
+
+        double sn = Math.log(Math.cos(slat1) / Math.cos(slat2)) /
+                Math.log(Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(
+                        Math.PI * 0.25 + slat1 * 0.5));
+        double sf = Math.pow(Math.tan(Math.PI * 0.25 + slat1 * 0.5), sn) * Math.cos(slat1) / sn;
+        double ro = re * sf / Math.pow(Math.tan(Math.PI * 0.25 + olat * 0.5), sn);
+
+        double ra = re * sf / Math.pow(Math.tan(Math.PI * 0.25 + lat * DEGRAD * 0.5), sn);
+        double theta = lon * DEGRAD - olon;
+        if (theta > Math.PI) {
+            theta -= 2.0 * Math.PI;
+        }
+        if (theta < -Math.PI) {
+            theta += 2.0 * Math.PI;
+        }
+        theta *= sn;
+
+        int nx = (int) Math.floor(ra * Math.sin(theta) + XO + 0.5);
+        int ny = (int) Math.floor(ro - ra * Math.cos(theta) + YO + 0.5);
+        return new NxNy(nx, ny);
+    }
+}
@@ -3,32 +3,31 @@ package com.team19.musuimsa.batch;
 import com.team19.musuimsa.shelter.domain.Shelter;
 import com.team19.musuimsa.shelter.dto.external.ExternalResponse;
 import com.team19.musuimsa.shelter.dto.external.ExternalShelterItem;
+import com.team19.musuimsa.shelter.index.ShelterSpatialIndex;
 import com.team19.musuimsa.shelter.repository.ShelterRepository;
+import com.team19.musuimsa.shelter.service.ShelterCacheWarmer;
 import com.team19.musuimsa.shelter.service.ShelterOpenApiClient;
 import com.team19.musuimsa.shelter.service.ShelterPhotoService;
-import com.team19.musuimsa.shelter.util.GeoHashUtil;
+import com.team19.musuimsa.shelter.service.ShelterTileCache;
+import com.team19.musuimsa.shelter.util.MapTiles;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.dao.DataAccessResourceFailureException;
-import org.springframework.data.redis.connection.RedisConnection;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -41,7 +40,9 @@ public class ShelterUpdateJobListener implements JobExecutionListener {
 
     private final ShelterRepository shelterRepository;
     private final CacheManager cacheManager;
-    private final Optional<StringRedisTemplate> redisTemplate;
+    private final ShelterTileCache shelterTileCache;
+    private final ShelterSpatialIndex shelterSpatialIndex;
+    private final ShelterCacheWarmer shelterCacheWarmer;
 
     @Getter
     private Map<Long, ExternalShelterItem> externalShelterData = Collections.emptyMap();
@@ -62,6 +63,8 @@ public class ShelterUpdateJobListener implements JobExecutionListener {
 
         if (updatedIds == null || updatedIds.isEmpty()) {
             log.info("<<<< Shelter Update Job END (변경된 쉼터 없음, 사진 갱신 생략)");
+            rebuildIndex(jobExecution);
+            warmUp(jobExecution);
             return;
         }
 
@@ -84,18 +87,38 @@ public class ShelterUpdateJobListener implements JobExecutionListener {
         log.info("<<<< Shelter Update Job END (photo) processed={}, updated={}, failed={}",
                 processed, updated, failed);
 
+        // 사진까지 반영된 뒤에 인덱스를 교체해야 무효화 직후 채워지는 타일이 새 photoUrl 을 본다
+        rebuildIndex(jobExecution);
+
         // 2) 선택 캐시 무효화
         try {
             invalidateSheltersMapCacheByIds(updatedIds);
         } catch (Exception e) {
-            // 문제가 생기면 안전하게 캐시 전체 무효화
-            log.warn("Selective cache invalidation failed. Fallback to full clear.", e);
-            Cache cache = cacheManager.getCache("sheltersMap");
-            if (cache != null) {
-                cache.clear();
-            }
+            // 문제가 생기면 안전하게 캐시 전체 무효화 (세대 증가, 실패 시 clear)
+            log.warn("Selective cache invalidation failed. Fallback to generation bump.", e);
+            invalidateAll();
         }
         log.info("<<<< Shelter Update Job END");
+        warmUp(jobExecution);
+    }
+
+    // 위치 외 변경(이름/운영시간 등)도 반영되도록 잡이 끝나면 항상 인덱스를 교체 (다른 노드는 버전을 보고 다시 적재)
+    private void rebuildIndex(JobExecution jobExecution) {
+        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+            shelterSpatialIndex.rebuildAcrossCluster();
+        }
+    }
+
+    // 3) 무효화 후 트래픽이 들어오기 전에 전날 상위 타일을 미리 채운다 (실패해도 잡 결과에는 영향 없음)
+    private void warmUp(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return;
+        }
+        try {
+            shelterCacheWarmer.warmUp();
+        } catch (Exception e) {
+            log.warn("sheltersMap warm-up failed.", e);
+        }
     }
 
     private Map<Long, ExternalShelterItem> fetchAllExternalShelterData() {
@@ -125,78 +148,38 @@ public class ShelterUpdateJobListener implements JobExecutionListener {
                 ));
     }
 
-    // 변경된 쉼터 id들의 좌표로부터, 해당될 수 있는 z 레벨의 geohash 셀 prefix를 계산해 패턴 삭제
-    private void invalidateSheltersMapCacheByIds(Set<Long> ids) {
-        List<Shelter> shelters = shelterRepository.findAllById(ids);
-        if (shelters.isEmpty()) {
-            return;
-        }
-
-        // 서비스 분기에서 사용중인 줌 레벨 대역
-        int[] zooms = {12, 13, 14, 15, 16, 17};
-
-        // prod(redis): 패턴 삭제, dev(caffeine)면 clear 폴백
-        if (redisTemplate.isPresent()) {
-            StringRedisTemplate redis = redisTemplate.get();
-            int deletedSum = 0;
-
-            for (Shelter s : shelters) {
-                BigDecimal lat = s.getLatitude();
-                BigDecimal lng = s.getLongitude();
-                if (lat == null || lng == null) {
-                    continue;
-                }
-
-                for (int z : zooms) {
-                    int precision = GeoHashUtil.geohashPrecisionForZoom(z);
-                    String cell = GeoHashUtil.snapBbox(lat, lng, lat, lng, precision);
-                    String pattern = "musuimsa::sheltersMap::v1:z" + z + ":gh:" + cell + ":*";
-                    deletedSum += scanAndDelete(redis, pattern);
-                }
-            }
-            log.info("Selective cache invalidation done. deletedKeys={}", deletedSum);
-        } else {
-            // dev(caffeine) — 패턴 삭제 수단이 없어 캐시 전체 clear
+    private void invalidateAll() {
+        try {
+            long generation = shelterTileCache.invalidateAll();
+            log.info("sheltersMap generation bumped to {}", generation);
+        } catch (Exception e) {
+            log.warn("Generation bump failed. Fallback to full clear.", e);
             Cache cache = cacheManager.getCache("sheltersMap");
             if (cache != null) {
                 cache.clear();
             }
-            log.info("Caffeine cache -> sheltersMap cleared (dev fallback).");
         }
     }
 
-    // Redis에서 패턴으로 SCAN 후 DEL
-    private int scanAndDelete(StringRedisTemplate redis, String pattern) {
-        int removed = 0;
-        RedisConnection conn = null;
-        try {
-            conn = redis.getConnectionFactory().getConnection();
-            ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
-            try (Cursor<byte[]> cursor = conn.keyCommands().scan(options)) {
-                List<byte[]> batch = new ArrayList<>(500);
-                while (cursor.hasNext()) {
-                    batch.add(cursor.next());
-                    if (batch.size() >= 500) {
-                        conn.keyCommands().del(batch.toArray(new byte[0][]));
-                        removed += batch.size();
-                        batch.clear();
-                    }
-                }
-                if (!batch.isEmpty()) {
-                    conn.keyCommands().del(batch.toArray(new byte[0][]));
-                    removed += batch.size();
-                }
-            }
-        } catch (Exception e) {
-            throw new DataAccessResourceFailureException("SCAN/DEL failed: " + pattern, e);
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.close();
-                } catch (Exception ignore) {
-                }
+    // 변경된 쉼터 id들의 좌표로부터, 내용이 달라질 수 있는 모든 줌의 타일을 계산해 해당 캐시 키만 삭제
+    private void invalidateSheltersMapCacheByIds(Set<Long> ids) {
+        List<Shelter> shelters = shelterRepository.findAllById(ids);
+        if (shelters.isEmpty()) {
+            return;
+        }
+
+        Set<MapTiles.Tile> tiles = new HashSet<>();
+        for (Shelter s : shelters) {
+            BigDecimal lat = s.getLatitude();
+            BigDecimal lng = s.getLongitude();
+            if (lat == null || lng == null) {
+                continue;
             }
+            tiles.addAll(MapTiles.affectedBy(lat.doubleValue(), lng.doubleValue()));
         }
-        return removed;
+
+        // prod(redis): 태그 집합의 키 UNLINK, dev(caffeine): 타일 키 evict
+        int deleted = shelterTileCache.invalidate(tiles);
+        log.info("Selective cache invalidation done. tiles={}, deletedKeys={}", tiles.size(), deleted);
     }
 }
\ No newline at end of file
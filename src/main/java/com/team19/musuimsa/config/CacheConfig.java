@@ -2,7 +2,6 @@ package com.team19.musuimsa.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
@@ -25,12 +24,6 @@ public class CacheConfig {
     @Value("${cache.shelters.maximum-size:2000}")
     private long sheltersMaximumSize;
 
-    @Value("${cache.weather.expire-after-write}")
-    private Duration weatherExpireAfterWrite;
-
-    @Value("${cache.weather.maximum-size}")
-    private long weatherMaximumSize;
-
     @Bean(name = "caffeineCacheManager")
     public CacheManager caffeineCacheManager() {
         CaffeineCache shelters = new CaffeineCache(
@@ -38,19 +31,14 @@ public class CacheConfig {
                 Caffeine.newBuilder()
                         .expireAfterWrite(sheltersExpireAfterWrite)
                         .maximumSize(sheltersMaximumSize)
-                        .build()
-        );
-
-        CaffeineCache weather = new CaffeineCache(
-                "weather",
-                Caffeine.newBuilder()
-                        .expireAfterWrite(weatherExpireAfterWrite)
-                        .maximumSize(weatherMaximumSize)
+                        // cache.gets{cache=sheltersMap} 메트릭으로 적중률 확인
+                        .recordStats()
                         .build()
         );
 
         SimpleCacheManager manager = new SimpleCacheManager();
-        List<Cache> caches = Arrays.asList(shelters, weather);
+        // weather 는 WeatherCache 가 직접 관리한다
+        List<Cache> caches = List.of(shelters);
         manager.setCaches(caches);
         return manager;
     }
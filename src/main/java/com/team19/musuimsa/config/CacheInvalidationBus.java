@@ -0,0 +1,78 @@
+package com.team19.musuimsa.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// TwoLevelCache 의 L1 무효화를 Redis pub/sub 으로 모든 노드에 전파한다.
+// 메시지 형식: 첫 줄은 캐시 이름, 나머지 줄은 키. 키가 없으면 해당 캐시 L1 전체 clear.
+// 캐시가 아닌 노드 로컬 상태(쉼터 인덱스 등)도 subscribe 로 이름을 등록해 같은 채널로 키를 받는다.
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "musuimsa::cache-invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, Consumer<List<String>>> subscribers = new ConcurrentHashMap<>();
+
+    TwoLevelCache register(TwoLevelCache cache) {
+        caches.put(cache.getName(), cache);
+        return cache;
+    }
+
+    public void subscribe(String name, Consumer<List<String>> handler) {
+        subscribers.put(name, handler);
+    }
+
+    public void publish(String cacheName, Collection<String> keys) {
+        broadcast(redisTemplate, cacheName, keys);
+    }
+
+    // 캐시 추상화를 거치지 않고 Redis 키를 직접 지운 곳(import/배치 선택 무효화)에서 L1 을 맞출 때 사용
+    public static void broadcast(StringRedisTemplate redis, String cacheName, Collection<String> keys) {
+        StringBuilder message = new StringBuilder(cacheName);
+        for (String key : keys) {
+            message.append('\n').append(key);
+        }
+        try {
+            redis.convertAndSend(CHANNEL, message.toString());
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 L1 은 TTL 만료까지 이전 값을 볼 수 있다
+            log.warn("[Cache] invalidation publish failed. cache={}, keys={}", cacheName, keys.size(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] lines = new String(message.getBody(), StandardCharsets.UTF_8).split("\n");
+        List<String> keys = new ArrayList<>(lines.length - 1);
+        for (int i = 1; i < lines.length; i++) {
+            keys.add(lines[i]);
+        }
+        TwoLevelCache cache = caches.get(lines[0]);
+        if (cache != null) {
+            cache.evictLocal(keys);
+            return;
+        }
+        Consumer<List<String>> subscriber = subscribers.get(lines[0]);
+        if (subscriber != null) {
+            try {
+                subscriber.accept(keys);
+            } catch (Exception e) {
+                log.warn("[Cache] invalidation handler failed. name={}, keys={}", lines[0], keys.size(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.team19.musuimsa.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+// 캐시 미스 적재를 클러스터 전체에서 key 당 한 번만 수행한다.
+// 1) 같은 노드의 동시 호출은 진행 중인 적재(CompletableFuture)에 합류한다.
+// 2) 노드 간에는 짧은 Redis 락(SET NX PX)을 잡은 노드만 적재하고, 나머지는 캐시를 짧게 폴링해 승자의 결과를 읽는다.
+// 승자가 실패해 캐시를 못 채우고 락을 풀면, 폴링하던 노드가 락을 다시 잡아 적재한다 (대기 시간까지 기다리지 않는다).
+// 승자가 죽거나 대기 시간을 넘기면 직접 적재한다 (락은 TTL 로 풀린다). Redis 가 없거나 장애면 노드 내 합류만 한다.
+@Slf4j
+public class DistributedSingleFlight {
+
+    // 토큰이 같을 때만 지운다: 락 TTL 이 지나 다른 노드가 잡은 락을 지우지 않도록
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private static final long MIN_POLL_MILLIS = 10;
+    private static final long MAX_POLL_MILLIS = 200;
+
+    private final Optional<StringRedisTemplate> redisTemplate;
+    private final String lockPrefix;
+    private final Duration lockTtl;
+    private final Duration maxWait;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public DistributedSingleFlight(Optional<StringRedisTemplate> redisTemplate, String lockPrefix,
+            Duration lockTtl, Duration maxWait) {
+        this.redisTemplate = redisTemplate;
+        this.lockPrefix = lockPrefix;
+        this.lockTtl = lockTtl;
+        this.maxWait = maxWait;
+    }
+
+    // cached: 캐시 재조회(없으면 null), loader: 원본에서 만들어 캐시에 넣고 값을 반환
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<T> cached, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            T value = loadAcrossNodes(key, cached, loader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private <T> T loadAcrossNodes(String key, Supplier<T> cached, Supplier<T> loader) {
+        if (redisTemplate.isEmpty()) {
+            return loader.get();
+        }
+
+        StringRedisTemplate redis = redisTemplate.get();
+        String lockKey = lockPrefix + key;
+        String token = UUID.randomUUID().toString();
+        boolean acquired;
+        try {
+            acquired = Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(lockKey, token, lockTtl));
+        } catch (Exception e) {
+            log.warn("[SingleFlight] lock failed, load without lock. key={}", key, e);
+            return loader.get();
+        }
+
+        if (acquired) {
+            return loadAsWinner(redis, lockKey, token, cached, loader);
+        }
+        return awaitWinner(redis, key, lockKey, token, cached, loader);
+    }
+
+    private <T> T loadAsWinner(StringRedisTemplate redis, String lockKey, String token,
+            Supplier<T> cached, Supplier<T> loader) {
+        try {
+            // 미스 판정과 락 획득 사이에 다른 노드가 적재를 끝냈을 수 있다
+            T value = cached.get();
+            return value != null ? value : loader.get();
+        } finally {
+            release(redis, lockKey, token);
+        }
+    }
+
+    // 패자: 승자가 캐시에 채울 때까지 지수 백오프로 다시 읽는다.
+    // 캐시가 비어 있는데 락이 풀렸으면 승자가 실패한 것이므로 락을 잡아 직접 적재한다
+    private <T> T awaitWinner(StringRedisTemplate redis, String key, String lockKey, String token,
+            Supplier<T> cached, Supplier<T> loader) {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        long pause = MIN_POLL_MILLIS;
+        while (System.nanoTime() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(pause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            T value = cached.get();
+            if (value != null) {
+                return value;
+            }
+            if (tryLock(redis, lockKey, token)) {
+                log.info("[SingleFlight] winner released without filling cache, retry load. key={}", key);
+                return loadAsWinner(redis, lockKey, token, cached, loader);
+            }
+            pause = Math.min(pause * 2, MAX_POLL_MILLIS);
+        }
+        log.warn("[SingleFlight] winner did not fill cache in {}ms, load directly. key={}",
+                maxWait.toMillis(), key);
+        return loader.get();
+    }
+
+    // 폴링 중 재시도용. Redis 장애면 잡지 못한 것으로 보고 계속 기다린다
+    private boolean tryLock(StringRedisTemplate redis, String lockKey, String token) {
+        try {
+            return Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(lockKey, token, lockTtl));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void release(StringRedisTemplate redis, String lockKey, String token) {
+        try {
+            redis.execute(RELEASE, List.of(lockKey), token);
+        } catch (Exception e) {
+            // 못 지운 락은 TTL 로 풀린다
+            log.warn("[SingleFlight] unlock failed. key={}", lockKey, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.team19.musuimsa.config;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.util.function.Function;
+
+// L1 항목 TTL: 쓰는 시점에 핫 키면 pinned, 아니면 base. 읽기는 남은 TTL 을 바꾸지 않는다.
+// 고정된 항목도 무효화(pub/sub evict, 세대 키 변경)는 그대로 적용된다.
+public class HotKeyPinningExpiry implements Expiry<Object, Object> {
+
+    private final HotKeys hotKeys;
+    private final String cacheName;
+    private final Function<Object, String> hotKeyOf;
+    private final long baseNanos;
+    private final long pinnedNanos;
+
+    public HotKeyPinningExpiry(HotKeys hotKeys, String cacheName, Function<Object, String> hotKeyOf,
+            Duration base, Duration pinned) {
+        this.hotKeys = hotKeys;
+        this.cacheName = cacheName;
+        this.hotKeyOf = hotKeyOf;
+        this.baseNanos = base.toNanos();
+        this.pinnedNanos = Math.max(base.toNanos(), pinned.toNanos());
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return ttl(key);
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return ttl(key);
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    private long ttl(Object key) {
+        return hotKeys.isHot(cacheName, hotKeyOf.apply(key)) ? pinnedNanos : baseNanos;
+    }
+}
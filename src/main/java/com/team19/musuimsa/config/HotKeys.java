@@ -0,0 +1,49 @@
+package com.team19.musuimsa.config;
+
+import com.team19.musuimsa.util.HotKeySketch;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 캐시별 핫 키 추적 (노드 로컬). sheltersMap 은 타일 식별자(z{z}:{x}:{y}), weather 는 격자 키를 기록한다.
+// /actuator/hotkeys 로 조회하고, prod L1 은 핫 타일을 더 오래 보관(pin)한다.
+// 5분마다 카운터를 절반으로 줄여 대략 최근 10~15분 트래픽 기준으로 순위를 매긴다.
+@Component
+public class HotKeys {
+
+    public static final String SHELTERS = "sheltersMap";
+    public static final String WEATHER = "weather";
+
+    public static final int TOP_K = 100;
+
+    // 4 × 4096 카운터(약 128KB)면 분당 수십만 건에서도 상위 100개 추정 오차가 무시할 만하다
+    private static final int WIDTH = 4096;
+
+    // 감쇠 창(대략 10~15분) 안에서 이만큼은 요청돼야 핫 키로 본다 (L1 pin 대상)
+    static final long MIN_HOT_HITS = 30;
+
+    private final Map<String, HotKeySketch> sketches = new ConcurrentHashMap<>();
+
+    public void record(String cacheName, String key) {
+        sketch(cacheName).add(key);
+    }
+
+    public boolean isHot(String cacheName, String key) {
+        HotKeySketch sketch = sketches.get(cacheName);
+        return sketch != null && sketch.isHot(key);
+    }
+
+    public HotKeySketch sketch(String cacheName) {
+        return sketches.computeIfAbsent(cacheName, name -> new HotKeySketch(WIDTH, TOP_K, MIN_HOT_HITS));
+    }
+
+    public Map<String, HotKeySketch> sketches() {
+        return Map.copyOf(sketches);
+    }
+
+    @Scheduled(fixedRate = 300_000, initialDelay = 300_000)
+    public void decay() {
+        sketches.values().forEach(HotKeySketch::decay);
+    }
+}
@@ -0,0 +1,52 @@
+package com.team19.musuimsa.config;
+
+import com.team19.musuimsa.util.HotKeySketch;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+// GET /actuator/hotkeys, /actuator/hotkeys/{cacheName}
+// 노드 로컬 집계라 노드별로 조회해 합산해야 클러스터 전체 분포가 된다
+@Component
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeysEndpoint {
+
+    private static final int LIMIT = 20;
+
+    private final HotKeys hotKeys;
+
+    public record HotKey(String key, long estimate, double share) {
+
+    }
+
+    public record CacheHotKeys(long total, List<HotKey> top) {
+
+    }
+
+    @ReadOperation
+    public Map<String, CacheHotKeys> hotKeys() {
+        Map<String, CacheHotKeys> out = new TreeMap<>();
+        hotKeys.sketches().forEach((name, sketch) -> out.put(name, report(sketch, LIMIT)));
+        return out;
+    }
+
+    @ReadOperation
+    public CacheHotKeys hotKeys(@Selector String cacheName) {
+        HotKeySketch sketch = hotKeys.sketches().get(cacheName);
+        return sketch == null ? new CacheHotKeys(0, List.of()) : report(sketch, HotKeys.TOP_K);
+    }
+
+    private static CacheHotKeys report(HotKeySketch sketch, int limit) {
+        long total = sketch.total();
+        List<HotKey> top = sketch.top(limit).stream()
+                .map(e -> new HotKey(e.key(), e.estimate(), total == 0 ? 0.0 : (double) e.estimate() / total))
+                .toList();
+        return new CacheHotKeys(total, top);
+    }
+}
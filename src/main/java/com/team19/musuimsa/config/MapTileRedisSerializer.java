@@ -0,0 +1,33 @@
+package com.team19.musuimsa.config;
+
+import com.team19.musuimsa.shelter.dto.map.MapTile;
+import com.team19.musuimsa.shelter.util.MapTileCodec;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+// sheltersMap 값(MapTile) 전용 Redis 직렬화. 형식은 MapTileCodec 참고
+public class MapTileRedisSerializer implements RedisSerializer<Object> {
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof MapTile tile)) {
+            throw new SerializationException("Unsupported value type: " + value.getClass().getName());
+        }
+        return MapTileCodec.encode(tile);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return MapTileCodec.decode(bytes);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Cannot deserialize map tile", e);
+        }
+    }
+}
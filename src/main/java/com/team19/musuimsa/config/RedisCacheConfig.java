@@ -5,19 +5,27 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team19.musuimsa.shelter.util.MapTiles;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -30,9 +38,24 @@ public class RedisCacheConfig {
     @Value("${cache.shelters.expire-after-write}")
     private Duration sheltersExpireAfterWrite;
 
-    @Primary
-    @Bean(name = "redisCacheManager")
-    public CacheManager redisCacheManager(RedisConnectionFactory cf, ObjectMapper baseMapper) {
+    // L1 은 pub/sub 유실 대비로 L2 보다 짧게 유지
+    @Value("${cache.shelters.l1.expire-after-write:30s}")
+    private Duration sheltersL1ExpireAfterWrite;
+
+    // HotKeys 가 핫 타일로 본 키는 L1 에 더 오래 둔다 (L2 TTL 을 넘기지 않게)
+    @Value("${cache.shelters.l1.pinned-expire-after-write:120s}")
+    private Duration sheltersL1PinnedExpireAfterWrite;
+
+    @Value("${cache.shelters.l1.maximum-size:2000}")
+    private long sheltersL1MaximumSize;
+
+    // sheltersMap 값 직렬화: binary(MapTileCodec, 기본) | json(기존 default typing JSON)
+    // 바꾸면 값 형식이 달라지므로 MapTiles.Tile.cacheKey 의 버전도 함께 올린다
+    @Value("${cache.shelters.serializer:binary}")
+    private String sheltersSerializer;
+
+    // 기존 JSON 직렬화용 ObjectMapper (클래스 이름을 값마다 함께 저장)
+    public static ObjectMapper cacheObjectMapper(ObjectMapper baseMapper) {
         ObjectMapper mapper = baseMapper.copy()
                 .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
 
@@ -40,8 +63,29 @@ public class RedisCacheConfig {
 
         mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(),
                 ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return mapper;
+    }
 
-        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(mapper);
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate redisTemplate) {
+        return new CacheInvalidationBus(redisTemplate);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory cf,
+            CacheInvalidationBus invalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(invalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
+    @Primary
+    @Bean(name = "redisCacheManager")
+    public CacheManager redisCacheManager(RedisConnectionFactory cf, ObjectMapper baseMapper,
+            CacheInvalidationBus invalidationBus, HotKeys hotKeys) {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(
+                cacheObjectMapper(baseMapper));
 
         RedisCacheConfiguration base = RedisCacheConfiguration.defaultCacheConfig()
                 .disableCachingNullValues()
@@ -52,11 +96,34 @@ public class RedisCacheConfig {
                 .prefixCacheNameWith("musuimsa::");
 
         Map<String, RedisCacheConfiguration> conf = new HashMap<String, RedisCacheConfiguration>();
-        conf.put("sheltersMap", base.entryTtl(sheltersExpireAfterWrite));
+        RedisCacheConfiguration shelters = base.entryTtl(sheltersExpireAfterWrite);
+        if ("binary".equals(sheltersSerializer)) {
+            shelters = shelters.serializeValuesWith(
+                    RedisSerializationContext.SerializationPair.fromSerializer(new MapTileRedisSerializer()));
+        }
+        conf.put("sheltersMap", shelters);
+
+        RedisCacheWriter writer = RedisCacheWriter.nonLockingRedisCacheWriter(cf)
+                .withStatisticsCollector(CacheStatisticsCollector.create());
 
-        return RedisCacheManager.builder(cf)
-                .cacheDefaults(base)
-                .withInitialCacheConfigurations(conf)
-                .build();
+        // sheltersMap 만 Caffeine L1 을 앞에 둔다. 계층별 적중률은 shelter.map.tile.cache.tier 메트릭으로 확인
+        // L1 TTL 은 기본 l1.expire-after-write, 핫 타일은 l1.pinned-expire-after-write
+        return new RedisCacheManager(writer, base, conf) {
+            @Override
+            protected Cache decorateCache(Cache cache) {
+                Cache decorated = super.decorateCache(cache);
+                if (!"sheltersMap".equals(cache.getName())) {
+                    return decorated;
+                }
+                return invalidationBus.register(new TwoLevelCache(decorated,
+                        Caffeine.newBuilder()
+                                .expireAfter(new HotKeyPinningExpiry(hotKeys, HotKeys.SHELTERS,
+                                        key -> MapTiles.idOfCacheKey((String) key),
+                                        sheltersL1ExpireAfterWrite, sheltersL1PinnedExpireAfterWrite))
+                                .maximumSize(sheltersL1MaximumSize)
+                                .build(),
+                        invalidationBus));
+            }
+        };
     }
 }
@@ -70,6 +70,8 @@ public class SecurityConfig {
                         .permitAll()
                         // 특정 사용자를 조회하는 GET 요청은 허용
                         .requestMatchers(HttpMethod.GET, "/api/users/{userId}").permitAll()
+                        // 운영 엔드포인트(핫 키)는 관리자만 접근 가능
+                        .requestMatchers("/actuator/hotkeys/**").hasRole("ADMIN")
                         // 그 외의 모든 api 요청은 인증된 사용자만 접근 가능
                         .requestMatchers("/api/users/me/**", "/api/reviews/{reviewId}",
                                 "/api/shelters/{shelterId}/arrival")
@@ -0,0 +1,124 @@
+package com.team19.musuimsa.config;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+// L1(노드 로컬 Caffeine) + L2(공유 Redis) 캐시.
+// 읽기는 L1 → L2 순서로 하고 L2 에서 찾은 값은 L1 에 올린다. 쓰기는 L2 → L1 순서.
+// evict/clear 는 L2 를 지운 뒤 pub/sub 으로 모든 노드(자기 자신 포함)의 L1 을 비운다.
+// 메시지가 유실되더라도 L1 은 짧은 TTL 로 만료되므로 L2 보다 오래 낡은 값을 들고 있지 않는다.
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> l1;
+    private final Cache l2;
+    private final CacheInvalidationBus invalidationBus;
+
+    public TwoLevelCache(Cache l2, com.github.benmanes.caffeine.cache.Cache<Object, Object> l1,
+            CacheInvalidationBus invalidationBus) {
+        this.name = l2.getName();
+        this.l1 = l1;
+        this.l2 = l2;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    // 네이티브 캐시로 L1 만 노출하면 호출부가 L2 를 건너뛸 수 있으므로 L2 쪽을 돌려준다
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    public Cache getL2() {
+        return l2;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object local = l1.getIfPresent(key);
+        if (local != null) {
+            return new SimpleValueWrapper(local);
+        }
+        ValueWrapper remote = l2.get(key);
+        if (remote != null && remote.get() != null) {
+            l1.put(key, remote.get());
+        }
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value = l2.get(key, valueLoader);
+        if (value != null) {
+            l1.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        if (value != null) {
+            l1.put(key, value);
+        } else {
+            l1.invalidate(key);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        l1.invalidate(key);
+        invalidationBus.publish(name, List.of(key.toString()));
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        invalidationBus.publish(name, List.of());
+    }
+
+    // 여러 키를 L1 에서만 한 번에 조회 (없는 키는 결과에 빠진다)
+    public Map<Object, Object> getAllPresentLocal(Collection<?> keys) {
+        return l1.getAllPresent(keys);
+    }
+
+    public void putLocal(Object key, Object value) {
+        l1.put(key, value);
+    }
+
+    // pub/sub 수신 시 호출. L2 는 발행한 노드가 이미 지웠으므로 L1 만 비운다.
+    void evictLocal(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            l1.invalidateAll();
+        } else {
+            l1.invalidateAll(keys);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.team19.musuimsa.exception.invalid;
+
+public class InvalidMapCursorException extends InvalidException {
+
+    public InvalidMapCursorException(String cursor) {
+        super("유효하지 않은 커서입니다: " + cursor);
+    }
+
+}
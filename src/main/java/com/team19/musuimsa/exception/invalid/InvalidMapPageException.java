@@ -0,0 +1,9 @@
+package com.team19.musuimsa.exception.invalid;
+
+public class InvalidMapPageException extends InvalidException {
+
+    public InvalidMapPageException(int page, int size) {
+        super("유효하지 않은 페이지입니다: page=" + page + ", size=" + size);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.team19.musuimsa.exception.invalid;
+
+public class InvalidTileException extends InvalidException {
+
+    public InvalidTileException(int z, int x, int y) {
+        super("존재하지 않는 타일 좌표입니다: " + z + "/" + x + "/" + y);
+    }
+
+}
@@ -1,12 +1,13 @@
 package com.team19.musuimsa.notification.service;
 
-import com.team19.musuimsa.exception.external.ExternalApiException;
 import com.team19.musuimsa.user.domain.User;
 import com.team19.musuimsa.user.repository.UserRepository;
 import com.team19.musuimsa.weather.dto.WeatherResponse;
 import com.team19.musuimsa.weather.service.WeatherService;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class PushNotificationService {
 
     private static final double TEMPERATURE_THRESHOLD = 35.0;
+    // 조기 알림: 기온이 이보다 높고 최근 RISE_HOURS 시간 동안 RISE_THRESHOLD 이상 올랐으면 35도 전에 알린다
+    private static final double EARLY_ALERT_MIN_TEMPERATURE = 32.0;
+    private static final double RISE_THRESHOLD = 2.0;
+    private static final int RISE_HOURS = 3;
+
+    private static final String HEATWAVE_BODY = "현재 계신 곳의 온도가 %.1f°C 입니다. 근처 무더위 쉼터를 찾으려면 누르세요!";
+    private static final String EARLY_ALERT_BODY = "현재 계신 곳의 온도가 %.1f°C 이고 빠르게 오르고 있습니다. 근처 무더위 쉼터를 미리 확인하세요!";
     private static final int NOTIFICATION_COOLDOWN_MINUTES = 50;
 
     private final UserRepository userRepository;
@@ -40,16 +48,24 @@ public class PushNotificationService {
         try {
             double lat = user.getLastLatitude().doubleValue();
             double lon = user.getLastLongitude().doubleValue();
-            WeatherResponse weather = weatherService.getCurrentTemp(lat, lon);
-            double currentTemp = weather.temperature();
+            // 매시 선조회된 캐시 값만 본다. 알림 루프에서 KMA 를 직접 호출하지 않는다
+            Optional<WeatherResponse> weather = weatherService.getCachedTemp(lat, lon);
+            if (weather.isEmpty()) {
+                log.info("캐시된 날씨 정보가 없어 푸시 알림 확인을 건너뜁니다. User ID: {}", user.getUserId());
+                return;
+            }
+            double currentTemp = weather.get().temperature();
 
             log.debug("User: {}, Temp: {}°C", user.getNickname(), currentTemp);
 
-            if (isAbleToSendHeatwaveAlert(user, currentTemp)) {
-                log.info("Sending heatwave alert to user: {}", user.getNickname());
-                String title = "날씨가 많이 덥습니다!";
-                String body = String.format("현재 계신 곳의 온도가 %.1f°C 입니다. 근처 무더위 쉼터를 찾으려면 누르세요!",
-                        currentTemp);
+            boolean heatwave = currentTemp >= TEMPERATURE_THRESHOLD;
+            boolean rising = !heatwave && isRisingTowardsHeatwave(lat, lon, currentTemp);
+
+            if ((heatwave || rising) && isCooldownPassed(user)) {
+                log.info("Sending {} alert to user: {}", heatwave ? "heatwave" : "early heatwave",
+                        user.getNickname());
+                String title = heatwave ? "날씨가 많이 덥습니다!" : "기온이 빠르게 오르고 있습니다!";
+                String body = String.format(heatwave ? HEATWAVE_BODY : EARLY_ALERT_BODY, currentTemp);
 
                 boolean sentSuccessfully = fcmService.sendPushNotification(user.getUserId(), title,
                         body);
@@ -58,21 +74,21 @@ public class PushNotificationService {
                     user.updateLastHeatwaveAlertAt();
                 }
             }
-        } catch (ExternalApiException e) {
-            log.warn("날씨 API 호출에 실패하여 푸시 알림을 처리하지 못했습니다. User ID: {}, URL: {}", user.getUserId(),
-                    e.getUrl());
         } catch (Exception e) {
             log.error("푸시 알림 처리 중 예상치 못한 오류가 발생했습니다. User ID: {}", user.getUserId(), e);
         }
     }
 
-    private boolean isAbleToSendHeatwaveAlert(User user, double currentTemp) {
-        boolean isHot = currentTemp >= TEMPERATURE_THRESHOLD;
-
-        if (!isHot) {
+    // 격자별 기온 이력으로 본 최근 상승 추세 (추가 KMA 호출 없음)
+    private boolean isRisingTowardsHeatwave(double lat, double lon, double currentTemp) {
+        if (currentTemp < EARLY_ALERT_MIN_TEMPERATURE) {
             return false;
         }
+        OptionalDouble rise = weatherService.getTemperatureRise(lat, lon, RISE_HOURS);
+        return rise.isPresent() && rise.getAsDouble() >= RISE_THRESHOLD;
+    }
 
+    private boolean isCooldownPassed(User user) {
         return user.getLastHeatwaveAlertAt() == null ||
                 user.getLastHeatwaveAlertAt()
                         .isBefore(LocalDateTime.now()
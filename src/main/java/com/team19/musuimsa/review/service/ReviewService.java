@@ -12,6 +12,7 @@ import com.team19.musuimsa.review.dto.UpdateReviewRequest;
 import com.team19.musuimsa.review.repository.ReviewRepository;
 import com.team19.musuimsa.shelter.domain.Shelter;
 import com.team19.musuimsa.shelter.repository.ShelterRepository;
+import com.team19.musuimsa.shelter.service.ShelterChangeNotifier;
 import com.team19.musuimsa.user.domain.User;
 import com.team19.musuimsa.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ShelterRepository shelterRepository;
     private final UserRepository userRepository;
+    private final ShelterChangeNotifier shelterChangeNotifier;
 
     // 리뷰 생성
     public ReviewResponse createReview(Long shelterId, CreateReviewRequest request,
@@ -108,15 +110,23 @@ public class ReviewService {
         int newCount = Math.toIntExact(dto.reviewCount());
         int newSum = Math.toIntExact(dto.totalRating());
 
+        boolean changed = false;
         if (!Objects.equals(shelter.getReviewCount(), newCount)) {
             shelter.updateReviewCount(newCount);
+            changed = true;
         }
         if (!Objects.equals(shelter.getTotalRating(), newSum)) {
             shelter.updateTotalRating(newSum);
+            changed = true;
         }
 
         // 내부에서 즉시 충돌 감지
         shelterRepository.saveAndFlush(shelter);
+
+        // 지도/주변 검색의 평점(minRating 필터 포함)은 인덱스 스냅샷에서 읽으므로 커밋 후 이 쉼터만 교체한다
+        if (changed) {
+            shelterChangeNotifier.attributesChanged(List.of(shelter.getShelterId()));
+        }
     }
 
     private void refreshShelterStatsWithRetry(Shelter shelter) {
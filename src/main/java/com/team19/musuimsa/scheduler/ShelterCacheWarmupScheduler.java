@@ -0,0 +1,25 @@
+package com.team19.musuimsa.scheduler;
+
+import com.team19.musuimsa.shelter.service.ShelterCacheWarmer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShelterCacheWarmupScheduler {
+
+    private final ShelterCacheWarmer shelterCacheWarmer;
+
+    // 새벽 import 잡 직후 예열한 타일은 캐시 TTL 이 지나 만료되므로, 아침 트래픽 직전에 한 번 더 채운다
+    @Scheduled(cron = "${cache.shelters.warmup.cron:0 50 6 * * *}", zone = "Asia/Seoul")
+    public void warmUpBeforeMorningTraffic() {
+        try {
+            shelterCacheWarmer.warmUp();
+        } catch (Exception e) {
+            log.error("!! sheltersMap morning warm-up failed.", e);
+        }
+    }
+}
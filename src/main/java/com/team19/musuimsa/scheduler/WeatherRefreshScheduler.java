@@ -0,0 +1,35 @@
+package com.team19.musuimsa.scheduler;
+
+import com.team19.musuimsa.weather.service.WeatherPrefetcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeatherRefreshScheduler {
+
+    private final WeatherPrefetcher weatherPrefetcher;
+
+    // KMA 초단기실황은 매시 HH:10 이후 조회 가능 (KmaTime.latestBase 기준 HH:11) → 직후에 쉼터·사용자·최근 요청 격자를 미리 받아 둔다
+    @Scheduled(cron = "30 11 * * * *", zone = "Asia/Seoul")
+    public void refreshAhead() {
+        try {
+            weatherPrefetcher.prefetch();
+        } catch (Exception e) {
+            log.error("!! Weather prefetch failed.", e);
+        }
+    }
+
+    // KMA 초단기예보는 매시 HH:45 이후 조회 가능 (KmaTime.latestForecastBase 기준) → 직후에 최근 요청·사용자 격자의 6시간 예보를 받아 둔다
+    @Scheduled(cron = "30 46 * * * *", zone = "Asia/Seoul")
+    public void refreshForecastsAhead() {
+        try {
+            weatherPrefetcher.prefetchForecasts();
+        } catch (Exception e) {
+            log.error("!! Forecast prefetch failed.", e);
+        }
+    }
+}
@@ -3,15 +3,22 @@ package com.team19.musuimsa.security;
 import com.team19.musuimsa.user.domain.User;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 public class UserDetailsImpl implements UserDetails {
 
     private final User user;
+    private final List<GrantedAuthority> authorities;
 
     public UserDetailsImpl(User user) {
+        this(user, Collections.emptyList());
+    }
+
+    public UserDetailsImpl(User user, List<GrantedAuthority> authorities) {
         this.user = user;
+        this.authorities = authorities;
     }
 
     public User getUser() {
@@ -54,6 +61,6 @@ public class UserDetailsImpl implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.emptyList(); // 지금은 별도의 권한(Role)이 필요 없으므로 emptyList 반환
+        return authorities; // 운영 관리자(musuimsa.admin.emails)만 ROLE_ADMIN, 그 외에는 빈 목록
     }
 }
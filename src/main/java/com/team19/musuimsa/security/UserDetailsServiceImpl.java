@@ -2,7 +2,11 @@ package com.team19.musuimsa.security;
 
 import com.team19.musuimsa.user.domain.User;
 import com.team19.musuimsa.user.repository.UserRepository;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,11 +18,18 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    // 운영 관리자 이메일 목록 (쉼표 구분). /actuator/hotkeys 같은 운영 엔드포인트는 이 계정만 접근한다
+    @Value("${musuimsa.admin.emails:}")
+    private Set<String> adminEmails = Set.of();
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException(email));
 
+        if (adminEmails.contains(user.getEmail())) {
+            return new UserDetailsImpl(user, List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        }
         return new UserDetailsImpl(user);
     }
 }
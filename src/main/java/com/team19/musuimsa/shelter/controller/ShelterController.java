@@ -2,7 +2,9 @@ package com.team19.musuimsa.shelter.controller;
 
 import com.team19.musuimsa.exception.dto.ErrorResponseDto;
 import com.team19.musuimsa.notification.service.ReviewReminderService;
+import com.team19.musuimsa.shelter.dto.NearbySearchRequest;
 import com.team19.musuimsa.shelter.dto.NearbyShelterResponse;
+import com.team19.musuimsa.shelter.dto.ShelterFilter;
 import com.team19.musuimsa.shelter.dto.ShelterResponse;
 import com.team19.musuimsa.shelter.dto.map.MapBoundsRequest;
 import com.team19.musuimsa.shelter.dto.map.MapResponse;
@@ -44,15 +46,16 @@ public class ShelterController {
     @Operation(summary = "지도 범위 내 쉼터/클러스터 조회",
             description =
                     "지도 화면의 현재 보이는 영역(Bounding Box)과 확대 레벨(Zoom)에 따라 쉼터 목록 또는 클러스터 정보를 반환합니다. "
-                            + "낮은 Zoom 레벨(12 이하)에서는 클러스터링된 결과가, 높은 Zoom 레벨(13 이상)에서는 개별 쉼터 정보가 반환됩니다.")
+                            + "낮은 Zoom 레벨(12 이하)에서는 클러스터링된 결과가, 높은 Zoom 레벨(13 이상)에서는 개별 쉼터 정보가 반환됩니다. "
+                            + "개별 쉼터 목록은 shelterId 순이며, 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = MapResponse.class),
                             examples = {
                                     @ExampleObject(name = "클러스터 응답 (Zoom 12 이하)",
-                                            value = "{\"level\": \"cluster\", \"items\": [{\"id\": \"gh_1\", \"latitude\": 37.11, \"longitude\": 127.11, \"count\": 3}, {\"id\": \"gh_2\", \"latitude\": 37.12, \"longitude\": 127.12, \"count\": 5}], \"total\": 8}"),
+                                            value = "{\"level\": \"cluster\", \"items\": [{\"id\": \"z12_4830_7162\", \"latitude\": 37.11, \"longitude\": 127.11, \"count\": 3}, {\"id\": \"z12_4831_7162\", \"latitude\": 37.12, \"longitude\": 127.12, \"count\": 5}], \"total\": 8}"),
                                     @ExampleObject(name = "개별 쉼터 응답 (Zoom 13 이상)",
-                                            value = "{\"level\": \"detail\", \"items\": [{\"id\": 1, \"name\": \"행복 쉼터\", \"latitude\": 37.12, \"longitude\": 127.12, \"hasAircon\": true, \"capacity\": 50, \"photoUrl\": \"https://example.com/photo.jpg\", \"operatingHours\": \"09:00~18:00\"}], \"total\": 1}")
+                                            value = "{\"level\": \"detail\", \"items\": [{\"id\": 1, \"name\": \"행복 쉼터\", \"latitude\": 37.12, \"longitude\": 127.12, \"hasAircon\": true, \"capacity\": 50, \"photoUrl\": \"https://example.com/photo.jpg\", \"operatingHours\": \"09:00~18:00\"}], \"total\": 1, \"nextCursor\": null}")
                             }
                     )),
             @ApiResponse(responseCode = "400", description = "잘못된 파라미터 값 (위도/경도 범위 오류 등)",
@@ -80,15 +83,61 @@ public class ShelterController {
             @RequestParam(required = false) Integer page,
             @Parameter(description = "페이지 크기 (기본값 200, 최대 500, summary/detail 레벨에서 유효)",
                     example = "100")
-            @RequestParam(required = false) Integer size
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page 무시)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "total 포함 여부 (기본 true)", example = "false")
+            @RequestParam(required = false) Boolean includeTotal,
+            @Parameter(description = "true 면 현재(KST) 운영 중인 쉼터만", example = "true")
+            @RequestParam(required = false) Boolean openNow,
+            @Parameter(description = "에어컨 보유 여부 필터", example = "true")
+            @RequestParam(required = false) Boolean aircon,
+            @Parameter(description = "야외 쉼터 여부 필터 (false 면 실내만)", example = "false")
+            @RequestParam(required = false) Boolean outdoors,
+            @Parameter(description = "최소 수용인원", example = "50")
+            @RequestParam(required = false) Integer minCapacity,
+            @Parameter(description = "최소 평균 평점", example = "4.0")
+            @RequestParam(required = false) Double minRating
     ) {
         return ResponseEntity.ok(shelterMapService.getByBbox(
                 new MapBoundsRequest(minLat, minLng, maxLat, maxLng, zoom, userLat, userLng, page,
-                        size)));
+                        size, cursor, includeTotal, openNow,
+                        new ShelterFilter(aircon, outdoors, minCapacity, minRating))));
+    }
+
+    // 쉼터 지도 XYZ 타일 조회
+    @Operation(summary = "지도 타일(XYZ) 단위 쉼터/클러스터 조회",
+            description =
+                    "Web Mercator XYZ 타일 한 장에 속한 쉼터 또는 클러스터를 반환합니다. 타일 단위로 캐시되므로 지도 이동 시 bbox 조회보다 캐시 재사용률이 높습니다. "
+                            + "z 12 이하는 cluster, 13~15는 summary, 16 이상은 detail 레벨이며 z는 0~18까지 지원합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = MapResponse.class),
+                            examples = @ExampleObject(name = "클러스터 타일 (z 12 이하)",
+                                    value = "{\"level\": \"cluster\", \"items\": [{\"type\": \"cluster\", \"id\": \"z10_1530_2409\", \"latitude\": 37.55, \"longitude\": 126.98, \"count\": 12, \"airconCount\": 9, \"capacitySum\": 640}], \"total\": 12}"))),
+            @ApiResponse(responseCode = "400", description = "존재하지 않는 타일 좌표",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(name = "잘못된 타일",
+                                    value = "{\"status\": 400, \"error\": \"Bad Request\", \"message\": \"존재하지 않는 타일 좌표입니다: 14/99999/6350\", \"path\": \"/api/shelters/tiles/14/99999/6350\"}")))
+    })
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<MapResponse> getTile(
+            @Parameter(description = "타일 줌 레벨 (0~18)", example = "14", required = true)
+            @PathVariable int z,
+            @Parameter(description = "타일 X 인덱스", example = "13970", required = true)
+            @PathVariable int x,
+            @Parameter(description = "타일 Y 인덱스", example = "6344", required = true)
+            @PathVariable int y,
+            @Parameter(description = "현재 사용자 위도 (거리 계산용)", example = "37.5665")
+            @RequestParam(required = false) Double userLat,
+            @Parameter(description = "현재 사용자 경도 (거리 계산용)", example = "126.9780")
+            @RequestParam(required = false) Double userLng
+    ) {
+        return ResponseEntity.ok(shelterMapService.getTile(z, x, y, userLat, userLng));
     }
 
     @Operation(summary = "가까운 쉼터 목록 조회 (3km)",
-            description = "현재 위치(위도, 경도)를 기준으로 **반경 3km** 내의 모든 쉼터 목록을 거리순으로 조회합니다.")
+            description = "현재 위치(위도, 경도)를 기준으로 **반경 3km**(radius 로 조정 가능) 내의 쉼터 목록을 거리순으로 조회합니다. limit 을 주면 가까운 순으로 그 개수만 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(array = @ArraySchema(
@@ -106,16 +155,29 @@ public class ShelterController {
             @Parameter(description = "현재 위도", example = "37.5665", required = true)
             @RequestParam double latitude,
             @Parameter(description = "현재 경도", example = "126.9780", required = true)
-            @RequestParam double longitude
+            @RequestParam double longitude,
+            @Parameter(description = "검색 반경(m, 기본 3000, 최대 5000)", example = "3000")
+            @RequestParam(required = false) Integer radius,
+            @Parameter(description = "최대 반환 개수 (가까운 순, 생략 시 반경 내 전체)", example = "50")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "에어컨 보유 여부 필터", example = "true")
+            @RequestParam(required = false) Boolean aircon,
+            @Parameter(description = "야외 쉼터 여부 필터 (false 면 실내만)", example = "false")
+            @RequestParam(required = false) Boolean outdoors,
+            @Parameter(description = "최소 수용인원", example = "50")
+            @RequestParam(required = false) Integer minCapacity,
+            @Parameter(description = "최소 평균 평점", example = "4.0")
+            @RequestParam(required = false) Double minRating
     ) {
-        List<NearbyShelterResponse> allShelters = shelterService.getAllShelters(latitude,
-                longitude);
+        List<NearbyShelterResponse> allShelters = shelterService.getAllShelters(
+                new NearbySearchRequest(latitude, longitude, radius, limit, null,
+                        new ShelterFilter(aircon, outdoors, minCapacity, minRating)));
         return ResponseEntity.ok(allShelters);
     }
 
     // 가까운 쉼터 조회
     @Operation(summary = "가까운 쉼터 목록 조회",
-            description = "현재 위치(위도, 경도)를 기준으로 반경 1km 내의 가까운 쉼터 목록을 거리순으로 조회합니다.")
+            description = "현재 위치(위도, 경도)를 기준으로 반경 1km(radius 로 조정 가능) 내의 가까운 쉼터 목록을 거리순으로 조회합니다. limit 을 주면 가까운 순으로 그 개수만 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(array = @ArraySchema(
@@ -133,9 +195,25 @@ public class ShelterController {
             @Parameter(description = "현재 위도", example = "37.5665", required = true)
             @RequestParam double latitude,
             @Parameter(description = "현재 경도", example = "126.9780", required = true)
-            @RequestParam double longitude
+            @RequestParam double longitude,
+            @Parameter(description = "검색 반경(m, 기본 1000, 최대 5000)", example = "1000")
+            @RequestParam(required = false) Integer radius,
+            @Parameter(description = "최대 반환 개수 (가까운 순, 생략 시 반경 내 전체)", example = "20")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "true 면 현재(KST) 운영 중인 쉼터만", example = "true")
+            @RequestParam(required = false) Boolean openNow,
+            @Parameter(description = "에어컨 보유 여부 필터", example = "true")
+            @RequestParam(required = false) Boolean aircon,
+            @Parameter(description = "야외 쉼터 여부 필터 (false 면 실내만)", example = "false")
+            @RequestParam(required = false) Boolean outdoors,
+            @Parameter(description = "최소 수용인원", example = "50")
+            @RequestParam(required = false) Integer minCapacity,
+            @Parameter(description = "최소 평균 평점", example = "4.0")
+            @RequestParam(required = false) Double minRating
     ) {
-        return ResponseEntity.ok(shelterService.findNearbyShelters(latitude, longitude));
+        return ResponseEntity.ok(shelterService.findNearbyShelters(
+                new NearbySearchRequest(latitude, longitude, radius, limit, openNow,
+                        new ShelterFilter(aircon, outdoors, minCapacity, minRating))));
     }
 
     // 쉼터 상세 조회
@@ -3,9 +3,12 @@ package com.team19.musuimsa.shelter.domain;
 import com.team19.musuimsa.batch.ShelterImportBatchConfig;
 import com.team19.musuimsa.shelter.dto.UpdateResultResponse;
 import com.team19.musuimsa.shelter.dto.external.ExternalShelterItem;
+import com.team19.musuimsa.shelter.util.GeoCell;
+import com.team19.musuimsa.shelter.util.OperatingHours;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.AccessLevel;
@@ -25,7 +28,10 @@ import static com.team19.musuimsa.batch.ShelterImportBatchConfig.parseTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "shelters")
+@Table(name = "shelters", indexes = {
+        @Index(name = "idx_shelters_lat_lng", columnList = "latitude, longitude"),
+        @Index(name = "idx_shelters_geocell", columnList = "geocell")
+})
 public class Shelter {
 
     private static final String OUTDOOR_FACILITY_CODE = "002";
@@ -50,6 +56,12 @@ public class Shelter {
     @Column(nullable = false, precision = 11, scale = 8)
     private BigDecimal longitude;
 
+    // prod(MySQL)의 location(POINT SRID 4326)은 위/경도로부터 DB가 계산하는 생성 컬럼이라 엔티티에 두지 않는다.
+    // (MySqlSpatialShelterGeoQuery 참고)
+
+    // 위/경도 Morton(Z-order) 키 (GeoCell). 위/경도가 바뀔 때 함께 갱신하고, 비어 있는 기존 행은 ShelterDerivedColumnBackfill 이 채운다.
+    private Long geocell;
+
     // WKDAY_OPER_BEGIN_TIME
     private LocalTime weekdayOpenTime;
 
@@ -62,6 +74,21 @@ public class Shelter {
     // WKEND_HDAY_OPER_END_TIME
     private LocalTime weekendCloseTime;
 
+    // 위 운영시간의 하루 중 분(0 ~ 1439)과 표시 문자열. 응답/"지금 운영 중" 필터가 매번 파싱하지 않도록 시간 필드와 함께 갱신한다.
+    private Integer weekdayOpenMinute;
+
+    private Integer weekdayCloseMinute;
+
+    private Integer weekendOpenMinute;
+
+    private Integer weekendCloseMinute;
+
+    @Column(length = 11)
+    private String weekdayHours;
+
+    @Column(length = 11)
+    private String weekendHours;
+
     // USE_PSBL_NMPR
     private Integer capacity;
 
@@ -104,12 +131,13 @@ public class Shelter {
     }
 
     public static Shelter toShelter(ExternalShelterItem i) {
-        return Shelter.builder()
+        Shelter shelter = Shelter.builder()
                 .shelterId(i.rstrFcltyNo())
                 .name(i.rstrNm())
                 .address(i.rnDtlAdres())
                 .latitude(i.la())
                 .longitude(i.lo())
+                .geocell(GeoCell.of(i.la(), i.lo()))
                 .capacity(i.usePsblNmpr())
                 .fanCount(i.colrHoldElefn())
                 .airConditionerCount(i.colrHoldArcdtn())
@@ -120,6 +148,8 @@ public class Shelter {
                 .isOutdoors(OUTDOOR_FACILITY_CODE.equals(i.fcltyTy()))
                 .photoUrl(null)
                 .build();
+        shelter.refreshOperatingHours();
+        return shelter;
     }
 
     public UpdateResultResponse updateShelterInfo(ExternalShelterItem item,
@@ -146,6 +176,9 @@ public class Shelter {
             isChanged = true;
             locationChanged = true; // ← 위/경도 바뀌면 사진 트리거
         }
+        if (locationChanged || this.geocell == null) {
+            this.geocell = GeoCell.of(this.latitude, this.longitude);
+        }
         if (!Objects.equals(this.capacity, item.usePsblNmpr())) {
             this.capacity = item.usePsblNmpr();
             isChanged = true;
@@ -179,9 +212,33 @@ public class Shelter {
             this.isOutdoors = outdoors;
             isChanged = true;
         }
+        refreshOperatingHours();
         return new UpdateResultResponse(isChanged, locationChanged);
     }
 
+    public void refreshOperatingHours() {
+        this.weekdayOpenMinute = OperatingHours.minutes(weekdayOpenTime);
+        this.weekdayCloseMinute = OperatingHours.minutes(weekdayCloseTime);
+        this.weekendOpenMinute = OperatingHours.minutes(weekendOpenTime);
+        this.weekendCloseMinute = OperatingHours.minutes(weekendCloseTime);
+        this.weekdayHours = OperatingHours.display(weekdayOpenTime, weekdayCloseTime);
+        this.weekendHours = OperatingHours.display(weekendOpenTime, weekendCloseTime);
+    }
+
+    // 파생 값이 아직 없는 행(백필 전)은 원본 시간에서 바로 계산한다
+    public boolean isOpenAt(OperatingHours.Now now) {
+        return OperatingHours.isOpen(
+                minutesOf(weekdayOpenMinute, weekdayOpenTime),
+                minutesOf(weekdayCloseMinute, weekdayCloseTime),
+                minutesOf(weekendOpenMinute, weekendOpenTime),
+                minutesOf(weekendCloseMinute, weekendCloseTime),
+                now);
+    }
+
+    private static Integer minutesOf(Integer minutes, LocalTime time) {
+        return minutes != null ? minutes : OperatingHours.minutes(time);
+    }
+
     public boolean updateFrom(ExternalShelterItem item) {
         LocalTime wkOpen = ShelterImportBatchConfig.parseTime(item.wkdayOperBeginTime());
         LocalTime wkClose = ShelterImportBatchConfig.parseTime(item.wkdayOperEndTime());
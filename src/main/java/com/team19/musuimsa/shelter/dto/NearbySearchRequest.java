@@ -0,0 +1,27 @@
+package com.team19.musuimsa.shelter.dto;
+
+public record NearbySearchRequest(
+        double latitude,
+        double longitude,
+        Integer radius,
+        Integer limit,
+        Boolean openNow,
+        ShelterFilter filter
+) {
+    private static final int MAX_RADIUS = 5000;
+
+    public int radiusOrDefault(int defaultRadius) {
+        if (radius == null || radius <= 0) {
+            return defaultRadius;
+        }
+        return Math.min(radius, MAX_RADIUS);
+    }
+
+    public boolean openNowOrDefault() {
+        return openNow != null && openNow;
+    }
+
+    public ShelterFilter filterOrNone() {
+        return filter == null ? ShelterFilter.NONE : filter;
+    }
+}
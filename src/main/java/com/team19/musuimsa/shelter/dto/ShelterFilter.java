@@ -0,0 +1,40 @@
+package com.team19.musuimsa.shelter.dto;
+
+import com.team19.musuimsa.shelter.domain.Shelter;
+import com.team19.musuimsa.shelter.util.ShelterDtoUtils;
+
+// 쉼터 속성 필터. null 인 조건은 적용하지 않는다.
+public record ShelterFilter(
+        Boolean aircon,
+        Boolean outdoors,
+        Integer minCapacity,
+        Double minRating
+) {
+    public static final ShelterFilter NONE = new ShelterFilter(null, null, null, null);
+
+    public boolean isEmpty() {
+        return aircon == null && outdoors == null && minCapacity == null && minRating == null;
+    }
+
+    public boolean matches(Boolean hasAircon, Boolean isOutdoors, Integer capacity,
+            Double averageRating) {
+        if (aircon != null && aircon != Boolean.TRUE.equals(hasAircon)) {
+            return false;
+        }
+        if (outdoors != null && outdoors != Boolean.TRUE.equals(isOutdoors)) {
+            return false;
+        }
+        if (minCapacity != null && (capacity == null ? 0 : capacity) < minCapacity) {
+            return false;
+        }
+        return minRating == null || (averageRating == null ? 0.0 : averageRating) >= minRating;
+    }
+
+    public boolean matches(Shelter shelter) {
+        return matches(
+                shelter.getAirConditionerCount() != null && shelter.getAirConditionerCount() > 0,
+                shelter.getIsOutdoors(),
+                shelter.getCapacity(),
+                ShelterDtoUtils.average(shelter.getTotalRating(), shelter.getReviewCount()));
+    }
+}
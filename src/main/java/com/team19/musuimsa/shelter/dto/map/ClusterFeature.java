@@ -4,6 +4,12 @@ public record ClusterFeature(
         String id,
         double latitude,
         double longitude,
-        int count
+        int count,
+        int airconCount,
+        long capacitySum
 ) implements MapFeature {
+
+    public ClusterFeature(String id, double latitude, double longitude, int count) {
+        this(id, latitude, longitude, count, 0, 0L);
+    }
 }
@@ -1,5 +1,8 @@
 package com.team19.musuimsa.shelter.dto.map;
 
+import com.team19.musuimsa.exception.invalid.InvalidMapPageException;
+import com.team19.musuimsa.shelter.dto.ShelterFilter;
+
 public record MapBoundsRequest(
         double minLat,
         double minLng,
@@ -9,13 +12,49 @@ public record MapBoundsRequest(
         Double userLat,
         Double userLng,
         Integer page,
-        Integer size
+        Integer size,
+        String cursor,
+        Boolean includeTotal,
+        Boolean openNow,
+        ShelterFilter filter
 ) {
+    // 음수 page, 1 미만 size 는 잘못된 요청 (커서와 같이 400)
     public int pageOrDefault() {
-        return page == null ? 0 : page;
+        if (page == null) {
+            return 0;
+        }
+        if (page < 0) {
+            throw new InvalidMapPageException(page, sizeOrDefault());
+        }
+        return page;
     }
 
     public int sizeOrDefault() {
-        return size == null ? 200 : Math.min(size, 500);
+        if (size == null) {
+            return 200;
+        }
+        if (size < 1) {
+            throw new InvalidMapPageException(page == null ? 0 : page, size);
+        }
+        return Math.min(size, 500);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    // 생략 시 기존과 같이 total 을 내려준다
+    public boolean includeTotalOrDefault() {
+        return includeTotal == null || includeTotal;
+    }
+
+    // cluster 레벨에서는 미리 집계된 셀 대신 운영 중인 쉼터만 다시 집계한다
+    public boolean openNowOrDefault() {
+        return openNow != null && openNow;
+    }
+
+    // cluster 레벨에서도 적용 (openNow 와 같이 걸러낸 쉼터만 다시 집계)
+    public ShelterFilter filterOrNone() {
+        return filter == null ? ShelterFilter.NONE : filter;
     }
 }
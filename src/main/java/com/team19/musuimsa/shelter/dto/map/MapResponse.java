@@ -13,7 +13,11 @@ public record MapResponse(
                 @JsonSubTypes.Type(value = MapShelterResponse.class, name = "shelter")
         })
         List<MapFeature> items,
-        Integer total
+        Integer total,
+        String nextCursor
 ) {
 
+    public MapResponse(String level, List<MapFeature> items, Integer total) {
+        this(level, items, total, null);
+    }
 }
@@ -1,5 +1,12 @@
 package com.team19.musuimsa.shelter.dto.map;
 
+import com.team19.musuimsa.shelter.domain.Shelter;
+import com.team19.musuimsa.shelter.util.OperatingHours;
+import com.team19.musuimsa.shelter.util.ShelterDtoUtils;
+import java.time.LocalTime;
+
+// 운영시간은 import 시 계산해 둔 하루 중 분(0 ~ 1439)과 표시 문자열("HH:mm~HH:mm")로 받는다.
+// 백필 전 행은 계산 값이 비어 있으므로 원본 시간도 함께 받아 Shelter 와 같은 방식으로 대신 쓴다
 public record MapShelterRow(
         Long id,
         String name,
@@ -7,13 +14,80 @@ public record MapShelterRow(
         double latitude,
         double longitude,
         Boolean hasAircon,
+        Boolean isOutdoors,
         Integer capacity,
         String photoUrl,
-        String weekdayOpenTime,
-        String weekdayCloseTime,
-        String weekendOpenTime,
-        String weekendCloseTime,
+        Integer weekdayOpenMinute,
+        Integer weekdayCloseMinute,
+        Integer weekendOpenMinute,
+        Integer weekendCloseMinute,
+        String weekdayHours,
+        String weekendHours,
+        LocalTime weekdayOpenTime,
+        LocalTime weekdayCloseTime,
+        LocalTime weekendOpenTime,
+        LocalTime weekendCloseTime,
         Long totalRating,
         Long reviewCount
 ) {
-}
\ No newline at end of file
+
+    // 엔티티로 조회한 경우(공간 쿼리 등) JPQL 생성자 조회와 같은 행으로 변환
+    public static MapShelterRow from(Shelter shelter) {
+        return new MapShelterRow(
+                shelter.getShelterId(),
+                shelter.getName(),
+                shelter.getAddress(),
+                shelter.getLatitude().doubleValue(),
+                shelter.getLongitude().doubleValue(),
+                shelter.getAirConditionerCount() != null && shelter.getAirConditionerCount() > 0,
+                shelter.getIsOutdoors(),
+                shelter.getCapacity(),
+                shelter.getPhotoUrl(),
+                shelter.getWeekdayOpenMinute(),
+                shelter.getWeekdayCloseMinute(),
+                shelter.getWeekendOpenMinute(),
+                shelter.getWeekendCloseMinute(),
+                shelter.getWeekdayHours(),
+                shelter.getWeekendHours(),
+                shelter.getWeekdayOpenTime(),
+                shelter.getWeekdayCloseTime(),
+                shelter.getWeekendOpenTime(),
+                shelter.getWeekendCloseTime(),
+                shelter.getTotalRating() == null ? null : shelter.getTotalRating().longValue(),
+                shelter.getReviewCount() == null ? null : shelter.getReviewCount().longValue()
+        );
+    }
+
+    public boolean isOpenAt(OperatingHours.Now now) {
+        return OperatingHours.isOpen(weekdayOpen(), weekdayClose(), weekendOpen(), weekendClose(), now);
+    }
+
+    // 계산된 분이 없으면 원본 시간에서 구한다 (둘 다 없으면 null)
+    public Integer weekdayOpen() {
+        return minutesOf(weekdayOpenMinute, weekdayOpenTime);
+    }
+
+    public Integer weekdayClose() {
+        return minutesOf(weekdayCloseMinute, weekdayCloseTime);
+    }
+
+    public Integer weekendOpen() {
+        return minutesOf(weekendOpenMinute, weekendOpenTime);
+    }
+
+    public Integer weekendClose() {
+        return minutesOf(weekendCloseMinute, weekendCloseTime);
+    }
+
+    public String weekdayHoursText() {
+        return ShelterDtoUtils.hoursText(weekdayHours, weekdayOpenTime, weekdayCloseTime);
+    }
+
+    public String weekendHoursText() {
+        return ShelterDtoUtils.hoursText(weekendHours, weekendOpenTime, weekendCloseTime);
+    }
+
+    private static Integer minutesOf(Integer minutes, LocalTime time) {
+        return minutes != null ? minutes : OperatingHours.minutes(time);
+    }
+}
@@ -0,0 +1,56 @@
+package com.team19.musuimsa.shelter.dto.map;
+
+import com.team19.musuimsa.shelter.util.OperatingHours;
+import java.util.ArrayList;
+import java.util.List;
+
+// sheltersMap 캐시에 저장되는 타일 한 장. 사용자 위치와 무관하게 만들어 distance 는 항상 null 이다.
+// openMinutes 는 shelters 와 같은 순서로 쉼터마다 {평일 시작, 평일 종료, 주말 시작, 주말 종료} 분(모르면 -1)을 이어 붙인 배열이고,
+// outdoors 는 응답 DTO 에 없는 야외 여부를 속성 필터용으로 같은 순서로 담는다.
+public record MapTile(
+        String level,
+        List<ClusterFeature> clusters,
+        List<MapShelterResponse> shelters,
+        int[] openMinutes,
+        boolean[] outdoors
+) {
+
+    private static final int SLOTS = 4;
+
+    // Redis 직렬화(default typing) 후에도 역직렬화되도록 구현 타입을 ArrayList 로 고정
+    public static MapTile ofClusters(String level, List<ClusterFeature> clusters) {
+        return new MapTile(level, new ArrayList<>(clusters), new ArrayList<>(), new int[0],
+                new boolean[0]);
+    }
+
+    public static MapTile ofShelters(String level, List<MapShelterResponse> shelters,
+            int[] openMinutes, boolean[] outdoors) {
+        return new MapTile(level, new ArrayList<>(), new ArrayList<>(shelters), openMinutes,
+                outdoors);
+    }
+
+    public static void putOpenMinutes(int[] openMinutes, int index, MapShelterRow row) {
+        int base = index * SLOTS;
+        openMinutes[base] = OperatingHours.orUnknown(row.weekdayOpen());
+        openMinutes[base + 1] = OperatingHours.orUnknown(row.weekdayClose());
+        openMinutes[base + 2] = OperatingHours.orUnknown(row.weekendOpen());
+        openMinutes[base + 3] = OperatingHours.orUnknown(row.weekendClose());
+    }
+
+    public static int[] newOpenMinutes(int shelters) {
+        return new int[shelters * SLOTS];
+    }
+
+    public boolean isOutdoors(int index) {
+        return outdoors != null && index < outdoors.length && outdoors[index];
+    }
+
+    // shelters.get(index) 가 now 기준 운영 중인지
+    public boolean isOpenAt(int index, OperatingHours.Now now) {
+        int base = index * SLOTS + (now.weekend() ? 2 : 0);
+        if (openMinutes == null || base + 1 >= openMinutes.length) {
+            return false;
+        }
+        return OperatingHours.isOpen(openMinutes[base], openMinutes[base + 1], now.minute());
+    }
+}
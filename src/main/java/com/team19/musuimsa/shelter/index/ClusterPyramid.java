@@ -0,0 +1,173 @@
+package com.team19.musuimsa.shelter.index;
+
+import com.team19.musuimsa.shelter.dto.map.ClusterFeature;
+import com.team19.musuimsa.shelter.util.ClusterGrid;
+import com.team19.musuimsa.shelter.util.GeoCell;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 줌(0 ~ MAX_CLUSTER_ZOOM)별로 전체 쉼터를 미리 셀 집계해 둔 피라미드.
+// 셀마다 개수/무게중심/에어컨 보유 수/수용인원 합을 들고 있고, 뷰포트와 겹치는 셀을 이진 탐색으로 찾아 그대로 반환한다.
+public final class ClusterPyramid {
+
+    private final Level[] levels;
+
+    private ClusterPyramid(Level[] levels) {
+        this.levels = levels;
+    }
+
+    public static ClusterPyramid build(double[] lats, double[] lngs, boolean[] aircon,
+            int[] capacity) {
+        // 좌표 양자화는 한 번만 하고 줌별 셀은 정수 시프트로 구한다
+        int[] qLats = new int[lats.length];
+        int[] qLngs = new int[lngs.length];
+        for (int i = 0; i < lats.length; i++) {
+            qLats[i] = GeoCell.quantize(lats[i]);
+            qLngs[i] = GeoCell.quantize(lngs[i]);
+        }
+
+        Level[] levels = new Level[ClusterGrid.MAX_CLUSTER_ZOOM + 1];
+        for (int z = 0; z <= ClusterGrid.MAX_CLUSTER_ZOOM; z++) {
+            levels[z] = Level.build(z, lats, lngs, qLats, qLngs, aircon, capacity);
+        }
+        return new ClusterPyramid(levels);
+    }
+
+    // 미리 집계하지 않은 쉼터 묶음(필터를 거친 쉼터 등)을 같은 셀 격자로 바로 집계한다
+    public static List<ClusterFeature> aggregate(int zoom, double[] lats, double[] lngs,
+            boolean[] aircon, int[] capacity) {
+        int z = ClusterGrid.clampZoom(zoom);
+        int[] qLats = new int[lats.length];
+        int[] qLngs = new int[lngs.length];
+        for (int i = 0; i < lats.length; i++) {
+            qLats[i] = GeoCell.quantize(lats[i]);
+            qLngs[i] = GeoCell.quantize(lngs[i]);
+        }
+        return Level.build(z, lats, lngs, qLats, qLngs, aircon, capacity)
+                .query(z, Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    public List<ClusterFeature> clusters(int zoom, double minLat, double minLng, double maxLat,
+            double maxLng) {
+        int z = ClusterGrid.clampZoom(zoom);
+        return levels[z].query(z, ClusterGrid.row(minLat, z), ClusterGrid.col(minLng, z),
+                ClusterGrid.row(maxLat, z), ClusterGrid.col(maxLng, z));
+    }
+
+    public int cellCount(int zoom) {
+        return levels[ClusterGrid.clampZoom(zoom)].cols.length;
+    }
+
+    // (row, col) 순으로 정렬된 셀 배열. rowValues[i] 행의 셀은 rowStart[i] ~ rowStart[i + 1] 구간이다.
+    private static final class Level {
+
+        private final int[] rowValues;
+        private final int[] rowStart;
+        private final int[] cols;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final int[] counts;
+        private final int[] airconCounts;
+        private final long[] capacitySums;
+
+        private Level(int[] rowValues, int[] rowStart, int[] cols, double[] latitudes,
+                double[] longitudes, int[] counts, int[] airconCounts, long[] capacitySums) {
+            this.rowValues = rowValues;
+            this.rowStart = rowStart;
+            this.cols = cols;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.counts = counts;
+            this.airconCounts = airconCounts;
+            this.capacitySums = capacitySums;
+        }
+
+        private static Level build(int z, double[] lats, double[] lngs, int[] qLats, int[] qLngs,
+                boolean[] aircon, int[] capacity) {
+            Map<Long, double[]> acc = new HashMap<>();
+            for (int i = 0; i < lats.length; i++) {
+                long key = key(GeoCell.clusterIndex(qLats[i], z), GeoCell.clusterIndex(qLngs[i], z));
+                // {count, sumLat, sumLng, aircon, capacity}
+                double[] a = acc.computeIfAbsent(key, k -> new double[5]);
+                a[0]++;
+                a[1] += lats[i];
+                a[2] += lngs[i];
+                a[3] += aircon[i] ? 1 : 0;
+                a[4] += capacity[i];
+            }
+
+            long[] keys = new long[acc.size()];
+            int k = 0;
+            for (Long key : acc.keySet()) {
+                keys[k++] = key;
+            }
+            Arrays.sort(keys);
+
+            int n = keys.length;
+            int[] cols = new int[n];
+            double[] cLat = new double[n];
+            double[] cLng = new double[n];
+            int[] counts = new int[n];
+            int[] aircons = new int[n];
+            long[] capacities = new long[n];
+            int[] rowBuf = new int[n];
+            int[] startBuf = new int[n + 1];
+            int rows = 0;
+            for (int i = 0; i < n; i++) {
+                int row = (int) (keys[i] >> 32);
+                if (rows == 0 || rowBuf[rows - 1] != row) {
+                    rowBuf[rows] = row;
+                    startBuf[rows] = i;
+                    rows++;
+                }
+                double[] a = acc.get(keys[i]);
+                cols[i] = (int) keys[i];
+                counts[i] = (int) a[0];
+                cLat[i] = a[1] / a[0];
+                cLng[i] = a[2] / a[0];
+                aircons[i] = (int) a[3];
+                capacities[i] = (long) a[4];
+            }
+            startBuf[rows] = n;
+
+            return new Level(Arrays.copyOf(rowBuf, rows), Arrays.copyOf(startBuf, rows + 1),
+                    cols, cLat, cLng, counts, aircons, capacities);
+        }
+
+        private List<ClusterFeature> query(int z, int row0, int col0, int row1, int col1) {
+            List<ClusterFeature> out = new ArrayList<>();
+            int r = lowerBound(rowValues, 0, rowValues.length, row0);
+            for (; r < rowValues.length && rowValues[r] <= row1; r++) {
+                int to = rowStart[r + 1];
+                for (int i = lowerBound(cols, rowStart[r], to, col0); i < to && cols[i] <= col1; i++) {
+                    out.add(new ClusterFeature(ClusterGrid.cellId(z, rowValues[r], cols[i]),
+                            latitudes[i], longitudes[i], counts[i], airconCounts[i],
+                            capacitySums[i]));
+                }
+            }
+            return out;
+        }
+
+        // 행/열 모두 양수(원점 -180)라 (row << 32 | col) 정렬이 (row, col) 사전순과 같다.
+        private static long key(int row, int col) {
+            return ((long) row << 32) | (col & 0xffffffffL);
+        }
+
+        private static int lowerBound(int[] a, int from, int to, int value) {
+            int lo = from;
+            int hi = to;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (a[mid] < value) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.team19.musuimsa.shelter.index;
+
+public record NearbyHit(
+        long shelterId,
+        double distanceMeters
+) {
+}
@@ -0,0 +1,50 @@
+package com.team19.musuimsa.shelter.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 반경 내 후보를 거리순으로 모으는 bounded top-k 힙.
+// limit 이 없으면 반경 안의 모든 후보를 거리순으로 돌려준다.
+public final class NearestNeighbors {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+
+    private static final Comparator<NearbyHit> FARTHEST_FIRST =
+            Comparator.comparingDouble(NearbyHit::distanceMeters).reversed();
+
+    private final Integer limit;
+    private final PriorityQueue<NearbyHit> heap;
+
+    public NearestNeighbors(Integer limit) {
+        this.limit = (limit == null || limit <= 0) ? null : limit;
+        this.heap = new PriorityQueue<>(this.limit == null ? 64 : this.limit + 1, FARTHEST_FIRST);
+    }
+
+    public void offer(long shelterId, double distanceMeters) {
+        if (limit != null && heap.size() == limit) {
+            if (heap.peek().distanceMeters() <= distanceMeters) {
+                return;
+            }
+            heap.poll();
+        }
+        heap.add(new NearbyHit(shelterId, distanceMeters));
+    }
+
+    // 가까운 순(동일 거리면 shelterId 순)
+    public List<NearbyHit> result() {
+        List<NearbyHit> out = new ArrayList<>(heap);
+        out.sort(Comparator.comparingDouble(NearbyHit::distanceMeters)
+                .thenComparingLong(NearbyHit::shelterId));
+        return out;
+    }
+
+    // 반경(m)을 감싸는 위/경도 bbox {minLat, minLng, maxLat, maxLng} (인덱스/B-tree 프리필터용)
+    public static double[] boundingBox(double lat, double lng, double radiusMeters) {
+        double dLat = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double cos = Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+        double dLng = dLat / cos;
+        return new double[]{lat - dLat, lng - dLng, lat + dLat, lng + dLng};
+    }
+}
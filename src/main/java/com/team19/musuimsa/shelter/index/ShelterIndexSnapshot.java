@@ -0,0 +1,301 @@
+package com.team19.musuimsa.shelter.index;
+
+import com.team19.musuimsa.shelter.dto.ShelterFilter;
+import com.team19.musuimsa.shelter.dto.map.ClusterFeature;
+import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.util.OperatingHours;
+import com.team19.musuimsa.shelter.util.ShelterDtoUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+// 특정 시점의 쉼터 전체를 메모리에 올린 불변 스냅샷.
+// shelterId 오름차순으로 정렬된 primitive 배열 + 격자(grid) 버킷(CSR 형태)으로 bbox/count/page 질의를 처리한다.
+public final class ShelterIndexSnapshot {
+
+    // 기본 버킷 크기(약 5km). 좌표 이상치로 범위가 넓어지면 셀 수 상한에 맞춰 키운다.
+    private static final double DEFAULT_CELL_DEGREES = 0.05;
+    private static final int MAX_CELLS = 1 << 20;
+
+    private final long[] ids;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final MapShelterRow[] rows;
+
+    // position 마다 {평일 시작, 평일 종료, 주말 시작, 주말 종료} 분 (모르면 -1)
+    private final int[] openMinutes;
+
+    // 속성 필터용 position 별 값. 후보를 순회하면서 바로 비교한다 (요청마다 전체 크기 마스크를 만들지 않는다)
+    private final boolean[] aircon;
+    private final boolean[] outdoors;
+    private final int[] capacities;
+    private final double[] ratings;
+
+    private final double originLat;
+    private final double originLng;
+    private final double cellDegrees;
+    private final int gridRows;
+    private final int gridCols;
+
+    // cellStart[c] ~ cellStart[c + 1] 구간의 cellEntries 가 셀 c 에 속한 위치(position)들 (오름차순)
+    private final int[] cellStart;
+    private final int[] cellEntries;
+
+    private final ClusterPyramid clusterPyramid;
+
+    private ShelterIndexSnapshot(long[] ids, double[] latitudes, double[] longitudes,
+            MapShelterRow[] rows, int[] openMinutes, boolean[] aircon, boolean[] outdoors,
+            int[] capacities, double[] ratings, double originLat, double originLng, double cellDegrees,
+            int gridRows, int gridCols, int[] cellStart, int[] cellEntries,
+            ClusterPyramid clusterPyramid) {
+        this.ids = ids;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.rows = rows;
+        this.openMinutes = openMinutes;
+        this.aircon = aircon;
+        this.outdoors = outdoors;
+        this.capacities = capacities;
+        this.ratings = ratings;
+        this.originLat = originLat;
+        this.originLng = originLng;
+        this.cellDegrees = cellDegrees;
+        this.gridRows = gridRows;
+        this.gridCols = gridCols;
+        this.cellStart = cellStart;
+        this.cellEntries = cellEntries;
+        this.clusterPyramid = clusterPyramid;
+    }
+
+    public static ShelterIndexSnapshot build(List<MapShelterRow> source) {
+        List<MapShelterRow> sorted = new ArrayList<>(source);
+        sorted.sort(Comparator.comparing(MapShelterRow::id));
+
+        int n = sorted.size();
+        long[] ids = new long[n];
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        MapShelterRow[] rows = sorted.toArray(new MapShelterRow[0]);
+        boolean[] aircon = new boolean[n];
+        int[] capacity = new int[n];
+        int[] openMinutes = new int[n * 4];
+        boolean[] outdoors = new boolean[n];
+        double[] ratings = new double[n];
+
+        double minLat = Double.POSITIVE_INFINITY;
+        double minLng = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double maxLng = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            ids[i] = rows[i].id();
+            lats[i] = rows[i].latitude();
+            lngs[i] = rows[i].longitude();
+            aircon[i] = Boolean.TRUE.equals(rows[i].hasAircon());
+            capacity[i] = rows[i].capacity() == null ? 0 : rows[i].capacity();
+            outdoors[i] = Boolean.TRUE.equals(rows[i].isOutdoors());
+            ratings[i] = rating(rows[i]);
+            openMinutes[i * 4] = OperatingHours.orUnknown(rows[i].weekdayOpen());
+            openMinutes[i * 4 + 1] = OperatingHours.orUnknown(rows[i].weekdayClose());
+            openMinutes[i * 4 + 2] = OperatingHours.orUnknown(rows[i].weekendOpen());
+            openMinutes[i * 4 + 3] = OperatingHours.orUnknown(rows[i].weekendClose());
+            minLat = Math.min(minLat, lats[i]);
+            minLng = Math.min(minLng, lngs[i]);
+            maxLat = Math.max(maxLat, lats[i]);
+            maxLng = Math.max(maxLng, lngs[i]);
+        }
+        if (n == 0) {
+            minLat = minLng = maxLat = maxLng = 0.0;
+        }
+
+        double cellDegrees = DEFAULT_CELL_DEGREES;
+        double area = (maxLat - minLat + cellDegrees) * (maxLng - minLng + cellDegrees);
+        if (area / (cellDegrees * cellDegrees) > MAX_CELLS) {
+            cellDegrees = Math.sqrt(area / MAX_CELLS);
+        }
+        int gridRows = (int) Math.floor((maxLat - minLat) / cellDegrees) + 1;
+        int gridCols = (int) Math.floor((maxLng - minLng) / cellDegrees) + 1;
+
+        // counting sort: 셀별 개수 → prefix sum → 위치 채우기 (position 순회라 셀 내부는 자동으로 오름차순)
+        int[] cellOf = new int[n];
+        int[] cellStart = new int[gridRows * gridCols + 1];
+        for (int i = 0; i < n; i++) {
+            int r = clamp((int) Math.floor((lats[i] - minLat) / cellDegrees), gridRows);
+            int c = clamp((int) Math.floor((lngs[i] - minLng) / cellDegrees), gridCols);
+            cellOf[i] = r * gridCols + c;
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < gridRows * gridCols; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        int[] cursor = Arrays.copyOf(cellStart, cellStart.length - 1);
+        int[] cellEntries = new int[n];
+        for (int i = 0; i < n; i++) {
+            cellEntries[cursor[cellOf[i]]++] = i;
+        }
+
+        return new ShelterIndexSnapshot(ids, lats, lngs, rows, openMinutes, aircon,
+                outdoors, capacity, ratings, minLat, minLng, cellDegrees,
+                gridRows, gridCols, cellStart, cellEntries,
+                ClusterPyramid.build(lats, lngs, aircon, capacity));
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    // 평점·사진처럼 격자/클러스터 피라미드와 무관한 속성만 바뀐 행을 교체한 새 스냅샷.
+    // 행 배열과 평점 배열만 복사하고 나머지는 공유한다. 좌표나 클러스터 집계 속성이 바뀌었거나 없는 행이면 null (전체 재적재 필요)
+    public ShelterIndexSnapshot withRows(List<MapShelterRow> changed) {
+        MapShelterRow[] patchedRows = rows.clone();
+        double[] patchedRatings = ratings.clone();
+        for (MapShelterRow row : changed) {
+            int p = Arrays.binarySearch(ids, row.id());
+            if (p < 0 || latitudes[p] != row.latitude() || longitudes[p] != row.longitude()
+                    || aircon[p] != Boolean.TRUE.equals(row.hasAircon())
+                    || capacities[p] != (row.capacity() == null ? 0 : row.capacity())) {
+                return null;
+            }
+            patchedRows[p] = row;
+            patchedRatings[p] = rating(row);
+        }
+        return new ShelterIndexSnapshot(ids, latitudes, longitudes, patchedRows, openMinutes, aircon,
+                outdoors, capacities, patchedRatings, originLat, originLng, cellDegrees,
+                gridRows, gridCols, cellStart, cellEntries, clusterPyramid);
+    }
+
+    public MapShelterRow row(int position) {
+        return rows[position];
+    }
+
+    // position 한 건이 필터를 만족하는지. k-NN/격자 순회 안에서 후보마다 호출한다 (ShelterFilter.matches 와 같은 규칙)
+    public boolean matches(int position, ShelterFilter filter) {
+        if (filter == null) {
+            return true;
+        }
+        if (filter.aircon() != null && filter.aircon() != aircon[position]) {
+            return false;
+        }
+        if (filter.outdoors() != null && filter.outdoors() != outdoors[position]) {
+            return false;
+        }
+        if (filter.minCapacity() != null && capacities[position] < filter.minCapacity()) {
+            return false;
+        }
+        return filter.minRating() == null || ratings[position] >= filter.minRating();
+    }
+
+    public boolean isOpenAt(int position, OperatingHours.Now now) {
+        int base = position * 4 + (now.weekend() ? 2 : 0);
+        return OperatingHours.isOpen(openMinutes[base], openMinutes[base + 1], now.minute());
+    }
+
+    // 페이지 크기와 무관하게 뷰포트와 겹치는 셀 전체를 반환
+    public List<ClusterFeature> clusters(int zoom, double minLat, double minLng, double maxLat,
+            double maxLng) {
+        return clusterPyramid.clusters(zoom, minLat, minLng, maxLat, maxLng);
+    }
+
+    // bbox 안의 위치(position)들을 shelterId 오름차순으로 반환 (DB 조회와 동일하게 경계 포함(BETWEEN) 비교)
+    public int[] query(double minLat, double minLng, double maxLat, double maxLng) {
+        int[] range = cellRange(minLat, minLng, maxLat, maxLng);
+        if (range == null) {
+            return new int[0];
+        }
+
+        int[] buf = new int[16];
+        int size = 0;
+        for (int r = range[0]; r <= range[2]; r++) {
+            for (int c = range[1]; c <= range[3]; c++) {
+                int cell = r * gridCols + c;
+                boolean inside = cellInside(r, c, minLat, minLng, maxLat, maxLng);
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    int p = cellEntries[k];
+                    if (inside || contains(p, minLat, minLng, maxLat, maxLng)) {
+                        if (size == buf.length) {
+                            buf = Arrays.copyOf(buf, size * 2);
+                        }
+                        buf[size++] = p;
+                    }
+                }
+            }
+        }
+        int[] out = Arrays.copyOf(buf, size);
+        Arrays.sort(out);
+        return out;
+    }
+
+    // bbox 프리필터 → haversine 정밀 거리 → bounded top-k
+    public List<NearbyHit> nearest(double lat, double lng, double radiusMeters, Integer limit) {
+        return nearest(lat, lng, radiusMeters, limit, p -> true);
+    }
+
+    // accept 를 통과한 위치(position)만 후보로 본다 (예: 운영 중 필터)
+    public List<NearbyHit> nearest(double lat, double lng, double radiusMeters, Integer limit,
+            IntPredicate accept) {
+        double[] box = NearestNeighbors.boundingBox(lat, lng, radiusMeters);
+        int[] range = cellRange(box[0], box[1], box[2], box[3]);
+        NearestNeighbors knn = new NearestNeighbors(limit);
+        if (range == null) {
+            return knn.result();
+        }
+
+        for (int r = range[0]; r <= range[2]; r++) {
+            for (int c = range[1]; c <= range[3]; c++) {
+                int cell = r * gridCols + c;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    int p = cellEntries[k];
+                    if (!contains(p, box[0], box[1], box[2], box[3]) || !accept.test(p)) {
+                        continue;
+                    }
+                    double d = ShelterDtoUtils.haversineMeters(lat, lng, latitudes[p], longitudes[p]);
+                    if (d <= radiusMeters) {
+                        knn.offer(ids[p], d);
+                    }
+                }
+            }
+        }
+        return knn.result();
+    }
+
+    private boolean contains(int p, double minLat, double minLng, double maxLat, double maxLng) {
+        double lat = latitudes[p];
+        double lng = longitudes[p];
+        return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+    }
+
+    private boolean cellInside(int r, int c, double minLat, double minLng, double maxLat,
+            double maxLng) {
+        double cellMinLat = originLat + r * cellDegrees;
+        double cellMinLng = originLng + c * cellDegrees;
+        return cellMinLat >= minLat && cellMinLat + cellDegrees < maxLat
+                && cellMinLng >= minLng && cellMinLng + cellDegrees < maxLng;
+    }
+
+    // {rowFrom, colFrom, rowTo, colTo}, 겹치는 셀이 없으면 null
+    private int[] cellRange(double minLat, double minLng, double maxLat, double maxLng) {
+        if (ids.length == 0 || minLat > maxLat || minLng > maxLng) {
+            return null;
+        }
+        int r0 = (int) Math.floor((minLat - originLat) / cellDegrees);
+        int c0 = (int) Math.floor((minLng - originLng) / cellDegrees);
+        int r1 = (int) Math.floor((maxLat - originLat) / cellDegrees);
+        int c1 = (int) Math.floor((maxLng - originLng) / cellDegrees);
+        if (r1 < 0 || c1 < 0 || r0 >= gridRows || c0 >= gridCols) {
+            return null;
+        }
+        return new int[]{Math.max(r0, 0), Math.max(c0, 0),
+                Math.min(r1, gridRows - 1), Math.min(c1, gridCols - 1)};
+    }
+
+    private static double rating(MapShelterRow row) {
+        return ShelterDtoUtils.average(
+                row.totalRating() == null ? 0 : row.totalRating().intValue(),
+                row.reviewCount() == null ? 0 : row.reviewCount().intValue());
+    }
+
+    private static int clamp(int v, int bound) {
+        return Math.max(0, Math.min(v, bound - 1));
+    }
+}
@@ -0,0 +1,193 @@
+package com.team19.musuimsa.shelter.index;
+
+import com.team19.musuimsa.config.CacheInvalidationBus;
+import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.repository.ShelterRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 노드 로컬 쉼터 공간 인덱스. 기동 시 1회 적재하고, 임포트(importOnce / shelterImportJob) 이후 통째로 교체한다.
+// 리뷰 평점·사진처럼 쉼터 한두 곳의 속성만 바뀐 경우는 해당 행만 다시 읽어 스냅샷을 부분 교체한다 (patch).
+// 스냅샷이 없으면(기동 직후 적재 실패 등) 호출부는 ShelterRepository 로 폴백한다.
+// 노드 간 동기화(임포트): 데이터를 바꾼 노드가 Redis 의 인덱스 버전을 올리고, 다른 노드는 조회 시 버전을 확인해(1초 로컬 캐싱)
+// 자기 스냅샷이 뒤처졌으면 백그라운드로 다시 적재한다. 다시 적재하는 동안은 스냅샷을 내주지 않아 호출부가 DB 로 폴백하므로,
+// 이전 스냅샷으로 만든 타일이 새 세대 키로 L2 에 들어가지 않는다.
+// 노드 간 동기화(부분 교체): 바뀐 쉼터 id 를 CacheInvalidationBus 로 보내고, 받은 노드가 같은 행을 다시 읽어 교체한다.
+@Slf4j
+@Component
+public class ShelterSpatialIndex {
+
+    static final String VERSION_KEY = "musuimsa::shelterIndex::version";
+    static final String PATCH_TOPIC = "shelterIndex";
+
+    // 다른 노드가 버전을 올린 뒤 이 노드가 알아차리기까지의 최대 지연
+    private static final long VERSION_REFRESH_MILLIS = 1_000;
+
+    private final ShelterRepository shelterRepository;
+    private final Optional<StringRedisTemplate> redisTemplate;
+    private final Optional<CacheInvalidationBus> invalidationBus;
+
+    private final AtomicReference<ShelterIndexSnapshot> snapshot = new AtomicReference<>();
+
+    // loadedVersion: 현재 스냅샷을 적재하기 직전에 본 클러스터 버전. clusterVersion 보다 작으면 뒤처진 것
+    private volatile long loadedVersion = -1;
+    private final AtomicLong clusterVersion = new AtomicLong();
+    private volatile long versionCheckedAt;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @Autowired
+    public ShelterSpatialIndex(ShelterRepository shelterRepository, Optional<StringRedisTemplate> redisTemplate,
+            Optional<CacheInvalidationBus> invalidationBus) {
+        this.shelterRepository = shelterRepository;
+        this.redisTemplate = redisTemplate;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.ifPresent(bus -> bus.subscribe(PATCH_TOPIC, this::onPatchMessage));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    // 다른 노드가 데이터를 바꿔 스냅샷이 뒤처졌으면 empty (백그라운드 재적재를 시작한다)
+    public Optional<ShelterIndexSnapshot> current() {
+        ShelterIndexSnapshot current = snapshot.get();
+        if (current != null && clusterVersion() > loadedVersion) {
+            rebuildInBackground();
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current);
+    }
+
+    // 임포트처럼 데이터를 바꾼 노드가 호출: 버전을 올려 다른 노드에 알리고 자기 인덱스는 바로 교체한다
+    public boolean rebuildAcrossCluster() {
+        bumpVersion();
+        return rebuild();
+    }
+
+    // 리뷰 평점·사진처럼 임포트 밖에서 쉼터 속성이 바뀐 경우 (커밋 후 호출): 이 노드 스냅샷을 부분 교체하고
+    // 다른 노드에도 id 를 보낸다. 다시 읽은 행을 돌려준다 (호출부의 타일 무효화용)
+    public List<MapShelterRow> patchAcrossCluster(Collection<Long> shelterIds) {
+        List<MapShelterRow> rows = patch(shelterIds);
+        // 발행한 노드도 메시지를 받아 한 번 더 교체하지만, 같은 행을 다시 읽을 뿐이라 결과는 같다
+        invalidationBus.ifPresent(bus -> bus.publish(PATCH_TOPIC,
+                shelterIds.stream().map(String::valueOf).toList()));
+        return rows;
+    }
+
+    // 바뀐 행만 다시 읽어 스냅샷을 교체한다. 격자·클러스터에 영향이 있는 변경(좌표 등)이면 통째로 다시 적재한다.
+    // 스냅샷이 없으면 교체할 것이 없다 (호출부는 어차피 DB 로 폴백한다)
+    public synchronized List<MapShelterRow> patch(Collection<Long> shelterIds) {
+        if (shelterIds.isEmpty()) {
+            return List.of();
+        }
+        List<MapShelterRow> rows = shelterRepository.findMapRowsByIds(shelterIds);
+        ShelterIndexSnapshot current = snapshot.get();
+        if (current == null) {
+            return rows;
+        }
+        ShelterIndexSnapshot patched = current.withRows(rows);
+        if (patched == null) {
+            log.info("[Shelter Index] patch touches grid attributes. full rebuild. ids={}", shelterIds);
+            rebuild();
+        } else {
+            snapshot.set(patched);
+        }
+        return rows;
+    }
+
+    private void onPatchMessage(List<String> shelterIds) {
+        patch(shelterIds.stream().map(Long::valueOf).toList());
+    }
+
+    // 실패 시 기존 스냅샷을 그대로 유지한다. 동시 호출은 순서대로 적재해 오래된 스냅샷이 나중에 덮어쓰지 않게 한다
+    public synchronized boolean rebuild() {
+        long t0 = System.nanoTime();
+        // 적재 도중 버전이 또 오르면 다음 조회에서 다시 적재하도록, 버전은 행을 읽기 전에 본다
+        long version = readVersion();
+        try {
+            List<MapShelterRow> rows = shelterRepository.findAllMapRows();
+            snapshot.set(ShelterIndexSnapshot.build(rows));
+            loadedVersion = version;
+            log.info("[Shelter Index] rebuilt. size={}, version={} ({} ms)", rows.size(), version,
+                    (System.nanoTime() - t0) / 1_000_000);
+            return true;
+        } catch (Exception e) {
+            log.warn("[Shelter Index] rebuild failed. keep previous snapshot", e);
+            return false;
+        }
+    }
+
+    // 기다리는 동안 rebuildAcrossCluster 등이 이미 최신으로 적재했으면 건너뛴다
+    private synchronized void rebuildIfBehind() {
+        if (readVersion() > loadedVersion) {
+            rebuild();
+        }
+    }
+
+    private void rebuildInBackground() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("shelter-index-rebuild").start(() -> {
+            try {
+                rebuildIfBehind();
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    private long clusterVersion() {
+        if (redisTemplate.isEmpty()) {
+            return clusterVersion.get();
+        }
+        long now = System.currentTimeMillis();
+        if (now - versionCheckedAt < VERSION_REFRESH_MILLIS) {
+            return clusterVersion.get();
+        }
+        return readVersion();
+    }
+
+    private long readVersion() {
+        if (redisTemplate.isEmpty()) {
+            return clusterVersion.get();
+        }
+        try {
+            String value = redisTemplate.get().opsForValue().get(VERSION_KEY);
+            clusterVersion.set(value == null ? 0L : Long.parseLong(value));
+        } catch (Exception e) {
+            // Redis 장애 시 마지막으로 본 버전을 계속 쓴다 (스냅샷은 그대로 서빙)
+            log.warn("[Shelter Index] version read failed. keep version={}", clusterVersion.get(), e);
+        }
+        versionCheckedAt = System.currentTimeMillis();
+        return clusterVersion.get();
+    }
+
+    private void bumpVersion() {
+        if (redisTemplate.isEmpty()) {
+            clusterVersion.incrementAndGet();
+            return;
+        }
+        try {
+            Long next = redisTemplate.get().opsForValue().increment(VERSION_KEY);
+            if (next != null) {
+                clusterVersion.set(next);
+                versionCheckedAt = System.currentTimeMillis();
+            }
+        } catch (Exception e) {
+            // 알리지 못한 노드는 다음 변경까지 이전 스냅샷을 쓴다
+            log.warn("[Shelter Index] version bump failed. other nodes keep their snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.team19.musuimsa.shelter.repository;
+
+import com.team19.musuimsa.shelter.domain.Shelter;
+import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.index.NearestNeighbors;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// prod(MySQL) 용: shelters.location(POINT SRID 4326) + SPATIAL INDEX 기반 조회.
+// location 은 latitude/longitude 로부터 계산되는 STORED 생성 컬럼이라 toShelter/updateShelterInfo 로 위/경도가 바뀌면 함께 갱신된다.
+// 컬럼/인덱스는 배포 단계에서 db/mysql/shelters_location.sql 로 만든다. 기동 시에는 공간 인덱스가 있는지만 확인하고,
+// 없으면(스크립트 미적용 등) geocell 구간 쿼리로 폴백한다.
+@Slf4j
+@Profile("prod")
+@Component
+public class MySqlSpatialShelterGeoQuery implements ShelterGeoQuery, ApplicationRunner {
+
+    private static final String SPATIAL_INDEX_EXISTS_SQL = """
+            SELECT COUNT(*)
+            FROM information_schema.STATISTICS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = 'shelters'
+              AND COLUMN_NAME = 'location'
+              AND INDEX_TYPE = 'SPATIAL'
+            """;
+
+    private final ShelterRepository shelterRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PortableShelterGeoQuery fallback;
+
+    private volatile boolean spatialReady;
+
+    public MySqlSpatialShelterGeoQuery(ShelterRepository shelterRepository,
+            JdbcTemplate jdbcTemplate) {
+        this.shelterRepository = shelterRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.fallback = new PortableShelterGeoQuery(shelterRepository);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            Integer count = jdbcTemplate.queryForObject(SPATIAL_INDEX_EXISTS_SQL, Integer.class);
+            spatialReady = count != null && count > 0;
+            if (!spatialReady) {
+                log.warn("[Shelter Geo] shelters.location spatial index missing (apply db/mysql/shelters_location.sql),"
+                        + " using geocell range queries");
+            }
+        } catch (Exception e) {
+            log.warn("[Shelter Geo] spatial index check failed, using geocell range queries", e);
+        }
+    }
+
+    @Override
+    public List<MapShelterRow> findRowsInBbox(double minLat, double minLng, double maxLat,
+            double maxLng) {
+        if (!spatialReady) {
+            return fallback.findRowsInBbox(minLat, minLng, maxLat, maxLng);
+        }
+        return shelterRepository.findInEnvelope(envelope(minLat, minLng, maxLat, maxLng)).stream()
+                .map(MapShelterRow::from)
+                .toList();
+    }
+
+    @Override
+    public List<MapShelterRow> findRowsInBbox(double minLat, double minLng, double maxLat,
+            double maxLng, int limit) {
+        if (!spatialReady) {
+            return fallback.findRowsInBbox(minLat, minLng, maxLat, maxLng, limit);
+        }
+        return shelterRepository.findInEnvelope(envelope(minLat, minLng, maxLat, maxLng), limit).stream()
+                .map(MapShelterRow::from)
+                .toList();
+    }
+
+    @Override
+    public List<Shelter> findNearbyCandidates(double lat, double lng, double radiusMeters) {
+        if (!spatialReady) {
+            return fallback.findNearbyCandidates(lat, lng, radiusMeters);
+        }
+        double[] box = NearestNeighbors.boundingBox(lat, lng, radiusMeters);
+        return shelterRepository.findWithinDistanceSphere(
+                envelope(box[0], box[1], box[2], box[3]), lat, lng, radiusMeters);
+    }
+
+    // (경도 위도) 순서 WKT 폴리곤. ST_GeomFromText(SRID 0) → ST_SRID(4326) 로 컬럼과 같은 축 순서를 유지한다.
+    static String envelope(double minLat, double minLng, double maxLat, double maxLng) {
+        String w = plain(minLng);
+        String s = plain(minLat);
+        String e = plain(maxLng);
+        String n = plain(maxLat);
+        return "POLYGON((" + w + " " + s + ", " + e + " " + s + ", " + e + " " + n + ", "
+                + w + " " + n + ", " + w + " " + s + "))";
+    }
+
+    // 지수 표기(1.0E-5) 없이 WKT 숫자로 쓴다
+    private static String plain(double v) {
+        return BigDecimal.valueOf(v).stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,47 @@
+package com.team19.musuimsa.shelter.repository;
+
+import com.team19.musuimsa.shelter.domain.Shelter;
+import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.index.NearestNeighbors;
+import com.team19.musuimsa.shelter.util.GeoCell;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// dev/test(H2) 용: bbox 를 geocell 키 구간 몇 개로 나눠 idx_shelters_geocell 범위 스캔 후 위/경도로 거른다
+@Profile("!prod")
+@Component
+@RequiredArgsConstructor
+public class PortableShelterGeoQuery implements ShelterGeoQuery {
+
+    private final ShelterRepository shelterRepository;
+
+    @Override
+    public List<MapShelterRow> findRowsInBbox(double minLat, double minLng, double maxLat,
+            double maxLng) {
+        return shelterRepository.findRowsInGeocellRanges(
+                GeoCell.ranges(minLat, minLng, maxLat, maxLng, GeoCell.MAX_RANGES),
+                BigDecimal.valueOf(minLat), BigDecimal.valueOf(minLng),
+                BigDecimal.valueOf(maxLat), BigDecimal.valueOf(maxLng));
+    }
+
+    @Override
+    public List<MapShelterRow> findRowsInBbox(double minLat, double minLng, double maxLat,
+            double maxLng, int limit) {
+        return shelterRepository.findRowsInGeocellRanges(
+                GeoCell.ranges(minLat, minLng, maxLat, maxLng, GeoCell.MAX_RANGES),
+                BigDecimal.valueOf(minLat), BigDecimal.valueOf(minLng),
+                BigDecimal.valueOf(maxLat), BigDecimal.valueOf(maxLng), limit);
+    }
+
+    @Override
+    public List<Shelter> findNearbyCandidates(double lat, double lng, double radiusMeters) {
+        double[] box = NearestNeighbors.boundingBox(lat, lng, radiusMeters);
+        return shelterRepository.findInGeocellRanges(
+                GeoCell.ranges(box[0], box[1], box[2], box[3], GeoCell.MAX_RANGES),
+                BigDecimal.valueOf(box[0]), BigDecimal.valueOf(box[1]),
+                BigDecimal.valueOf(box[2]), BigDecimal.valueOf(box[3]));
+    }
+}
@@ -0,0 +1,19 @@
+package com.team19.musuimsa.shelter.repository;
+
+import com.team19.musuimsa.shelter.domain.Shelter;
+import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import java.util.List;
+
+// 인메모리 인덱스가 준비되기 전 DB로 내려가는 공간 조회.
+// prod(MySQL)는 POINT SRID 4326 컬럼 + SPATIAL INDEX, 그 외(H2)는 geocell(Morton 키) 구간 쿼리를 쓴다.
+public interface ShelterGeoQuery {
+
+    // bbox 안(경계 포함) 쉼터 행, shelterId 오름차순
+    List<MapShelterRow> findRowsInBbox(double minLat, double minLng, double maxLat, double maxLng);
+
+    // 위와 같되 shelterId 순으로 앞에서 limit 개만 (타일로 나누지 않는 넓은 뷰포트용)
+    List<MapShelterRow> findRowsInBbox(double minLat, double minLng, double maxLat, double maxLng, int limit);
+
+    // 반경 검색 후보. 반경 밖 쉼터가 섞여 있을 수 있으므로 호출 측에서 거리로 다시 거른다.
+    List<Shelter> findNearbyCandidates(double lat, double lng, double radiusMeters);
+}
@@ -0,0 +1,22 @@
+package com.team19.musuimsa.shelter.repository;
+
+import com.team19.musuimsa.shelter.domain.Shelter;
+import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.util.GeoCell;
+import java.math.BigDecimal;
+import java.util.List;
+
+// geocell(Morton 키) 구간 조회. 구간 수가 요청마다 달라 JPQL 을 직접 조립하므로 ShelterRepository 의 커스텀 프래그먼트로 둔다.
+public interface ShelterGeocellRepository {
+
+    // 구간 OR (geocell BETWEEN) 로 idx_shelters_geocell 범위 스캔 후 위/경도로 정확히 거른다. shelterId 오름차순.
+    List<MapShelterRow> findRowsInGeocellRanges(List<GeoCell.Range> ranges,
+            BigDecimal minLat, BigDecimal minLng, BigDecimal maxLat, BigDecimal maxLng);
+
+    // 위와 같되 shelterId 순으로 앞에서 limit 개만
+    List<MapShelterRow> findRowsInGeocellRanges(List<GeoCell.Range> ranges,
+            BigDecimal minLat, BigDecimal minLng, BigDecimal maxLat, BigDecimal maxLng, int limit);
+
+    List<Shelter> findInGeocellRanges(List<GeoCell.Range> ranges,
+            BigDecimal minLat, BigDecimal minLng, BigDecimal maxLat, BigDecimal maxLng);
+}
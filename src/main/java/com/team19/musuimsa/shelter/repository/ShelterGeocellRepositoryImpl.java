@@ -0,0 +1,92 @@
+package com.team19.musuimsa.shelter.repository;
+
+import com.team19.musuimsa.shelter.domain.Shelter;
+import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.util.GeoCell;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.math.BigDecimal;
+import java.util.List;
+
+public class ShelterGeocellRepositoryImpl implements ShelterGeocellRepository {
+
+    // ShelterRepository.findAllMapRows 와 동일한 행 구성
+    private static final String MAP_ROW_SELECT = """
+            SELECT new com.team19.musuimsa.shelter.dto.map.MapShelterRow(
+              s.shelterId,
+              s.name,
+              s.address,
+              cast(s.latitude  as double),
+              cast(s.longitude as double),
+              CASE WHEN coalesce(s.airConditionerCount, 0) > 0 THEN true ELSE false END,
+              s.isOutdoors,
+              s.capacity,
+              s.photoUrl,
+              s.weekdayOpenMinute,
+              s.weekdayCloseMinute,
+              s.weekendOpenMinute,
+              s.weekendCloseMinute,
+              s.weekdayHours,
+              s.weekendHours,
+              s.weekdayOpenTime,
+              s.weekdayCloseTime,
+              s.weekendOpenTime,
+              s.weekendCloseTime,
+              cast(s.totalRating as long),
+              cast(s.reviewCount as long)
+            )
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MapShelterRow> findRowsInGeocellRanges(List<GeoCell.Range> ranges,
+            BigDecimal minLat, BigDecimal minLng, BigDecimal maxLat, BigDecimal maxLng) {
+        TypedQuery<MapShelterRow> query = entityManager.createQuery(
+                MAP_ROW_SELECT + where(ranges), MapShelterRow.class);
+        return bind(query, ranges, minLat, minLng, maxLat, maxLng).getResultList();
+    }
+
+    @Override
+    public List<MapShelterRow> findRowsInGeocellRanges(List<GeoCell.Range> ranges,
+            BigDecimal minLat, BigDecimal minLng, BigDecimal maxLat, BigDecimal maxLng, int limit) {
+        TypedQuery<MapShelterRow> query = entityManager.createQuery(
+                MAP_ROW_SELECT + where(ranges), MapShelterRow.class);
+        return bind(query, ranges, minLat, minLng, maxLat, maxLng).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Shelter> findInGeocellRanges(List<GeoCell.Range> ranges,
+            BigDecimal minLat, BigDecimal minLng, BigDecimal maxLat, BigDecimal maxLng) {
+        TypedQuery<Shelter> query = entityManager.createQuery(
+                "SELECT s " + where(ranges), Shelter.class);
+        return bind(query, ranges, minLat, minLng, maxLat, maxLng).getResultList();
+    }
+
+    // 백필 전(geocell IS NULL) 행도 같은 인덱스의 NULL 구간으로 함께 읽는다
+    private static String where(List<GeoCell.Range> ranges) {
+        StringBuilder sb = new StringBuilder("FROM Shelter s WHERE (s.geocell IS NULL");
+        for (int i = 0; i < ranges.size(); i++) {
+            sb.append(" OR s.geocell BETWEEN :from").append(i).append(" AND :to").append(i);
+        }
+        return sb.append(")")
+                .append(" AND s.latitude  BETWEEN :minLat AND :maxLat")
+                .append(" AND s.longitude BETWEEN :minLng AND :maxLng")
+                .append(" ORDER BY s.shelterId")
+                .toString();
+    }
+
+    private static <T> TypedQuery<T> bind(TypedQuery<T> query, List<GeoCell.Range> ranges,
+            BigDecimal minLat, BigDecimal minLng, BigDecimal maxLat, BigDecimal maxLng) {
+        for (int i = 0; i < ranges.size(); i++) {
+            query.setParameter("from" + i, ranges.get(i).from());
+            query.setParameter("to" + i, ranges.get(i).to());
+        }
+        return query.setParameter("minLat", minLat)
+                .setParameter("minLng", minLng)
+                .setParameter("maxLat", maxLat)
+                .setParameter("maxLng", maxLng);
+    }
+}
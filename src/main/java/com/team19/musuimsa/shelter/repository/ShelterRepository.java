@@ -1,36 +1,20 @@
 package com.team19.musuimsa.shelter.repository;
 
 import com.team19.musuimsa.shelter.domain.Shelter;
-import com.team19.musuimsa.shelter.dto.map.MapShelterResponse;
+import com.team19.musuimsa.shelter.dto.ShelterFilter;
+import com.team19.musuimsa.shelter.dto.map.ClusterFeature;
 import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.util.ClusterGrid;
+import com.team19.musuimsa.shelter.util.OperatingHours;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface ShelterRepository extends JpaRepository<Shelter, Long> {
-
-    @Query(value = """
-            SELECT s.*
-            FROM shelters s
-            WHERE (6371000 * ACOS(
-                     COS(RADIANS(:lat)) * COS(RADIANS(s.latitude)) *
-                     COS(RADIANS(s.longitude) - RADIANS(:lng)) +
-                     SIN(RADIANS(:lat)) * SIN(RADIANS(s.latitude))
-                  )) <= :radius
-            ORDER BY (6371000 * ACOS(
-                     COS(RADIANS(:lat)) * COS(RADIANS(s.latitude)) *
-                     COS(RADIANS(s.longitude) - RADIANS(:lng)) +
-                     SIN(RADIANS(:lat)) * SIN(RADIANS(s.latitude))
-                  ))
-            """, nativeQuery = true)
-    List<Shelter> findNearbyShelters(
-            @Param("lat") double lat,
-            @Param("lng") double lng,
-            @Param("radius") int radius
-    );
+public interface ShelterRepository extends JpaRepository<Shelter, Long>, ShelterGeocellRepository {
 
     @Query("""
               select s.shelterId
@@ -42,31 +26,37 @@ public interface ShelterRepository extends JpaRepository<Shelter, Long> {
             """)
     List<Long> findPendingShelterIds(Pageable pageable);
 
+    // 공간 인덱스 적재용 전체 조회 (findRowsInGeocellRanges 와 동일한 행 구성)
     @Query("""
-              SELECT new com.team19.musuimsa.shelter.dto.map.MapShelterResponse(
+              SELECT new com.team19.musuimsa.shelter.dto.map.MapShelterRow(
                 s.shelterId,
                 s.name,
                 s.address,
                 cast(s.latitude  as double),
                 cast(s.longitude as double),
-                cast(null as string),
                 CASE WHEN coalesce(s.airConditionerCount, 0) > 0 THEN true ELSE false END,
+                s.isOutdoors,
                 s.capacity,
                 s.photoUrl,
-                NULL,
-                cast(null as double)
+                s.weekdayOpenMinute,
+                s.weekdayCloseMinute,
+                s.weekendOpenMinute,
+                s.weekendCloseMinute,
+                s.weekdayHours,
+                s.weekendHours,
+                s.weekdayOpenTime,
+                s.weekdayCloseTime,
+                s.weekendOpenTime,
+                s.weekendCloseTime,
+                cast(s.totalRating as long),
+                cast(s.reviewCount as long)
               )
               FROM Shelter s
-              WHERE s.latitude  BETWEEN :minLat AND :maxLat
-                AND s.longitude BETWEEN :minLng AND :maxLng
+              ORDER BY s.shelterId
             """)
-    List<MapShelterResponse> findInBbox(
-            @Param("minLat") BigDecimal minLat,
-            @Param("minLng") BigDecimal minLng,
-            @Param("maxLat") BigDecimal maxLat,
-            @Param("maxLng") BigDecimal maxLng,
-            Pageable pageable);
+    List<MapShelterRow> findAllMapRows();
 
+    // 인덱스 스냅샷 부분 교체용 (findAllMapRows 와 동일한 행 구성)
     @Query("""
               SELECT new com.team19.musuimsa.shelter.dto.map.MapShelterRow(
                 s.shelterId,
@@ -75,36 +65,170 @@ public interface ShelterRepository extends JpaRepository<Shelter, Long> {
                 cast(s.latitude  as double),
                 cast(s.longitude as double),
                 CASE WHEN coalesce(s.airConditionerCount, 0) > 0 THEN true ELSE false END,
+                s.isOutdoors,
                 s.capacity,
                 s.photoUrl,
-                cast(s.weekdayOpenTime  as string),
-                cast(s.weekdayCloseTime as string),
-                cast(s.weekendOpenTime  as string),
-                cast(s.weekendCloseTime as string),
+                s.weekdayOpenMinute,
+                s.weekdayCloseMinute,
+                s.weekendOpenMinute,
+                s.weekendCloseMinute,
+                s.weekdayHours,
+                s.weekendHours,
+                s.weekdayOpenTime,
+                s.weekdayCloseTime,
+                s.weekendOpenTime,
+                s.weekendCloseTime,
                 cast(s.totalRating as long),
                 cast(s.reviewCount as long)
               )
               FROM Shelter s
-              WHERE s.latitude  BETWEEN :minLat AND :maxLat
-                AND s.longitude BETWEEN :minLng AND :maxLng
+              WHERE s.shelterId IN :ids
             """)
-    List<MapShelterRow> findInBboxWithHours(
+    List<MapShelterRow> findMapRowsByIds(@Param("ids") Collection<Long> ids);
+
+    // 날씨 선조회 격자 산출용 좌표 [위도, 경도]
+    @Query("SELECT cast(s.latitude as double), cast(s.longitude as double) FROM Shelter s")
+    List<Object[]> findAllCoordinates();
+
+    // prod(MySQL) 전용: location SPATIAL INDEX 로 envelope(WKT, 경도 위도 순) 안 쉼터 조회. 경계 포함은 MBRCovers.
+    @Query(value = """
+              SELECT s.*
+              FROM shelters s
+              WHERE MBRCovers(ST_SRID(ST_GeomFromText(:envelope), 4326), s.location)
+              ORDER BY s.shelter_id
+            """, nativeQuery = true)
+    List<Shelter> findInEnvelope(@Param("envelope") String envelope);
+
+    // findInEnvelope 과 같되 shelterId 순으로 앞에서 limit 개만
+    @Query(value = """
+              SELECT s.*
+              FROM shelters s
+              WHERE MBRCovers(ST_SRID(ST_GeomFromText(:envelope), 4326), s.location)
+              ORDER BY s.shelter_id
+              LIMIT :limit
+            """, nativeQuery = true)
+    List<Shelter> findInEnvelope(@Param("envelope") String envelope, @Param("limit") int limit);
+
+    // prod(MySQL) 전용: MBRContains 로 인덱스 프리필터 후 ST_Distance_Sphere 로 반경 필터, 가까운 순
+    @Query(value = """
+              SELECT s.*
+              FROM shelters s
+              WHERE MBRContains(ST_SRID(ST_GeomFromText(:envelope), 4326), s.location)
+                AND ST_Distance_Sphere(s.location, ST_SRID(POINT(:lng, :lat), 4326)) <= :radius
+              ORDER BY ST_Distance_Sphere(s.location, ST_SRID(POINT(:lng, :lat), 4326)), s.shelter_id
+            """, nativeQuery = true)
+    List<Shelter> findWithinDistanceSphere(@Param("envelope") String envelope,
+            @Param("lat") double lat,
+            @Param("lng") double lng,
+            @Param("radius") double radiusMeters);
+
+    // cluster 레벨 폴백용 격자 집계. 원시 행 대신 셀별 (row, col, count, avgLat, avgLng, aircon 수, 수용인원 합)만 받는다.
+    // 셀 기준은 ClusterGrid 와 같고, 파생 테이블로 감싸 MySQL/H2 모두에서 동작한다.
+    @Query(value = """
+              SELECT c.cell_row, c.cell_col, COUNT(*), AVG(c.lat), AVG(c.lng), SUM(c.aircon), SUM(c.cap)
+              FROM (
+                SELECT FLOOR((s.latitude  + 180) / :cellDegrees) AS cell_row,
+                       FLOOR((s.longitude + 180) / :cellDegrees) AS cell_col,
+                       s.latitude  AS lat,
+                       s.longitude AS lng,
+                       CASE WHEN COALESCE(s.air_conditioner_count, 0) > 0 THEN 1 ELSE 0 END AS aircon,
+                       COALESCE(s.capacity, 0) AS cap
+                FROM shelters s
+                WHERE s.latitude  BETWEEN :minLat AND :maxLat
+                  AND s.longitude BETWEEN :minLng AND :maxLng
+              ) c
+              GROUP BY c.cell_row, c.cell_col
+            """, nativeQuery = true)
+    List<Object[]> aggregateCells(@Param("cellDegrees") double cellDegrees,
             @Param("minLat") BigDecimal minLat,
             @Param("minLng") BigDecimal minLng,
             @Param("maxLat") BigDecimal maxLat,
-            @Param("maxLng") BigDecimal maxLng,
-            Pageable pageable);
+            @Param("maxLng") BigDecimal maxLng);
 
-    @Query("""
-              SELECT count(s.shelterId)
-              FROM Shelter s
-              WHERE s.latitude  BETWEEN :minLat AND :maxLat
-                AND s.longitude BETWEEN :minLng AND :maxLng
-            """)
-    int countInBbox(@Param("minLat") BigDecimal minLat,
+    // aggregateCells 에 속성 필터/openNow 를 더한 집계. 필터 값이 음수면 그 조건은 적용하지 않는다.
+    // 판단 기준은 ShelterFilter.matches / OperatingHours.isOpen 과 같다 (평점은 total >= minRating × count 로 비교).
+    // 운영시간 분이 아직 백필되지 않은 행은 MapShelterRow 와 같이 원본 시간에서 구한다.
+    @Query(value = """
+              SELECT c.cell_row, c.cell_col, COUNT(*), AVG(c.lat), AVG(c.lng), SUM(c.aircon), SUM(c.cap)
+              FROM (
+                SELECT FLOOR((s.latitude  + 180) / :cellDegrees) AS cell_row,
+                       FLOOR((s.longitude + 180) / :cellDegrees) AS cell_col,
+                       s.latitude  AS lat,
+                       s.longitude AS lng,
+                       CASE WHEN COALESCE(s.air_conditioner_count, 0) > 0 THEN 1 ELSE 0 END AS aircon,
+                       COALESCE(s.capacity, 0) AS cap,
+                       CASE WHEN s.is_outdoors = TRUE THEN 1 ELSE 0 END AS outdoors,
+                       CASE WHEN COALESCE(s.review_count, 0) > 0
+                            THEN COALESCE(s.total_rating, 0) - :minRating * s.review_count
+                            ELSE 0 - :minRating END AS rating_margin,
+                       COALESCE(CASE WHEN :weekend = 1
+                                     THEN COALESCE(s.weekend_open_minute,
+                                                   HOUR(s.weekend_open_time) * 60 + MINUTE(s.weekend_open_time))
+                                     ELSE COALESCE(s.weekday_open_minute,
+                                                   HOUR(s.weekday_open_time) * 60 + MINUTE(s.weekday_open_time))
+                                END, -1) AS open_m,
+                       COALESCE(CASE WHEN :weekend = 1
+                                     THEN COALESCE(s.weekend_close_minute,
+                                                   HOUR(s.weekend_close_time) * 60 + MINUTE(s.weekend_close_time))
+                                     ELSE COALESCE(s.weekday_close_minute,
+                                                   HOUR(s.weekday_close_time) * 60 + MINUTE(s.weekday_close_time))
+                                END, -1) AS close_m
+                FROM shelters s
+                WHERE s.latitude  BETWEEN :minLat AND :maxLat
+                  AND s.longitude BETWEEN :minLng AND :maxLng
+              ) c
+              WHERE (:aircon < 0 OR c.aircon = :aircon)
+                AND (:outdoors < 0 OR c.outdoors = :outdoors)
+                AND (:minCapacity < 0 OR c.cap >= :minCapacity)
+                AND (:minRating < 0 OR c.rating_margin >= 0)
+                AND (:minute < 0 OR (c.open_m >= 0 AND c.close_m >= 0 AND (
+                       c.open_m = c.close_m
+                    OR (c.open_m < c.close_m AND :minute >= c.open_m AND :minute < c.close_m)
+                    OR (c.open_m > c.close_m AND (:minute >= c.open_m OR :minute < c.close_m)))))
+              GROUP BY c.cell_row, c.cell_col
+            """, nativeQuery = true)
+    List<Object[]> aggregateFilteredCells(@Param("cellDegrees") double cellDegrees,
+            @Param("minLat") BigDecimal minLat,
             @Param("minLng") BigDecimal minLng,
             @Param("maxLat") BigDecimal maxLat,
-            @Param("maxLng") BigDecimal maxLng);
+            @Param("maxLng") BigDecimal maxLng,
+            @Param("aircon") int aircon,
+            @Param("outdoors") int outdoors,
+            @Param("minCapacity") int minCapacity,
+            @Param("minRating") double minRating,
+            @Param("weekend") int weekend,
+            @Param("minute") int minute);
+
+    // 필터를 통과한 쉼터만 셀 단위로 집계 (now 가 null 이면 운영 여부는 보지 않는다)
+    default List<ClusterFeature> aggregateFilteredClusters(int zoom, BigDecimal minLat, BigDecimal minLng,
+            BigDecimal maxLat, BigDecimal maxLng, ShelterFilter filter, OperatingHours.Now now) {
+        int z = ClusterGrid.clampZoom(zoom);
+        return toClusters(z, aggregateFilteredCells(ClusterGrid.cellDegrees(z), minLat, minLng, maxLat, maxLng,
+                filter.aircon() == null ? -1 : (filter.aircon() ? 1 : 0),
+                filter.outdoors() == null ? -1 : (filter.outdoors() ? 1 : 0),
+                filter.minCapacity() == null ? -1 : filter.minCapacity(),
+                filter.minRating() == null ? -1 : filter.minRating(),
+                now != null && now.weekend() ? 1 : 0,
+                now == null ? -1 : now.minute()));
+    }
+
+    default List<ClusterFeature> aggregateClusters(int zoom, BigDecimal minLat, BigDecimal minLng,
+            BigDecimal maxLat, BigDecimal maxLng) {
+        int z = ClusterGrid.clampZoom(zoom);
+        return toClusters(z, aggregateCells(ClusterGrid.cellDegrees(z), minLat, minLng, maxLat, maxLng));
+    }
+
+    private static List<ClusterFeature> toClusters(int z, List<Object[]> cells) {
+        return cells.stream()
+                .map(r -> new ClusterFeature(
+                        ClusterGrid.cellId(z, ((Number) r[0]).intValue(), ((Number) r[1]).intValue()),
+                        ((Number) r[3]).doubleValue(),
+                        ((Number) r[4]).doubleValue(),
+                        ((Number) r[2]).intValue(),
+                        ((Number) r[5]).intValue(),
+                        ((Number) r[6]).longValue()))
+                .toList();
+    }
 
     List<Shelter> findByAddressStartingWith(String addressPrefix);
 }
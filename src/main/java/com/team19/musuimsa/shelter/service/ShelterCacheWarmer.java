@@ -0,0 +1,62 @@
+package com.team19.musuimsa.shelter.service;
+
+import com.team19.musuimsa.shelter.util.MapTiles.Tile;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 무효화 이후 첫 요청들이 콜드 미스를 맞지 않도록, 전날 가장 많이 요청된 타일을 미리 만들어 캐시에 채운다.
+// 상위 top-n 개를 요청 수 순으로, 시간 예산(budget) 안에서만 채우고 남은 타일은 평소처럼 요청 시 채워진다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShelterCacheWarmer {
+
+    // 한 번에 multi-get 할 타일 수 (뷰포트 상한과 같은 규모)
+    private static final int CHUNK_SIZE = 64;
+
+    private final ShelterTileAccessStats accessStats;
+    private final ShelterMapService shelterMapService;
+
+    @Value("${cache.shelters.warmup.top-n:500}")
+    private int topN;
+
+    @Value("${cache.shelters.warmup.budget:30s}")
+    private Duration budget;
+
+    // 채운(이미 캐시에 있던 것 포함) 타일 수를 반환
+    public int warmUp() {
+        List<Tile> hottest = accessStats.top(ShelterTileAccessStats.today().minusDays(1), topN);
+        if (hottest.isEmpty()) {
+            // 전날 통계가 없으면(배포 직후, Redis 유실) 이 노드의 최근 핫 타일로 대신한다
+            hottest = accessStats.hottestNow(topN);
+        }
+        if (hottest.isEmpty()) {
+            log.info("[Shelter Warmup] skipped. no access stats");
+            return 0;
+        }
+
+        long t0 = System.nanoTime();
+        long deadline = t0 + budget.toNanos();
+        int warmed = 0;
+        for (int from = 0; from < hottest.size(); from += CHUNK_SIZE) {
+            if (System.nanoTime() - deadline >= 0) {
+                log.info("[Shelter Warmup] budget {} exhausted", budget);
+                break;
+            }
+            List<Tile> chunk = hottest.subList(from, Math.min(hottest.size(), from + CHUNK_SIZE));
+            try {
+                shelterMapService.warm(chunk);
+                warmed += chunk.size();
+            } catch (Exception e) {
+                log.warn("[Shelter Warmup] chunk failed. from={}, size={}", from, chunk.size(), e);
+            }
+        }
+        log.info("[Shelter Warmup] warmed={}/{} ({} ms)", warmed, hottest.size(),
+                (System.nanoTime() - t0) / 1_000_000);
+        return warmed;
+    }
+}
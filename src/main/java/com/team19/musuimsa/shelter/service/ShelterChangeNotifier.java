@@ -0,0 +1,70 @@
+package com.team19.musuimsa.shelter.service;
+
+import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.index.ShelterSpatialIndex;
+import com.team19.musuimsa.shelter.util.ClusterGrid;
+import com.team19.musuimsa.shelter.util.MapTiles;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 리뷰 평점·사진처럼 임포트 밖에서 쉼터 속성이 바뀌었을 때, 커밋 후 인덱스의 해당 행을 교체하고 그 쉼터가 그려진 타일만 지운다.
+// 클러스터 타일은 개수·냉방·수용 인원만 집계하므로 평점·사진 변경과 무관해 건드리지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShelterChangeNotifier {
+
+    private final ShelterSpatialIndex shelterSpatialIndex;
+    private final ShelterTileCache shelterTileCache;
+
+    public void attributesChanged(Collection<Long> shelterIds) {
+        if (shelterIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(shelterIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(ids);
+            }
+        });
+    }
+
+    // 인덱스를 먼저 교체해야 무효화 직후 다시 채워지는 타일이 새 값을 본다
+    private void apply(List<Long> ids) {
+        List<MapShelterRow> rows;
+        try {
+            rows = shelterSpatialIndex.patchAcrossCluster(ids);
+        } catch (Exception e) {
+            // 다음 임포트 전까지 이 노드 스냅샷에는 이전 평점·사진이 남는다
+            log.warn("[Shelter Change] index patch failed. ids={}", ids, e);
+            return;
+        }
+
+        Set<MapTiles.Tile> tiles = new HashSet<>();
+        for (MapShelterRow row : rows) {
+            for (MapTiles.Tile tile : MapTiles.affectedBy(row.latitude(), row.longitude())) {
+                if (tile.z() > ClusterGrid.MAX_CLUSTER_ZOOM) {
+                    tiles.add(tile);
+                }
+            }
+        }
+        try {
+            shelterTileCache.invalidate(tiles);
+        } catch (Exception e) {
+            // 지우지 못한 타일은 TTL 만료까지 이전 평점·사진을 보여준다
+            log.warn("[Shelter Change] tile invalidation failed. ids={}, tiles={}", ids, tiles.size(), e);
+        }
+    }
+}
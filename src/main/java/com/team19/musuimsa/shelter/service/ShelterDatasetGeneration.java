@@ -0,0 +1,62 @@
+package com.team19.musuimsa.shelter.service;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 쉼터 데이터셋 세대 번호. 타일 캐시 키에 포함되어, 국소화할 수 없는 변경은 세대를 올리는 것(INCR 한 번)으로 전체 무효화한다.
+// 이전 세대 항목은 아무도 읽지 않게 되어 TTL 로 자연 만료된다.
+// prod 는 노드 간 공유를 위해 Redis 에 두고 짧게 로컬 캐싱, dev(Redis 없음)는 메모리 카운터를 쓴다.
+@Slf4j
+@Component
+public class ShelterDatasetGeneration {
+
+    static final String KEY = "musuimsa::sheltersMap::generation";
+
+    // 다른 노드가 세대를 올린 뒤 이 노드가 알아차리기까지의 최대 지연
+    private static final long REFRESH_MILLIS = 1_000;
+
+    private final Optional<StringRedisTemplate> redisTemplate;
+
+    private final AtomicLong local = new AtomicLong();
+    private volatile long cachedAt;
+
+    public ShelterDatasetGeneration(Optional<StringRedisTemplate> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public long current() {
+        if (redisTemplate.isEmpty()) {
+            return local.get();
+        }
+        long now = System.currentTimeMillis();
+        if (now - cachedAt < REFRESH_MILLIS) {
+            return local.get();
+        }
+        try {
+            String value = redisTemplate.get().opsForValue().get(KEY);
+            local.set(value == null ? 0L : Long.parseLong(value));
+        } catch (Exception e) {
+            // Redis 장애 시 마지막으로 본 세대를 계속 쓴다
+            log.warn("[Shelter Generation] read failed. keep generation={}", local.get(), e);
+        }
+        cachedAt = now;
+        return local.get();
+    }
+
+    // 세대를 원자적으로 올리고 새 세대를 반환한다
+    public long bump() {
+        if (redisTemplate.isEmpty()) {
+            return local.incrementAndGet();
+        }
+        Long next = redisTemplate.get().opsForValue().increment(KEY);
+        if (next == null) {
+            throw new IllegalStateException("INCR returned null: " + KEY);
+        }
+        local.set(next);
+        cachedAt = System.currentTimeMillis();
+        return next;
+    }
+}
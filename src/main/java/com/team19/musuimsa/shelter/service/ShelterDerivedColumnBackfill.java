@@ -0,0 +1,113 @@
+package com.team19.musuimsa.shelter.service;
+
+import com.team19.musuimsa.shelter.util.GeoCell;
+import com.team19.musuimsa.shelter.util.OperatingHours;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+// 파생 컬럼(geocell, 운영시간 분/표시 문자열) 도입 전에 저장된 쉼터 행을 채운다.
+// 신규/갱신 행은 Shelter.toShelter / updateShelterInfo 에서 채우므로 기동 시 한 번, 비어 있는 행만 청크 단위로 처리한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShelterDerivedColumnBackfill implements ApplicationRunner {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private static final String SELECT_GEOCELL_SQL = """
+            SELECT shelter_id, latitude, longitude
+            FROM shelters
+            WHERE geocell IS NULL
+            ORDER BY shelter_id
+            LIMIT ?
+            """;
+
+    private static final String UPDATE_GEOCELL_SQL = "UPDATE shelters SET geocell = ? WHERE shelter_id = ?";
+
+    // 원본 시간은 있는데 분 값이 비어 있는 행. 갱신 후에는 조건에서 빠지므로 반복이 끝난다.
+    private static final String SELECT_HOURS_SQL = """
+            SELECT shelter_id, weekday_open_time, weekday_close_time, weekend_open_time, weekend_close_time
+            FROM shelters
+            WHERE (weekday_open_time  IS NOT NULL AND weekday_open_minute  IS NULL)
+               OR (weekday_close_time IS NOT NULL AND weekday_close_minute IS NULL)
+               OR (weekend_open_time  IS NOT NULL AND weekend_open_minute  IS NULL)
+               OR (weekend_close_time IS NOT NULL AND weekend_close_minute IS NULL)
+            ORDER BY shelter_id
+            LIMIT ?
+            """;
+
+    private static final String UPDATE_HOURS_SQL = """
+            UPDATE shelters
+            SET weekday_open_minute = ?, weekday_close_minute = ?,
+                weekend_open_minute = ?, weekend_close_minute = ?,
+                weekday_hours = ?, weekend_hours = ?
+            WHERE shelter_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            int filled = backfill();
+            if (filled > 0) {
+                log.info("[Shelter Backfill] filled derived columns of {} rows", filled);
+            }
+        } catch (Exception e) {
+            log.warn("[Shelter Backfill] backfill failed", e);
+        }
+    }
+
+    public int backfill() {
+        return backfillGeocells() + backfillOperatingHours();
+    }
+
+    int backfillGeocells() {
+        return inChunks(SELECT_GEOCELL_SQL, UPDATE_GEOCELL_SQL, (rs, i) -> new Object[]{
+                GeoCell.encode(rs.getDouble("latitude"), rs.getDouble("longitude")),
+                rs.getLong("shelter_id")});
+    }
+
+    int backfillOperatingHours() {
+        return inChunks(SELECT_HOURS_SQL, UPDATE_HOURS_SQL, (rs, i) -> {
+            LocalTime weekdayOpen = time(rs, "weekday_open_time");
+            LocalTime weekdayClose = time(rs, "weekday_close_time");
+            LocalTime weekendOpen = time(rs, "weekend_open_time");
+            LocalTime weekendClose = time(rs, "weekend_close_time");
+            return new Object[]{
+                    OperatingHours.minutes(weekdayOpen), OperatingHours.minutes(weekdayClose),
+                    OperatingHours.minutes(weekendOpen), OperatingHours.minutes(weekendClose),
+                    OperatingHours.display(weekdayOpen, weekdayClose),
+                    OperatingHours.display(weekendOpen, weekendClose),
+                    rs.getLong("shelter_id")};
+        });
+    }
+
+    private int inChunks(String selectSql, String updateSql, RowMapper<Object[]> mapper) {
+        int total = 0;
+        while (true) {
+            List<Object[]> chunk = jdbcTemplate.query(selectSql, mapper, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                return total;
+            }
+            jdbcTemplate.batchUpdate(updateSql, chunk);
+            total += chunk.size();
+            if (chunk.size() < CHUNK_SIZE) {
+                return total;
+            }
+        }
+    }
+
+    private static LocalTime time(ResultSet rs, String column) throws SQLException {
+        return rs.getObject(column, LocalTime.class);
+    }
+}
@@ -4,17 +4,14 @@ import com.team19.musuimsa.shelter.domain.Shelter;
 import com.team19.musuimsa.shelter.dto.ChangedPoint;
 import com.team19.musuimsa.shelter.dto.external.ExternalResponse;
 import com.team19.musuimsa.shelter.dto.external.ExternalShelterItem;
-import com.team19.musuimsa.shelter.util.GeoHashUtil;
+import com.team19.musuimsa.shelter.index.ShelterSpatialIndex;
+import com.team19.musuimsa.shelter.util.MapTiles;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.dao.DataAccessResourceFailureException;
-import org.springframework.data.redis.connection.RedisConnection;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -24,8 +21,6 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 
 @Slf4j
@@ -40,10 +35,11 @@ public class ShelterImportService {
 
     private final CacheManager cacheManager;
 
-    private final Optional<StringRedisTemplate> redisTemplate;
+    private final ShelterTileCache shelterTileCache;
+
+    private final ShelterSpatialIndex shelterSpatialIndex;
 
     private static final String SHELTERS_CACHE = "sheltersMap";
-    private static final String CACHE_NAME_PREFIX = "musuimsa::" + SHELTERS_CACHE + "::v1:z";
 
     public int importOnce() {
         int page = 1;
@@ -145,101 +141,54 @@ public class ShelterImportService {
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
+                // 인덱스를 먼저 교체해야 무효화 직후 채워지는 캐시가 새 데이터를 본다. 다른 노드도 버전을 보고 다시 적재한다.
+                shelterSpatialIndex.rebuildAcrossCluster();
                 doInvalidate(moved);
             }
         });
     }
 
     void doInvalidate(List<ChangedPoint> moved) {
-        // Redis가 없거나(=dev), 선택 무효화 대상도 없으면 전체 clear
-        if (redisTemplate.isEmpty() || moved == null || moved.isEmpty()) {
-            Cache cache = cacheManager.getCache(SHELTERS_CACHE);
-            if (cache != null) {
-                cache.clear();
-            }
-            log.info("[Shelter Import] {} cache cleared (fallback)", SHELTERS_CACHE);
+        // 선택 무효화 대상이 없으면(위치 외 속성 변경 등) 데이터셋 세대를 올려 전체 무효화
+        if (moved == null || moved.isEmpty()) {
+            invalidateAll();
             return;
         }
 
-        int[] zooms = {12, 13, 14, 15, 16, 17};
-
-        RedisConnection conn = null;
-        try {
-            conn = Objects.requireNonNull(redisTemplate.get().getConnectionFactory()).getConnection();
-
-            Set<String> patterns = new HashSet<>();
-            for (ChangedPoint p : moved) {
-                for (int z : zooms) {
-                    int precision = GeoHashUtil.geohashPrecisionForZoom(z);
-                    if (p.oldLat() != null && p.oldLng() != null) {
-                        patterns.add(keyPattern(z, p.oldLat(), p.oldLng(), precision));
-                    }
-                    if (p.newLat() != null && p.newLng() != null) {
-                        patterns.add(keyPattern(z, p.newLat(), p.newLng(), precision));
-                    }
-                }
+        // 이전/새 좌표가 속한 모든 줌의 타일
+        Set<MapTiles.Tile> tiles = new HashSet<>();
+        for (ChangedPoint p : moved) {
+            if (p.oldLat() != null && p.oldLng() != null) {
+                tiles.addAll(MapTiles.affectedBy(p.oldLat().doubleValue(), p.oldLng().doubleValue()));
             }
-
-            int deleted = 0;
-            for (String pattern : patterns) {
-                deleted += scanAndDelete(conn, pattern);
+            if (p.newLat() != null && p.newLng() != null) {
+                tiles.addAll(MapTiles.affectedBy(p.newLat().doubleValue(), p.newLng().doubleValue()));
             }
+        }
 
-            log.info("[Shelter Import] selective invalidation done. keys_deleted={}", deleted);
-
-        } catch (DataAccessResourceFailureException | NullPointerException ex) {
+        try {
+            int deleted = shelterTileCache.invalidate(tiles);
+            log.info("[Shelter Import] selective invalidation done. tiles={}, keys_deleted={}",
+                    tiles.size(), deleted);
+        } catch (DataAccessResourceFailureException ex) {
             // Redis에 문제 있으면 폴백
-            Cache cache = cacheManager.getCache(SHELTERS_CACHE);
-            if (cache != null) {
-                cache.clear();
-            }
-            log.warn("[Shelter Import] selective invalidation failed. fallback to clear()", ex);
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.close();
-                } catch (Exception ignore) {
-                }
-            }
+            log.warn("[Shelter Import] selective invalidation failed. fallback to generation bump", ex);
+            invalidateAll();
         }
     }
 
-    // pattern 으로 SCAN 후 배치 DEL
-    private int scanAndDelete(RedisConnection conn, String pattern) {
-        int removed = 0;
-
-        ScanOptions opts = ScanOptions.scanOptions()
-                .match(pattern)
-                .count(1_000)
-                .build();
-
-        try (Cursor<byte[]> cur = conn.keyCommands().scan(opts)) {
-            List<byte[]> batch = new ArrayList<>(500);
-            while (cur.hasNext()) {
-                byte[] k = cur.next();
-                batch.add(k);
-
-                if (batch.size() >= 500) {
-                    conn.keyCommands().del(batch.toArray(new byte[0][]));
-                    removed += batch.size();
-                    batch.clear();
-                }
-            }
-            if (!batch.isEmpty()) {
-                conn.keyCommands().del(batch.toArray(new byte[0][]));
-                removed += batch.size();
-            }
+    // 세대 증가(INCR 한 번)로 전체 무효화, 그마저 실패하면 캐시 clear
+    private void invalidateAll() {
+        try {
+            long generation = shelterTileCache.invalidateAll();
+            log.info("[Shelter Import] {} generation bumped to {}", SHELTERS_CACHE, generation);
         } catch (Exception e) {
-            throw new DataAccessResourceFailureException("SCAN/DEL failed: " + pattern, e);
+            Cache cache = cacheManager.getCache(SHELTERS_CACHE);
+            if (cache != null) {
+                cache.clear();
+            }
+            log.warn("[Shelter Import] generation bump failed. {} cache cleared (fallback)", SHELTERS_CACHE, e);
         }
-        return removed;
-    }
-
-
-    // 줌/위치/정밀도로 Redis 키 패턴 생성
-    private static String keyPattern(int z, BigDecimal lat, BigDecimal lng, int precision) {
-        String cell = GeoHashUtil.snapBbox(lat, lng, lat, lng, precision);
-        return CACHE_NAME_PREFIX + z + ":gh:" + cell + ":*";
     }
 
     private static boolean notEquals(BigDecimal a, BigDecimal b) {
@@ -1,97 +1,318 @@
 package com.team19.musuimsa.shelter.service;
 
 import com.team19.musuimsa.shelter.dto.OperatingHoursResponse;
+import com.team19.musuimsa.shelter.dto.ShelterFilter;
 import com.team19.musuimsa.shelter.dto.map.ClusterFeature;
 import com.team19.musuimsa.shelter.dto.map.MapBoundsRequest;
 import com.team19.musuimsa.shelter.dto.map.MapFeature;
 import com.team19.musuimsa.shelter.dto.map.MapResponse;
 import com.team19.musuimsa.shelter.dto.map.MapShelterResponse;
 import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.dto.map.MapTile;
+import com.team19.musuimsa.shelter.index.ClusterPyramid;
+import com.team19.musuimsa.shelter.index.ShelterIndexSnapshot;
+import com.team19.musuimsa.shelter.index.ShelterSpatialIndex;
+import com.team19.musuimsa.shelter.repository.ShelterGeoQuery;
 import com.team19.musuimsa.shelter.repository.ShelterRepository;
-import com.team19.musuimsa.shelter.util.Clusterer;
-import com.team19.musuimsa.shelter.util.GeoHashUtil;
+import com.team19.musuimsa.shelter.util.DistanceOrigin;
+import com.team19.musuimsa.shelter.util.MapCursor;
+import com.team19.musuimsa.shelter.util.MapTiles;
+import com.team19.musuimsa.shelter.util.MapTiles.Tile;
+import com.team19.musuimsa.shelter.util.OperatingHours;
 import com.team19.musuimsa.shelter.util.ShelterDtoUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class ShelterMapService {
 
+    // 타일 상한을 넘는 뷰포트를 스냅샷 없이 DB 에서 만들 때 읽는 최대 쉼터 행 수 (shelterId 순 앞에서부터)
+    static final int MAX_VIEWPORT_ROWS = 2_000;
+
     private final ShelterRepository shelterRepository;
+    private final ShelterSpatialIndex shelterSpatialIndex;
+    private final ShelterGeoQuery shelterGeoQuery;
+    private final ShelterTileCache shelterTileCache;
+    private final ShelterTileAccessStats shelterTileAccessStats;
 
-    @Cacheable(value = "sheltersMap", key = "#root.target.cacheKey(#req)", sync = true)
+    // bbox 조회는 뷰포트를 덮는 타일을 캐시에서 한 번에 꺼내 이어 붙인 뒤 bbox 로 잘라 반환
+    // 레벨과 타일 줌은 요청 줌으로 정하고, 타일 수가 상한을 넘는 뷰포트는 타일 캐시 없이 한 번에 만든다 (buildViewport)
     @Transactional(readOnly = true)
     public MapResponse getByBbox(MapBoundsRequest req) {
-        int precision = GeoHashUtil.geohashPrecisionForZoom(req.zoom());
-        Pageable pageable = PageRequest.of(req.pageOrDefault(), req.sizeOrDefault());
+        String level = MapTiles.levelFor(req.minLat(), req.minLng(), req.maxLat(), req.maxLng(), req.zoom());
+        int z = MapTiles.tileZoomFor(level, req.zoom());
+        OperatingHours.Now now = req.openNowOrDefault() ? OperatingHours.now() : null;
+        ShelterFilter filter = req.filterOrNone();
+
+        // 0) cluster 레벨 + openNow/속성 필터: 미리 집계된 셀은 필터를 반영할 수 없으므로 뷰포트 안 쉼터를 걸러 바로 집계한다
+        if ("cluster".equals(level) && (now != null || !filter.isEmpty())) {
+            List<ClusterFeature> clusters = filteredClusters(req, z, now, filter);
+            int total = clusters.stream().mapToInt(ClusterFeature::count).sum();
+            return new MapResponse(level, new ArrayList<MapFeature>(clusters),
+                    req.includeTotalOrDefault() ? total : null);
+        }
+
+        List<MapTile> loaded;
+        if (MapTiles.withinTileBudget(req.minLat(), req.minLng(), req.maxLat(), req.maxLng(), z)) {
+            List<Tile> tiles = MapTiles.covering(req.minLat(), req.minLng(), req.maxLat(), req.maxLng(), z);
+            shelterTileAccessStats.record(tiles);
+            loaded = loadTiles(tiles);
+        } else {
+            loaded = List.of(buildViewport(level, z, req));
+        }
+
+        // 1) cluster 레벨: 무게중심이 뷰포트 안에 있는 셀만, total 은 그 셀들의 쉼터 수 합
+        if ("cluster".equals(level)) {
+            List<MapFeature> clusters = new ArrayList<MapFeature>();
+            int total = 0;
+            for (MapTile tile : loaded) {
+                for (ClusterFeature c : tile.clusters()) {
+                    if (inside(req, c.latitude(), c.longitude())) {
+                        clusters.add(c);
+                        total += c.count();
+                    }
+                }
+            }
+            return new MapResponse(level, clusters, req.includeTotalOrDefault() ? total : null);
+        }
+
+        // 2) summary/detail 레벨: bbox 안 쉼터를 shelterId 순으로 정렬 후 cursor(keyset) 또는 page 로 자른다.
+        // openNow 는 타일에 함께 저장된 운영시간(분)으로 KST 현재 시각과 비교한다.
+        // 속성 필터(aircon/outdoors/minCapacity/minRating)도 같은 순회에서 적용해 정렬/페이지 대상 자체를 줄인다.
+        List<MapShelterResponse> inBbox = new ArrayList<MapShelterResponse>();
+        for (MapTile tile : loaded) {
+            List<MapShelterResponse> shelters = tile.shelters();
+            for (int i = 0; i < shelters.size(); i++) {
+                MapShelterResponse s = shelters.get(i);
+                if (inside(req, s.latitude(), s.longitude())
+                        && (now == null || tile.isOpenAt(i, now))
+                        && (filter.isEmpty() || filter.matches(s.hasAircon(), tile.isOutdoors(i),
+                        s.capacity(), s.averageRating()))) {
+                    inBbox.add(s);
+                }
+            }
+        }
+        inBbox.sort(Comparator.comparing(MapShelterResponse::id));
+
+        int from = req.hasCursor()
+                ? firstAfter(inBbox, MapCursor.decode(req.cursor()))
+                : (int) Math.min((long) req.pageOrDefault() * req.sizeOrDefault(), inBbox.size());
+        int to = Math.min(from + req.sizeOrDefault(), inBbox.size());
+
+        String nextCursor = (to < inBbox.size() && to > from)
+                ? MapCursor.encode(inBbox.get(to - 1).id())
+                : null;
+        return new MapResponse(level,
+                withDistance(inBbox.subList(from, to), req.userLat(), req.userLng()),
+                req.includeTotalOrDefault() ? inBbox.size() : null,
+                nextCursor);
+    }
+
+    // 필터를 통과한 뷰포트 안 쉼터를 타일 캐시와 같은 셀 격자로 집계 (요청마다 조합이 달라 캐시하지 않는다).
+    // 인덱스 스냅샷이 있으면 메모리에서, 없으면 필터까지 DB 집계 쿼리로 넘겨 셀 단위 결과만 받는다 (행을 읽지 않는다)
+    private List<ClusterFeature> filteredClusters(MapBoundsRequest req, int z, OperatingHours.Now now,
+            ShelterFilter filter) {
+        Optional<ShelterIndexSnapshot> snapshot = shelterSpatialIndex.current();
+        if (snapshot.isEmpty()) {
+            return shelterRepository.aggregateFilteredClusters(z,
+                    toBigDecimal(req.minLat()), toBigDecimal(req.minLng()),
+                    toBigDecimal(req.maxLat()), toBigDecimal(req.maxLng()), filter, now);
+        }
+
+        List<MapShelterRow> accepted = new ArrayList<MapShelterRow>();
+        ShelterIndexSnapshot index = snapshot.get();
+        for (int pos : index.query(req.minLat(), req.minLng(), req.maxLat(), req.maxLng())) {
+            if (index.matches(pos, filter) && (now == null || index.isOpenAt(pos, now))) {
+                accepted.add(index.row(pos));
+            }
+        }
+
+        int n = accepted.size();
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        boolean[] aircon = new boolean[n];
+        int[] capacity = new int[n];
+        for (int i = 0; i < n; i++) {
+            MapShelterRow r = accepted.get(i);
+            lats[i] = r.latitude();
+            lngs[i] = r.longitude();
+            aircon[i] = Boolean.TRUE.equals(r.hasAircon());
+            capacity[i] = r.capacity() == null ? 0 : r.capacity();
+        }
+        return ClusterPyramid.aggregate(z, lats, lngs, aircon, capacity);
+    }
+
+    // shelterId 오름차순 목록에서 lastId 다음 위치 (이진 탐색)
+    private static int firstAfter(List<MapShelterResponse> sorted, long lastId) {
+        int lo = 0;
+        int hi = sorted.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted.get(mid).id() <= lastId) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // XYZ 타일 한 장 조회. 타일은 사용자와 무관하게 캐시되고 거리만 요청마다 붙인다.
+    @Transactional(readOnly = true)
+    public MapResponse getTile(int z, int x, int y, Double userLat, Double userLng) {
+        Tile tile = MapTiles.of(z, x, y);
+        shelterTileAccessStats.record(List.of(tile));
+        MapTile loaded = loadTiles(List.of(tile)).get(0);
+
+        if ("cluster".equals(loaded.level())) {
+            int total = loaded.clusters().stream().mapToInt(ClusterFeature::count).sum();
+            return new MapResponse(loaded.level(), new ArrayList<MapFeature>(loaded.clusters()), total);
+        }
+        return new MapResponse(loaded.level(), withDistance(loaded.shelters(), userLat, userLng),
+                loaded.shelters().size());
+    }
+
+    // 캐시 예열: 요청 통계에는 넣지 않고 없는 타일만 만들어 채운다
+    @Transactional(readOnly = true)
+    public void warm(List<Tile> tiles) {
+        loadTiles(tiles);
+    }
+
+    // 캐시에 있는 타일은 multi-get 한 번으로, 없는 타일만 만들어 채운다 (반환 순서 = tiles 순서)
+    // 없는 타일은 single-flight 로 만들어, 같은 타일을 동시에 놓친 요청들이 DB 를 한 번만 치게 한다
+    // 세대는 조회 시점 값으로 고정해, 도중에 세대가 올라도 이전 데이터로 만든 타일이 새 세대 키에 들어가지 않게 한다
+    private List<MapTile> loadTiles(List<Tile> tiles) {
+        long generation = shelterTileCache.generation();
+        List<String> keys = tiles.stream().map(tile -> tile.cacheKey(generation)).toList();
+        Map<String, MapTile> cached = shelterTileCache.getAll(keys);
 
-        BigDecimal minLat = toBigDecimal(req.minLat());
-        BigDecimal minLng = toBigDecimal(req.minLng());
-        BigDecimal maxLat = toBigDecimal(req.maxLat());
-        BigDecimal maxLng = toBigDecimal(req.maxLng());
+        List<MapTile> out = new ArrayList<MapTile>(tiles.size());
+        for (int i = 0; i < tiles.size(); i++) {
+            Tile tile = tiles.get(i);
+            MapTile hit = cached.get(keys.get(i));
+            if (hit == null) {
+                hit = shelterTileCache.load(tile, keys.get(i), () -> buildTile(tile));
+            }
+            out.add(hit);
+        }
+        return out;
+    }
+
+    // 타일 상한을 넘는 뷰포트 한 장. cluster 는 셀 집계라 결과 크기가 셀 수로 묶이고,
+    // 쉼터 행은 스냅샷이 없으면 DB 에서 MAX_VIEWPORT_ROWS 개까지만 읽는다 (넘는 쉼터는 응답/total 에서 빠진다)
+    private MapTile buildViewport(String level, int z, MapBoundsRequest req) {
+        double[] viewport = {req.minLat(), req.minLng(), req.maxLat(), req.maxLng()};
+        if ("cluster".equals(level) || shelterSpatialIndex.current().isPresent()) {
+            return build(level, z, viewport, (lat, lng) -> true);
+        }
+        return toShelterTile(level, shelterGeoQuery.findRowsInBbox(
+                req.minLat(), req.minLng(), req.maxLat(), req.maxLng(), MAX_VIEWPORT_ROWS));
+    }
 
-        double spanLat = Math.abs(req.maxLat() - req.minLat());
-        double spanLng = Math.abs(req.maxLng() - req.minLng());
+    private MapTile buildTile(Tile tile) {
+        return build(tile.level(), tile.z(), tile.bounds(), tile::owns);
+    }
 
-        int total = shelterRepository.countInBbox(minLat, minLng, maxLat, maxLng);
+    // b: {minLat, minLng, maxLat, maxLng}, owner: 이 영역이 소유하는 좌표 (타일 경계 중복 방지)
+    private MapTile build(String level, int z, double[] b, Owner owner) {
+        // 인덱스 스냅샷이 있으면 DB를 거치지 않고 메모리에서 생성
+        Optional<ShelterIndexSnapshot> snapshot = shelterSpatialIndex.current();
+        if (snapshot.isPresent()) {
+            if ("cluster".equals(level)) {
+                List<ClusterFeature> clusters = snapshot.get().clusters(z, b[0], b[1], b[2], b[3])
+                        .stream()
+                        .filter(c -> owner.owns(c.latitude(), c.longitude()))
+                        .toList();
+                return MapTile.ofClusters(level, clusters);
+            }
+            List<MapShelterRow> rows = new ArrayList<MapShelterRow>();
+            for (int pos : snapshot.get().query(b[0], b[1], b[2], b[3])) {
+                MapShelterRow row = snapshot.get().row(pos);
+                if (owner.owns(row.latitude(), row.longitude())) {
+                    rows.add(row);
+                }
+            }
+            return toShelterTile(level, rows);
+        }
 
-        // 1) cluster 레벨: 포인트만 모아서 클러스터 생성 (운영시간 X)
-        if (spanLat > 3.0 || spanLng > 3.0 || req.zoom() < 13) {
-            List<MapShelterResponse> points = shelterRepository.findInBbox(
-                    minLat, minLng, maxLat, maxLng, pageable);
-            List<ClusterFeature> clusters = Clusterer.byGeohash(points, precision);
-            return new MapResponse("cluster", new ArrayList<MapFeature>(clusters), total);
+        // cluster 레벨: DB에서 셀 단위로 집계만 받아온다 (행 전송/페이지 절단 없음).
+        // 경계 위 쉼터가 이웃 타일과 중복 집계되지 않도록 타일 소유 범위 lat (min, max], lng [min, max) 로 좁힌다.
+        if ("cluster".equals(level)) {
+            return MapTile.ofClusters(level, shelterRepository.aggregateClusters(z,
+                    toBigDecimal(Math.nextUp(b[0])), toBigDecimal(b[1]),
+                    toBigDecimal(b[2]), toBigDecimal(Math.nextDown(b[3]))));
         }
 
-        // 2) summary/detail 레벨: 시간 포함 행을 받아 오늘(KST) 기준으로 운영시간과 함께 반환
-        List<MapShelterRow> rows = shelterRepository.findInBboxWithHours(
-                minLat, minLng, maxLat, maxLng, pageable);
-        List<MapShelterResponse> items = rows.stream()
-                .map(row -> toTodayResponse(row, req.userLat(), req.userLng()))
+        // summary/detail 레벨: 운영시간(분/표시 문자열) 포함 행을 받아 저장
+        List<MapShelterRow> rows = shelterGeoQuery.findRowsInBbox(b[0], b[1], b[2], b[3])
+                .stream()
+                .filter(r -> owner.owns(r.latitude(), r.longitude()))
                 .toList();
+        return toShelterTile(level, rows);
+    }
 
-        if (req.zoom() < 16) {
-            return new MapResponse("summary", new ArrayList<MapFeature>(items), total);
-        } else {
-            return new MapResponse("detail", new ArrayList<MapFeature>(items), total);
+    @FunctionalInterface
+    private interface Owner {
+
+        boolean owns(double lat, double lng);
+    }
+
+    private static MapTile toShelterTile(String level, List<MapShelterRow> rows) {
+        List<MapShelterResponse> shelters = new ArrayList<MapShelterResponse>(rows.size());
+        int[] openMinutes = MapTile.newOpenMinutes(rows.size());
+        boolean[] outdoors = new boolean[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            shelters.add(toTodayResponse(rows.get(i)));
+            MapTile.putOpenMinutes(openMinutes, i, rows.get(i));
+            outdoors[i] = Boolean.TRUE.equals(rows.get(i).isOutdoors());
         }
+        return MapTile.ofShelters(level, shelters, openMinutes, outdoors);
     }
 
-    @SuppressWarnings("unused")
-    public String cacheKey(MapBoundsRequest request) {
-        int geohashPrecision = GeoHashUtil.geohashPrecisionForZoom(request.zoom());
-        String snappedGeohash = GeoHashUtil.snapBbox(toBigDecimal(request.minLat()), toBigDecimal(request.minLng()), toBigDecimal(request.maxLat()), toBigDecimal(request.maxLng()), geohashPrecision);
-        return "v1:z" + request.zoom() + ":gh:" + snappedGeohash + ":p" + request.pageOrDefault() + ":s" + request.sizeOrDefault();
+    private static boolean inside(MapBoundsRequest req, double lat, double lng) {
+        return lat >= req.minLat() && lat <= req.maxLat()
+                && lng >= req.minLng() && lng <= req.maxLng();
+    }
+
+    // 캐시에서 꺼낸 사용자 무관 타일에 요청한 사용자 기준 거리만 붙인다 (잘린 페이지 항목에만 수행)
+    private static List<MapFeature> withDistance(List<MapShelterResponse> shelters,
+            Double userLat, Double userLng) {
+        DistanceOrigin origin = (userLat != null && userLng != null)
+                ? new DistanceOrigin(userLat, userLng)
+                : null;
+        List<MapFeature> out = new ArrayList<MapFeature>(shelters.size());
+        for (MapShelterResponse s : shelters) {
+            String distance = null;
+            if (origin != null && s.latitude() != 0.0 && s.longitude() != 0.0) {
+                distance = ShelterDtoUtils.formatDistance(origin.metersTo(s.latitude(), s.longitude()));
+            }
+            out.add(new MapShelterResponse(s.id(), s.name(), s.address(), s.latitude(),
+                    s.longitude(), distance, s.hasAircon(), s.capacity(), s.photoUrl(),
+                    s.operatingHours(), s.averageRating()));
+        }
+        return out;
     }
 
     private static BigDecimal toBigDecimal(double d) {
         return BigDecimal.valueOf(d);
     }
 
-    private MapShelterResponse toTodayResponse(MapShelterRow mapShelterRow, Double userLat, Double userLng) {
+    // 운영시간 표시 문자열은 import 시 미리 만들어 둔 값을 쓰고, 없으면(백필 전) 원본 시간으로 만든다
+    private static MapShelterResponse toTodayResponse(MapShelterRow mapShelterRow) {
         OperatingHoursResponse operatingHours = new OperatingHoursResponse(
-                mergeHours(normalizeHm(mapShelterRow.weekdayOpenTime()), normalizeHm(mapShelterRow.weekdayCloseTime())),
-                mergeHours(normalizeHm(mapShelterRow.weekendOpenTime()), normalizeHm(mapShelterRow.weekendCloseTime()))
+                mapShelterRow.weekdayHoursText(),
+                mapShelterRow.weekendHoursText()
         );
 
-        String distance = null;
-        if (userLat != null && userLng != null
-                && mapShelterRow.latitude() != 0.0
-                && mapShelterRow.longitude() != 0.0
-        ) {
-            distance = ShelterDtoUtils.distanceBetween(
-                    userLat, userLng, mapShelterRow.latitude(), mapShelterRow.longitude());
-        }
-
         Double averageRating = ShelterDtoUtils.average(
                 mapShelterRow.totalRating() != null ? mapShelterRow.totalRating().intValue() : 0,
                 mapShelterRow.reviewCount() != null ? mapShelterRow.reviewCount().intValue() : 0
@@ -103,7 +324,7 @@ public class ShelterMapService {
                 mapShelterRow.address(),
                 mapShelterRow.latitude(),
                 mapShelterRow.longitude(),
-                distance,
+                null,
                 mapShelterRow.hasAircon(),
                 mapShelterRow.capacity(),
                 mapShelterRow.photoUrl(),
@@ -111,36 +332,4 @@ public class ShelterMapService {
                 averageRating
         );
     }
-
-    private String normalizeHm(String raw) {
-        if (raw == null || raw.isBlank()) {
-            return null;
-        }
-
-        String digits = raw.replaceAll("\\D+", "");
-        if (digits.length() < 3 || digits.length() > 4) {
-            return raw;
-        }
-
-        if (digits.length() == 3) {
-            digits = "0" + digits;
-        }
-
-        return digits.substring(0, 2) + ":" + digits.substring(2, 4);
-    }
-
-    private String mergeHours(String from, String to) {
-        if (from == null && to == null) {
-            return null;
-        }
-        if (from == null) {
-            return "~" + to;
-        }
-        if (to == null) {
-            return from + "~";
-        }
-
-        return from + "~" + to;
-    }
-
 }
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,7 @@ public class ShelterPhotoService {
 
     private final ShelterRepository shelterRepository;
     private final MapillaryPhotoAgent mapillaryPhotoAgent;
+    private final ShelterChangeNotifier shelterChangeNotifier;
 
     @Value("${mapillary.radius-m}")
     private int radiusM;
@@ -25,13 +27,29 @@ public class ShelterPhotoService {
     @Value("${mapillary.batch-throttle-ms}")
     private int throttleMs;
 
-    public ShelterPhotoService(ShelterRepository shelterRepository, MapillaryPhotoAgent mapillaryPhotoAgent) {
+    public ShelterPhotoService(ShelterRepository shelterRepository, MapillaryPhotoAgent mapillaryPhotoAgent,
+            ShelterChangeNotifier shelterChangeNotifier) {
         this.shelterRepository = shelterRepository;
         this.mapillaryPhotoAgent = mapillaryPhotoAgent;
+        this.shelterChangeNotifier = shelterChangeNotifier;
     }
 
-    // Mapillary에서 가장 가까운 사진을 찾아 S3 업로드 후 photoUrl 저장
+    // Mapillary에서 가장 가까운 사진을 찾아 S3 업로드 후 photoUrl 저장.
+    // 지도 타일의 photoUrl 은 인덱스 스냅샷에서 읽으므로 커밋 후 이 쉼터만 교체한다
     public Optional<String> updatePhotoAndReturnUrl(Long shelterId) {
+        Optional<String> url = storePhoto(shelterId);
+        if (url.isPresent()) {
+            shelterChangeNotifier.attributesChanged(List.of(shelterId));
+        }
+        return url;
+    }
+
+    // 배치용: 인덱스 반영은 호출부가 루프가 끝난 뒤 한 번에 한다 (ShelterUpdateJobListener, updateAllMissing)
+    public boolean updatePhoto(Long shelterId) {
+        return storePhoto(shelterId).isPresent();
+    }
+
+    private Optional<String> storePhoto(Long shelterId) {
         Shelter shelter = shelterRepository.findById(shelterId).orElse(null);
         if (shelter == null) {
             return Optional.empty();
@@ -53,15 +71,12 @@ public class ShelterPhotoService {
         return url;
     }
 
-    public boolean updatePhoto(Long shelterId) {
-        return updatePhotoAndReturnUrl(shelterId).isPresent();
-    }
-
     // photoUrl이 비어있는 쉼터만 페이징으로 채우기
     public BatchUpdateResponse updateAllMissing(int pageSize, int maxPages) {
         int processed = 0;
         int updated = 0;
         int failed = 0;
+        List<Long> updatedIds = new ArrayList<>();
 
         for (int page = 0; page < maxPages; page++) {
             List<Long> ids = shelterRepository.findPendingShelterIds(PageRequest.of(0, pageSize));
@@ -74,6 +89,7 @@ public class ShelterPhotoService {
                 try {
                     if (updatePhoto(id)) {
                         updated++;
+                        updatedIds.add(id);
                     }
                 } catch (Exception e) {
                     failed++;
@@ -86,6 +102,7 @@ public class ShelterPhotoService {
                 }
             }
         }
+        shelterChangeNotifier.attributesChanged(updatedIds);
         return new BatchUpdateResponse(processed, updated, failed);
     }
 }
@@ -2,11 +2,24 @@ package com.team19.musuimsa.shelter.service;
 
 import com.team19.musuimsa.exception.notfound.ShelterNotFoundException;
 import com.team19.musuimsa.shelter.domain.Shelter;
+import com.team19.musuimsa.shelter.dto.NearbySearchRequest;
 import com.team19.musuimsa.shelter.dto.NearbyShelterResponse;
+import com.team19.musuimsa.shelter.dto.ShelterFilter;
 import com.team19.musuimsa.shelter.dto.ShelterResponse;
+import com.team19.musuimsa.shelter.index.NearbyHit;
+import com.team19.musuimsa.shelter.index.NearestNeighbors;
+import com.team19.musuimsa.shelter.index.ShelterIndexSnapshot;
+import com.team19.musuimsa.shelter.index.ShelterSpatialIndex;
+import com.team19.musuimsa.shelter.repository.ShelterGeoQuery;
 import com.team19.musuimsa.shelter.repository.ShelterRepository;
+import com.team19.musuimsa.shelter.util.OperatingHours;
 import com.team19.musuimsa.shelter.util.ShelterDtoUtils;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -18,23 +31,23 @@ public class ShelterService {
     private static final int THREE_KM_RADIUS = 3000;
 
     private final ShelterRepository shelterRepository;
+    private final ShelterSpatialIndex shelterSpatialIndex;
+    private final ShelterGeoQuery shelterGeoQuery;
 
-    public List<NearbyShelterResponse> findNearbyShelters(double latitude, double longitude) {
-        List<Shelter> shelters = shelterRepository.findNearbyShelters(latitude, longitude,
-                DEFAULT_RADIUS);
+    public List<NearbyShelterResponse> findNearbyShelters(NearbySearchRequest req) {
+        List<Shelter> shelters = findWithinRadius(req, req.radiusOrDefault(DEFAULT_RADIUS));
 
         return shelters.stream()
                 .map(s -> ShelterDtoUtils.toNearbyDto(
                         s,
-                        ShelterDtoUtils.distanceFrom(latitude, longitude, s)
+                        ShelterDtoUtils.distanceFrom(req.latitude(), req.longitude(), s)
                 ))
                 .toList();
     }
 
     // 3km 내 쉼터 조회
-    public List<NearbyShelterResponse> getAllShelters(double latitude, double longitude) {
-        List<Shelter> shelters = shelterRepository.findNearbyShelters(latitude, longitude,
-                THREE_KM_RADIUS);
+    public List<NearbyShelterResponse> getAllShelters(NearbySearchRequest req) {
+        List<Shelter> shelters = findWithinRadius(req, req.radiusOrDefault(THREE_KM_RADIUS));
 
         return shelters.stream()
                 .map(s -> ShelterDtoUtils.toNearbyDto(
@@ -52,4 +65,69 @@ public class ShelterService {
 
         return ShelterDtoUtils.toDetailDto(shelter, distance);
     }
+
+    // bbox 프리필터 → haversine 정밀 거리 → top-k 순으로 거리순 쉼터 목록을 만든다.
+    // 인덱스가 있으면 후보 계산을 메모리에서 끝내고 상위 k개만 PK로 조회, 없으면 DB 공간 조회 결과로 같은 절차를 밟는다.
+    // openNow 는 미리 계산된 운영시간(분)으로, 속성 필터는 인덱스의 primitive 속성 배열로 반경 안 후보마다 top-k 전에 거른다.
+    private List<Shelter> findWithinRadius(NearbySearchRequest req, int radius) {
+        OperatingHours.Now now = req.openNowOrDefault() ? OperatingHours.now() : null;
+        ShelterFilter filter = req.filterOrNone();
+
+        Optional<ShelterIndexSnapshot> snapshot = shelterSpatialIndex.current();
+        if (snapshot.isPresent()) {
+            ShelterIndexSnapshot index = snapshot.get();
+            List<NearbyHit> hits = index.nearest(req.latitude(), req.longitude(), radius,
+                    req.limit(), p -> (filter.isEmpty() || index.matches(p, filter))
+                            && (now == null || index.isOpenAt(p, now)));
+            return loadInOrder(hits);
+        }
+
+        List<Shelter> candidates = shelterGeoQuery.findNearbyCandidates(
+                req.latitude(), req.longitude(), radius);
+
+        NearestNeighbors knn = new NearestNeighbors(req.limit());
+        for (Shelter s : candidates) {
+            if (s.getLatitude() == null || s.getLongitude() == null) {
+                continue;
+            }
+            if (now != null && !s.isOpenAt(now)) {
+                continue;
+            }
+            if (!filter.isEmpty() && !filter.matches(s)) {
+                continue;
+            }
+            double d = ShelterDtoUtils.haversineMeters(req.latitude(), req.longitude(),
+                    s.getLatitude().doubleValue(), s.getLongitude().doubleValue());
+            if (d <= radius) {
+                knn.offer(s.getShelterId(), d);
+            }
+        }
+
+        Map<Long, Shelter> byId = candidates.stream()
+                .collect(Collectors.toMap(Shelter::getShelterId, Function.identity()));
+        List<Shelter> out = new ArrayList<>();
+        for (NearbyHit hit : knn.result()) {
+            out.add(byId.get(hit.shelterId()));
+        }
+        return out;
+    }
+
+    private List<Shelter> loadInOrder(List<NearbyHit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = hits.stream().map(NearbyHit::shelterId).toList();
+        Map<Long, Shelter> byId = shelterRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Shelter::getShelterId, Function.identity()));
+
+        List<Shelter> out = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Shelter s = byId.get(id);
+            // 인덱스 교체 직전 삭제된 행은 건너뛴다.
+            if (s != null) {
+                out.add(s);
+            }
+        }
+        return out;
+    }
 }
@@ -0,0 +1,166 @@
+package com.team19.musuimsa.shelter.service;
+
+import com.team19.musuimsa.config.HotKeys;
+import com.team19.musuimsa.shelter.util.MapTiles;
+import com.team19.musuimsa.shelter.util.MapTiles.Tile;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 타일별 일간 요청 수 (KST 기준일). 캐시 예열(ShelterCacheWarmer)이 전날 상위 타일을 읽어 재생한다.
+// 요청 경로에서는 메모리 카운터만 올리고, 1분마다 Redis ZSET(기준일별)에 ZINCRBY 로 합쳐 노드 간 합산한다.
+// Redis 가 없으면(dev) 노드 메모리에 오늘/어제 치만 둔다.
+// 같은 요청을 HotKeys 에도 기록해 최근 핫 타일(L1 고정, 통계가 없을 때의 예열 대상)을 뽑는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShelterTileAccessStats {
+
+    static final String KEY_PREFIX = "musuimsa::sheltersMap::stats::";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Duration RETENTION = Duration.ofDays(3);
+
+    private final Optional<StringRedisTemplate> redisTemplate;
+    private final HotKeys hotKeys;
+
+    // 기준일 → 타일 → 아직 Redis 에 합치지 않은 요청 수 (Redis 없으면 누적값)
+    private final ConcurrentHashMap<LocalDate, ConcurrentHashMap<Tile, LongAdder>> counts = new ConcurrentHashMap<>();
+
+    public void record(Collection<Tile> tiles) {
+        ConcurrentHashMap<Tile, LongAdder> today = counts.computeIfAbsent(today(), d -> new ConcurrentHashMap<>());
+        for (Tile tile : tiles) {
+            today.computeIfAbsent(tile, t -> new LongAdder()).increment();
+            hotKeys.record(HotKeys.SHELTERS, tile.id());
+        }
+    }
+
+    // 이 노드가 최근 가장 많이 요청받은 타일 순 (HotKeys 감쇠 창 기준)
+    public List<Tile> hottestNow(int limit) {
+        List<Tile> tiles = new ArrayList<>();
+        hotKeys.sketch(HotKeys.SHELTERS).top(limit).forEach(e -> {
+            Tile tile = parse(e.key().substring(1).replace(':', '/'));
+            if (tile != null) {
+                tiles.add(tile);
+            }
+        });
+        return tiles;
+    }
+
+    // 해당 일자에 많이 요청된 타일 순 (최대 limit 개)
+    public List<Tile> top(LocalDate day, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        if (redisTemplate.isPresent()) {
+            Set<String> members = redisTemplate.get().opsForZSet().reverseRange(key(day), 0, limit - 1);
+            if (members == null) {
+                return List.of();
+            }
+            List<Tile> tiles = new ArrayList<>(members.size());
+            for (String member : members) {
+                Tile tile = parse(member);
+                if (tile != null) {
+                    tiles.add(tile);
+                }
+            }
+            return tiles;
+        }
+
+        Map<Tile, LongAdder> daily = counts.getOrDefault(day, new ConcurrentHashMap<>());
+        return daily.entrySet().stream()
+                .sorted(Map.Entry.<Tile, LongAdder>comparingByValue(
+                        (a, b) -> Long.compare(b.sum(), a.sum())))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public static LocalDate today() {
+        return LocalDate.now(KST);
+    }
+
+    // 메모리 카운터를 Redis 로 합친다. 실패하면 다음 주기에 다시 시도하도록 되돌려 둔다
+    @PreDestroy
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void flush() {
+        LocalDate today = today();
+        if (redisTemplate.isEmpty()) {
+            counts.keySet().removeIf(day -> day.isBefore(today.minusDays(1)));
+            return;
+        }
+
+        for (Map.Entry<LocalDate, ConcurrentHashMap<Tile, LongAdder>> e : counts.entrySet()) {
+            LocalDate day = e.getKey();
+            // 지난 날짜는 더 쌓이지 않으므로 맵째 떼어내고, 오늘 치는 카운터만 비운다
+            Map<Tile, LongAdder> source = day.isBefore(today) ? counts.remove(day) : e.getValue();
+            if (source == null) {
+                continue;
+            }
+            Map<Tile, Long> drained = new HashMap<>();
+            source.forEach((tile, adder) -> {
+                long n = adder.sumThenReset();
+                if (n > 0) {
+                    drained.put(tile, n);
+                }
+            });
+            if (drained.isEmpty()) {
+                continue;
+            }
+            try {
+                merge(key(day), drained);
+            } catch (Exception ex) {
+                log.warn("[Shelter Stats] flush failed. day={}, tiles={}", day, drained.size(), ex);
+                ConcurrentHashMap<Tile, LongAdder> back = counts.computeIfAbsent(day, d -> new ConcurrentHashMap<>());
+                drained.forEach((tile, n) -> back.computeIfAbsent(tile, t -> new LongAdder()).add(n));
+            }
+        }
+    }
+
+    private void merge(String key, Map<Tile, Long> drained) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.get().executePipelined((RedisCallback<Object>) conn -> {
+            drained.forEach((tile, n) -> conn.zSetCommands()
+                    .zIncrBy(rawKey, n, member(tile).getBytes(StandardCharsets.UTF_8)));
+            conn.keyCommands().expire(rawKey, RETENTION.toSeconds());
+            return null;
+        });
+    }
+
+    static String key(LocalDate day) {
+        return KEY_PREFIX + DAY.format(day);
+    }
+
+    static String member(Tile tile) {
+        return tile.z() + "/" + tile.x() + "/" + tile.y();
+    }
+
+    private static Tile parse(String member) {
+        try {
+            String[] parts = member.split("/");
+            return MapTiles.of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+        } catch (RuntimeException e) {
+            log.warn("[Shelter Stats] skip malformed member={}", member);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.team19.musuimsa.shelter.service;
+
+import com.team19.musuimsa.config.CacheInvalidationBus;
+import com.team19.musuimsa.config.DistributedSingleFlight;
+import com.team19.musuimsa.config.TwoLevelCache;
+import com.team19.musuimsa.shelter.dto.map.MapTile;
+import com.team19.musuimsa.shelter.util.MapTiles;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// sheltersMap 캐시에서 타일을 여러 장 한 번에 읽고 쓴다.
+// Caffeine 은 getAllPresent, Redis 는 MGET 한 번으로 조회하고 그 외 캐시는 키별 get 으로 폴백한다.
+// prod 의 L1(Caffeine) + L2(Redis) 캐시는 L1 에서 못 찾은 키만 MGET 하고 결과를 L1 에 올린다.
+// Redis 에 쓸 때는 타일별 태그 집합에 키를 등록해 두고, 무효화는 SCAN 없이 태그 집합(SMEMBERS)의 키만 UNLINK 한다.
+// 미스 난 타일은 single-flight 로 클러스터 전체에서 키당 한 번만 만든다.
+@Slf4j
+@Component
+public class ShelterTileCache {
+
+    static final String CACHE_NAME = "sheltersMap";
+
+    // 태그 집합 TTL = 항목 TTL × 2. 쓸 때마다 갱신하므로 살아 있는 항목보다 먼저 만료되지 않는다
+    private static final int TAG_TTL_FACTOR = 2;
+    private static final int UNLINK_BATCH_SIZE = 500;
+
+    // 타일 생성(DB 조회 포함)은 수백 ms 수준. 락 TTL 은 그보다 넉넉히, 패자 대기는 그보다 짧게 둔다
+    private static final String LOCK_PREFIX = "musuimsa::sheltersMap::lock::";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(5);
+    private static final Duration LOCK_WAIT = Duration.ofSeconds(3);
+
+    private final CacheManager cacheManager;
+    private final Optional<StringRedisTemplate> redisTemplate;
+    private final ShelterDatasetGeneration datasetGeneration;
+    private final DistributedSingleFlight singleFlight;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    // 계층별 적중: l1(Caffeine), l2(Redis 등 원격/단일 캐시)
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public ShelterTileCache(CacheManager cacheManager, Optional<StringRedisTemplate> redisTemplate,
+            ShelterDatasetGeneration datasetGeneration, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.datasetGeneration = datasetGeneration;
+        this.singleFlight = new DistributedSingleFlight(redisTemplate, LOCK_PREFIX, LOCK_TTL, LOCK_WAIT);
+        // 타일 단위 적중률 = hit / (hit + miss). 이전 bbox 키 방식과는 cache.gets{cache=sheltersMap} 로 비교
+        this.hits = Counter.builder("shelter.map.tile.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("shelter.map.tile.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.l1Hits = tierCounter(meterRegistry, "l1", "hit");
+        this.l1Misses = tierCounter(meterRegistry, "l1", "miss");
+        this.l2Hits = tierCounter(meterRegistry, "l2", "hit");
+        this.l2Misses = tierCounter(meterRegistry, "l2", "miss");
+    }
+
+    private static Counter tierCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("shelter.map.tile.cache.tier")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public Map<String, MapTile> getAll(List<String> keys) {
+        Map<String, MapTile> found = lookup(keys);
+        hits.increment(found.size());
+        misses.increment(keys.size() - found.size());
+        return found;
+    }
+
+    // 타일 캐시 키에 넣을 현재 데이터셋 세대
+    public long generation() {
+        return datasetGeneration.current();
+    }
+
+    // 국소화할 수 없는 변경: 세대를 올려 모든 타일 키를 한 번에 바꾼다. 이전 세대 항목은 TTL 로 만료된다
+    public long invalidateAll() {
+        return datasetGeneration.bump();
+    }
+
+    // 미스 난 타일을 만들어 채운다. 같은 키를 동시에 놓친 요청(다른 노드 포함)은 한 번 만든 결과를 함께 쓴다
+    public MapTile load(MapTiles.Tile tile, String key, Supplier<MapTile> builder) {
+        return singleFlight.load(key, () -> peek(key), () -> {
+            MapTile built = builder.get();
+            put(tile, key, built);
+            return built;
+        });
+    }
+
+    // single-flight 대기 중 재조회. 적중률 지표에는 넣지 않는다
+    private MapTile peek(String key) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        return cache == null ? null : cache.get(key, MapTile.class);
+    }
+
+    public void put(MapTiles.Tile tile, String key, MapTile value) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        cache.put(key, value);
+
+        RedisCache redisCache = redisCacheOf(cache);
+        if (redisCache != null && redisTemplate.isPresent()) {
+            try {
+                tag(redisCache, tile, key, value);
+            } catch (Exception e) {
+                // 태그가 빠진 키는 선택 무효화 대상에서 빠지고 항목 TTL 로만 만료된다
+                log.warn("[Shelter Tile] tag registration failed. key={}", key, e);
+            }
+        }
+    }
+
+    // 타일들에 쓰인 캐시 키를 지운다. Redis 는 태그 집합으로 키를 찾아 UNLINK, 그 외 캐시는 타일 키를 evict.
+    public int invalidate(Collection<MapTiles.Tile> tiles) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null || tiles.isEmpty()) {
+            return 0;
+        }
+
+        RedisCache redisCache = redisCacheOf(cache);
+        if (redisCache == null || redisTemplate.isEmpty()) {
+            // 이전 세대 키는 읽히지 않으므로 현재 세대 키만 지우면 된다
+            long generation = generation();
+            for (MapTiles.Tile tile : tiles) {
+                cache.evict(tile.cacheKey(generation));
+            }
+            return tiles.size();
+        }
+
+        try {
+            return unlinkTagged(redisCache, tiles);
+        } catch (Exception e) {
+            throw new DataAccessResourceFailureException("Tag invalidation failed", e);
+        }
+    }
+
+    private void tag(RedisCache redisCache, MapTiles.Tile tile, String key, MapTile value) {
+        byte[] tagKey = bytes(prefixOf(redisCache) + tile.tag());
+        byte[] member = bytes(key);
+        Duration ttl = redisCache.getCacheConfiguration().getTtlFunction().getTimeToLive(key, value);
+
+        redisTemplate.get().executePipelined((RedisCallback<Object>) conn -> {
+            conn.setCommands().sAdd(tagKey, member);
+            if (ttl != null && ttl.isPositive()) {
+                conn.keyCommands().expire(tagKey, ttl.multipliedBy(TAG_TTL_FACTOR).toSeconds());
+            }
+            return null;
+        });
+    }
+
+    private int unlinkTagged(RedisCache redisCache, Collection<MapTiles.Tile> tiles) {
+        StringRedisTemplate redis = redisTemplate.get();
+        String prefix = prefixOf(redisCache);
+        List<String> tagKeys = tiles.stream().map(tile -> prefix + tile.tag()).toList();
+
+        List<Object> members = redis.executePipelined((RedisCallback<Object>) conn -> {
+            for (String tagKey : tagKeys) {
+                conn.setCommands().sMembers(bytes(tagKey));
+            }
+            return null;
+        });
+
+        Set<String> keys = new HashSet<>();
+        for (Object tagged : members) {
+            if (tagged instanceof Collection<?> set) {
+                for (Object key : set) {
+                    keys.add((String) key);
+                }
+            }
+        }
+
+        // 항목 키와 태그 집합을 함께 UNLINK (삭제 비용은 Redis 백그라운드 스레드가 진다)
+        List<byte[]> doomed = new ArrayList<>(keys.size() + tagKeys.size());
+        for (String key : keys) {
+            doomed.add(bytes(prefix + key));
+        }
+        for (String tagKey : tagKeys) {
+            doomed.add(bytes(tagKey));
+        }
+        redis.execute((RedisCallback<Void>) conn -> {
+            for (int from = 0; from < doomed.size(); from += UNLINK_BATCH_SIZE) {
+                List<byte[]> batch = doomed.subList(from, Math.min(doomed.size(), from + UNLINK_BATCH_SIZE));
+                conn.keyCommands().unlink(batch.toArray(new byte[0][]));
+            }
+            return null;
+        });
+
+        // Redis 키를 직접 지웠으므로 각 노드의 L1 도 같은 키를 비우도록 전파
+        if (!keys.isEmpty()) {
+            CacheInvalidationBus.broadcast(redis, CACHE_NAME, keys);
+        }
+        return keys.size();
+    }
+
+    private Map<String, MapTile> lookup(List<String> keys) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null || keys.isEmpty()) {
+            return Map.of();
+        }
+
+        if (cache instanceof TwoLevelCache twoLevel) {
+            return lookupTwoLevel(twoLevel, keys);
+        }
+
+        boolean local = cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?>;
+        Map<String, MapTile> found = lookupSingle(cache, keys);
+        Counter tierHits = local ? l1Hits : l2Hits;
+        Counter tierMisses = local ? l1Misses : l2Misses;
+        tierHits.increment(found.size());
+        tierMisses.increment(keys.size() - found.size());
+        return found;
+    }
+
+    private Map<String, MapTile> lookupTwoLevel(TwoLevelCache twoLevel, List<String> keys) {
+        Map<String, MapTile> found = castValues(twoLevel.getAllPresentLocal(keys));
+        l1Hits.increment(found.size());
+        l1Misses.increment(keys.size() - found.size());
+        if (found.size() == keys.size()) {
+            return found;
+        }
+
+        List<String> rest = new ArrayList<>(keys.size() - found.size());
+        for (String key : keys) {
+            if (!found.containsKey(key)) {
+                rest.add(key);
+            }
+        }
+        Map<String, MapTile> remote = lookupSingle(twoLevel.getL2(), rest);
+        l2Hits.increment(remote.size());
+        l2Misses.increment(rest.size() - remote.size());
+        remote.forEach(twoLevel::putLocal);
+        found.putAll(remote);
+        return found;
+    }
+
+    private Map<String, MapTile> lookupSingle(Cache cache, List<String> keys) {
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            return castValues(caffeine.getAllPresent(keys));
+        }
+
+        if (cache instanceof RedisCache redisCache && redisTemplate.isPresent()) {
+            try {
+                return multiGet(redisCache, keys);
+            } catch (Exception e) {
+                log.warn("[Shelter Tile] MGET failed, fallback to per-key get", e);
+            }
+        }
+
+        Map<String, MapTile> found = new HashMap<>();
+        for (String key : keys) {
+            MapTile tile = cache.get(key, MapTile.class);
+            if (tile != null) {
+                found.put(key, tile);
+            }
+        }
+        return found;
+    }
+
+    private Map<String, MapTile> multiGet(RedisCache redisCache, List<String> keys) {
+        String prefix = prefixOf(redisCache);
+        byte[][] rawKeys = new byte[keys.size()][];
+        for (int i = 0; i < keys.size(); i++) {
+            rawKeys[i] = bytes(prefix + keys.get(i));
+        }
+
+        List<byte[]> values = redisTemplate.get().execute(
+                (RedisCallback<List<byte[]>>) conn -> conn.stringCommands().mGet(rawKeys));
+
+        Map<String, MapTile> found = new HashMap<>();
+        if (values == null) {
+            return found;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            byte[] raw = values.get(i);
+            if (raw == null) {
+                continue;
+            }
+            Object value = redisCache.getCacheConfiguration().getValueSerializationPair()
+                    .read(ByteBuffer.wrap(raw));
+            if (value instanceof MapTile tile) {
+                found.put(keys.get(i), tile);
+            }
+        }
+        return found;
+    }
+
+    private static RedisCache redisCacheOf(Cache cache) {
+        Cache target = cache instanceof TwoLevelCache twoLevel ? twoLevel.getL2() : cache;
+        return target instanceof RedisCache redisCache ? redisCache : null;
+    }
+
+    private static String prefixOf(RedisCache redisCache) {
+        return redisCache.getCacheConfiguration().getKeyPrefixFor(redisCache.getName());
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, MapTile> castValues(Map<?, ?> present) {
+        Map<String, MapTile> found = new HashMap<>();
+        present.forEach((k, v) -> {
+            if (v instanceof MapTile tile) {
+                found.put((String) k, tile);
+            }
+        });
+        return found;
+    }
+}
@@ -0,0 +1,32 @@
+package com.team19.musuimsa.shelter.util;
+
+// 클러스터 레벨(zoom <= 12)에서 쓰는 줌별 고정 격자.
+// 위/경도 모두 -180 을 원점으로 같은 크기(도)의 정사각 셀로 나누며, 셀 한 변은 256px 타일 한 변의 1/8 이다.
+public final class ClusterGrid {
+
+    public static final int MAX_CLUSTER_ZOOM = 12;
+
+    private ClusterGrid() {
+    }
+
+    public static int clampZoom(int zoom) {
+        return Math.max(0, Math.min(zoom, MAX_CLUSTER_ZOOM));
+    }
+
+    public static double cellDegrees(int zoom) {
+        return 45.0 / (1 << clampZoom(zoom));
+    }
+
+    // floor((v + 180) / cellDegrees) 와 같은 값을 GeoCell 양자화 비트의 시프트로 구한다
+    public static int row(double lat, int zoom) {
+        return GeoCell.clusterIndex(GeoCell.quantize(lat), zoom);
+    }
+
+    public static int col(double lng, int zoom) {
+        return GeoCell.clusterIndex(GeoCell.quantize(lng), zoom);
+    }
+
+    public static String cellId(int zoom, int row, int col) {
+        return "z" + clampZoom(zoom) + "_" + row + "_" + col;
+    }
+}
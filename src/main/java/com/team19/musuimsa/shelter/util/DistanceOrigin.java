@@ -0,0 +1,28 @@
+package com.team19.musuimsa.shelter.util;
+
+// 한 사용자 위치에서 여러 쉼터까지의 거리를 잴 때 사용자 쪽 라디안/코사인을 한 번만 계산해 둔다.
+// 계산식은 ShelterDtoUtils.haversineMeters 와 같다.
+public final class DistanceOrigin {
+
+    private static final double R = 6_371_000.0;
+
+    private final double lat;
+    private final double lng;
+    private final double cosLat;
+
+    public DistanceOrigin(double lat, double lng) {
+        this.lat = lat;
+        this.lng = lng;
+        this.cosLat = Math.cos(Math.toRadians(lat));
+    }
+
+    public double metersTo(double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat);
+        double dLng = Math.toRadians(lng2 - lng);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLng = Math.sin(dLng / 2);
+        double a = sinLat * sinLat + cosLat * Math.cos(Math.toRadians(lat2)) * sinLng * sinLng;
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return R * c;
+    }
+}
@@ -0,0 +1,134 @@
+package com.team19.musuimsa.shelter.util;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+// 위/경도를 각각 31비트로 양자화해 비트를 교차(Morton, Z-order)한 정수 셀 키. shelters.geocell(BIGINT) 에 저장한다.
+// 두 축 모두 -180 원점, 360도 폭으로 양자화하므로 상위 2 * (zoom + 3) 비트가 ClusterGrid 의 줌별 셀과 정확히 같다.
+public final class GeoCell {
+
+    public static final int BITS = 31;
+
+    // bbox 를 이 개수 이하의 연속 키 구간으로 나눈다
+    public static final int MAX_RANGES = 8;
+
+    private static final double SCALE = (double) (1L << BITS) / 360.0;
+    private static final int MAX_Q = (1 << BITS) - 1;
+
+    // ClusterGrid 줌 0 의 셀 한 변(45도)이 2^3 분할 단계와 같다
+    private static final int CLUSTER_LEVEL_OFFSET = 3;
+
+    private GeoCell() {
+    }
+
+    public record Range(long from, long to) {
+    }
+
+    public static long encode(double lat, double lng) {
+        return (spread(quantize(lat)) << 1) | spread(quantize(lng));
+    }
+
+    public static Long of(BigDecimal lat, BigDecimal lng) {
+        if (lat == null || lng == null) {
+            return null;
+        }
+        return encode(lat.doubleValue(), lng.doubleValue());
+    }
+
+    public static int quantize(double v) {
+        long q = (long) Math.floor((v + 180.0) * SCALE);
+        return (int) Math.max(0, Math.min(q, MAX_Q));
+    }
+
+    public static int latBits(long cell) {
+        return compact(cell >>> 1);
+    }
+
+    public static int lngBits(long cell) {
+        return compact(cell);
+    }
+
+    // ClusterGrid 의 셀 행/열 = 양자화 값의 상위 (zoom + 3) 비트
+    public static int clusterIndex(int quantized, int zoom) {
+        return quantized >>> (BITS - CLUSTER_LEVEL_OFFSET - ClusterGrid.clampZoom(zoom));
+    }
+
+    // bbox 를 덮는 셀들의 키 구간. 결과는 bbox 의 상위집합이므로 호출 측에서 위/경도로 다시 거른다.
+    public static List<Range> ranges(double minLat, double minLng, double maxLat, double maxLng,
+            int maxRanges) {
+        int qLat0 = quantize(minLat);
+        int qLat1 = quantize(maxLat);
+        int qLng0 = quantize(minLng);
+        int qLng1 = quantize(maxLng);
+        if (qLat0 > qLat1 || qLng0 > qLng1) {
+            return List.of();
+        }
+
+        // 셀 수가 maxRanges * 4 이하가 되는 가장 세밀한 단계를 고른다
+        int shift = 0;
+        while (shift < BITS
+                && (long) ((qLat1 >>> shift) - (qLat0 >>> shift) + 1)
+                * ((qLng1 >>> shift) - (qLng0 >>> shift) + 1) > (long) maxRanges * 4) {
+            shift++;
+        }
+
+        List<Long> prefixes = new ArrayList<>();
+        for (int r = qLat0 >>> shift; r <= qLat1 >>> shift; r++) {
+            for (int c = qLng0 >>> shift; c <= qLng1 >>> shift; c++) {
+                prefixes.add((spread(r) << 1) | spread(c));
+            }
+        }
+        prefixes.sort(null);
+
+        int low = 2 * shift;
+        List<Range> merged = new ArrayList<>();
+        for (long p : prefixes) {
+            long from = p << low;
+            long to = ((p + 1) << low) - 1;
+            int last = merged.size() - 1;
+            if (last >= 0 && merged.get(last).to() + 1 == from) {
+                merged.set(last, new Range(merged.get(last).from(), to));
+            } else {
+                merged.add(new Range(from, to));
+            }
+        }
+
+        // 구간이 많으면 간격이 가장 좁은 이웃끼리 합친다 (조회 범위는 넓어지지만 누락은 없다)
+        while (merged.size() > Math.max(1, maxRanges)) {
+            int best = 0;
+            long bestGap = Long.MAX_VALUE;
+            for (int i = 0; i + 1 < merged.size(); i++) {
+                long gap = merged.get(i + 1).from() - merged.get(i).to();
+                if (gap < bestGap) {
+                    bestGap = gap;
+                    best = i;
+                }
+            }
+            merged.set(best, new Range(merged.get(best).from(), merged.get(best + 1).to()));
+            merged.remove(best + 1);
+        }
+        return merged;
+    }
+
+    // 31비트 정수의 비트 사이에 0 을 끼워 62비트로 펼친다
+    private static long spread(int v) {
+        long x = v & 0x7fffffffL;
+        x = (x | (x << 16)) & 0x0000ffff0000ffffL;
+        x = (x | (x << 8)) & 0x00ff00ff00ff00ffL;
+        x = (x | (x << 4)) & 0x0f0f0f0f0f0f0f0fL;
+        x = (x | (x << 2)) & 0x3333333333333333L;
+        x = (x | (x << 1)) & 0x5555555555555555L;
+        return x;
+    }
+
+    private static int compact(long v) {
+        long x = v & 0x5555555555555555L;
+        x = (x | (x >>> 1)) & 0x3333333333333333L;
+        x = (x | (x >>> 2)) & 0x0f0f0f0f0f0f0f0fL;
+        x = (x | (x >>> 4)) & 0x00ff00ff00ff00ffL;
+        x = (x | (x >>> 8)) & 0x0000ffff0000ffffL;
+        x = (x | (x >>> 16)) & 0x00000000ffffffffL;
+        return (int) x;
+    }
+}
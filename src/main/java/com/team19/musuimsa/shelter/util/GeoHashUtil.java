@@ -1,31 +0,0 @@
-package com.team19.musuimsa.shelter.util;
-
-import java.math.BigDecimal;
-
-public final class GeoHashUtil {
-    private GeoHashUtil() {
-    }
-
-    public static int geohashPrecisionForZoom(int z) {
-        if (z < 13) {
-            return 5;
-        }
-        if (z < 16) {
-            return 6;
-        }
-        return 7;
-    }
-
-    public static String geohash(double lat, double lng, int precision) {
-        double scale = Math.pow(10, precision - 2);
-        long la = Math.round(lat * scale);
-        long ln = Math.round(lng * scale);
-        return la + "_" + ln + "_p" + precision;
-    }
-
-    public static String snapBbox(BigDecimal minLat, BigDecimal minLng, BigDecimal maxLat, BigDecimal maxLng, int p) {
-        String a = geohash(minLat.doubleValue(), minLng.doubleValue(), p);
-        String b = geohash(maxLat.doubleValue(), maxLng.doubleValue(), p);
-        return a + "__" + b;
-    }
-}
@@ -0,0 +1,31 @@
+package com.team19.musuimsa.shelter.util;
+
+import com.team19.musuimsa.exception.invalid.InvalidMapCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// summary/detail 레벨 keyset 페이지 커서. 마지막으로 내려준 shelterId 를 감싼 불투명 문자열이다.
+public final class MapCursor {
+
+    private static final String PREFIX = "s:";
+
+    private MapCursor() {
+    }
+
+    public static String encode(long lastShelterId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastShelterId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new InvalidMapCursorException(cursor);
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidMapCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.team19.musuimsa.shelter.util;
+
+import com.team19.musuimsa.shelter.dto.OperatingHoursResponse;
+import com.team19.musuimsa.shelter.dto.map.ClusterFeature;
+import com.team19.musuimsa.shelter.dto.map.MapShelterResponse;
+import com.team19.musuimsa.shelter.dto.map.MapTile;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// MapTile 전용 바이너리 인코딩. 클래스 이름/필드 이름 없이 같은 필드를 열(column) 단위로 모아 쓰고,
+// 정수는 varint, id 는 직전 값과의 차이로 기록한다. 본문이 임계값을 넘으면 Deflate(BEST_SPEED)로 압축한다.
+//
+// [0] 형식 버전, [1] 플래그(bit0 = 압축), 압축 시 원본 길이(varint) 후 deflate 스트림
+// 본문: level, clusters(열), shelters(열), openMinutes, outdoors(비트 묶음)
+public final class MapTileCodec {
+
+    static final byte FORMAT = 1;
+    static final int COMPRESS_THRESHOLD = 1024;
+
+    private static final byte FLAG_COMPRESSED = 1;
+
+    // 쉼터별 null/불리언 플래그
+    private static final int ID_NULL = 1;
+    private static final int AIRCON_NULL = 1 << 1;
+    private static final int AIRCON_TRUE = 1 << 2;
+    private static final int CAPACITY_NULL = 1 << 3;
+    private static final int HOURS_NULL = 1 << 4;
+    private static final int RATING_NULL = 1 << 5;
+
+    private MapTileCodec() {
+    }
+
+    public static byte[] encode(MapTile tile) {
+        Writer body = new Writer();
+        body.string(tile.level());
+        writeClusters(body, tile.clusters() == null ? List.of() : tile.clusters());
+        writeShelters(body, tile.shelters() == null ? List.of() : tile.shelters());
+
+        int[] minutes = tile.openMinutes() == null ? new int[0] : tile.openMinutes();
+        body.varint(minutes.length);
+        for (int m : minutes) {
+            body.varint(zigzag(m));
+        }
+
+        boolean[] outdoors = tile.outdoors() == null ? new boolean[0] : tile.outdoors();
+        body.varint(outdoors.length);
+        for (int i = 0; i < outdoors.length; i += 8) {
+            int bits = 0;
+            for (int b = 0; b < 8 && i + b < outdoors.length; b++) {
+                if (outdoors[i + b]) {
+                    bits |= 1 << b;
+                }
+            }
+            body.out.write(bits);
+        }
+
+        byte[] raw = body.out.toByteArray();
+        Writer out = new Writer();
+        out.out.write(FORMAT);
+        if (raw.length < COMPRESS_THRESHOLD) {
+            out.out.write(0);
+            out.out.writeBytes(raw);
+            return out.out.toByteArray();
+        }
+        out.out.write(FLAG_COMPRESSED);
+        out.varint(raw.length);
+        out.out.writeBytes(deflate(raw));
+        return out.out.toByteArray();
+    }
+
+    public static MapTile decode(byte[] bytes) {
+        if (bytes.length < 2 || bytes[0] != FORMAT) {
+            throw new IllegalArgumentException("Unknown map tile format: "
+                    + (bytes.length == 0 ? "empty" : bytes[0]));
+        }
+        ByteBuffer buf;
+        if ((bytes[1] & FLAG_COMPRESSED) != 0) {
+            ByteBuffer header = ByteBuffer.wrap(bytes, 2, bytes.length - 2);
+            int rawLength = varint(header);
+            buf = ByteBuffer.wrap(inflate(bytes, header.position(), rawLength));
+        } else {
+            buf = ByteBuffer.wrap(bytes, 2, bytes.length - 2);
+        }
+
+        String level = string(buf);
+        List<ClusterFeature> clusters = readClusters(buf);
+        List<MapShelterResponse> shelters = readShelters(buf);
+
+        int[] minutes = new int[varint(buf)];
+        for (int i = 0; i < minutes.length; i++) {
+            minutes[i] = unzigzag(varint(buf));
+        }
+
+        boolean[] outdoors = new boolean[varint(buf)];
+        for (int i = 0; i < outdoors.length; i += 8) {
+            int bits = buf.get() & 0xFF;
+            for (int b = 0; b < 8 && i + b < outdoors.length; b++) {
+                outdoors[i + b] = (bits & (1 << b)) != 0;
+            }
+        }
+        return new MapTile(level, clusters, shelters, minutes, outdoors);
+    }
+
+    private static void writeClusters(Writer w, List<ClusterFeature> clusters) {
+        w.varint(clusters.size());
+        for (ClusterFeature c : clusters) {
+            w.string(c.id());
+        }
+        for (ClusterFeature c : clusters) {
+            w.doubleValue(c.latitude());
+            w.doubleValue(c.longitude());
+        }
+        for (ClusterFeature c : clusters) {
+            w.varint(c.count());
+            w.varint(c.airconCount());
+            w.varlong(c.capacitySum());
+        }
+    }
+
+    private static List<ClusterFeature> readClusters(ByteBuffer buf) {
+        int n = varint(buf);
+        String[] ids = new String[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = string(buf);
+        }
+        double[] lat = new double[n];
+        double[] lng = new double[n];
+        for (int i = 0; i < n; i++) {
+            lat[i] = buf.getDouble();
+            lng[i] = buf.getDouble();
+        }
+        List<ClusterFeature> clusters = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            clusters.add(new ClusterFeature(ids[i], lat[i], lng[i], varint(buf), varint(buf), varlong(buf)));
+        }
+        return clusters;
+    }
+
+    private static void writeShelters(Writer w, List<MapShelterResponse> shelters) {
+        w.varint(shelters.size());
+        for (MapShelterResponse s : shelters) {
+            w.out.write(flags(s));
+        }
+        long prevId = 0;
+        for (MapShelterResponse s : shelters) {
+            if (s.id() != null) {
+                w.varlong(zigzag(s.id() - prevId));
+                prevId = s.id();
+            }
+        }
+        for (MapShelterResponse s : shelters) {
+            w.string(s.name());
+            w.string(s.address());
+        }
+        for (MapShelterResponse s : shelters) {
+            w.doubleValue(s.latitude());
+            w.doubleValue(s.longitude());
+        }
+        for (MapShelterResponse s : shelters) {
+            w.string(s.distance());
+            w.string(s.photoUrl());
+            if (s.capacity() != null) {
+                w.varint(zigzag(s.capacity()));
+            }
+        }
+        for (MapShelterResponse s : shelters) {
+            if (s.operatingHours() != null) {
+                w.string(s.operatingHours().weekday());
+                w.string(s.operatingHours().weekend());
+            }
+            if (s.averageRating() != null) {
+                w.doubleValue(s.averageRating());
+            }
+        }
+    }
+
+    private static List<MapShelterResponse> readShelters(ByteBuffer buf) {
+        int n = varint(buf);
+        int[] flags = new int[n];
+        for (int i = 0; i < n; i++) {
+            flags[i] = buf.get() & 0xFF;
+        }
+        Long[] ids = new Long[n];
+        long prevId = 0;
+        for (int i = 0; i < n; i++) {
+            if ((flags[i] & ID_NULL) == 0) {
+                prevId += unzigzag(varlong(buf));
+                ids[i] = prevId;
+            }
+        }
+        String[] names = new String[n];
+        String[] addresses = new String[n];
+        for (int i = 0; i < n; i++) {
+            names[i] = string(buf);
+            addresses[i] = string(buf);
+        }
+        double[] lat = new double[n];
+        double[] lng = new double[n];
+        for (int i = 0; i < n; i++) {
+            lat[i] = buf.getDouble();
+            lng[i] = buf.getDouble();
+        }
+        String[] distances = new String[n];
+        String[] photos = new String[n];
+        Integer[] capacities = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            distances[i] = string(buf);
+            photos[i] = string(buf);
+            if ((flags[i] & CAPACITY_NULL) == 0) {
+                capacities[i] = unzigzag(varint(buf));
+            }
+        }
+        List<MapShelterResponse> shelters = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int f = flags[i];
+            OperatingHoursResponse hours = (f & HOURS_NULL) != 0 ? null
+                    : new OperatingHoursResponse(string(buf), string(buf));
+            Double rating = (f & RATING_NULL) != 0 ? null : buf.getDouble();
+            Boolean aircon = (f & AIRCON_NULL) != 0 ? null : (f & AIRCON_TRUE) != 0;
+            shelters.add(new MapShelterResponse(ids[i], names[i], addresses[i], lat[i], lng[i],
+                    distances[i], aircon, capacities[i], photos[i], hours, rating));
+        }
+        return shelters;
+    }
+
+    private static int flags(MapShelterResponse s) {
+        int f = 0;
+        if (s.id() == null) {
+            f |= ID_NULL;
+        }
+        if (s.hasAircon() == null) {
+            f |= AIRCON_NULL;
+        } else if (s.hasAircon()) {
+            f |= AIRCON_TRUE;
+        }
+        if (s.capacity() == null) {
+            f |= CAPACITY_NULL;
+        }
+        if (s.operatingHours() == null) {
+            f |= HOURS_NULL;
+        }
+        if (s.averageRating() == null) {
+            f |= RATING_NULL;
+        }
+        return f;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes, int offset, int rawLength) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] raw = new byte[rawLength];
+            int n = 0;
+            while (n < rawLength) {
+                int read = inflater.inflate(raw, n, rawLength - n);
+                if (read == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IllegalArgumentException("Truncated map tile payload");
+                }
+                n += read;
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupted map tile payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static int zigzag(int v) {
+        return (v << 1) ^ (v >> 31);
+    }
+
+    private static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private static int unzigzag(int v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private static int varint(ByteBuffer buf) {
+        return (int) varlong(buf);
+    }
+
+    private static long varlong(ByteBuffer buf) {
+        long v = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buf.get();
+            v |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return v;
+            }
+        }
+    }
+
+    // 길이+1 을 varint 로 기록, 0 이면 null
+    private static String string(ByteBuffer buf) {
+        int len = varint(buf);
+        if (len == 0) {
+            return null;
+        }
+        String s = new String(buf.array(), buf.arrayOffset() + buf.position(), len - 1, StandardCharsets.UTF_8);
+        buf.position(buf.position() + len - 1);
+        return s;
+    }
+
+    private static final class Writer {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+        void varint(int v) {
+            varlong(v & 0xFFFFFFFFL);
+        }
+
+        void varlong(long v) {
+            while ((v & ~0x7FL) != 0) {
+                out.write((int) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            out.write((int) v);
+        }
+
+        void doubleValue(double v) {
+            long bits = Double.doubleToRawLongBits(v);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) (bits >>> shift));
+            }
+        }
+
+        void string(String s) {
+            if (s == null) {
+                varint(0);
+                return;
+            }
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length + 1);
+            out.writeBytes(bytes);
+        }
+    }
+}
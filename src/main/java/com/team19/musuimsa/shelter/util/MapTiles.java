@@ -0,0 +1,176 @@
+package com.team19.musuimsa.shelter.util;
+
+import com.team19.musuimsa.exception.invalid.InvalidTileException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 지도 캐시의 단위가 되는 XYZ(Web Mercator) 타일 계산.
+// 한 쉼터는 정확히 한 타일에만 속하도록 타일 경계는 [min, max) 로 본다.
+public final class MapTiles {
+
+    public static final int MIN_TILE_ZOOM = 0;
+    public static final int MAX_TILE_ZOOM = 18;
+
+    // bbox 를 덮는 타일이 이보다 많으면 타일 캐시를 거치지 않고 뷰포트를 한 번에 만든다 (레벨/타일 줌은 그대로)
+    public static final int MAX_TILES_PER_VIEWPORT = 64;
+
+    private static final int SUMMARY_MIN_ZOOM = 13;
+    private static final int DETAIL_MIN_ZOOM = 16;
+    // 기존 bbox 응답과 같은 기준: 위/경도 스팬이 이보다 넓으면 줌과 무관하게 cluster
+    private static final double MAX_SHELTER_SPAN_DEGREES = 3.0;
+
+    private static final double MAX_MERCATOR_LAT = 85.05112878;
+
+    private MapTiles() {
+    }
+
+    public record Tile(int z, int x, int y) {
+
+        // v2: 타일에 쉼터별 운영시간(분) 배열 추가, v3: 야외 여부 배열 추가, v4: 바이너리 직렬화(MapTileCodec) (값 형식 버전)
+        // g: 데이터셋 세대. 세대가 오르면 이전 키는 더 이상 읽히지 않는다
+        public String cacheKey(long generation) {
+            return "tile:v4:g" + generation + ":" + id();
+        }
+
+        // 무효화용 태그. 버전과 무관하게 같은 타일에 쓰인 캐시 키들을 모은다
+        public String tag() {
+            return "tag:" + id();
+        }
+
+        // 버전/세대와 무관한 타일 식별자 (z{z}:{x}:{y})
+        public String id() {
+            return "z" + z + ":" + x + ":" + y;
+        }
+
+        public String level() {
+            return levelForZoom(z);
+        }
+
+        // {minLat, minLng, maxLat, maxLng}
+        public double[] bounds() {
+            double n = 1 << z;
+            return new double[]{
+                    tileLat(y + 1, n), x / n * 360.0 - 180.0,
+                    tileLat(y, n), (x + 1) / n * 360.0 - 180.0
+            };
+        }
+
+        public boolean owns(double lat, double lng) {
+            return tileX(lng, z) == x && tileY(lat, z) == y;
+        }
+    }
+
+    // cacheKey 에서 타일 식별자(z{z}:{x}:{y})만 떼어낸다. 타일 키가 아니면 그대로 반환
+    public static String idOfCacheKey(String cacheKey) {
+        int at = cacheKey.indexOf(":z");
+        return cacheKey.startsWith("tile:") && at >= 0 ? cacheKey.substring(at + 1) : cacheKey;
+    }
+
+    public static Tile of(int z, int x, int y) {
+        if (z < MIN_TILE_ZOOM || z > MAX_TILE_ZOOM) {
+            throw new InvalidTileException(z, x, y);
+        }
+        int n = 1 << z;
+        if (x < 0 || x >= n || y < 0 || y >= n) {
+            throw new InvalidTileException(z, x, y);
+        }
+        return new Tile(z, x, y);
+    }
+
+    // 기존 bbox 응답과 같은 기준: 12 이하 cluster, 15 이하 summary, 그 위 detail
+    public static String levelForZoom(int z) {
+        if (z < SUMMARY_MIN_ZOOM) {
+            return "cluster";
+        }
+        if (z < DETAIL_MIN_ZOOM) {
+            return "summary";
+        }
+        return "detail";
+    }
+
+    // bbox 응답 레벨: 요청 줌으로 정한다 (스팬 3도 초과는 cluster). 뷰포트를 덮는 타일 수와는 무관하다
+    public static String levelFor(double minLat, double minLng, double maxLat, double maxLng,
+            int zoom) {
+        if (Math.abs(maxLat - minLat) > MAX_SHELTER_SPAN_DEGREES
+                || Math.abs(maxLng - minLng) > MAX_SHELTER_SPAN_DEGREES) {
+            return "cluster";
+        }
+        return levelForZoom(Math.max(MIN_TILE_ZOOM, Math.min(zoom, MAX_TILE_ZOOM)));
+    }
+
+    // 레벨 안에서 요청 줌에 가장 가까운 타일 줌 (cluster 는 ClusterGrid.MAX_CLUSTER_ZOOM 이하)
+    public static int tileZoomFor(String level, int zoom) {
+        int z = Math.max(MIN_TILE_ZOOM, Math.min(zoom, MAX_TILE_ZOOM));
+        return switch (level) {
+            case "cluster" -> Math.min(z, ClusterGrid.MAX_CLUSTER_ZOOM);
+            case "summary" -> Math.max(SUMMARY_MIN_ZOOM, Math.min(z, DETAIL_MIN_ZOOM - 1));
+            default -> Math.max(DETAIL_MIN_ZOOM, z);
+        };
+    }
+
+    public static int tileX(double lng, int z) {
+        int n = 1 << z;
+        int x = (int) Math.floor((lng + 180.0) / 360.0 * n);
+        return Math.max(0, Math.min(x, n - 1));
+    }
+
+    public static int tileY(double lat, int z) {
+        int n = 1 << z;
+        double rad = Math.toRadians(Math.max(-MAX_MERCATOR_LAT, Math.min(lat, MAX_MERCATOR_LAT)));
+        double v = (1.0 - Math.log(Math.tan(rad) + 1.0 / Math.cos(rad)) / Math.PI) / 2.0;
+        int y = (int) Math.floor(v * n);
+        return Math.max(0, Math.min(y, n - 1));
+    }
+
+    // 뷰포트를 덮는 타일이 상한(MAX_TILES_PER_VIEWPORT) 이하인지
+    public static boolean withinTileBudget(double minLat, double minLng, double maxLat,
+            double maxLng, int z) {
+        return count(minLat, minLng, maxLat, maxLng, z) <= MAX_TILES_PER_VIEWPORT;
+    }
+
+    public static List<Tile> covering(double minLat, double minLng, double maxLat, double maxLng,
+            int z) {
+        int x0 = tileX(minLng, z);
+        int x1 = tileX(maxLng, z);
+        int y0 = tileY(maxLat, z);
+        int y1 = tileY(minLat, z);
+
+        List<Tile> tiles = new ArrayList<>();
+        for (int y = y0; y <= y1; y++) {
+            for (int x = x0; x <= x1; x++) {
+                tiles.add(new Tile(z, x, y));
+            }
+        }
+        return tiles;
+    }
+
+    // 좌표 변경 시 내용이 달라질 수 있는 타일들.
+    // cluster 줌에서는 그 점이 속한 격자 셀 전체(무게중심이 움직일 수 있는 범위)를 덮는 타일을 포함한다.
+    public static Set<Tile> affectedBy(double lat, double lng) {
+        Set<Tile> tiles = new LinkedHashSet<>();
+        for (int z = MIN_TILE_ZOOM; z <= MAX_TILE_ZOOM; z++) {
+            if (z <= ClusterGrid.MAX_CLUSTER_ZOOM) {
+                double cell = ClusterGrid.cellDegrees(z);
+                double cellMinLat = ClusterGrid.row(lat, z) * cell - 180.0;
+                double cellMinLng = ClusterGrid.col(lng, z) * cell - 180.0;
+                tiles.addAll(covering(cellMinLat, cellMinLng,
+                        Math.nextDown(cellMinLat + cell), Math.nextDown(cellMinLng + cell), z));
+            } else {
+                tiles.add(new Tile(z, tileX(lng, z), tileY(lat, z)));
+            }
+        }
+        return tiles;
+    }
+
+    private static long count(double minLat, double minLng, double maxLat, double maxLng, int z) {
+        long cols = (long) tileX(maxLng, z) - tileX(minLng, z) + 1;
+        long rows = (long) tileY(minLat, z) - tileY(maxLat, z) + 1;
+        return Math.max(0, cols) * Math.max(0, rows);
+    }
+
+    private static double tileLat(int y, double n) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1.0 - 2.0 * y / n))));
+    }
+}
@@ -0,0 +1,82 @@
+package com.team19.musuimsa.shelter.util;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+// 운영시간을 하루 중 분(0 ~ 1439) 정수와 표시 문자열("HH:mm~HH:mm")로 미리 계산해 두고,
+// "지금 운영 중" 여부를 KST 기준 정수 비교로 판단한다.
+public final class OperatingHours {
+
+    public static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // 운영시간을 알 수 없는 칸 (primitive 배열용)
+    public static final int UNKNOWN = -1;
+
+    private OperatingHours() {
+    }
+
+    // 평일/주말 구분과 하루 중 분
+    public record Now(boolean weekend, int minute) {
+
+        public static Now of(Clock clock) {
+            ZonedDateTime now = ZonedDateTime.now(clock.withZone(KST));
+            DayOfWeek day = now.getDayOfWeek();
+            return new Now(day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY,
+                    now.getHour() * 60 + now.getMinute());
+        }
+    }
+
+    public static Now now() {
+        return Now.of(Clock.system(KST));
+    }
+
+    public static Integer minutes(LocalTime time) {
+        return time == null ? null : time.getHour() * 60 + time.getMinute();
+    }
+
+    public static int orUnknown(Integer minutes) {
+        return minutes == null ? UNKNOWN : minutes;
+    }
+
+    // 한쪽만 있으면 "09:00~" / "~18:00", 둘 다 없으면 null
+    public static String display(LocalTime open, LocalTime close) {
+        if (open == null && close == null) {
+            return null;
+        }
+        return hm(open) + "~" + hm(close);
+    }
+
+    // 시작/종료 중 하나라도 모르면 운영 중으로 보지 않는다.
+    // 시작 == 종료는 24시간, 종료 < 시작은 자정을 넘기는 운영으로 본다.
+    public static boolean isOpen(int open, int close, int minute) {
+        if (open < 0 || close < 0) {
+            return false;
+        }
+        if (open == close) {
+            return true;
+        }
+        if (open < close) {
+            return minute >= open && minute < close;
+        }
+        return minute >= open || minute < close;
+    }
+
+    public static boolean isOpen(Integer weekdayOpen, Integer weekdayClose, Integer weekendOpen,
+            Integer weekendClose, Now now) {
+        return now.weekend()
+                ? isOpen(orUnknown(weekendOpen), orUnknown(weekendClose), now.minute())
+                : isOpen(orUnknown(weekdayOpen), orUnknown(weekdayClose), now.minute());
+    }
+
+    private static String hm(LocalTime time) {
+        if (time == null) {
+            return "";
+        }
+        int h = time.getHour();
+        int m = time.getMinute();
+        return (h < 10 ? "0" : "") + h + ":" + (m < 10 ? "0" : "") + m;
+    }
+}
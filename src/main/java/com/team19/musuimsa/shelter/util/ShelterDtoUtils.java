@@ -31,8 +31,9 @@ public final class ShelterDtoUtils {
         if (m < 1000) {
             return m + "m";
         }
-        double km = meters / 1000.0;
-        return String.format(java.util.Locale.US, "%.1fkm", km);
+        // String.format("%.1fkm") 와 같은 결과를 포매터 없이 만든다 (지도 응답마다 항목 수만큼 호출된다)
+        long tenths = Math.round(meters / 100.0);
+        return (tenths / 10) + "." + (tenths % 10) + "km";
     }
 
     public static String distanceBetween(double lat1, double lng1, double lat2, double lng2) {
@@ -57,6 +58,21 @@ public final class ShelterDtoUtils {
         return start + "~" + end;
     }
 
+    // import 시 만들어 둔 표시 문자열 우선, 없으면(백필 전) 원본 시간으로 만든다
+    public static String hoursText(String rendered, LocalTime open, LocalTime close) {
+        return rendered != null ? rendered : formatHours(open, close);
+    }
+
+    public static String weekdayHours(Shelter shelter) {
+        return hoursText(shelter.getWeekdayHours(), shelter.getWeekdayOpenTime(),
+                shelter.getWeekdayCloseTime());
+    }
+
+    public static String weekendHours(Shelter shelter) {
+        return hoursText(shelter.getWeekendHours(), shelter.getWeekendOpenTime(),
+                shelter.getWeekendCloseTime());
+    }
+
     public static double average(Integer total, Integer count) {
         int c = toIntOrZero(count);
 
@@ -75,10 +91,7 @@ public final class ShelterDtoUtils {
                 toDoubleOrZero(shelter.getLongitude()),
                 distance,
                 toBooleanOrFalse(shelter.getIsOutdoors()),
-                new OperatingHoursResponse(
-                        formatHours(shelter.getWeekdayOpenTime(), shelter.getWeekdayCloseTime()),
-                        formatHours(shelter.getWeekendOpenTime(), shelter.getWeekendCloseTime())
-                ),
+                new OperatingHoursResponse(weekdayHours(shelter), weekendHours(shelter)),
                 average(shelter.getTotalRating(), shelter.getReviewCount()),
                 shelter.getPhotoUrl()
         );
@@ -92,10 +105,7 @@ public final class ShelterDtoUtils {
                 toDoubleOrZero(shelter.getLatitude()),
                 toDoubleOrZero(shelter.getLongitude()),
                 distance,
-                new OperatingHoursResponse(
-                        formatHours(shelter.getWeekdayOpenTime(), shelter.getWeekdayCloseTime()),
-                        formatHours(shelter.getWeekendOpenTime(), shelter.getWeekendCloseTime())
-                ),
+                new OperatingHoursResponse(weekdayHours(shelter), weekendHours(shelter)),
                 toIntOrZero(shelter.getCapacity()),
                 toBooleanOrFalse(shelter.getIsOutdoors()),
                 new ShelterResponse.CoolingEquipment(
@@ -1,12 +1,21 @@
 package com.team19.musuimsa.user.repository;
 
 import com.team19.musuimsa.user.domain.User;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
     Optional<User> findByNickname(String nickname);
+
+    // 날씨 선조회 격자 산출용 마지막 위치 [위도, 경도]
+    @Query("""
+            SELECT u.lastLatitude, u.lastLongitude FROM User u
+            WHERE u.lastLatitude IS NOT NULL AND u.lastLongitude IS NOT NULL
+            """)
+    List<Object[]> findAllLastLocations();
 }
@@ -0,0 +1,148 @@
+package com.team19.musuimsa.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 스트리밍 heavy-hitters: count-min sketch(빈도 추정) + top-K 후보.
+// 기록 경로는 원자 증가와 ConcurrentHashMap 갱신뿐이라 락이 없고, 메모리는 depth × width 카운터 + 후보 2K 개로 고정이다.
+// 추정치는 실제보다 작지 않으며(과대 추정만), 오차는 대략 total × e / width 이하다.
+// decay() 로 카운터를 절반씩 줄여 최근 트래픽 위주로 유지한다.
+public final class HotKeySketch {
+
+    private static final int DEPTH = 4;
+
+    private final int width;
+    private final int mask;
+    private final int k;
+    private final long minHotEstimate;
+    private final AtomicLongArray counters;
+    private final LongAdder total = new LongAdder();
+
+    // 후보 → 마지막 추정치. 2K 를 넘으면 한 스레드만 상위 K 로 잘라낸다
+    private final ConcurrentHashMap<String, Long> candidates = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+    private volatile long floor;
+
+    public record Entry(String key, long estimate) {
+
+    }
+
+    // width 는 2의 거듭제곱으로 올림. minHotEstimate: 후보라도 추정치가 이보다 작으면 핫 키로 보지 않는다
+    public HotKeySketch(int width, int k, long minHotEstimate) {
+        if (width <= 0 || k <= 0 || minHotEstimate <= 0) {
+            throw new IllegalArgumentException("width, k and minHotEstimate must be positive");
+        }
+        int w = 1;
+        while (w < width) {
+            w <<= 1;
+        }
+        this.width = w;
+        this.mask = this.width - 1;
+        this.k = k;
+        this.minHotEstimate = minHotEstimate;
+        this.counters = new AtomicLongArray(DEPTH * this.width);
+    }
+
+    // 한 번 기록하고 갱신된 추정치를 반환
+    public long add(String key) {
+        long h = hash64(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            long c = counters.incrementAndGet(row * width + index(h, row));
+            estimate = Math.min(estimate, c);
+        }
+        total.increment();
+
+        if (estimate > floor || candidates.size() < k) {
+            candidates.put(key, estimate);
+            if (candidates.size() > 2 * k) {
+                trim();
+            }
+        }
+        return estimate;
+    }
+
+    public long estimate(String key) {
+        long h = hash64(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(row * width + index(h, row)));
+        }
+        return estimate;
+    }
+
+    // 마지막으로 잘라낸 상위 K 의 최솟값과 minHotEstimate 를 모두 넘는 후보인지.
+    // 잘라내기 전이나 decay 로 floor 가 0 에 가까워진 한산한 구간에서도 한두 번 본 키까지 핫으로 치지 않는다
+    public boolean isHot(String key) {
+        Long c = candidates.get(key);
+        return c != null && c >= Math.max(floor, minHotEstimate);
+    }
+
+    public List<Entry> top(int n) {
+        List<Entry> out = new ArrayList<>(candidates.size());
+        for (Map.Entry<String, Long> e : candidates.entrySet()) {
+            out.add(new Entry(e.getKey(), e.getValue()));
+        }
+        out.sort(Comparator.comparingLong(Entry::estimate).reversed().thenComparing(Entry::key));
+        return out.size() > n ? out.subList(0, n) : out;
+    }
+
+    public long total() {
+        return total.sum();
+    }
+
+    // 모든 카운터를 절반으로 (지수 감쇠). 기록과 겹쳐도 추정이 조금 흔들릴 뿐 구조는 깨지지 않는다
+    public void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, c -> c >> 1);
+        }
+        total.add(-(total.sum() >> 1));
+        candidates.replaceAll((key, c) -> c >> 1);
+        candidates.values().removeIf(c -> c == 0);
+        floor >>= 1;
+    }
+
+    private void trim() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Entry> ranked = top(Integer.MAX_VALUE);
+            if (ranked.size() <= k) {
+                return;
+            }
+            floor = ranked.get(k - 1).estimate();
+            for (Entry e : ranked.subList(k, ranked.size())) {
+                candidates.remove(e.key(), e.estimate());
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    // 행 i 의 칸 = h1 + i × h2 (64비트 해시의 두 절반, Kirsch-Mitzenmacher).
+    // String.hashCode 가 같은 키도 64비트 해시는 다르므로 모든 행에서 함께 충돌하지 않는다
+    private int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return (h1 + row * h2) & mask;
+    }
+
+    // 문자 단위 FNV-1a 64 후 splitmix64 로 섞는다
+    private static long hash64(String key) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -1,6 +1,8 @@
 package com.team19.musuimsa.weather.controller;
 
 import com.team19.musuimsa.exception.dto.ErrorResponseDto;
+import com.team19.musuimsa.weather.dto.HeatForecastResponse;
+import com.team19.musuimsa.weather.dto.NowcastResponse;
 import com.team19.musuimsa.weather.dto.WeatherResponse;
 import com.team19.musuimsa.weather.service.WeatherService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -50,4 +52,49 @@ public class WeatherController {
             @RequestParam double longitude) {
         return ResponseEntity.ok(weatherService.getCurrentTemp(latitude, longitude));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "현재 위치 날씨·체감온도 조회",
+            description = "위도와 경도를 기반으로 가장 최근 초단기실황(기온·습도·풍속·1시간 강수량)과 기상청 산출식의 체감온도를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = NowcastResponse.class),
+                            examples = @ExampleObject(name = "현재 날씨 조회",
+                                    value = "{\"temperature\": 33.5, \"apparentTemperature\": 34.6, \"humidity\": 65.0, \"windSpeed\": 1.8, \"rainfall1h\": 0.0, \"baseDate\": \"20250701\", \"baseTime\": \"1400\"}")
+                    )),
+            @ApiResponse(responseCode = "400", description = "잘못된 위도/경도 값",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "502", description = "외부(기상청) API 조회 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/nowcast")
+    public ResponseEntity<NowcastResponse> getNowcast(
+            @Parameter(description = "현재 위도", example = "37.5665", required = true)
+            @RequestParam double latitude,
+            @Parameter(description = "현재 경도", example = "126.9780", required = true)
+            @RequestParam double longitude) {
+        return ResponseEntity.ok(NowcastResponse.from(weatherService.getNowcast(latitude, longitude)));
+    }
+
+    @Operation(summary = "앞으로 6시간 폭염 예보 조회",
+            description = "위도와 경도를 기반으로 기상청 초단기예보 중 기준 기온 이상인 시간 수를 조회합니다. "
+                    + "예보는 매시 미리 수집된 값만 사용하며, 아직 수집되지 않은 위치는 빈 결과를 반환하고 다음 수집 대상에 포함됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = HeatForecastResponse.class),
+                            examples = @ExampleObject(name = "폭염 예보 조회",
+                                    value = "{\"threshold\": 33.0, \"hoursAbove\": 2, \"firstAboveAt\": \"202507011500\", \"hours\": [{\"forecastAt\": \"202507011400\", \"temperature\": 32.1, \"humidity\": 60.0, \"above\": false}, {\"forecastAt\": \"202507011500\", \"temperature\": 33.4, \"humidity\": 55.0, \"above\": true}, {\"forecastAt\": \"202507011600\", \"temperature\": 33.0, \"humidity\": 55.0, \"above\": true}], \"baseDate\": \"20250701\", \"baseTime\": \"1330\"}")
+                    )),
+            @ApiResponse(responseCode = "400", description = "잘못된 위도/경도 값",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/forecast/hours-above")
+    public ResponseEntity<HeatForecastResponse> getHoursAbove(
+            @Parameter(description = "현재 위도", example = "37.5665", required = true)
+            @RequestParam double latitude,
+            @Parameter(description = "현재 경도", example = "126.9780", required = true)
+            @RequestParam double longitude,
+            @Parameter(description = "기준 기온(°C)", example = "33.0")
+            @RequestParam(defaultValue = "33.0") double threshold) {
+        return ResponseEntity.ok(weatherService.getHoursAbove(latitude, longitude, threshold));
+    }
+}
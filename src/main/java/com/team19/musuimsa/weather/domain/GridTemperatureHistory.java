@@ -0,0 +1,38 @@
+package com.team19.musuimsa.weather.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 격자별 최근 24시간 기온 (재시작 복구용 스냅샷). 메모리 링 버퍼(TemperatureHistory)를 주기적으로 저장한다.
+@Entity
+@Table(name = "grid_temperature_history")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GridTemperatureHistory {
+
+    @Id
+    @Column(length = 16)
+    private String grid; // "nx-ny"
+
+    @Column(nullable = false)
+    private long latestHour; // 가장 최근 관측의 epoch 시(hour)
+
+    @Column(nullable = false, length = 96)
+    private byte[] temperatures; // float 24개, 인덱스 = epoch 시 % 24, 결측은 NaN
+
+    public GridTemperatureHistory(String grid, long latestHour, byte[] temperatures) {
+        this.grid = grid;
+        this.latestHour = latestHour;
+        this.temperatures = temperatures;
+    }
+
+    public void update(long latestHour, byte[] temperatures) {
+        this.latestHour = latestHour;
+        this.temperatures = temperatures;
+    }
+}
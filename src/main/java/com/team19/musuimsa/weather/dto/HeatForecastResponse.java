@@ -0,0 +1,38 @@
+package com.team19.musuimsa.weather.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "앞으로 6시간 기온 예보 중 기준 기온 이상인 시간 수")
+public record HeatForecastResponse(
+        @Schema(description = "기준 기온(°C)", example = "33.0")
+        double threshold,
+        @Schema(description = "기준 기온 이상인 예보 시간 수", example = "3")
+        int hoursAbove,
+        @Schema(description = "처음 기준 기온 이상이 되는 예보 시각(yyyyMMddHHmm), 없으면 null", example = "202507011500")
+        String firstAboveAt,
+        @Schema(description = "시간대별 예보 (현재 시각 이후). 예보가 아직 없으면 빈 목록")
+        List<HourlyTemperature> hours,
+        @Schema(description = "예보 발표 날짜(YYYYMMDD), 예보가 없으면 null", example = "20250701")
+        String baseDate,
+        @Schema(description = "예보 발표 시간(HHMM), 예보가 없으면 null", example = "1330")
+        String baseTime
+) {
+
+    public record HourlyTemperature(
+            @Schema(description = "예보 시각(yyyyMMddHHmm)", example = "202507011500")
+            String forecastAt,
+            @Schema(description = "예보 기온(°C)", example = "33.4")
+            double temperature,
+            @Schema(description = "예보 습도(%), 없으면 null", example = "60")
+            Double humidity,
+            @Schema(description = "기준 기온 이상 여부", example = "true")
+            boolean above
+    ) {
+
+    }
+
+    public static HeatForecastResponse unavailable(double threshold) {
+        return new HeatForecastResponse(threshold, 0, null, List.of(), null, null);
+    }
+}
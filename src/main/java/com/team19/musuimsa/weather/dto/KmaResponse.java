@@ -32,9 +32,13 @@ public record KmaResponse(
 
     }
 
+    // 초단기실황은 obsrValue, 초단기예보는 fcstDate/fcstTime/fcstValue 를 채운다
     public record Item(
             String category,
-            String obsrValue
+            String obsrValue,
+            String fcstDate,
+            String fcstTime,
+            String fcstValue
     ) {
 
     }
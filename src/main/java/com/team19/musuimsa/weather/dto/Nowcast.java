@@ -0,0 +1,23 @@
+package com.team19.musuimsa.weather.dto;
+
+import com.team19.musuimsa.weather.util.ApparentTemperature;
+
+// 초단기실황 한 건(격자·기준시각)을 한 번에 파싱해 캐시하는 단위.
+// 기온(T1H)은 필수, 습도(REH, %)·풍속(WSD, m/s)·1시간 강수량(RN1, mm)은 관측이 없으면 null
+public record Nowcast(
+        double temperature,
+        Double humidity,
+        Double windSpeed,
+        Double rainfall1h,
+        String baseDate,
+        String baseTime
+) {
+
+    public double apparentTemperature() {
+        return ApparentTemperature.of(temperature, humidity, windSpeed);
+    }
+
+    public WeatherResponse toWeatherResponse() {
+        return new WeatherResponse(temperature, baseDate, baseTime);
+    }
+}
@@ -0,0 +1,28 @@
+package com.team19.musuimsa.weather.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "현재 날씨(초단기실황)와 체감온도 응답")
+public record NowcastResponse(
+        @Schema(description = "현재 기온(°C)", example = "33.5")
+        double temperature,
+        @Schema(description = "체감온도(°C), 기상청 산출식", example = "34.6")
+        double apparentTemperature,
+        @Schema(description = "상대습도(%), 관측 없으면 null", example = "65")
+        Double humidity,
+        @Schema(description = "풍속(m/s), 관측 없으면 null", example = "1.8")
+        Double windSpeed,
+        @Schema(description = "1시간 강수량(mm), 관측 없으면 null", example = "0")
+        Double rainfall1h,
+        @Schema(description = "기준 날짜(YYYYMMDD)", example = "20230605")
+        String baseDate,
+        @Schema(description = "기준 시간(HHMM)", example = "1400")
+        String baseTime
+) {
+
+    public static NowcastResponse from(Nowcast nowcast) {
+        return new NowcastResponse(nowcast.temperature(), nowcast.apparentTemperature(),
+                nowcast.humidity(), nowcast.windSpeed(), nowcast.rainfall1h(),
+                nowcast.baseDate(), nowcast.baseTime());
+    }
+}
@@ -0,0 +1,15 @@
+package com.team19.musuimsa.weather.dto;
+
+// 초단기예보(getUltraSrtFcst) 한 발표분의 격자별 시간대 값. i 번째 값은 epoch 시 firstHour + i 의 예보, 결측은 NaN
+public record UltraShortForecast(
+        String baseDate,
+        String baseTime,
+        long firstHour,
+        float[] temperatures,
+        float[] humidity
+) {
+
+    public int hours() {
+        return temperatures.length;
+    }
+}
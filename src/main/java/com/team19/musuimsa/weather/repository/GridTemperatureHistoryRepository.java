@@ -0,0 +1,20 @@
+package com.team19.musuimsa.weather.repository;
+
+import com.team19.musuimsa.weather.domain.GridTemperatureHistory;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface GridTemperatureHistoryRepository extends JpaRepository<GridTemperatureHistory, String> {
+
+    List<GridTemperatureHistory> findByLatestHourGreaterThanEqual(long hour);
+
+    // 최근 관측이 cutoff 이전인(24시간 넘게 갱신되지 않은) 격자 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GridTemperatureHistory h WHERE h.latestHour < :cutoff")
+    int deleteStaleBefore(@Param("cutoff") long cutoff);
+}
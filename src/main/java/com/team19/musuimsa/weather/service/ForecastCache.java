@@ -0,0 +1,131 @@
+package com.team19.musuimsa.weather.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team19.musuimsa.weather.dto.UltraShortForecast;
+import com.team19.musuimsa.weather.util.KmaTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 격자별 초단기예보 캐시. 매시 수집(WeatherPrefetcher)만 쓰고, 요청 경로는 읽기만 한다 (KMA 호출 없음).
+// L1(노드 Caffeine) + L2(Redis, 노드 공유). 수집은 한 노드에서만 하므로 L1 이 최신 발표분이 아니면 L2 를 다시 본다.
+@Slf4j
+@Component
+public class ForecastCache {
+
+    static final String KEY_PREFIX = "musuimsa::weather::fcst::";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // 6시간 예보라 3시간 지난 발표분은 남은 시간대가 거의 없다
+    private static final Duration TTL = Duration.ofHours(3);
+
+    private final Optional<StringRedisTemplate> redisTemplate;
+    private final Clock clock;
+    private final Cache<String, UltraShortForecast> local;
+
+    @Autowired
+    public ForecastCache(Optional<StringRedisTemplate> redisTemplate,
+            @Value("${cache.weather.maximum-size}") long maximumSize) {
+        this(redisTemplate, maximumSize, Clock.system(KST));
+    }
+
+    ForecastCache(Optional<StringRedisTemplate> redisTemplate, long maximumSize, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.local = Caffeine.newBuilder()
+                .expireAfterWrite(TTL)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public Optional<UltraShortForecast> get(String grid) {
+        UltraShortForecast entry = local.getIfPresent(grid);
+        if (entry == null || !isLatest(entry)) {
+            UltraShortForecast remote = readRemote(grid);
+            if (remote != null && (entry == null || isNewer(remote, entry))) {
+                local.put(grid, remote);
+                entry = remote;
+            }
+        }
+        return Optional.ofNullable(entry);
+    }
+
+    public void put(String grid, UltraShortForecast forecast) {
+        local.put(grid, forecast);
+        redisTemplate.ifPresent(redis -> {
+            try {
+                redis.opsForValue().set(KEY_PREFIX + grid, encode(forecast), TTL);
+            } catch (Exception e) {
+                log.warn("[Forecast Cache] redis write failed. grid={}", grid, e);
+            }
+        });
+    }
+
+    private boolean isLatest(UltraShortForecast entry) {
+        KmaTime.Base latest = KmaTime.latestForecastBase(clock);
+        return latest.date().equals(entry.baseDate()) && latest.time().equals(entry.baseTime());
+    }
+
+    private static boolean isNewer(UltraShortForecast a, UltraShortForecast b) {
+        return (a.baseDate() + a.baseTime()).compareTo(b.baseDate() + b.baseTime()) > 0;
+    }
+
+    private UltraShortForecast readRemote(String grid) {
+        if (redisTemplate.isEmpty()) {
+            return null;
+        }
+        try {
+            return decode(redisTemplate.get().opsForValue().get(KEY_PREFIX + grid));
+        } catch (Exception e) {
+            log.warn("[Forecast Cache] redis read failed. grid={}", grid, e);
+            return null;
+        }
+    }
+
+    // 발표날짜,발표시간,첫 예보 epoch 시,기온 n개,습도 n개. 결측은 빈 칸
+    static String encode(UltraShortForecast f) {
+        StringBuilder sb = new StringBuilder(64)
+                .append(f.baseDate()).append(',').append(f.baseTime()).append(',').append(f.firstHour());
+        appendAll(sb, f.temperatures());
+        appendAll(sb, f.humidity());
+        return sb.toString();
+    }
+
+    static UltraShortForecast decode(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String[] parts = raw.split(",", -1);
+        int n = (parts.length - 3) / 2;
+        if (parts.length < 3 || n <= 0 || parts.length != 3 + 2 * n) {
+            return null;
+        }
+        float[] temperatures = new float[n];
+        float[] humidity = new float[n];
+        for (int i = 0; i < n; i++) {
+            temperatures[i] = parse(parts[3 + i]);
+            humidity[i] = parse(parts[3 + n + i]);
+        }
+        return new UltraShortForecast(parts[0], parts[1], Long.parseLong(parts[2]), temperatures, humidity);
+    }
+
+    private static void appendAll(StringBuilder sb, float[] values) {
+        for (float v : values) {
+            sb.append(',');
+            if (!Float.isNaN(v)) {
+                sb.append(v);
+            }
+        }
+    }
+
+    private static float parse(String v) {
+        return v.isEmpty() ? Float.NaN : Float.parseFloat(v);
+    }
+}
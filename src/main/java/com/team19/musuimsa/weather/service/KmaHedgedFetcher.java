@@ -0,0 +1,107 @@
+package com.team19.musuimsa.weather.service;
+
+import com.team19.musuimsa.weather.dto.NxNy;
+import com.team19.musuimsa.weather.util.KmaTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+// KMA 기준시각 폴백(0h, -1h, -2h)을 순차 대신 헤지 요청으로 보낸다.
+//  - 최신 기준시각부터 요청하고, 앞 후보가 무자료/실패이거나 hedge-delay 안에 응답이 없으면 다음 후보를 띄운다
+//  - 가장 최신 기준시각의 성공 응답을 쓴다. 결과가 정해지면 아직 시작하지 않은 후보는 호출하지 않는다
+//  - 같은 (격자, 기준시각) 요청은 진행 중인 호출 하나를 공유한다
+// 최악 지연이 후보 수 × 타임아웃에서 타임아웃 한 번 수준으로 줄어든다.
+class KmaHedgedFetcher<T> {
+
+    // 무자료/실패면 null (예외를 던지지 않는다)
+    @FunctionalInterface
+    interface Fetch<T> {
+
+        T fetch(KmaTime.Base base, NxNy grid);
+    }
+
+    // value 가 null 이면 모든 후보가 무자료
+    record Result<T>(T value, KmaTime.Base usedBase, int minusHours) {
+
+    }
+
+    private final Fetch<T> fetch;
+    private final Executor executor;
+    private final long hedgeDelayMillis;
+
+    private final Map<String, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+
+    KmaHedgedFetcher(Fetch<T> fetch, Executor executor, Duration hedgeDelay) {
+        this.fetch = fetch;
+        this.executor = executor;
+        this.hedgeDelayMillis = hedgeDelay.toMillis();
+    }
+
+    Result<T> fetch(KmaTime.Base base, NxNy grid, int... minusHours) {
+        List<KmaTime.Base> bases = new ArrayList<>(minusHours.length);
+        List<CompletableFuture<T>> attempts = new ArrayList<>(minusHours.length);
+
+        CompletableFuture<Void> gate = CompletableFuture.completedFuture(null);
+        for (int h : minusHours) {
+            KmaTime.Base b = (h == 0) ? base : KmaTime.minusHours(base, h);
+            CompletableFuture<T> attempt = gate.thenCompose(ignored -> shared(b, grid));
+
+            // 다음 후보: 이 후보가 무자료로 끝나거나, 시작 후 hedge-delay 가 지나면 출발
+            CompletableFuture<Void> next = new CompletableFuture<>();
+            gate.thenRun(() -> CompletableFuture.delayedExecutor(hedgeDelayMillis, TimeUnit.MILLISECONDS)
+                    .execute(() -> next.complete(null)));
+            attempt.whenComplete((v, e) -> {
+                if (e == null && v == null) {
+                    next.complete(null);
+                }
+            });
+
+            bases.add(b);
+            attempts.add(attempt);
+            gate = next;
+        }
+
+        try {
+            for (int i = 0; i < attempts.size(); i++) {
+                T v = attempts.get(i).join();
+                if (v != null) {
+                    return new Result<>(v, bases.get(i), minusHours[i]);
+                }
+            }
+            return new Result<>(null, null, 0);
+        } finally {
+            // 취소해도 공유 중인 호출은 계속되어 다른 요청이 결과를 받는다
+            attempts.forEach(a -> a.cancel(false));
+        }
+    }
+
+    private CompletableFuture<T> shared(KmaTime.Base base, NxNy grid) {
+        String key = base.date() + base.time() + ":" + grid.nx() + "-" + grid.ny();
+        CompletableFuture<T> created = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(fetch.fetch(base, grid));
+                } catch (RuntimeException e) {
+                    created.complete(null);
+                } finally {
+                    inFlight.remove(key, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            created.complete(null);
+        }
+        return created;
+    }
+}
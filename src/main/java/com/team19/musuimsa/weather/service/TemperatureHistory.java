@@ -0,0 +1,249 @@
+package com.team19.musuimsa.weather.service;
+
+import com.team19.musuimsa.weather.domain.GridTemperatureHistory;
+import com.team19.musuimsa.weather.dto.Nowcast;
+import com.team19.musuimsa.weather.repository.GridTemperatureHistoryRepository;
+import com.team19.musuimsa.weather.util.KmaTime;
+import jakarta.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 격자별 최근 24시간 기온 링 버퍼 (float[24], 인덱스 = 기준시각의 epoch 시 % 24, 결측은 NaN).
+// 날씨 조회 경로(WeatherService)가 받은 초단기실황을 기준시각별로 기록하므로 KMA 호출이 늘지 않는다.
+// 5분마다(종료 시 포함) 바뀐 격자를 grid_temperature_history 에 저장하고, 기동 시 최근 24시간 치를 복구한다.
+// 여러 노드가 같은 격자를 저장하면 비어 있는 시각만 서로 채워 합친다.
+@Slf4j
+@Component
+public class TemperatureHistory {
+
+    static final int HOURS = 24;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    // 추세는 최근 관측이 이 시간 이내일 때만 본다 (선조회 실패 한두 번은 허용)
+    private static final int MAX_LAG_HOURS = 2;
+
+    private final GridTemperatureHistoryRepository repository;
+    private final Clock clock;
+
+    private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TemperatureHistory(GridTemperatureHistoryRepository repository) {
+        this(repository, Clock.system(KST));
+    }
+
+    TemperatureHistory(GridTemperatureHistoryRepository repository, Clock clock) {
+        this.repository = repository;
+        this.clock = clock;
+    }
+
+    public void record(String grid, Nowcast nowcast) {
+        long hour = epochHour(nowcast.baseDate(), nowcast.baseTime());
+        if (hour < 0) {
+            return;
+        }
+        rings.computeIfAbsent(grid, g -> new Ring()).put(hour, (float) nowcast.temperature());
+    }
+
+    // 최근 관측 기온 - hours 시간 전 관측 기온. 최근 관측이 오래됐거나 둘 중 하나가 없으면 empty
+    public OptionalDouble rise(String grid, int hours) {
+        Ring ring = rings.get(grid);
+        if (ring == null) {
+            return OptionalDouble.empty();
+        }
+        return ring.rise(hours, currentHour() - MAX_LAG_HOURS);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            List<GridTemperatureHistory> rows = repository.findByLatestHourGreaterThanEqual(currentHour() - HOURS);
+            for (GridTemperatureHistory row : rows) {
+                rings.computeIfAbsent(row.getGrid(), g -> new Ring())
+                        .merge(row.getLatestHour(), decode(row.getTemperatures()));
+            }
+            log.info("[Temperature History] restored grids={}", rows.size());
+        } catch (Exception e) {
+            log.warn("[Temperature History] restore failed. start empty", e);
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelay = 300_000, initialDelay = 300_000)
+    public void flush() {
+        long cutoff = currentHour() - HOURS;
+        rings.values().removeIf(ring -> ring.latestHour() < cutoff);
+
+        Map<String, Ring> dirty = new HashMap<>();
+        rings.forEach((grid, ring) -> {
+            if (ring.takeDirty()) {
+                dirty.put(grid, ring);
+            }
+        });
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, GridTemperatureHistory> existing = new HashMap<>();
+            repository.findAllById(dirty.keySet()).forEach(row -> existing.put(row.getGrid(), row));
+
+            List<GridTemperatureHistory> toSave = new ArrayList<>(dirty.size());
+            dirty.forEach((grid, ring) -> {
+                GridTemperatureHistory row = existing.get(grid);
+                if (row != null) {
+                    // 다른 노드가 저장한 시각을 먼저 합친다
+                    ring.merge(row.getLatestHour(), decode(row.getTemperatures()));
+                }
+                Ring.Snapshot snapshot = ring.snapshot();
+                if (row == null) {
+                    toSave.add(new GridTemperatureHistory(grid, snapshot.latestHour(), encode(snapshot.values())));
+                } else {
+                    row.update(snapshot.latestHour(), encode(snapshot.values()));
+                    toSave.add(row);
+                }
+            });
+            repository.saveAll(toSave);
+            repository.deleteStaleBefore(cutoff);
+        } catch (Exception e) {
+            dirty.values().forEach(Ring::markDirty);
+            log.warn("[Temperature History] flush failed. retry next round. grids={}", dirty.size(), e);
+        }
+    }
+
+    private long currentHour() {
+        return clock.millis() / 3_600_000L;
+    }
+
+    static long epochHour(String baseDate, String baseTime) {
+        return KmaTime.epochHour(baseDate, baseTime);
+    }
+
+    static byte[] encode(float[] values) {
+        ByteBuffer buf = ByteBuffer.allocate(values.length * Float.BYTES);
+        for (float v : values) {
+            buf.putFloat(v);
+        }
+        return buf.array();
+    }
+
+    static float[] decode(byte[] bytes) {
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        float[] values = new float[bytes.length / Float.BYTES];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buf.getFloat();
+        }
+        return values;
+    }
+
+    // 한 격자의 24시간 링 버퍼. 연산이 짧아 인스턴스 단위로 동기화한다
+    static final class Ring {
+
+        record Snapshot(long latestHour, float[] values) {
+
+        }
+
+        private final float[] values = new float[HOURS];
+        private long latestHour = Long.MIN_VALUE;
+        private boolean dirty;
+
+        Ring() {
+            Arrays.fill(values, Float.NaN);
+        }
+
+        synchronized void put(long hour, float value) {
+            if (latestHour != Long.MIN_VALUE && hour <= latestHour - HOURS) {
+                return;
+            }
+            if (hour > latestHour) {
+                advanceTo(hour);
+            }
+            int i = index(hour);
+            if (Float.compare(values[i], value) != 0) {
+                values[i] = value;
+                dirty = true;
+            }
+        }
+
+        // 비어 있는 시각만 채운다
+        synchronized void merge(long otherLatest, float[] other) {
+            if (other.length != HOURS) {
+                return;
+            }
+            for (int back = 0; back < HOURS; back++) {
+                long hour = otherLatest - back;
+                float v = other[index(hour)];
+                if (!Float.isNaN(v) && Float.isNaN(at(hour))) {
+                    put(hour, v);
+                }
+            }
+        }
+
+        synchronized float at(long hour) {
+            if (latestHour == Long.MIN_VALUE || hour > latestHour || hour <= latestHour - HOURS) {
+                return Float.NaN;
+            }
+            return values[index(hour)];
+        }
+
+        synchronized OptionalDouble rise(int hours, long minLatestHour) {
+            if (latestHour == Long.MIN_VALUE || latestHour < minLatestHour) {
+                return OptionalDouble.empty();
+            }
+            float now = values[index(latestHour)];
+            float past = at(latestHour - hours);
+            if (Float.isNaN(now) || Float.isNaN(past)) {
+                return OptionalDouble.empty();
+            }
+            return OptionalDouble.of(now - past);
+        }
+
+        synchronized long latestHour() {
+            return latestHour;
+        }
+
+        synchronized boolean takeDirty() {
+            boolean was = dirty;
+            dirty = false;
+            return was;
+        }
+
+        synchronized void markDirty() {
+            dirty = true;
+        }
+
+        synchronized Snapshot snapshot() {
+            return new Snapshot(latestHour, values.clone());
+        }
+
+        // 새 시각으로 넘어가면 그 사이(관측이 없던) 칸을 비운다
+        private void advanceTo(long hour) {
+            if (latestHour == Long.MIN_VALUE || hour - latestHour >= HOURS) {
+                Arrays.fill(values, Float.NaN);
+            } else {
+                for (long h = latestHour + 1; h <= hour; h++) {
+                    values[index(h)] = Float.NaN;
+                }
+            }
+            latestHour = hour;
+        }
+
+        private static int index(long hour) {
+            return (int) Math.floorMod(hour, (long) HOURS);
+        }
+    }
+}
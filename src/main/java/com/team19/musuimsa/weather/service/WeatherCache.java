@@ -0,0 +1,272 @@
+package com.team19.musuimsa.weather.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team19.musuimsa.config.DistributedSingleFlight;
+import com.team19.musuimsa.weather.dto.Nowcast;
+import com.team19.musuimsa.weather.util.KmaTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 격자별 초단기실황(Nowcast: 기온·습도·풍속·강수) 캐시. (격자, 기준시각)당 한 번 받아 한 단위로 저장한다.
+// L1(노드 Caffeine) + L2(Redis, 노드 공유), Redis 가 없으면(dev) L1 만 쓴다.
+// 값은 KMA 기준시각과 마지막 확인 시각을 함께 저장해 신선도를 판단한다.
+//  - fresh: 최신 기준시각(KmaTime.latestBase) 값이거나, 마지막 확인 후 recheck-interval 이 지나지 않음
+//  - stale: 그 외 max-stale 이내 값. 바로 반환하고 백그라운드에서 갱신한다 (stale-while-revalidate)
+//  - 값이 전혀 없을 때만 요청이 KMA 호출을 기다린다 (격자별 클러스터 single-flight)
+// 요청된 격자는 active 집합에 남겨 매시 발표 직후 선조회(WeatherPrefetcher) 대상이 된다.
+@Slf4j
+@Component
+public class WeatherCache {
+
+    static final String KEY_PREFIX = "musuimsa::weather::ncst::";
+    static final String ACTIVE_KEY = "musuimsa::weather::active";
+
+    private static final String LOCK_PREFIX = "musuimsa::weather::lock::";
+    private static final String REFRESH_SLOT_PREFIX = "musuimsa::weather::refresh::";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // 기준시각 폴백은 헤지 요청이라 승자의 KMA 호출은 타임아웃(15초) 한 번 + hedge-delay 안에 끝난다.
+    // 패자는 그동안 캐시를 폴링하고, 승자가 실패해 락을 풀면 바로 락을 잡아 다시 시도한다
+    private static final Duration LOCK_TTL = Duration.ofSeconds(20);
+    private static final Duration LOCK_WAIT = Duration.ofSeconds(17);
+    // 같은 격자의 active 표시는 노드당 1분에 한 번만 쓴다
+    private static final long MARK_INTERVAL_MILLIS = 60_000;
+    // 매시 선조회(WeatherPrefetcher)는 한 노드만 (다음 발표 전까지 점유)
+    private static final Duration REFRESH_SLOT_TTL = Duration.ofMinutes(50);
+
+    private final Optional<StringRedisTemplate> redisTemplate;
+    private final Duration maxStale;
+    private final Duration recheckInterval;
+    private final Clock clock;
+    private final Executor revalidator;
+
+    private final Cache<String, CachedWeather> local;
+    private final DistributedSingleFlight singleFlight;
+    private final Map<String, Long> markedAt = new ConcurrentHashMap<>();
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+
+    record CachedWeather(Nowcast nowcast, long checkedAt) {
+
+    }
+
+    @Autowired
+    public WeatherCache(Optional<StringRedisTemplate> redisTemplate,
+            @Value("${cache.weather.maximum-size}") long maximumSize,
+            @Value("${cache.weather.max-stale:3h}") Duration maxStale,
+            @Value("${cache.weather.recheck-interval:10m}") Duration recheckInterval) {
+        this(redisTemplate, maximumSize, maxStale, recheckInterval, Clock.system(KST),
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("weather-revalidate-", 0).factory()));
+    }
+
+    WeatherCache(Optional<StringRedisTemplate> redisTemplate, long maximumSize, Duration maxStale,
+            Duration recheckInterval, Clock clock, Executor revalidator) {
+        this.redisTemplate = redisTemplate;
+        this.maxStale = maxStale;
+        this.recheckInterval = recheckInterval;
+        this.clock = clock;
+        this.revalidator = revalidator;
+        this.local = Caffeine.newBuilder()
+                .expireAfterWrite(maxStale)
+                .maximumSize(maximumSize)
+                .build();
+        this.singleFlight = new DistributedSingleFlight(redisTemplate, LOCK_PREFIX, LOCK_TTL, LOCK_WAIT);
+    }
+
+    // loader: KMA 에서 최신 값을 받아온다 (없으면 예외)
+    public Nowcast get(String grid, Supplier<Nowcast> loader) {
+        markActive(grid);
+        long now = clock.millis();
+
+        CachedWeather entry = lookup(grid, now);
+        if (entry != null) {
+            if (!isFresh(entry, now)) {
+                revalidateAsync(grid, loader);
+            }
+            return entry.nowcast();
+        }
+        return load(grid, loader, false);
+    }
+
+    // 캐시만 읽는다 (KMA 호출·갱신 없음). max-stale 이내 값이면 오래됐어도 반환
+    public Optional<Nowcast> peek(String grid) {
+        return Optional.ofNullable(lookup(grid, clock.millis())).map(CachedWeather::nowcast);
+    }
+
+    // refresh-ahead: 최신 기준시각 값이 아니면 (recheck 기간이어도) 다시 받는다
+    public Nowcast refresh(String grid, Supplier<Nowcast> loader) {
+        return load(grid, loader, true);
+    }
+
+    // 다른 노드가 방금 갱신했으면 그 값을 쓰고, 아니면 클러스터에서 한 노드만 KMA 를 호출해 저장한다
+    private Nowcast load(String grid, Supplier<Nowcast> loader, boolean latestOnly) {
+        Nowcast cached = cachedOrNull(grid, latestOnly);
+        if (cached != null) {
+            return cached;
+        }
+        return singleFlight.load(grid, () -> cachedOrNull(grid, latestOnly), () -> store(grid, loader.get()));
+    }
+
+    // 최근 max-stale 동안 요청된 격자
+    public List<String> activeGrids() {
+        long since = clock.millis() - maxStale.toMillis();
+        markedAt.values().removeIf(at -> at < since);
+        if (redisTemplate.isEmpty()) {
+            return new ArrayList<>(markedAt.keySet());
+        }
+        StringRedisTemplate redis = redisTemplate.get();
+        redis.opsForZSet().removeRangeByScore(ACTIVE_KEY, 0, since);
+        Set<String> grids = redis.opsForZSet().range(ACTIVE_KEY, 0, -1);
+        return grids == null ? List.of() : new ArrayList<>(grids);
+    }
+
+    // 이 기준시각의 선조회를 이 노드가 맡는지 (Redis 없으면 항상)
+    public boolean tryAcquireRefreshSlot(KmaTime.Base base) {
+        if (redisTemplate.isEmpty()) {
+            return true;
+        }
+        Boolean acquired = redisTemplate.get().opsForValue()
+                .setIfAbsent(REFRESH_SLOT_PREFIX + base.date() + base.time(), "1", REFRESH_SLOT_TTL);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    // L1 이 없거나 신선하지 않으면 L2 를 본다 (다른 노드가 이미 갱신했을 수 있다)
+    private CachedWeather lookup(String grid, long now) {
+        CachedWeather entry = local.getIfPresent(grid);
+        if (entry == null || !isFresh(entry, now)) {
+            CachedWeather remote = readRemote(grid);
+            if (remote != null && (entry == null || remote.checkedAt() > entry.checkedAt())) {
+                local.put(grid, remote);
+                entry = remote;
+            }
+        }
+        return entry;
+    }
+
+    private boolean isFresh(CachedWeather entry, long now) {
+        return isLatest(entry) || now - entry.checkedAt() < recheckInterval.toMillis();
+    }
+
+    private boolean isLatest(CachedWeather entry) {
+        KmaTime.Base latest = KmaTime.latestBase(clock);
+        return latest.date().equals(entry.nowcast().baseDate())
+                && latest.time().equals(entry.nowcast().baseTime());
+    }
+
+    private void revalidateAsync(String grid, Supplier<Nowcast> loader) {
+        if (!revalidating.add(grid)) {
+            return;
+        }
+        try {
+            revalidator.execute(() -> {
+                try {
+                    load(grid, loader, false);
+                } catch (Exception e) {
+                    // 갱신에 실패해도 max-stale 까지는 기존 값을 계속 쓴다
+                    log.warn("[Weather Cache] revalidate failed. keep stale value. grid={}, msg={}",
+                            grid, e.getMessage());
+                } finally {
+                    revalidating.remove(grid);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            revalidating.remove(grid);
+        }
+    }
+
+    private Nowcast cachedOrNull(String grid, boolean latestOnly) {
+        CachedWeather entry = redisTemplate.isPresent() ? readRemote(grid) : local.getIfPresent(grid);
+        if (entry == null || !(latestOnly ? isLatest(entry) : isFresh(entry, clock.millis()))) {
+            return null;
+        }
+        local.put(grid, entry);
+        return entry.nowcast();
+    }
+
+    private Nowcast store(String grid, Nowcast nowcast) {
+        CachedWeather entry = new CachedWeather(nowcast, clock.millis());
+        local.put(grid, entry);
+        redisTemplate.ifPresent(redis -> {
+            try {
+                redis.opsForValue().set(KEY_PREFIX + grid, encode(entry), maxStale);
+            } catch (Exception e) {
+                log.warn("[Weather Cache] redis write failed. grid={}", grid, e);
+            }
+        });
+        return nowcast;
+    }
+
+    private CachedWeather readRemote(String grid) {
+        if (redisTemplate.isEmpty()) {
+            return null;
+        }
+        try {
+            return decode(redisTemplate.get().opsForValue().get(KEY_PREFIX + grid));
+        } catch (Exception e) {
+            log.warn("[Weather Cache] redis read failed. grid={}", grid, e);
+            return null;
+        }
+    }
+
+    // 선조회·예보 수집 대상에 넣는다 (노드당 격자별 1분에 한 번만 기록)
+    void markActive(String grid) {
+        long now = clock.millis();
+        Long last = markedAt.get(grid);
+        if (last != null && now - last < MARK_INTERVAL_MILLIS) {
+            return;
+        }
+        markedAt.put(grid, now);
+        redisTemplate.ifPresent(redis -> {
+            try {
+                redis.opsForZSet().add(ACTIVE_KEY, grid, now);
+            } catch (Exception e) {
+                log.warn("[Weather Cache] active mark failed. grid={}", grid, e);
+            }
+        });
+    }
+
+    // 기온,습도,풍속,강수량,기준날짜,기준시간,확인시각(ms). 관측 없는 요소는 빈 칸
+    static String encode(CachedWeather entry) {
+        Nowcast n = entry.nowcast();
+        return n.temperature() + "," + orEmpty(n.humidity()) + "," + orEmpty(n.windSpeed()) + ","
+                + orEmpty(n.rainfall1h()) + "," + n.baseDate() + "," + n.baseTime() + "," + entry.checkedAt();
+    }
+
+    static CachedWeather decode(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String[] parts = raw.split(",", -1);
+        if (parts.length != 7) {
+            return null;
+        }
+        return new CachedWeather(
+                new Nowcast(Double.parseDouble(parts[0]), orNull(parts[1]), orNull(parts[2]), orNull(parts[3]),
+                        parts[4], parts[5]),
+                Long.parseLong(parts[6]));
+    }
+
+    private static String orEmpty(Double v) {
+        return v == null ? "" : v.toString();
+    }
+
+    private static Double orNull(String v) {
+        return v.isEmpty() ? null : Double.valueOf(v);
+    }
+}
@@ -0,0 +1,143 @@
+package com.team19.musuimsa.weather.service;
+
+import com.team19.musuimsa.shelter.repository.ShelterRepository;
+import com.team19.musuimsa.user.repository.UserRepository;
+import com.team19.musuimsa.weather.dto.NxNy;
+import com.team19.musuimsa.weather.util.KmaProjection;
+import com.team19.musuimsa.weather.util.KmaTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 매시 발표 직후 쉼터·사용자 마지막 위치·최근 요청 격자를 모두 KMA 에서 미리 받아 WeatherCache 에 채운다.
+// 초단기예보는 최근 요청·사용자 격자만 받아 ForecastCache 에 채운다 (prefetchForecasts).
+// 요청 경로와 푸시 알림은 이 값을 읽기만 하고, 선조회 대상이 아닌 새 격자만 요청 시 KMA 를 호출한다.
+// KMA 호출 수를 제한하려고 동시 호출은 parallelism 개로, 전체 실행은 budget 안으로 묶는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeatherPrefetcher {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final ShelterRepository shelterRepository;
+    private final UserRepository userRepository;
+    private final WeatherService weatherService;
+    private final WeatherCache weatherCache;
+
+    @Value("${weather.prefetch.parallelism:8}")
+    private int parallelism;
+
+    @Value("${weather.prefetch.budget:40m}")
+    private Duration budget;
+
+    // 갱신에 성공한 격자 수를 반환 (다른 노드가 맡았으면 0)
+    public int prefetch() {
+        KmaTime.Base base = KmaTime.latestBase(Clock.system(KST));
+        if (!weatherCache.tryAcquireRefreshSlot(base)) {
+            log.info("[Weather Prefetch] skipped. base={} {} taken by another node", base.date(), base.time());
+            return 0;
+        }
+        return runBounded("Weather Prefetch", base, targetGrids(), weatherService::refresh);
+    }
+
+    // 초단기예보(HH30 발표, HH45 이후 제공)를 최근 요청·사용자 격자만 받아 ForecastCache 에 채운다.
+    // 쉼터 격자까지 받으면 매시 KMA 호출이 두 배가 되므로, 예보를 실제로 읽는 격자로 한정한다.
+    public int prefetchForecasts() {
+        KmaTime.Base base = KmaTime.latestForecastBase(Clock.system(KST));
+        if (!weatherCache.tryAcquireRefreshSlot(base)) {
+            log.info("[Forecast Prefetch] skipped. base={} {} taken by another node", base.date(), base.time());
+            return 0;
+        }
+        return runBounded("Forecast Prefetch", base, forecastTargetGrids(), weatherService::refreshForecast);
+    }
+
+    private int runBounded(String label, KmaTime.Base base, Set<NxNy> grids, Consumer<NxNy> task) {
+        long t0 = System.nanoTime();
+        long deadline = t0 + budget.toNanos();
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicInteger refreshed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("weather-prefetch-", 0).factory())) {
+            for (NxNy grid : grids) {
+                permits.acquireUninterruptibly();
+                if (System.nanoTime() - deadline >= 0) {
+                    permits.release();
+                    log.info("[{}] budget {} exhausted", label, budget);
+                    break;
+                }
+                executor.execute(() -> {
+                    try {
+                        task.accept(grid);
+                        refreshed.incrementAndGet();
+                    } catch (Exception e) {
+                        // 실패한 격자는 max-stale 까지 기존 값을 쓰고, 요청 시 백그라운드로 다시 갱신된다
+                        failed.incrementAndGet();
+                        log.warn("[{}] failed. nx={}, ny={}, msg={}", label, grid.nx(), grid.ny(), e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        log.info("[{}] base={} {}, grids={}, refreshed={}, failed={} ({} ms)",
+                label, base.date(), base.time(), grids.size(), refreshed.get(), failed.get(),
+                (System.nanoTime() - t0) / 1_000_000);
+        return refreshed.get();
+    }
+
+    // 최근 요청 격자를 먼저 둔다: 예산이 모자라도 실제로 쓰이는 격자부터 갱신된다
+    Set<NxNy> targetGrids() {
+        Set<NxNy> grids = forecastTargetGrids();
+        addGrids(grids, shelterRepository.findAllCoordinates());
+        return grids;
+    }
+
+    Set<NxNy> forecastTargetGrids() {
+        Set<NxNy> grids = new LinkedHashSet<>();
+        for (String key : weatherCache.activeGrids()) {
+            NxNy grid = WeatherService.parseGridKey(key);
+            if (grid != null) {
+                grids.add(grid);
+            }
+        }
+        addGrids(grids, userRepository.findAllLastLocations());
+        return grids;
+    }
+
+    // 쉼터 수만 건을 한 번에 변환한다 (KmaProjection 일괄 API)
+    private static void addGrids(Set<NxNy> grids, List<Object[]> coordinates) {
+        double[] lats = new double[coordinates.size()];
+        double[] lons = new double[coordinates.size()];
+        int n = 0;
+        for (Object[] c : coordinates) {
+            if (c[0] instanceof Number lat && c[1] instanceof Number lng) {
+                lats[n] = lat.doubleValue();
+                lons[n] = lng.doubleValue();
+                n++;
+            }
+        }
+        int[] nx = new int[n];
+        int[] ny = new int[n];
+        KmaProjection.KMA.toGrid(Arrays.copyOf(lats, n), Arrays.copyOf(lons, n), nx, ny);
+        for (int i = 0; i < n; i++) {
+            grids.add(new NxNy(nx[i], ny[i]));
+        }
+    }
+}
@@ -1,34 +1,54 @@
 package com.team19.musuimsa.weather.service;
 
+import com.team19.musuimsa.config.HotKeys;
 import com.team19.musuimsa.exception.external.ExternalApiException;
+import com.team19.musuimsa.weather.dto.HeatForecastResponse;
 import com.team19.musuimsa.weather.dto.KmaResponse;
 import com.team19.musuimsa.weather.dto.KmaResponse.Header;
 import com.team19.musuimsa.weather.dto.KmaResponse.Item;
+import com.team19.musuimsa.weather.dto.Nowcast;
 import com.team19.musuimsa.weather.dto.NxNy;
+import com.team19.musuimsa.weather.dto.UltraShortForecast;
 import com.team19.musuimsa.weather.dto.WeatherResponse;
 import com.team19.musuimsa.weather.util.KmaGrid;
 import com.team19.musuimsa.weather.util.KmaTime;
 import jakarta.annotation.PostConstruct;
 import java.net.URI;
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class WeatherService {
 
     private final RestClient restClient;
+    private final WeatherCache weatherCache;
+    private final HotKeys hotKeys;
+    private final TemperatureHistory temperatureHistory;
+    private final ForecastCache forecastCache;
+    // 기준시각 계산과 지난 예보 시각 판단에 같은 KST 시계를 쓴다
+    private final Clock clock;
 
     private static final String KMA_SUCCESS_CODE = "00";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter FORECAST_AT = DateTimeFormatter.ofPattern("yyyyMMddHHmm").withZone(KST);
 
     @Value("${weather.kma.auth-key}")
     private String authKey;
@@ -36,72 +56,260 @@ public class WeatherService {
     @Value("${weather.kma.base-url}")
     private String baseUrl;
 
+    // 기준시각 폴백 후보를 띄우는 간격 (앞 후보가 무자료면 바로 띄운다)
+    @Value("${weather.kma.hedge-delay:500ms}")
+    private Duration hedgeDelay;
+
+    private KmaHedgedFetcher<Nowcast> hedgedFetcher;
+    private KmaHedgedFetcher<UltraShortForecast> forecastFetcher;
+
+    @Autowired
+    public WeatherService(RestClient restClient, WeatherCache weatherCache, HotKeys hotKeys,
+            TemperatureHistory temperatureHistory, ForecastCache forecastCache) {
+        this(restClient, weatherCache, hotKeys, temperatureHistory, forecastCache, Clock.system(KST));
+    }
+
+    WeatherService(RestClient restClient, WeatherCache weatherCache, HotKeys hotKeys,
+            TemperatureHistory temperatureHistory, ForecastCache forecastCache, Clock clock) {
+        this.restClient = restClient;
+        this.weatherCache = weatherCache;
+        this.hotKeys = hotKeys;
+        this.temperatureHistory = temperatureHistory;
+        this.forecastCache = forecastCache;
+        this.clock = clock;
+    }
+
     @PostConstruct
-    void logConfig() {
+    void init() {
         log.info("[WeatherService] KMA baseUrl = {}", baseUrl);
+        Executor kmaExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kma-fetch-", 0).factory());
+        hedgedFetcher = new KmaHedgedFetcher<>(
+                (base, grid) -> safeFetch(() -> fetchNowcast(base.date(), base.time(), grid.nx(), grid.ny()),
+                        base, grid),
+                kmaExecutor, hedgeDelay);
+        forecastFetcher = new KmaHedgedFetcher<>(
+                (base, grid) -> safeFetch(() -> fetchForecast(base.date(), base.time(), grid.nx(), grid.ny()),
+                        base, grid),
+                kmaExecutor, hedgeDelay);
+    }
+
+    // 격자별 캐시(WeatherCache)에서 읽는다. 오래된 값은 바로 돌려주고 백그라운드에서 갱신하며,
+    // 값이 전혀 없는 격자만 KMA 응답을 기다린다.
+    public WeatherResponse getCurrentTemp(double latitude, double longitude) {
+        return getNowcast(latitude, longitude).toWeatherResponse();
     }
 
-    private record FetchResult(Double t1h, KmaTime.Base usedBase) {
+    // 기온·습도·풍속·강수와 체감온도. 기온 조회와 같은 캐시 항목을 쓰므로 KMA 호출이 늘지 않는다
+    public Nowcast getNowcast(double latitude, double longitude) {
+        NxNy grid = KmaGrid.fromLatLon(latitude, longitude);
+        String key = gridKey(grid);
+        hotKeys.record(HotKeys.WEATHER, key);
+        return recorded(key, weatherCache.get(key, () -> fetchNowcast(grid)));
+    }
 
+    // 캐시만 읽는다. 매시 선조회(WeatherPrefetcher)가 채워 둔 값을 쓰고 KMA 는 호출하지 않는다
+    public Optional<WeatherResponse> getCachedTemp(double latitude, double longitude) {
+        String key = gridKey(latitude, longitude);
+        return weatherCache.peek(key).map(n -> recorded(key, n).toWeatherResponse());
     }
 
-    private FetchResult tryFetchWithFallbacks(KmaTime.Base base, NxNy grid, int... minusHours) {
-        for (int h : minusHours) {
-            KmaTime.Base b = (h == 0) ? base : KmaTime.minusHours(base, h);
-            Double v = safeFetchT1H(b.date(), b.time(), grid.nx(), grid.ny());
-            if (v != null) {
-                log.info("KMA T1H 수신 성공: {}°C (base={} {}, nx={}, ny={}, fallback={})",
-                        v, b.date(), b.time(), grid.nx(), grid.ny(),
-                        (h == 0 ? "none" : "-" + h + "h"));
-                return new FetchResult(v, b);
-            }
+    // 최근 관측 기온 - hours 시간 전 관측 기온 (격자별 기온 이력, KMA 호출 없음)
+    public OptionalDouble getTemperatureRise(double latitude, double longitude, int hours) {
+        return temperatureHistory.rise(gridKey(latitude, longitude), hours);
+    }
+
+    // 앞으로 6시간 예보 중 threshold 이상인 시간. 매시 수집된 캐시만 읽고 KMA 는 호출하지 않는다.
+    // 아직 수집되지 않은 격자는 빈 응답을 주고, 다음 수집 대상에 넣는다.
+    public HeatForecastResponse getHoursAbove(double latitude, double longitude, double threshold) {
+        String key = gridKey(latitude, longitude);
+        weatherCache.markActive(key);
+        return forecastCache.get(key)
+                .map(forecast -> toHeatForecast(forecast, threshold))
+                .orElseGet(() -> HeatForecastResponse.unavailable(threshold));
+    }
+
+    // 초단기예보를 받아 격자 예보 캐시에 넣는다. 최신 발표(HH30)가 아직 없으면 -1h 발표로 폴백
+    public UltraShortForecast refreshForecast(NxNy grid) {
+        KmaTime.Base base = KmaTime.latestForecastBase(clock);
+        KmaHedgedFetcher.Result<UltraShortForecast> res = forecastFetcher.fetch(base, grid, 0, 1);
+        if (res.value() == null) {
+            String requestInfo = "fcst base=" + base.date() + " " + base.time()
+                    + ", nx=" + grid.nx() + ", ny=" + grid.ny();
+            log.warn("기상청 초단기예보 응답에 기온 예보가 없음. {}", requestInfo);
+            throw new ExternalApiException(requestInfo);
         }
-        return new FetchResult(null, null);
+        forecastCache.put(gridKey(grid), res.value());
+        return res.value();
     }
 
-    // 최신 기준시각에서 조회 실패/무자료면 -1h, -2h 순으로 폴백. KMA가 갓 갱신된 시각에 데이터를 늦게 올리는 경우를 흡수한다.
-    @Cacheable(cacheManager = "caffeineCacheManager", cacheNames = "weather",
-            key = "#root.target.gridKey(#latitude, #longitude) + ':t1h'")
-    public WeatherResponse getCurrentTemp(double latitude, double longitude) {
-        NxNy grid = KmaGrid.fromLatLon(latitude, longitude);
-        Clock kstClock = Clock.system(ZoneId.of("Asia/Seoul"));
+    // 격자 캐시를 최신 기준시각 값으로 갱신한다 (클러스터 single-flight)
+    public Nowcast refresh(NxNy grid) {
+        String key = gridKey(grid);
+        return recorded(key, weatherCache.refresh(key, () -> fetchNowcast(grid)));
+    }
+
+    // 조회 경로에서 본 실황을 기준시각별 기온 이력에 남긴다 (같은 시각은 덮어쓰기)
+    private Nowcast recorded(String key, Nowcast nowcast) {
+        temperatureHistory.record(key, nowcast);
+        return nowcast;
+    }
 
-        KmaTime.Base baseTime = KmaTime.latestBase(kstClock);
+    // 최신 기준시각에서 조회 실패/무자료면 -1h, -2h 로 폴백. KMA가 갓 갱신된 시각에 데이터를 늦게 올리는 경우를 흡수한다.
+    // 후보들은 헤지 요청으로 겹쳐 보내고 가장 최신 기준시각의 성공 응답을 쓴다 (KmaHedgedFetcher).
+    private Nowcast fetchNowcast(NxNy grid) {
+        KmaTime.Base baseTime = KmaTime.latestBase(clock);
 
-        FetchResult res = tryFetchWithFallbacks(baseTime, grid, 0, 1, 2);
+        KmaHedgedFetcher.Result<Nowcast> res = hedgedFetcher.fetch(baseTime, grid, 0, 1, 2);
 
-        if (res.t1h() == null) {
+        if (res.value() == null) {
             String requestInfo = "base=" + baseTime.date() + " " + baseTime.time()
                     + ", nx=" + grid.nx() + ", ny=" + grid.ny();
             log.warn("기상청 응답에 현재기온이 없음. {}", requestInfo);
             throw new ExternalApiException(requestInfo);
         }
-        return new WeatherResponse(res.t1h(), res.usedBase().date(), res.usedBase().time());
+        log.info("KMA 초단기실황 수신 성공: {}°C (base={} {}, nx={}, ny={}, fallback={})",
+                res.value().temperature(), res.usedBase().date(), res.usedBase().time(), grid.nx(), grid.ny(),
+                (res.minusHours() == 0 ? "none" : "-" + res.minusHours() + "h"));
+        return res.value();
     }
 
     public String gridKey(double latitude, double longitude) {
-        NxNy grid = KmaGrid.fromLatLon(latitude, longitude);
+        return gridKey(KmaGrid.fromLatLon(latitude, longitude));
+    }
+
+    private static String gridKey(NxNy grid) {
         return grid.nx() + "-" + grid.ny();
     }
 
+    static NxNy parseGridKey(String key) {
+        int dash = key.indexOf('-');
+        try {
+            return new NxNy(Integer.parseInt(key.substring(0, dash)), Integer.parseInt(key.substring(dash + 1)));
+        } catch (RuntimeException e) {
+            log.warn("[Weather] skip malformed grid key={}", key);
+            return null;
+        }
+    }
+
+    private HeatForecastResponse toHeatForecast(UltraShortForecast forecast, double threshold) {
+        long currentHour = clock.millis() / 3_600_000L;
+        List<HeatForecastResponse.HourlyTemperature> hours = new ArrayList<>(forecast.hours());
+        int above = 0;
+        String firstAboveAt = null;
+        for (int i = 0; i < forecast.hours(); i++) {
+            long hour = forecast.firstHour() + i;
+            float t = forecast.temperatures()[i];
+            if (hour < currentHour || Float.isNaN(t)) {
+                continue;
+            }
+            String at = FORECAST_AT.format(Instant.ofEpochSecond(hour * 3600L));
+            float h = forecast.humidity()[i];
+            // float 로 보관한 값을 KMA 원래 자릿수(0.1)로 되돌려 비교한다 (33.1f ≠ 33.1)
+            double temperature = Math.round(t * 10.0) / 10.0;
+            boolean isAbove = temperature >= threshold;
+            if (isAbove) {
+                above++;
+                if (firstAboveAt == null) {
+                    firstAboveAt = at;
+                }
+            }
+            hours.add(new HeatForecastResponse.HourlyTemperature(at, temperature,
+                    Float.isNaN(h) ? null : (double) h, isAbove));
+        }
+        return new HeatForecastResponse(threshold, above, firstAboveAt, hours,
+                forecast.baseDate(), forecast.baseTime());
+    }
+
     // 외부 예외를 던지지 않고 null로 흘려보내 폴백을 유도
-    private Double safeFetchT1H(String baseDate, String baseTime, int nx, int ny) {
+    private <T> T safeFetch(Supplier<T> call, KmaTime.Base base, NxNy grid) {
         try {
-            return fetchT1H(baseDate, baseTime, nx, ny);
+            return call.get();
         } catch (ExternalApiException e) {
             log.warn("KMA 호출 실패(폴백 예정). baseDate={}, baseTime={}, nx={}, ny={}, msg={}",
-                    baseDate, baseTime, nx, ny, e.getMessage());
+                    base.date(), base.time(), grid.nx(), grid.ny(), e.getMessage());
             return null;
         } catch (Exception e) {
             log.warn("KMA 호출 예외(폴백 예정). {} - {} / baseDate={}, baseTime={}, nx={}, ny={}",
-                    e.getClass().getSimpleName(), e.getMessage(), baseDate, baseTime, nx, ny);
+                    e.getClass().getSimpleName(), e.getMessage(), base.date(), base.time(), grid.nx(), grid.ny());
             return null;
         }
     }
 
+    private Nowcast fetchNowcast(String baseDate, String baseTime, int nx, int ny) {
+        // 초단기실황은 요소 8개
+        List<Item> list = fetchItems("getUltraSrtNcst", 10, baseDate, baseTime, nx, ny);
+        if (list == null) {
+            return null;
+        }
+
+        // 응답 한 번으로 모든 요소를 파싱해 캐시 단위(Nowcast)로 묶는다. 기온(T1H)이 없으면 무자료로 본다
+        Double t1h = null;
+        Double reh = null;
+        Double wsd = null;
+        Double rn1 = null;
+        for (Item item : list) {
+            if (item.category() == null) {
+                continue;
+            }
+            switch (item.category()) {
+                case "T1H" -> t1h = parseValue(item.obsrValue());
+                case "REH" -> reh = parseValue(item.obsrValue());
+                case "WSD" -> wsd = parseValue(item.obsrValue());
+                case "RN1" -> rn1 = parseValue(item.obsrValue());
+                default -> {
+                }
+            }
+        }
+        return t1h == null ? null : new Nowcast(t1h, reh, wsd, rn1, baseDate, baseTime);
+    }
+
+    // 초단기예보에서 시간대별 기온(T1H)·습도(REH)만 뽑아 배열로 묶는다. 기온 예보가 없으면 무자료로 본다
+    private UltraShortForecast fetchForecast(String baseDate, String baseTime, int nx, int ny) {
+        // 초단기예보는 10개 요소 × 6시간
+        List<Item> list = fetchItems("getUltraSrtFcst", 60, baseDate, baseTime, nx, ny);
+        if (list == null) {
+            return null;
+        }
+
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (Item item : list) {
+            if ("T1H".equals(item.category())) {
+                long hour = KmaTime.epochHour(item.fcstDate(), item.fcstTime());
+                if (hour >= 0) {
+                    first = Math.min(first, hour);
+                    last = Math.max(last, hour);
+                }
+            }
+        }
+        if (first == Long.MAX_VALUE) {
+            return null;
+        }
+
+        int n = (int) (last - first + 1);
+        float[] temperatures = new float[n];
+        float[] humidity = new float[n];
+        Arrays.fill(temperatures, Float.NaN);
+        Arrays.fill(humidity, Float.NaN);
+        for (Item item : list) {
+            boolean t1h = "T1H".equals(item.category());
+            if (!t1h && !"REH".equals(item.category())) {
+                continue;
+            }
+            long hour = KmaTime.epochHour(item.fcstDate(), item.fcstTime());
+            Double value = parseValue(item.fcstValue());
+            if (hour < first || hour > last || value == null) {
+                continue;
+            }
+            (t1h ? temperatures : humidity)[(int) (hour - first)] = value.floatValue();
+        }
+        return new UltraShortForecast(baseDate, baseTime, first, temperatures, humidity);
+    }
+
     // KMA resultCode != "00" 이면 예외를 던지지 않고 null 반환 → 상위 폴백 유도
-    private Double fetchT1H(String baseDate, String baseTime, int nx, int ny) {
-        URI uri = buildUri(baseDate, baseTime, nx, ny);
+    private List<Item> fetchItems(String operation, int numOfRows, String baseDate, String baseTime,
+            int nx, int ny) {
+        URI uri = buildUri(operation, numOfRows, baseDate, baseTime, nx, ny);
         String requestInfo = "base=" + baseDate + " " + baseTime + ", nx=" + nx + ", ny=" + ny;
 
         log.debug("KMA request uri={}", uri);
@@ -129,26 +337,26 @@ public class WeatherService {
                 || kmaResponse.response().body().items() == null) {
             return null;
         }
-        List<Item> list = kmaResponse.response().body().items().item();
-        if (list == null) {
+        return kmaResponse.response().body().items().item();
+    }
+
+    // 결측/비정상 값은 null
+    private static Double parseValue(String value) {
+        if (value == null || value.isBlank()) {
             return null;
         }
-
-        // T1H 값 추출
-        for (Item item : list) {
-            if ("T1H".equals(item.category())) {
-                String value = item.obsrValue();
-                return value == null ? null : Double.valueOf(value);
-            }
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
         }
-        return null;
     }
 
-    private URI buildUri(String baseDate, String baseTime, int nx, int ny) {
+    private URI buildUri(String operation, int numOfRows, String baseDate, String baseTime, int nx, int ny) {
         return UriComponentsBuilder
-                .fromHttpUrl(baseUrl + "/getUltraSrtNcst")
+                .fromHttpUrl(baseUrl + "/" + operation)
                 .queryParam("pageNo", 1)
-                .queryParam("numOfRows", 1000)
+                .queryParam("numOfRows", numOfRows)
                 .queryParam("dataType", "JSON")
                 .queryParam("base_date", baseDate)
                 .queryParam("base_time", baseTime)
@@ -0,0 +1,42 @@
+package com.team19.musuimsa.weather.util;
+
+// 기상청 체감온도 산출식
+//  - 기온 10°C 초과: 기온·습도로 습구온도(Stull)를 구해 여름철 체감온도를 계산한다 (습도가 없으면 기온)
+//  - 기온 10°C 이하: 풍속 4.8km/h 이상이면 풍속냉각 체감온도 (그 외 기온)
+public final class ApparentTemperature {
+
+    private ApparentTemperature() {
+    }
+
+    public static double of(double ta, Double humidity, Double windSpeed) {
+        if (ta <= 10.0) {
+            if (windSpeed == null) {
+                return ta;
+            }
+            double v = windSpeed * 3.6; // m/s → km/h
+            if (v < 4.8) {
+                return ta;
+            }
+            double p = Math.pow(v, 0.16);
+            return round1(13.12 + 0.6215 * ta - 11.37 * p + 0.3965 * p * ta);
+        }
+        if (humidity == null) {
+            return ta;
+        }
+        double tw = wetBulb(ta, humidity);
+        return round1(-0.2442 + 0.55399 * tw + 0.45535 * ta - 0.0022 * tw * tw + 0.00278 * tw * ta + 3.0);
+    }
+
+    // Stull(2011) 습구온도 근사식
+    static double wetBulb(double ta, double rh) {
+        return ta * Math.atan(0.151977 * Math.sqrt(rh + 8.313659))
+                + Math.atan(ta + rh)
+                - Math.atan(rh - 1.67633)
+                + 0.00391838 * Math.pow(rh, 1.5) * Math.atan(0.023101 * rh)
+                - 4.686035;
+    }
+
+    private static double round1(double v) {
+        return Math.round(v * 10.0) / 10.0;
+    }
+}
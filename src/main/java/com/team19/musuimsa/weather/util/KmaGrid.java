@@ -2,37 +2,13 @@ package com.team19.musuimsa.weather.util;
 
 import com.team19.musuimsa.weather.dto.NxNy;
 
+// 투영 상수는 KmaProjection 에서 한 번만 계산한다
 public final class KmaGrid {
 
     private KmaGrid() {
     }
 
     public static NxNy fromLatLon(double lat, double lon) {
-        final double RE = 6371.00877, GRID = 5.0, SLAT1 = 30.0, SLAT2 = 60.0, OLON = 126.0, OLAT = 38.0;
-        final double XO = 43.0, YO = 136.0, DEGRAD = Math.PI / 180.0;
-
-        double re = RE / GRID;
-        double slat1 = SLAT1 * DEGRAD, slat2 = SLAT2 * DEGRAD;
-        double olon = OLON * DEGRAD, olat = OLAT * DEGRAD;
-
-        double sn = Math.log(Math.cos(slat1) / Math.cos(slat2)) /
-                Math.log(Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(
-                        Math.PI * 0.25 + slat1 * 0.5));
-        double sf = Math.pow(Math.tan(Math.PI * 0.25 + slat1 * 0.5), sn) * Math.cos(slat1) / sn;
-        double ro = re * sf / Math.pow(Math.tan(Math.PI * 0.25 + olat * 0.5), sn);
-
-        double ra = re * sf / Math.pow(Math.tan(Math.PI * 0.25 + lat * DEGRAD * 0.5), sn);
-        double theta = lon * DEGRAD - olon;
-        if (theta > Math.PI) {
-            theta -= 2.0 * Math.PI;
-        }
-        if (theta < -Math.PI) {
-            theta += 2.0 * Math.PI;
-        }
-        theta *= sn;
-
-        int nx = (int) Math.floor(ra * Math.sin(theta) + XO + 0.5);
-        int ny = (int) Math.floor(ro - ra * Math.cos(theta) + YO + 0.5);
-        return new NxNy(nx, ny);
+        return KmaProjection.KMA.toGrid(lat, lon);
     }
-}
\ No newline at end of file
+}
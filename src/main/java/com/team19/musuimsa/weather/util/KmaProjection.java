@@ -0,0 +1,109 @@
+package com.team19.musuimsa.weather.util;
+
+import com.team19.musuimsa.weather.dto.NxNy;
+
+// 기상청 동네예보 격자(Lambert Conformal Conic, 5km) 변환.
+// 투영 상수(sn, sf, ro)는 생성 시 한 번만 계산하고, 좌표 변환은 점마다 pow/tan/sin/cos 한 번씩만 쓴다.
+//  - toGrid: 위경도 → 격자 (단건 / 기본형 배열 일괄)
+//  - toLatLon: 격자 → 격자 중심 위경도 (선조회 계획, 격자 경계 확인용)
+public final class KmaProjection {
+
+    // 기상청 동네예보 격자 기준 (지구 반경 km, 격자 간격 km, 표준위도 1/2, 기준점 경도/위도, 기준점 격자)
+    public static final KmaProjection KMA = new KmaProjection(6371.00877, 5.0, 30.0, 60.0, 126.0, 38.0, 43.0, 136.0);
+
+    private static final double DEGRAD = Math.PI / 180.0;
+    private static final double RADDEG = 180.0 / Math.PI;
+
+    private final double sn;
+    private final double resf; // re * sf
+    private final double ro;
+    private final double olon;
+    private final double xo;
+    private final double yo;
+
+    public record LatLon(double lat, double lon) {
+
+    }
+
+    KmaProjection(double earthRadius, double grid, double slat1Deg, double slat2Deg, double olonDeg, double olatDeg,
+            double xo, double yo) {
+        double re = earthRadius / grid;
+        double slat1 = slat1Deg * DEGRAD;
+        double slat2 = slat2Deg * DEGRAD;
+        double olat = olatDeg * DEGRAD;
+
+        this.sn = Math.log(Math.cos(slat1) / Math.cos(slat2))
+                / Math.log(Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5));
+        double sf = Math.pow(Math.tan(Math.PI * 0.25 + slat1 * 0.5), sn) * Math.cos(slat1) / sn;
+        this.resf = re * sf;
+        this.ro = resf / Math.pow(Math.tan(Math.PI * 0.25 + olat * 0.5), sn);
+        this.olon = olonDeg * DEGRAD;
+        this.xo = xo;
+        this.yo = yo;
+    }
+
+    public NxNy toGrid(double lat, double lon) {
+        double ra = ra(lat);
+        double theta = theta(lon);
+        return new NxNy(nx(ra, theta), ny(ra, theta));
+    }
+
+    // 좌표 배열을 한 번에 변환한다. 결과는 nxOut/nyOut 의 같은 위치에 쓴다 (객체 생성 없음)
+    public void toGrid(double[] lats, double[] lons, int[] nxOut, int[] nyOut) {
+        int n = lats.length;
+        if (lons.length != n || nxOut.length < n || nyOut.length < n) {
+            throw new IllegalArgumentException("coordinate arrays length mismatch");
+        }
+        for (int i = 0; i < n; i++) {
+            double ra = ra(lats[i]);
+            double theta = theta(lons[i]);
+            nxOut[i] = nx(ra, theta);
+            nyOut[i] = ny(ra, theta);
+        }
+    }
+
+    // 격자 중심의 위경도 (toGrid 의 역변환)
+    public LatLon toLatLon(int nx, int ny) {
+        double xn = nx - xo;
+        double yn = ro - ny + yo;
+        double ra = Math.sqrt(xn * xn + yn * yn);
+        if (sn < 0.0) {
+            ra = -ra;
+        }
+        double alat = 2.0 * Math.atan(Math.pow(resf / ra, 1.0 / sn)) - Math.PI * 0.5;
+
+        double theta;
+        if (Math.abs(xn) <= 0.0) {
+            theta = 0.0;
+        } else if (Math.abs(yn) <= 0.0) {
+            theta = xn < 0.0 ? -Math.PI * 0.5 : Math.PI * 0.5;
+        } else {
+            theta = Math.atan2(xn, yn);
+        }
+        double alon = theta / sn + olon;
+        return new LatLon(alat * RADDEG, alon * RADDEG);
+    }
+
+    private double ra(double lat) {
+        return resf / Math.pow(Math.tan(Math.PI * 0.25 + lat * DEGRAD * 0.5), sn);
+    }
+
+    private double theta(double lon) {
+        double theta = lon * DEGRAD - olon;
+        if (theta > Math.PI) {
+            theta -= 2.0 * Math.PI;
+        }
+        if (theta < -Math.PI) {
+            theta += 2.0 * Math.PI;
+        }
+        return theta * sn;
+    }
+
+    private int nx(double ra, double theta) {
+        return (int) Math.floor(ra * Math.sin(theta) + xo + 0.5);
+    }
+
+    private int ny(double ra, double theta) {
+        return (int) Math.floor(ro - ra * Math.cos(theta) + yo + 0.5);
+    }
+}
@@ -2,9 +2,11 @@ package com.team19.musuimsa.weather.util;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 public final class KmaTime {
 
@@ -23,15 +25,36 @@ public final class KmaTime {
         }
         return new Base(D8.format(hour), H4.format(hour));
     }
-    
+
+    // 초단기예보(getUltraSrtFcst) 기준시각: 매시 HH30 발표, HH45 이후 조회 가능
+    public static Base latestForecastBase(Clock clock) {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime base = now.withMinute(30).withSecond(0).withNano(0);
+        if (now.getMinute() < 45) {
+            base = base.minusHours(1);
+        }
+        return new Base(D8.format(base), H4.format(base));
+    }
+
     public static Base minusHours(Base b, int h) {
         ZonedDateTime z = ZonedDateTime.of(
-                LocalDate.parse(b.date(), D8).atTime(Integer.parseInt(b.time().substring(0, 2)), 0),
+                LocalDate.parse(b.date(), D8).atTime(Integer.parseInt(b.time().substring(0, 2)),
+                        Integer.parseInt(b.time().substring(2, 4))),
                 KST
         ).minusHours(h);
         return new Base(D8.format(z), H4.format(z));
     }
 
+    // yyyyMMdd + HHmm (KST) → epoch 시(hour). 형식이 잘못되면 -1
+    public static long epochHour(String date, String time) {
+        try {
+            return ZonedDateTime.of(LocalDate.parse(date, D8).atTime(LocalTime.parse(time, H4)), KST)
+                    .toEpochSecond() / 3600L;
+        } catch (DateTimeParseException | NullPointerException e) {
+            return -1;
+        }
+    }
+
     public record Base(String date, String time) {
 
     }
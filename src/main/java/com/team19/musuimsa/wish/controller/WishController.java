@@ -87,9 +87,11 @@ public class WishController {
             @RequestParam(required = false) Double latitude,
             @Parameter(description = "현재 경도 (거리 계산용, 선택)", example = "126.9780")
             @RequestParam(required = false) Double longitude,
+            @Parameter(description = "true 면 현재(KST) 운영 중인 쉼터만", example = "false")
+            @RequestParam(defaultValue = "false") boolean openNow,
             @Parameter(hidden = true) @AuthenticationPrincipal User user
     ) {
-        WishListResponse response = wishService.getWishes(user, latitude, longitude);
+        WishListResponse response = wishService.getWishes(user, latitude, longitude, openNow);
         return ResponseEntity.ok(response);
     }
 
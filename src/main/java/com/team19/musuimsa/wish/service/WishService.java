@@ -3,6 +3,7 @@ package com.team19.musuimsa.wish.service;
 import com.team19.musuimsa.exception.notfound.ShelterNotFoundException;
 import com.team19.musuimsa.shelter.domain.Shelter;
 import com.team19.musuimsa.shelter.repository.ShelterRepository;
+import com.team19.musuimsa.shelter.util.OperatingHours;
 import com.team19.musuimsa.user.domain.User;
 import com.team19.musuimsa.user.repository.UserRepository;
 import com.team19.musuimsa.wish.domain.Wish;
@@ -21,7 +22,7 @@ import java.util.Optional;
 
 import static com.team19.musuimsa.shelter.util.ShelterDtoUtils.average;
 import static com.team19.musuimsa.shelter.util.ShelterDtoUtils.distanceFrom;
-import static com.team19.musuimsa.shelter.util.ShelterDtoUtils.formatHours;
+import static com.team19.musuimsa.shelter.util.ShelterDtoUtils.weekdayHours;
 
 @Service
 @RequiredArgsConstructor
@@ -57,26 +58,28 @@ public class WishService {
         }
     }
 
-    // 위시 조회
+    // 위시 조회. openNow 면 KST 현재 시각 기준 운영 중인 쉼터만 (미리 계산된 운영시간 분 비교)
     @Transactional(readOnly = true)
-    public WishListResponse getWishes(User user, Double latitude, Double longitude) {
+    public WishListResponse getWishes(User user, Double latitude, Double longitude,
+            boolean openNow) {
         Long authUserId = user.getUserId();
+        OperatingHours.Now now = openNow ? OperatingHours.now() : null;
 
         List<Wish> wishes = wishRepository.findAllWithShelterByUserIdOrderByCreatedAtDesc(authUserId);
         List<WishListItemResponse> items = new ArrayList<>();
 
         for (Wish wish : wishes) {
             Shelter shelter = wish.getShelter();
+            if (now != null && !shelter.isOpenAt(now)) {
+                continue;
+            }
 
             String distance = null;
             if (shelter.getLatitude() != null && shelter.getLongitude() != null) {
                 distance = distanceFrom(latitude, longitude, shelter);
             }
 
-            String operatingHours = formatHours(
-                    shelter.getWeekdayOpenTime(),
-                    shelter.getWeekdayCloseTime()
-            );
+            String operatingHours = weekdayHours(shelter);
 
             Double averageRating = average(
                     shelter.getTotalRating(),
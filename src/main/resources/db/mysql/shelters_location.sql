@@ -0,0 +1,24 @@
+-- prod(MySQL) 배포 단계에서 앱 기동 전에 한 번 실행한다 (여러 번 실행해도 된다).
+-- shelters.location: latitude/longitude 로부터 계산되는 POINT SRID 4326 STORED 생성 컬럼 + SPATIAL INDEX.
+-- 앱(MySqlSpatialShelterGeoQuery)은 기동 시 이 인덱스가 있는지만 확인하고, 없으면 geocell 구간 쿼리로 폴백한다.
+-- 실행 예: mysql -h <host> -u <user> -p <database> < shelters_location.sql
+
+SET @has_location := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'shelters'
+      AND COLUMN_NAME = 'location'
+);
+
+-- POINT(x=경도, y=위도) 를 SRID 4326 으로 지정 (MySQL 내부 저장 순서)
+SET @ddl := IF(@has_location = 0,
+    'ALTER TABLE shelters
+       ADD COLUMN location POINT SRID 4326
+         GENERATED ALWAYS AS (ST_SRID(POINT(longitude, latitude), 4326)) STORED NOT NULL,
+       ADD SPATIAL INDEX idx_shelters_location (location)',
+    'SELECT 1');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
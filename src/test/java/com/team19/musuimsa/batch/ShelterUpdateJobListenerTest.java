@@ -1,34 +1,37 @@
 package com.team19.musuimsa.batch;
 
 import com.team19.musuimsa.shelter.domain.Shelter;
+import com.team19.musuimsa.shelter.index.ShelterSpatialIndex;
 import com.team19.musuimsa.shelter.repository.ShelterRepository;
+import com.team19.musuimsa.shelter.service.ShelterCacheWarmer;
 import com.team19.musuimsa.shelter.service.ShelterOpenApiClient;
 import com.team19.musuimsa.shelter.service.ShelterPhotoService;
+import com.team19.musuimsa.shelter.service.ShelterTileCache;
+import com.team19.musuimsa.shelter.util.MapTiles;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.data.redis.connection.RedisConnection;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.RedisKeyCommands;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.dao.DataAccessResourceFailureException;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.atLeastOnce;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,74 +45,99 @@ class ShelterUpdateJobListenerTest {
     ShelterRepository repo;
     @Mock
     CacheManager cacheManager;
+    @Mock
+    ShelterTileCache shelterTileCache;
+    @Mock
+    ShelterSpatialIndex shelterSpatialIndex;
+    @Mock
+    ShelterCacheWarmer warmer;
 
     @Test
-    @DisplayName("afterJob: Redis가 있을 때 변경된 셸터의 지오해시 패턴을 SCAN/DEL 한다. ")
-    void afterJob_selectiveInvalidation_scansAndDeletesOnRedis() {
-        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
-        RedisConnectionFactory redisConnectionFactory = mock(RedisConnectionFactory.class);
-        RedisConnection redisConnection = mock(RedisConnection.class);
-        RedisKeyCommands redisKeyCommands = mock(RedisKeyCommands.class);
-
-        when(stringRedisTemplate.getConnectionFactory()).thenReturn(redisConnectionFactory);
-        when(redisConnectionFactory.getConnection()).thenReturn(redisConnection);
-        when(redisConnection.keyCommands()).thenReturn(redisKeyCommands);
-
-        // 1) 커서 mock: 키 하나 반환 후 종료
-        @SuppressWarnings("unchecked")
-        Cursor<byte[]> cursor = mock(Cursor.class);
-        when(cursor.hasNext()).thenReturn(true, false);
-        when(cursor.next()).thenReturn("musuimsa::k1".getBytes());
-
-        doNothing().when(cursor).close();
-
-        // 2) scan() 이 커서를 돌려주도록 스텁
-        when(redisKeyCommands.scan(any(ScanOptions.class))).thenReturn(cursor);
-
-        // SUT
+    @DisplayName("afterJob: 변경된 셸터 좌표가 속한 모든 줌의 타일을 선택 무효화한다. ")
+    void afterJob_selectiveInvalidation_byAffectedTiles() {
         ShelterUpdateJobListener listener =
-                new ShelterUpdateJobListener(api, photo, repo, cacheManager, Optional.of(stringRedisTemplate));
+                new ShelterUpdateJobListener(api, photo, repo, cacheManager, shelterTileCache, shelterSpatialIndex,
+                        warmer);
 
         JobExecution jobExecution = new JobExecution(1L);
         jobExecution.getExecutionContext().put(ShelterImportBatchConfig.LOCATION_UPDATED_IDS_KEY, Set.of(1L));
 
-        when(repo.findAllById(Set.of(1L))).thenReturn(List.of(
-                Shelter.builder()
-                        .shelterId(1L)
-                        .latitude(new BigDecimal("37.1"))
-                        .longitude(new BigDecimal("127.2"))
-                        .build()
-        ));
+        when(repo.findAllById(Set.of(1L))).thenReturn(List.of(shelterAt("37.1", "127.2")));
 
         // when
         listener.afterJob(jobExecution);
 
         // then
-        verify(redisKeyCommands, atLeastOnce()).del(any(byte[][].class));
+        ArgumentCaptor<Collection<MapTiles.Tile>> tiles = ArgumentCaptor.forClass(Collection.class);
+        verify(shelterTileCache).invalidate(tiles.capture());
+        assertThat(tiles.getValue()).containsExactlyInAnyOrderElementsOf(MapTiles.affectedBy(37.1, 127.2));
+        verifyNoInteractions(cacheManager);
     }
 
     @Test
-    @DisplayName("afterJob: Dev(Caffeine) 환경에서는 redis가 없으므로 sheltersMap 전체를 clear 한다. ")
-    void afterJob_devFallback_clearsCaffeine() {
+    @DisplayName("afterJob: 선택 무효화와 세대 증가가 모두 실패하면 sheltersMap 전체를 clear 한다. ")
+    void afterJob_fallback_clearsWhenSelectiveFails() {
         Cache cache = mock(Cache.class);
         when(cacheManager.getCache("sheltersMap")).thenReturn(cache);
+        when(shelterTileCache.invalidate(any())).thenThrow(new DataAccessResourceFailureException("down"));
+        when(shelterTileCache.invalidateAll()).thenThrow(new IllegalStateException("down"));
 
         ShelterUpdateJobListener listener =
-                new ShelterUpdateJobListener(api, photo, repo, cacheManager, Optional.empty());
+                new ShelterUpdateJobListener(api, photo, repo, cacheManager, shelterTileCache, shelterSpatialIndex,
+                        warmer);
 
         JobExecution jobExecution = new JobExecution(2L);
         jobExecution.getExecutionContext().put(ShelterImportBatchConfig.LOCATION_UPDATED_IDS_KEY, Set.of(1L));
 
-        when(repo.findAllById(Set.of(1L))).thenReturn(List.of(
-                Shelter.builder()
-                        .shelterId(1L)
-                        .latitude(new BigDecimal("37.1"))
-                        .longitude(new BigDecimal("127.2"))
-                        .build()
-        ));
+        when(repo.findAllById(Set.of(1L))).thenReturn(List.of(shelterAt("37.1", "127.2")));
 
         listener.afterJob(jobExecution);
 
         verify(cache).clear();
     }
+
+    @Test
+    @DisplayName("afterJob: 잡이 완료되면 변경이 없어도 캐시 예열을 수행한다. ")
+    void afterJob_completed_warmsUpCache() {
+        ShelterUpdateJobListener listener =
+                new ShelterUpdateJobListener(api, photo, repo, cacheManager, shelterTileCache, shelterSpatialIndex,
+                        warmer);
+
+        JobExecution jobExecution = new JobExecution(3L);
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+
+        listener.afterJob(jobExecution);
+
+        verify(shelterSpatialIndex).rebuildAcrossCluster();
+        verify(warmer).warmUp();
+    }
+
+    @Test
+    @DisplayName("afterJob: 인덱스는 사진 갱신이 끝난 뒤, 타일 무효화 전에 교체한다. ")
+    void afterJob_rebuildsIndexAfterPhotoUpdates() {
+        ShelterUpdateJobListener listener =
+                new ShelterUpdateJobListener(api, photo, repo, cacheManager, shelterTileCache, shelterSpatialIndex,
+                        warmer);
+
+        JobExecution jobExecution = new JobExecution(4L);
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        jobExecution.getExecutionContext().put(ShelterImportBatchConfig.LOCATION_UPDATED_IDS_KEY, Set.of(1L));
+        when(photo.updatePhoto(1L)).thenReturn(true);
+        when(repo.findAllById(Set.of(1L))).thenReturn(List.of(shelterAt("37.1", "127.2")));
+
+        listener.afterJob(jobExecution);
+
+        InOrder order = inOrder(photo, shelterSpatialIndex, shelterTileCache);
+        order.verify(photo).updatePhoto(1L);
+        order.verify(shelterSpatialIndex).rebuildAcrossCluster();
+        order.verify(shelterTileCache).invalidate(any());
+    }
+
+    private static Shelter shelterAt(String lat, String lng) {
+        return Shelter.builder()
+                .shelterId(1L)
+                .latitude(new BigDecimal(lat))
+                .longitude(new BigDecimal(lng))
+                .build();
+    }
 }
@@ -0,0 +1,90 @@
+package com.team19.musuimsa.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DistributedSingleFlightTest {
+
+    private static final Duration LOCK_TTL = Duration.ofSeconds(20);
+    private static final Duration MAX_WAIT = Duration.ofSeconds(15);
+
+    @Test
+    @DisplayName("승자가 캐시를 채우지 못하고 락을 풀면, 기다리던 노드는 대기 시간을 채우지 않고 바로 다시 적재한다.")
+    void winnerFails_loserRetriesAfterLockReleased() throws Exception {
+        StringRedisTemplate sharedRedis = inMemoryLockRedis();
+        DistributedSingleFlight nodeA = new DistributedSingleFlight(Optional.of(sharedRedis), "lock::", LOCK_TTL,
+                MAX_WAIT);
+        DistributedSingleFlight nodeB = new DistributedSingleFlight(Optional.of(sharedRedis), "lock::", LOCK_TTL,
+                MAX_WAIT);
+        Map<String, String> cache = new ConcurrentHashMap<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch winnerLoading = new CountDownLatch(1);
+
+        CompletableFuture<String> winner = CompletableFuture.supplyAsync(() -> nodeA.load("k", () -> cache.get("k"),
+                () -> {
+                    loads.incrementAndGet();
+                    winnerLoading.countDown();
+                    sleep(200);
+                    throw new IllegalStateException("KMA down");
+                }));
+        assertThat(winnerLoading.await(2, TimeUnit.SECONDS)).isTrue();
+
+        long t0 = System.nanoTime();
+        String value = nodeB.load("k", () -> cache.get("k"), () -> {
+            loads.incrementAndGet();
+            cache.put("k", "v");
+            return "v";
+        });
+        long elapsedMillis = (System.nanoTime() - t0) / 1_000_000;
+
+        assertThat(value).isEqualTo("v");
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(elapsedMillis).isLessThan(2_000);
+        assertThatThrownBy(winner::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    // SET NX PX / 토큰 비교 DEL 만 흉내 내는 Redis. 모든 노드가 같은 인스턴스를 본다
+    @SuppressWarnings("unchecked")
+    private static StringRedisTemplate inMemoryLockRedis() {
+        Map<String, String> locks = new ConcurrentHashMap<>();
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(ops);
+        when(ops.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(inv -> locks.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+        when(redis.execute(any(RedisScript.class), anyList(), any())).thenAnswer(inv -> {
+            String lockKey = inv.<List<String>>getArgument(1).get(0);
+            return locks.remove(lockKey, inv.getArgument(2)) ? 1L : 0L;
+        });
+        return redis;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.team19.musuimsa.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team19.musuimsa.shelter.util.MapTiles;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeyPinningExpiryTest {
+
+    @Test
+    @DisplayName("핫 타일로 기록된 키는 L1 에 pinned TTL 동안, 나머지는 기본 TTL 동안 남는다.")
+    void hotTile_outlivesBaseTtl() {
+        HotKeys hotKeys = new HotKeys();
+        MapTiles.Tile hot = MapTiles.of(16, 55880, 25360);
+        MapTiles.Tile cold = MapTiles.of(16, 55881, 25360);
+        for (int i = 0; i < HotKeys.MIN_HOT_HITS; i++) {
+            hotKeys.record(HotKeys.SHELTERS, hot.id());
+        }
+        // 한 번 본 타일은 핫 키가 아니다
+        hotKeys.record(HotKeys.SHELTERS, cold.id());
+
+        AtomicLong now = new AtomicLong();
+        Cache<Object, Object> l1 = Caffeine.newBuilder()
+                .ticker(now::get)
+                .expireAfter(new HotKeyPinningExpiry(hotKeys, HotKeys.SHELTERS,
+                        key -> MapTiles.idOfCacheKey((String) key),
+                        Duration.ofSeconds(30), Duration.ofSeconds(120)))
+                .build();
+        l1.put(hot.cacheKey(3), "hot");
+        l1.put(cold.cacheKey(3), "cold");
+
+        now.addAndGet(Duration.ofSeconds(60).toNanos());
+
+        assertThat(l1.getIfPresent(hot.cacheKey(3))).isEqualTo("hot");
+        assertThat(l1.getIfPresent(cold.cacheKey(3))).isNull();
+    }
+}
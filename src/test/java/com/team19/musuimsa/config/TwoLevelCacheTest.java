@@ -0,0 +1,118 @@
+package com.team19.musuimsa.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team19.musuimsa.shelter.dto.map.MapTile;
+import com.team19.musuimsa.shelter.service.ShelterDatasetGeneration;
+import com.team19.musuimsa.shelter.service.ShelterTileCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwoLevelCacheTest {
+
+    private StringRedisTemplate redis;
+    private CacheInvalidationBus bus;
+    private ConcurrentMapCache l2;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        bus = new CacheInvalidationBus(redis);
+        l2 = new ConcurrentMapCache("sheltersMap");
+        cache = bus.register(new TwoLevelCache(l2, Caffeine.newBuilder().build(), bus));
+    }
+
+    @Test
+    @DisplayName("L2 에서 찾은 값은 L1 에 올라가 다음 조회는 L2 를 거치지 않는다.")
+    void readThrough_promotesToL1() {
+        l2.put("k", "v");
+
+        assertThat(cache.get("k", String.class)).isEqualTo("v");
+        l2.evict("k");
+
+        assertThat(cache.get("k", String.class)).isEqualTo("v");
+    }
+
+    @Test
+    @DisplayName("evict 는 L1/L2 를 모두 지우고 무효화 메시지를 발행한다.")
+    void evict_clearsBothTiersAndPublishes() {
+        cache.put("k", "v");
+
+        cache.evict("k");
+
+        assertThat(cache.get("k")).isNull();
+        verify(redis).convertAndSend(CacheInvalidationBus.CHANNEL, "sheltersMap\nk");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 L1 의 해당 키만 비운다.")
+    void onMessage_evictsOnlyL1() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+
+        bus.onMessage(message("sheltersMap\na"), null);
+
+        assertThat(cache.getAllPresentLocal(List.of("a", "b"))).containsOnlyKeys("b");
+        assertThat(l2.get("a")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("키가 없는 메시지는 L1 전체를 비운다.")
+    void onMessage_withoutKeys_clearsL1() {
+        cache.put("a", "1");
+
+        bus.onMessage(message("sheltersMap"), null);
+
+        assertThat(cache.getAllPresentLocal(List.of("a"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("타일 조회 시 L1 적중/미스와 L2 적중/미스를 계층별로 기록한다.")
+    void tileCache_recordsPerTierMetrics() {
+        MapTile tile = MapTile.ofClusters("cluster", List.of());
+        cache.put("t1", tile);
+        l2.put("t2", tile);
+
+        CacheManager manager = mock(CacheManager.class);
+        when(manager.getCache("sheltersMap")).thenReturn(cache);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ShelterTileCache tileCache = new ShelterTileCache(manager, Optional.empty(),
+                new ShelterDatasetGeneration(Optional.empty()), registry);
+
+        Map<String, MapTile> found = tileCache.getAll(List.of("t1", "t2", "t3"));
+
+        assertThat(found).containsOnlyKeys("t1", "t2");
+        assertThat(count(registry, "l1", "hit")).isEqualTo(1.0);
+        assertThat(count(registry, "l1", "miss")).isEqualTo(2.0);
+        assertThat(count(registry, "l2", "hit")).isEqualTo(1.0);
+        assertThat(count(registry, "l2", "miss")).isEqualTo(1.0);
+        // L2 적중분은 L1 으로 올라간다
+        assertThat(cache.getAllPresentLocal(List.of("t2"))).containsKey("t2");
+    }
+
+    private static double count(MeterRegistry registry, String tier, String result) {
+        return registry.counter("shelter.map.tile.cache.tier", "tier", tier, "result", result).count();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
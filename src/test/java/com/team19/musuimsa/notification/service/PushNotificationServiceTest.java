@@ -17,6 +17,8 @@ import com.team19.musuimsa.weather.service.WeatherService;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -61,7 +63,8 @@ class PushNotificationServiceTest {
         // given
         WeatherResponse weatherResponse = new WeatherResponse(35.0, "20251009", "1400");
         when(userRepository.findAll()).thenReturn(List.of(userWithLocation));
-        when(weatherService.getCurrentTemp(anyDouble(), anyDouble())).thenReturn(weatherResponse);
+        when(weatherService.getCachedTemp(anyDouble(), anyDouble()))
+                .thenReturn(Optional.of(weatherResponse));
         when(fcmService.sendPushNotification(anyLong(), anyString(), anyString())).thenReturn(true);
 
         // when
@@ -79,7 +82,8 @@ class PushNotificationServiceTest {
         // given
         WeatherResponse weatherResponse = new WeatherResponse(34.9, "20251009", "1400");
         when(userRepository.findAll()).thenReturn(List.of(userWithLocation));
-        when(weatherService.getCurrentTemp(anyDouble(), anyDouble())).thenReturn(weatherResponse);
+        when(weatherService.getCachedTemp(anyDouble(), anyDouble()))
+                .thenReturn(Optional.of(weatherResponse));
 
         // when
         pushNotificationService.checkUsersAndSendPushNotifications();
@@ -96,7 +100,8 @@ class PushNotificationServiceTest {
         userWithLocation.updateLastHeatwaveAlertAt(); // 현재 시간으로 마지막 알림 시간 설정
         WeatherResponse weatherResponse = new WeatherResponse(36.0, "20251009", "1400");
         when(userRepository.findAll()).thenReturn(List.of(userWithLocation));
-        when(weatherService.getCurrentTemp(anyDouble(), anyDouble())).thenReturn(weatherResponse);
+        when(weatherService.getCachedTemp(anyDouble(), anyDouble()))
+                .thenReturn(Optional.of(weatherResponse));
 
         // when
         pushNotificationService.checkUsersAndSendPushNotifications();
@@ -114,7 +119,8 @@ class PushNotificationServiceTest {
 
         WeatherResponse weatherResponse = new WeatherResponse(35.0, "20251010", "1500");
         when(userRepository.findAll()).thenReturn(List.of(userWithLocation));
-        when(weatherService.getCurrentTemp(anyDouble(), anyDouble())).thenReturn(weatherResponse);
+        when(weatherService.getCachedTemp(anyDouble(), anyDouble()))
+                .thenReturn(Optional.of(weatherResponse));
 
         // when
         pushNotificationService.checkUsersAndSendPushNotifications();
@@ -132,7 +138,8 @@ class PushNotificationServiceTest {
 
         WeatherResponse weatherResponse = new WeatherResponse(35.0, "20251010", "1500");
         when(userRepository.findAll()).thenReturn(List.of(userWithLocation));
-        when(weatherService.getCurrentTemp(anyDouble(), anyDouble())).thenReturn(weatherResponse);
+        when(weatherService.getCachedTemp(anyDouble(), anyDouble()))
+                .thenReturn(Optional.of(weatherResponse));
 
         // when
         pushNotificationService.checkUsersAndSendPushNotifications();
@@ -152,7 +159,7 @@ class PushNotificationServiceTest {
         pushNotificationService.checkUsersAndSendPushNotifications();
 
         // then
-        verify(weatherService, never()).getCurrentTemp(anyDouble(), anyDouble());
+        verify(weatherService, never()).getCachedTemp(anyDouble(), anyDouble());
         verify(fcmService, never()).sendPushNotification(anyLong(), anyString(), anyString());
     }
 
@@ -161,7 +168,7 @@ class PushNotificationServiceTest {
     void doNotSendPush_When_WeatherServiceFails() {
         // given
         when(userRepository.findAll()).thenReturn(List.of(userWithLocation));
-        when(weatherService.getCurrentTemp(anyDouble(), anyDouble())).thenThrow(
+        when(weatherService.getCachedTemp(anyDouble(), anyDouble())).thenThrow(
                 new RuntimeException("API Error"));
 
         // when
@@ -170,4 +177,58 @@ class PushNotificationServiceTest {
         // then
         verify(fcmService, never()).sendPushNotification(anyLong(), anyString(), anyString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("캐시된 날씨 정보가 없으면 KMA 를 호출하지 않고 건너뛴다")
+    void skipUser_When_WeatherIsNotCached() {
+        // given
+        when(userRepository.findAll()).thenReturn(List.of(userWithLocation));
+        when(weatherService.getCachedTemp(anyDouble(), anyDouble())).thenReturn(Optional.empty());
+
+        // when
+        pushNotificationService.checkUsersAndSendPushNotifications();
+
+        // then
+        verify(weatherService, never()).getCurrentTemp(anyDouble(), anyDouble());
+        verify(fcmService, never()).sendPushNotification(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("35도 미만이어도 최근 3시간 동안 2도 이상 올랐으면 조기 알림을 보낸다")
+    void sendEarlyAlert_When_TemperatureIsRisingFast() {
+        // given
+        WeatherResponse weatherResponse = new WeatherResponse(33.0, "20250701", "1400");
+        when(userRepository.findAll()).thenReturn(List.of(userWithLocation));
+        when(weatherService.getCachedTemp(anyDouble(), anyDouble()))
+                .thenReturn(Optional.of(weatherResponse));
+        when(weatherService.getTemperatureRise(anyDouble(), anyDouble(), eq(3)))
+                .thenReturn(OptionalDouble.of(2.5));
+        when(fcmService.sendPushNotification(anyLong(), anyString(), anyString())).thenReturn(true);
+
+        // when
+        pushNotificationService.checkUsersAndSendPushNotifications();
+
+        // then
+        verify(fcmService, times(1)).sendPushNotification(eq(userWithLocation.getUserId()),
+                eq("기온이 빠르게 오르고 있습니다!"), anyString());
+        assertThat(userWithLocation.getLastHeatwaveAlertAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("35도 미만이고 상승 폭이 작으면 조기 알림을 보내지 않는다")
+    void doNotSendEarlyAlert_When_TemperatureRisesSlowly() {
+        // given
+        WeatherResponse weatherResponse = new WeatherResponse(33.0, "20250701", "1400");
+        when(userRepository.findAll()).thenReturn(List.of(userWithLocation));
+        when(weatherService.getCachedTemp(anyDouble(), anyDouble()))
+                .thenReturn(Optional.of(weatherResponse));
+        when(weatherService.getTemperatureRise(anyDouble(), anyDouble(), eq(3)))
+                .thenReturn(OptionalDouble.of(1.0));
+
+        // when
+        pushNotificationService.checkUsersAndSendPushNotifications();
+
+        // then
+        verify(fcmService, never()).sendPushNotification(anyLong(), anyString(), anyString());
+    }
+}
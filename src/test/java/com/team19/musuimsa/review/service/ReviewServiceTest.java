@@ -20,10 +20,12 @@ import com.team19.musuimsa.review.dto.ShelterReviewCountAndSum;
 import com.team19.musuimsa.review.dto.UpdateReviewRequest;
 import com.team19.musuimsa.review.repository.ReviewRepository;
 import com.team19.musuimsa.shelter.domain.Shelter;
+import com.team19.musuimsa.shelter.service.ShelterChangeNotifier;
 import com.team19.musuimsa.shelter.repository.ShelterRepository;
 import com.team19.musuimsa.user.domain.User;
 import java.math.BigDecimal;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -43,6 +45,8 @@ public class ReviewServiceTest {
     ReviewRepository reviewRepository;
     @Mock
     ShelterRepository shelterRepository;
+    @Mock
+    ShelterChangeNotifier shelterChangeNotifier;
 
     @InjectMocks
     ReviewService reviewService;
@@ -103,6 +107,8 @@ public class ReviewServiceTest {
         verify(shelterRepository, times(1)).findById(shelterId);
         verify(reviewRepository).save(any(Review.class));
         verify(reviewRepository).aggregateByShelterId(eq(shelterId));
+        // 평점이 바뀌었으므로 이 쉼터만 인덱스에서 교체한다
+        verify(shelterChangeNotifier).attributesChanged(List.of(shelterId));
     }
 
     @Test
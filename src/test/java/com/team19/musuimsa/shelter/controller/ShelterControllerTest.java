@@ -1,5 +1,6 @@
 package com.team19.musuimsa.shelter.controller;
 
+import com.team19.musuimsa.exception.invalid.InvalidTileException;
 import com.team19.musuimsa.notification.service.ReviewReminderService;
 import com.team19.musuimsa.shelter.dto.NearbyShelterResponse;
 import com.team19.musuimsa.shelter.dto.OperatingHoursResponse;
@@ -24,7 +25,6 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
-import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -80,6 +80,57 @@ class ShelterControllerTest {
         ));
     }
 
+    @Test
+    @DisplayName("GET /api/shelters - cursor/includeTotal 파라미터를 바인딩하고 nextCursor 를 내려준다.")
+    void getByBbox_bindsCursorAndIncludeTotal() throws Exception {
+        Mockito.when(shelterMapService.getByBbox(Mockito.any()))
+                .thenReturn(new MapResponse("detail", List.of(), null, "czo0Mg"));
+
+        mockMvc.perform(get("/api/shelters")
+                        .param("minLat", "37.0")
+                        .param("minLng", "127.0")
+                        .param("maxLat", "37.2")
+                        .param("maxLng", "127.2")
+                        .param("userLat", "37.5665")
+                        .param("userLng", "126.9780")
+                        .param("zoom", "16")
+                        .param("cursor", "czoxMA")
+                        .param("includeTotal", "false")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor", is("czo0Mg")));
+
+        verify(shelterMapService).getByBbox(Mockito.argThat(
+                req -> "czoxMA".equals(req.cursor()) && Boolean.FALSE.equals(req.includeTotal())
+        ));
+    }
+
+    @Test
+    @DisplayName("GET /api/shelters/tiles/{z}/{x}/{y} - 타일 좌표와 사용자 위치를 서비스로 전달한다.")
+    void getTile_bindsPathAndUserPosition() throws Exception {
+        Mockito.when(shelterMapService.getTile(eq(14), eq(13970), eq(6344), eq(37.5665), eq(126.9780)))
+                .thenReturn(new MapResponse("summary", List.of(), 0));
+
+        mockMvc.perform(get("/api/shelters/tiles/{z}/{x}/{y}", 14, 13970, 6344)
+                        .param("userLat", "37.5665")
+                        .param("userLng", "126.9780")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.level", is("summary")))
+                .andExpect(jsonPath("$.total", is(0)));
+    }
+
+    @Test
+    @DisplayName("GET /api/shelters/tiles/{z}/{x}/{y} - 범위를 벗어난 타일이면 400")
+    void getTile_invalidTile_returns400() throws Exception {
+        Mockito.when(shelterMapService.getTile(eq(14), eq(99999), eq(6344), Mockito.isNull(), Mockito.isNull()))
+                .thenThrow(new InvalidTileException(14, 99999, 6344));
+
+        mockMvc.perform(get("/api/shelters/tiles/{z}/{x}/{y}", 14, 99999, 6344)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @DisplayName("GET /api/shelters/nearby - 가까운 쉼터 목록 JSON 반환")
     @Test
     void getNearby_returnsList() throws Exception {
@@ -97,7 +148,7 @@ class ShelterControllerTest {
                         3.8, "https://example.com/shelter2.jpg"
                 )
         );
-        Mockito.when(shelterService.findNearbyShelters(anyDouble(), anyDouble()))
+        Mockito.when(shelterService.findNearbyShelters(Mockito.any()))
                 .thenReturn(stub);
 
         mockMvc.perform(get("/api/shelters/nearby")
@@ -131,6 +182,52 @@ class ShelterControllerTest {
                 .andExpect(jsonPath("$[1].operatingHours.weekend", is("10:00~16:00")))
                 .andExpect(jsonPath("$[1].averageRating", is(3.8)))
                 .andExpect(jsonPath("$[1].photoUrl", is("https://example.com/shelter2.jpg")));
+
+        verify(shelterService).findNearbyShelters(Mockito.argThat(
+                req -> req.latitude() == 37.5 && req.longitude() == 127.0
+                        && req.radius() == null && req.limit() == null
+        ));
+    }
+
+    @DisplayName("GET /api/shelters/all - radius/limit 파라미터를 요청 객체로 바인딩한다.")
+    @Test
+    void getAll_bindsRadiusAndLimit() throws Exception {
+        Mockito.when(shelterService.getAllShelters(Mockito.any())).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/shelters/all")
+                        .param("latitude", "37.5")
+                        .param("longitude", "127.0")
+                        .param("radius", "2000")
+                        .param("limit", "30")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        verify(shelterService).getAllShelters(Mockito.argThat(
+                req -> req.radius() == 2000 && req.limit() == 30
+        ));
+    }
+
+    @DisplayName("GET /api/shelters/nearby - 속성 필터 파라미터를 ShelterFilter 로 바인딩한다.")
+    @Test
+    void nearby_bindsAttributeFilter() throws Exception {
+        Mockito.when(shelterService.findNearbyShelters(Mockito.any())).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/shelters/nearby")
+                        .param("latitude", "37.5")
+                        .param("longitude", "127.0")
+                        .param("aircon", "true")
+                        .param("outdoors", "false")
+                        .param("minCapacity", "50")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(shelterService).findNearbyShelters(Mockito.argThat(
+                req -> Boolean.TRUE.equals(req.filter().aircon())
+                        && Boolean.FALSE.equals(req.filter().outdoors())
+                        && req.filter().minCapacity() == 50
+                        && req.filter().minRating() == null
+        ));
     }
 
     @DisplayName("GET /api/shelters/{shelterId} - 상세 쉼터 JSON 반환")
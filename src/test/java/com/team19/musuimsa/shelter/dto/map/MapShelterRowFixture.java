@@ -0,0 +1,108 @@
+package com.team19.musuimsa.shelter.dto.map;
+
+import java.time.LocalTime;
+
+// 테스트용 MapShelterRow. 기본값(에어컨 있음, 실내, 수용인원 10, 사진 없음, 운영시간 모름, 리뷰 없음)에서 필요한 값만 바꾼다.
+public final class MapShelterRowFixture {
+
+    private final Long id;
+    private final double latitude;
+    private final double longitude;
+    private Boolean hasAircon = true;
+    private Boolean isOutdoors = false;
+    private Integer capacity = 10;
+    private String photoUrl;
+    private Integer weekdayOpenMinute;
+    private Integer weekdayCloseMinute;
+    private Integer weekendOpenMinute;
+    private Integer weekendCloseMinute;
+    private String weekdayHours;
+    private String weekendHours;
+    private LocalTime weekdayOpenTime;
+    private LocalTime weekdayCloseTime;
+    private LocalTime weekendOpenTime;
+    private LocalTime weekendCloseTime;
+    private Long totalRating = 0L;
+    private Long reviewCount = 0L;
+
+    private MapShelterRowFixture(Long id, double latitude, double longitude) {
+        this.id = id;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static MapShelterRowFixture shelterRow(long id, double latitude, double longitude) {
+        return new MapShelterRowFixture(id, latitude, longitude);
+    }
+
+    public static MapShelterRow row(long id, double latitude, double longitude) {
+        return shelterRow(id, latitude, longitude).build();
+    }
+
+    public MapShelterRowFixture aircon(boolean hasAircon) {
+        this.hasAircon = hasAircon;
+        return this;
+    }
+
+    public MapShelterRowFixture outdoors(boolean isOutdoors) {
+        this.isOutdoors = isOutdoors;
+        return this;
+    }
+
+    public MapShelterRowFixture capacity(int capacity) {
+        this.capacity = capacity;
+        return this;
+    }
+
+    public MapShelterRowFixture photoUrl(String photoUrl) {
+        this.photoUrl = photoUrl;
+        return this;
+    }
+
+    // 하루 중 분 (표시 문자열도 함께 채운다)
+    public MapShelterRowFixture weekday(int openMinute, int closeMinute) {
+        this.weekdayOpenMinute = openMinute;
+        this.weekdayCloseMinute = closeMinute;
+        this.weekdayHours = hours(openMinute, closeMinute);
+        return this;
+    }
+
+    public MapShelterRowFixture weekend(int openMinute, int closeMinute) {
+        this.weekendOpenMinute = openMinute;
+        this.weekendCloseMinute = closeMinute;
+        this.weekendHours = hours(openMinute, closeMinute);
+        return this;
+    }
+
+    // 평일/주말 모두 24시간 (시작 == 종료)
+    public MapShelterRowFixture allDay() {
+        return weekday(0, 0).weekend(0, 0);
+    }
+
+    // 백필 전 행: 원본 시간만 있고 분/표시 문자열은 비어 있다 (평일/주말 같은 시간)
+    public MapShelterRowFixture rawTimesOnly(LocalTime open, LocalTime close) {
+        this.weekdayOpenTime = open;
+        this.weekdayCloseTime = close;
+        this.weekendOpenTime = open;
+        this.weekendCloseTime = close;
+        return this;
+    }
+
+    public MapShelterRowFixture rating(long totalRating, long reviewCount) {
+        this.totalRating = totalRating;
+        this.reviewCount = reviewCount;
+        return this;
+    }
+
+    public MapShelterRow build() {
+        return new MapShelterRow(id, "쉼터" + id, "주소" + id, latitude, longitude, hasAircon,
+                isOutdoors, capacity, photoUrl, weekdayOpenMinute, weekdayCloseMinute,
+                weekendOpenMinute, weekendCloseMinute, weekdayHours, weekendHours, weekdayOpenTime,
+                weekdayCloseTime, weekendOpenTime, weekendCloseTime, totalRating, reviewCount);
+    }
+
+    private static String hours(int openMinute, int closeMinute) {
+        return String.format("%02d:%02d~%02d:%02d",
+                openMinute / 60, openMinute % 60, closeMinute / 60, closeMinute % 60);
+    }
+}
@@ -0,0 +1,74 @@
+package com.team19.musuimsa.shelter.index;
+
+import com.team19.musuimsa.shelter.dto.map.ClusterFeature;
+import com.team19.musuimsa.shelter.util.ClusterGrid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class ClusterPyramidTest {
+
+    @Test
+    @DisplayName("같은 셀의 쉼터를 개수/무게중심/에어컨 수/수용인원 합으로 집계한다.")
+    void aggregatesCell() {
+        ClusterPyramid pyramid = ClusterPyramid.build(
+                new double[]{37.501, 37.503, 35.1},
+                new double[]{127.001, 127.003, 129.0},
+                new boolean[]{true, false, true},
+                new int[]{10, 30, 5});
+
+        List<ClusterFeature> clusters = pyramid.clusters(10, 37.0, 126.5, 38.0, 127.5);
+
+        assertThat(clusters).hasSize(1);
+        ClusterFeature c = clusters.get(0);
+        assertThat(c.count()).isEqualTo(2);
+        assertThat(c.airconCount()).isEqualTo(1);
+        assertThat(c.capacitySum()).isEqualTo(40L);
+        assertThat(c.latitude()).isCloseTo(37.502, offset(1e-9));
+        assertThat(c.id()).isEqualTo(ClusterGrid.cellId(10,
+                ClusterGrid.row(37.501, 10), ClusterGrid.col(127.001, 10)));
+    }
+
+    @Test
+    @DisplayName("뷰포트를 덮는 셀들의 개수 합은 뷰포트 안 쉼터 수 이상이고, 전체 범위면 정확히 같다.")
+    void coversViewport_onRandomPoints() {
+        Random random = new Random(3);
+        int n = 3_000;
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        boolean[] aircon = new boolean[n];
+        int[] capacity = new int[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = 33.0 + random.nextDouble() * 5.5;
+            lngs[i] = 124.5 + random.nextDouble() * 7.0;
+            aircon[i] = random.nextBoolean();
+            capacity[i] = random.nextInt(100);
+        }
+        ClusterPyramid pyramid = ClusterPyramid.build(lats, lngs, aircon, capacity);
+
+        for (int z = 0; z <= ClusterGrid.MAX_CLUSTER_ZOOM; z++) {
+            List<ClusterFeature> all = pyramid.clusters(z, 30.0, 120.0, 40.0, 135.0);
+            assertThat(all.stream().mapToInt(ClusterFeature::count).sum()).isEqualTo(n);
+            assertThat(all).hasSize(pyramid.cellCount(z));
+
+            double minLat = 35.0;
+            double minLng = 126.0;
+            double maxLat = 36.0;
+            double maxLng = 127.5;
+            long inside = 0;
+            for (int i = 0; i < n; i++) {
+                if (lats[i] >= minLat && lats[i] <= maxLat && lngs[i] >= minLng && lngs[i] <= maxLng) {
+                    inside++;
+                }
+            }
+            int covered = pyramid.clusters(z, minLat, minLng, maxLat, maxLng).stream()
+                    .mapToInt(ClusterFeature::count).sum();
+            assertThat(covered).isGreaterThanOrEqualTo((int) inside);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.team19.musuimsa.shelter.index;
+
+import com.team19.musuimsa.shelter.dto.ShelterFilter;
+import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.util.ShelterDtoUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.team19.musuimsa.shelter.dto.map.MapShelterRowFixture.row;
+import static com.team19.musuimsa.shelter.dto.map.MapShelterRowFixture.shelterRow;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShelterIndexSnapshotTest {
+
+    @Test
+    @DisplayName("query - bbox 경계를 포함(BETWEEN)하고 shelterId 오름차순으로 반환한다.")
+    void query_inclusiveBounds_orderedById() {
+        ShelterIndexSnapshot snapshot = ShelterIndexSnapshot.build(List.of(
+                row(3L, 37.10, 127.10),
+                row(1L, 37.00, 127.00), // 경계 위
+                row(2L, 37.20, 127.20), // 경계 위
+                row(4L, 37.30, 127.10)  // 범위 밖
+        ));
+
+        assertThat(IntStream.of(snapshot.query(37.0, 127.0, 37.2, 127.2))
+                .mapToLong(p -> snapshot.row(p).id())
+                .toArray())
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("무작위 좌표에 대해 전수 비교(brute force)와 같은 결과를 낸다.")
+    void matchesBruteForce_onRandomPoints() {
+        Random random = new Random(19);
+        List<MapShelterRow> rows = IntStream.range(0, 5_000)
+                .mapToObj(i -> row((long) i + 1,
+                        33.0 + random.nextDouble() * 5.5,
+                        124.5 + random.nextDouble() * 7.0))
+                .toList();
+        ShelterIndexSnapshot snapshot = ShelterIndexSnapshot.build(rows);
+
+        for (int q = 0; q < 50; q++) {
+            double minLat = 33.0 + random.nextDouble() * 5.0;
+            double minLng = 124.5 + random.nextDouble() * 6.5;
+            double maxLat = minLat + random.nextDouble() * 0.8;
+            double maxLng = minLng + random.nextDouble() * 0.8;
+
+            long[] expected = rows.stream()
+                    .filter(r -> r.latitude() >= minLat && r.latitude() <= maxLat
+                            && r.longitude() >= minLng && r.longitude() <= maxLng)
+                    .mapToLong(MapShelterRow::id)
+                    .sorted()
+                    .toArray();
+
+            assertThat(IntStream.of(snapshot.query(minLat, minLng, maxLat, maxLng))
+                    .mapToLong(p -> snapshot.row(p).id())
+                    .toArray())
+                    .containsExactly(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("matches - position 단위 속성 비교가 행 단위 필터 평가와 같다.")
+    void matches_equalsRowByRowFilter() {
+        Random random = new Random(7);
+        List<MapShelterRow> rows = IntStream.range(0, 2_000)
+                .mapToObj(i -> shelterRow(i + 1, 37.0, 127.0)
+                        .aircon(random.nextBoolean())
+                        .outdoors(random.nextInt(4) == 0)
+                        .capacity(random.nextInt(120))
+                        .rating(random.nextInt(50), random.nextInt(10))
+                        .build())
+                .toList();
+        ShelterIndexSnapshot snapshot = ShelterIndexSnapshot.build(rows);
+        ShelterFilter filter = new ShelterFilter(true, false, 50, 2.5);
+
+        for (int p = 0; p < snapshot.size(); p++) {
+            MapShelterRow r = snapshot.row(p);
+            double rating = ShelterDtoUtils.average(r.totalRating().intValue(),
+                    r.reviewCount().intValue());
+            assertThat(snapshot.matches(p, filter))
+                    .isEqualTo(filter.matches(r.hasAircon(), r.isOutdoors(), r.capacity(), rating));
+            assertThat(snapshot.matches(p, ShelterFilter.NONE)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("빈 데이터로도 스냅샷을 만들 수 있고 모든 질의가 0건이다.")
+    void emptySnapshot() {
+        ShelterIndexSnapshot snapshot = ShelterIndexSnapshot.build(List.of());
+
+        assertThat(snapshot.size()).isZero();
+        assertThat(snapshot.query(30.0, 120.0, 40.0, 130.0)).isEmpty();
+    }
+
+}
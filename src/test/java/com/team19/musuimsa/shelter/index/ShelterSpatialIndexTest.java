@@ -0,0 +1,112 @@
+package com.team19.musuimsa.shelter.index;
+
+import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.repository.ShelterRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.team19.musuimsa.shelter.dto.map.MapShelterRowFixture.row;
+import static com.team19.musuimsa.shelter.dto.map.MapShelterRowFixture.shelterRow;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShelterSpatialIndexTest {
+
+    private final ShelterRepository repo = mock(ShelterRepository.class);
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> ops = mock(ValueOperations.class);
+
+    @Test
+    @DisplayName("다른 노드가 인덱스 버전을 올리면 이전 스냅샷을 내주지 않고 백그라운드로 다시 적재한다.")
+    void current_behindClusterVersion_rebuildsInBackground() throws Exception {
+        when(redis.opsForValue()).thenReturn(ops);
+        when(ops.get(ShelterSpatialIndex.VERSION_KEY)).thenReturn("3");
+        when(repo.findAllMapRows()).thenReturn(List.of(row(1L, 37.01, 127.0)));
+        ShelterSpatialIndex index = new ShelterSpatialIndex(repo, Optional.of(redis), Optional.empty());
+        index.rebuild();
+        assertThat(index.current()).isPresent();
+
+        // 임포트 노드가 버전을 올림 (1초 로컬 캐싱이 지난 뒤 알아차린다)
+        when(ops.get(ShelterSpatialIndex.VERSION_KEY)).thenReturn("4");
+        when(repo.findAllMapRows()).thenReturn(List.of(row(1L, 37.01, 127.0), row(2L, 37.02, 127.0)));
+        Thread.sleep(1_100);
+
+        assertThat(index.current()).isEmpty();
+        verify(repo, timeout(2_000).times(2)).findAllMapRows();
+        assertThat(waitForSnapshot(index).size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("데이터를 바꾼 노드는 버전을 올리고 자기 인덱스를 바로 교체한다.")
+    void rebuildAcrossCluster_bumpsVersionAndRebuilds() {
+        when(redis.opsForValue()).thenReturn(ops);
+        when(ops.increment(ShelterSpatialIndex.VERSION_KEY)).thenReturn(5L);
+        when(ops.get(ShelterSpatialIndex.VERSION_KEY)).thenReturn("5");
+        when(repo.findAllMapRows()).thenReturn(List.of(row(1L, 37.01, 127.0)));
+        ShelterSpatialIndex index = new ShelterSpatialIndex(repo, Optional.of(redis), Optional.empty());
+
+        assertThat(index.rebuildAcrossCluster()).isTrue();
+
+        verify(ops).increment(ShelterSpatialIndex.VERSION_KEY);
+        assertThat(index.current()).isPresent();
+        verify(repo, times(1)).findAllMapRows();
+    }
+
+    @Test
+    @DisplayName("평점·사진 변경은 해당 쉼터 행만 다시 읽어 교체하고, 스냅샷을 내려놓거나 전체를 다시 적재하지 않는다.")
+    void patch_replacesChangedRowInPlace() {
+        when(repo.findAllMapRows()).thenReturn(List.of(row(1L, 37.01, 127.0), row(2L, 37.02, 127.0)));
+        ShelterSpatialIndex index = new ShelterSpatialIndex(repo, Optional.empty(), Optional.empty());
+        index.rebuild();
+
+        MapShelterRow rated = shelterRow(2L, 37.02, 127.0).photoUrl("https://photo/2.jpg").rating(9L, 2L).build();
+        when(repo.findMapRowsByIds(List.of(2L))).thenReturn(List.of(rated));
+
+        assertThat(index.patch(List.of(2L))).containsExactly(rated);
+
+        ShelterIndexSnapshot snapshot = index.current().orElseThrow();
+        assertThat(snapshot.row(1).photoUrl()).isEqualTo("https://photo/2.jpg");
+        assertThat(snapshot.row(1).totalRating()).isEqualTo(9L);
+        assertThat(snapshot.row(0)).isEqualTo(row(1L, 37.01, 127.0));
+        verify(repo, times(1)).findAllMapRows();
+    }
+
+    @Test
+    @DisplayName("바뀐 행의 좌표가 달라졌으면 격자를 다시 만들어야 하므로 전체를 다시 적재한다.")
+    void patch_movedRow_rebuilds() {
+        when(repo.findAllMapRows()).thenReturn(List.of(row(1L, 37.01, 127.0)));
+        ShelterSpatialIndex index = new ShelterSpatialIndex(repo, Optional.empty(), Optional.empty());
+        index.rebuild();
+
+        MapShelterRow moved = row(1L, 36.5, 127.0);
+        when(repo.findMapRowsByIds(List.of(1L))).thenReturn(List.of(moved));
+        when(repo.findAllMapRows()).thenReturn(List.of(moved));
+
+        index.patch(List.of(1L));
+
+        verify(repo, times(2)).findAllMapRows();
+        assertThat(index.current().orElseThrow().row(0).latitude()).isEqualTo(36.5);
+    }
+
+    private static ShelterIndexSnapshot waitForSnapshot(ShelterSpatialIndex index) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Optional<ShelterIndexSnapshot> current = index.current();
+            if (current.isPresent()) {
+                return current.get();
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("snapshot not rebuilt");
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.team19.musuimsa.shelter.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MySqlSpatialShelterGeoQueryTest {
+
+    @Test
+    @DisplayName("envelope - 경도 위도 순서의 닫힌 WKT 폴리곤을 지수 표기 없이 만든다.")
+    void envelope_isClosedLngLatPolygon() {
+        String wkt = MySqlSpatialShelterGeoQuery.envelope(37.5, 0.00001, 37.6, 127.1);
+
+        assertThat(wkt).isEqualTo(
+                "POLYGON((0.00001 37.5, 127.1 37.5, 127.1 37.6, 0.00001 37.6, 0.00001 37.5))");
+    }
+
+    @Test
+    @DisplayName("공간 인덱스가 있으면 DDL 없이 반경 검색에 ST_Distance_Sphere 쿼리를 쓴다.")
+    void spatialIndexPresent_usesSpatialQueriesWithoutDdl() {
+        ShelterRepository repo = mock(ShelterRepository.class);
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        when(jdbc.queryForObject(contains("SPATIAL"), eq(Integer.class))).thenReturn(1);
+        when(repo.findWithinDistanceSphere(anyString(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(List.of());
+
+        MySqlSpatialShelterGeoQuery geo = new MySqlSpatialShelterGeoQuery(repo, jdbc);
+        geo.run(null);
+        geo.findNearbyCandidates(37.5665, 126.9780, 1000);
+
+        verify(jdbc, never()).execute(anyString());
+        verify(repo).findWithinDistanceSphere(anyString(), eq(37.5665), eq(126.9780), eq(1000.0));
+        verify(repo, never()).findInGeocellRanges(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("공간 인덱스가 없으면 만들지 않고 geocell 구간 쿼리로 폴백한다.")
+    void fallsBackToGeocellRanges_whenSpatialIndexMissing() {
+        ShelterRepository repo = mock(ShelterRepository.class);
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        when(jdbc.queryForObject(anyString(), eq(Integer.class))).thenReturn(0);
+
+        MySqlSpatialShelterGeoQuery geo = new MySqlSpatialShelterGeoQuery(repo, jdbc);
+        geo.run(null);
+        geo.findRowsInBbox(37.0, 127.0, 37.2, 127.2);
+
+        verify(jdbc, never()).execute(anyString());
+        verify(repo).findRowsInGeocellRanges(any(), any(), any(), any(), any());
+        verify(repo, never()).findInEnvelope(anyString());
+    }
+}
@@ -0,0 +1,181 @@
+package com.team19.musuimsa.shelter.repository;
+
+import com.team19.musuimsa.shelter.domain.Shelter;
+import com.team19.musuimsa.shelter.dto.ShelterFilter;
+import com.team19.musuimsa.shelter.dto.map.ClusterFeature;
+import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.service.ShelterDerivedColumnBackfill;
+import com.team19.musuimsa.shelter.util.ClusterGrid;
+import com.team19.musuimsa.shelter.util.GeoCell;
+import com.team19.musuimsa.shelter.util.OperatingHours;
+import jakarta.persistence.EntityManager;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@DataJpaTest
+class ShelterRepositoryTest {
+
+    @Autowired
+    ShelterRepository shelterRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Test
+    @DisplayName("aggregateClusters - 격자 셀별 개수/평균 좌표/에어컨 수/수용인원 합을 DB에서 집계한다.")
+    void aggregateClusters_groupsByGridCell() {
+        shelter(1L, 37.5001, 127.0001, 2, 10);
+        shelter(2L, 37.5003, 127.0003, 0, 30);
+        shelter(3L, 37.6500, 127.3000, 1, null);
+        shelter(4L, 35.1000, 129.0000, 1, 50); // 범위 밖
+        entityManager.flush();
+        entityManager.clear();
+
+        int zoom = 10;
+        List<ClusterFeature> clusters = shelterRepository.aggregateClusters(zoom,
+                        bd(37.0), bd(126.5), bd(38.0), bd(127.5)).stream()
+                .sorted(Comparator.comparingInt(ClusterFeature::count).reversed())
+                .toList();
+
+        assertSoftly(softly -> {
+            softly.assertThat(clusters).hasSize(2);
+
+            ClusterFeature first = clusters.get(0);
+            softly.assertThat(first.id()).isEqualTo(ClusterGrid.cellId(zoom,
+                    ClusterGrid.row(37.5001, zoom), ClusterGrid.col(127.0001, zoom)));
+            softly.assertThat(first.count()).isEqualTo(2);
+            softly.assertThat(first.latitude()).isCloseTo(37.5002, within(1e-6));
+            softly.assertThat(first.longitude()).isCloseTo(127.0002, within(1e-6));
+            softly.assertThat(first.airconCount()).isEqualTo(1);
+            softly.assertThat(first.capacitySum()).isEqualTo(40L);
+
+            ClusterFeature second = clusters.get(1);
+            softly.assertThat(second.count()).isEqualTo(1);
+            softly.assertThat(second.capacitySum()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("aggregateFilteredClusters - 속성 필터와 운영 여부를 SQL 에서 적용해 통과한 쉼터만 셀별로 집계한다.")
+    void aggregateFilteredClusters_appliesFiltersInQuery() {
+        // 1: 에어컨, 09:00~18:00 / 2: 에어컨 없음 / 3: 에어컨, 22:00~06:00 (자정 넘김) / 4: 에어컨, 운영시간 모름
+        entityManager.persist(hoursShelter(1L, 37.5001, 127.0001, 1, 540, 1080));
+        entityManager.persist(hoursShelter(2L, 37.5002, 127.0002, 0, 540, 1080));
+        entityManager.persist(hoursShelter(3L, 37.5003, 127.0003, 1, 1320, 360));
+        entityManager.persist(hoursShelter(4L, 37.5004, 127.0004, 1, null, null));
+        entityManager.flush();
+        entityManager.clear();
+
+        ShelterFilter airconOnly = new ShelterFilter(true, null, null, null);
+        int zoom = 10;
+
+        assertSoftly(softly -> {
+            softly.assertThat(count(zoom, ShelterFilter.NONE, null)).isEqualTo(4);
+            softly.assertThat(count(zoom, airconOnly, null)).isEqualTo(3);
+            softly.assertThat(count(zoom, airconOnly, new OperatingHours.Now(false, 600))).isEqualTo(1);
+            softly.assertThat(count(zoom, airconOnly, new OperatingHours.Now(false, 1400))).isEqualTo(1);
+            softly.assertThat(count(zoom, new ShelterFilter(null, null, 11, null), null)).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("findRowsInGeocellRanges - geocell 구간과 위/경도로 bbox 안 쉼터만 반환하고, geocell 이 비어 있는 행도 포함한다.")
+    void findRowsInGeocellRanges_filtersByRangesAndExactBbox() {
+        shelter(1L, 37.5001, 127.0001, 1, 10);
+        shelter(2L, 37.6500, 127.3000, 0, 20);
+        shelter(3L, 35.1000, 129.0000, 1, 30); // 범위 밖
+        entityManager.persist(Shelter.builder()
+                .shelterId(4L)
+                .name("쉼터 4")
+                .address("주소 4")
+                .latitude(bd(37.4000))
+                .longitude(bd(126.9000))
+                .build()); // geocell 백필 전
+        entityManager.flush();
+        entityManager.clear();
+
+        double minLat = 37.0, minLng = 126.5, maxLat = 38.0, maxLng = 127.5;
+        List<MapShelterRow> rows = shelterRepository.findRowsInGeocellRanges(
+                GeoCell.ranges(minLat, minLng, maxLat, maxLng, GeoCell.MAX_RANGES),
+                bd(minLat), bd(minLng), bd(maxLat), bd(maxLng));
+
+        assertThat(rows).extracting(MapShelterRow::id).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("ShelterDerivedColumnBackfill - geocell 이 비어 있는 행만 위/경도로 채운다.")
+    void backfill_fillsMissingGeocells() {
+        shelter(1L, 37.5001, 127.0001, 1, 10);
+        entityManager.persist(Shelter.builder()
+                .shelterId(2L)
+                .name("쉼터 2")
+                .address("주소 2")
+                .latitude(bd(37.4000))
+                .longitude(bd(126.9000))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        int filled = new ShelterDerivedColumnBackfill(new JdbcTemplate(dataSource)).backfill();
+
+        assertSoftly(softly -> {
+            softly.assertThat(filled).isEqualTo(1);
+            softly.assertThat(shelterRepository.findById(2L).orElseThrow().getGeocell())
+                    .isEqualTo(GeoCell.encode(37.4000, 126.9000));
+        });
+    }
+
+    private int count(int zoom, ShelterFilter filter, OperatingHours.Now now) {
+        return shelterRepository.aggregateFilteredClusters(zoom, bd(37.0), bd(126.5), bd(38.0), bd(127.5),
+                        filter, now).stream()
+                .mapToInt(ClusterFeature::count)
+                .sum();
+    }
+
+    private static Shelter hoursShelter(long id, double lat, double lng, int aircon, Integer open, Integer close) {
+        return Shelter.builder()
+                .shelterId(id)
+                .name("쉼터 " + id)
+                .address("주소 " + id)
+                .latitude(bd(lat))
+                .longitude(bd(lng))
+                .geocell(GeoCell.encode(lat, lng))
+                .airConditionerCount(aircon)
+                .capacity(10)
+                .weekdayOpenMinute(open)
+                .weekdayCloseMinute(close)
+                .build();
+    }
+
+    private void shelter(long id, double lat, double lng, Integer aircon, Integer capacity) {
+        entityManager.persist(Shelter.builder()
+                .shelterId(id)
+                .name("쉼터 " + id)
+                .address("주소 " + id)
+                .latitude(bd(lat))
+                .longitude(bd(lng))
+                .geocell(GeoCell.encode(lat, lng))
+                .airConditionerCount(aircon)
+                .capacity(capacity)
+                .build());
+    }
+
+    private static BigDecimal bd(double v) {
+        return BigDecimal.valueOf(v);
+    }
+}
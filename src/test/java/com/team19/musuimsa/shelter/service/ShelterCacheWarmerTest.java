@@ -0,0 +1,89 @@
+package com.team19.musuimsa.shelter.service;
+
+import com.team19.musuimsa.config.HotKeys;
+import com.team19.musuimsa.shelter.util.MapTiles;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShelterCacheWarmerTest {
+
+    private static final List<MapTiles.Tile> HOTTEST = List.of(
+            MapTiles.of(16, 55880, 25360),
+            MapTiles.of(14, 13970, 6340),
+            MapTiles.of(12, 3492, 1585));
+
+    @Test
+    @DisplayName("전날 요청 상위 타일을 요청 수 순서대로 채운다.")
+    void warmUp_replaysPreviousDayTopTiles() {
+        ShelterTileAccessStats stats = mock(ShelterTileAccessStats.class);
+        ShelterMapService mapService = mock(ShelterMapService.class);
+        when(stats.top(ShelterTileAccessStats.today().minusDays(1), 3)).thenReturn(HOTTEST);
+
+        int warmed = warmer(stats, mapService, 3, Duration.ofSeconds(30)).warmUp();
+
+        assertThat(warmed).isEqualTo(3);
+        verify(mapService).warm(HOTTEST);
+    }
+
+    @Test
+    @DisplayName("시간 예산을 다 쓰면 남은 타일은 채우지 않는다.")
+    void warmUp_stopsWhenBudgetExhausted() {
+        ShelterTileAccessStats stats = mock(ShelterTileAccessStats.class);
+        ShelterMapService mapService = mock(ShelterMapService.class);
+        when(stats.top(any(), anyInt())).thenReturn(HOTTEST);
+
+        int warmed = warmer(stats, mapService, 3, Duration.ZERO).warmUp();
+
+        assertThat(warmed).isZero();
+        verify(mapService, never()).warm(any());
+    }
+
+    @Test
+    @DisplayName("Redis 가 없으면 노드 메모리의 요청 수로 상위 타일을 고른다.")
+    void accessStats_local_ordersByRequestCount() {
+        ShelterTileAccessStats stats = new ShelterTileAccessStats(Optional.empty(), new HotKeys());
+        stats.record(List.of(HOTTEST.get(0), HOTTEST.get(1)));
+        stats.record(List.of(HOTTEST.get(1)));
+        stats.record(List.of(HOTTEST.get(1), HOTTEST.get(2)));
+        stats.record(List.of(HOTTEST.get(2)));
+
+        assertThat(stats.top(ShelterTileAccessStats.today(), 2))
+                .containsExactly(HOTTEST.get(1), HOTTEST.get(2));
+        assertThat(stats.top(ShelterTileAccessStats.today().minusDays(1), 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전날 통계가 없으면 최근 핫 타일로 예열한다.")
+    void warmUp_fallsBackToRecentHotTiles() {
+        ShelterTileAccessStats stats = new ShelterTileAccessStats(Optional.empty(), new HotKeys());
+        ShelterMapService mapService = mock(ShelterMapService.class);
+        stats.record(List.of(HOTTEST.get(2)));
+        stats.record(List.of(HOTTEST.get(2), HOTTEST.get(0)));
+
+        int warmed = warmer(stats, mapService, 10, Duration.ofSeconds(30)).warmUp();
+
+        assertThat(warmed).isEqualTo(2);
+        verify(mapService).warm(List.of(HOTTEST.get(2), HOTTEST.get(0)));
+    }
+
+    private static ShelterCacheWarmer warmer(ShelterTileAccessStats stats, ShelterMapService mapService,
+            int topN, Duration budget) {
+        ShelterCacheWarmer warmer = new ShelterCacheWarmer(stats, mapService);
+        ReflectionTestUtils.setField(warmer, "topN", topN);
+        ReflectionTestUtils.setField(warmer, "budget", budget);
+        return warmer;
+    }
+}
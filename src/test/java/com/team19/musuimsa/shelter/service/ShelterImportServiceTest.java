@@ -5,33 +5,29 @@ import com.team19.musuimsa.shelter.domain.Shelter;
 import com.team19.musuimsa.shelter.dto.ChangedPoint;
 import com.team19.musuimsa.shelter.dto.external.ExternalResponse;
 import com.team19.musuimsa.shelter.dto.external.ExternalShelterItem;
+import com.team19.musuimsa.shelter.index.ShelterSpatialIndex;
 import com.team19.musuimsa.shelter.repository.ShelterRepository;
+import com.team19.musuimsa.shelter.util.MapTiles;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.data.redis.connection.RedisConnection;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.RedisKeyCommands;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.dao.DataAccessResourceFailureException;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.atLeastOnce;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -52,6 +48,10 @@ class ShelterImportServiceTest {
     CacheManager cacheManager;
     @Mock
     Cache sheltersCache;
+    @Mock
+    ShelterTileCache shelterTileCache;
+    @Mock
+    ShelterSpatialIndex shelterSpatialIndex;
 
     @InjectMocks
     ShelterImportService service;
@@ -126,54 +126,45 @@ class ShelterImportServiceTest {
     @Nested
     class CacheInvalidation {
         @Test
-        @DisplayName("Redis를 사용하지 않거나 moved 비어있으면 전체 캐시를 clear한다. ")
-        void invalidate_clearsAll_whenRedisMissingOrMovedEmpty() {
-            ShelterImportService svc = new ShelterImportService(
-                    client, entityManager, cacheManager, Optional.empty()
-            );
-            when(cacheManager.getCache("sheltersMap")).thenReturn(sheltersCache);
-
-            // moved = empty → 전체 clear
-            svc.doInvalidate(List.of());
+        @DisplayName("moved 비어있으면 데이터셋 세대를 올려 전체 무효화한다. ")
+        void invalidate_bumpsGeneration_whenMovedEmpty() {
+            service.doInvalidate(List.of());
 
-            verify(sheltersCache).clear();
+            verify(shelterTileCache).invalidateAll();
+            verify(shelterTileCache, never()).invalidate(any());
+            verifyNoInteractions(cacheManager);
         }
 
         @Test
-        @DisplayName("moved 지정 시 패턴 SCAN 후 선택 삭제(DEL)를 수행한다. ")
-        void invalidate_selectiveDeletion_scansAndDeletes() {
-            StringRedisTemplate redis = mock(StringRedisTemplate.class);
-            RedisConnectionFactory cf = mock(RedisConnectionFactory.class);
-            RedisConnection conn = mock(RedisConnection.class);
-            RedisKeyCommands keys = mock(RedisKeyCommands.class);
-
-            when(redis.getConnectionFactory()).thenReturn(cf);
-            when(cf.getConnection()).thenReturn(conn);
-            when(conn.keyCommands()).thenReturn(keys);
-
-            Cursor<byte[]> cursor = mock(Cursor.class);
-            when(cursor.hasNext()).thenReturn(true, false);
-            when(cursor.next()).thenReturn("k1".getBytes());
-
-            when(keys.scan(any(ScanOptions.class))).thenReturn(cursor);
-            when(keys.del(any(byte[][].class))).thenReturn(1L);
-
-            ShelterImportService svc = new ShelterImportService(
-                    client, entityManager, cacheManager, Optional.of(redis)
-            );
-
+        @DisplayName("moved 지정 시 이전/새 좌표가 속한 타일만 선택 무효화한다. ")
+        void invalidate_selectiveDeletion_byAffectedTiles() {
             List<ChangedPoint> moved = List.of(
                     new ChangedPoint(1L, bd(36.1), bd(127.1), bd(36.2), bd(127.2))
             );
 
-            svc.doInvalidate(moved);
-
-            verify(keys, atLeastOnce()).scan(any(ScanOptions.class));
-            verify(keys, atLeastOnce()).del(any(byte[][].class));
-            verify(conn).close();
+            service.doInvalidate(moved);
 
+            ArgumentCaptor<Collection<MapTiles.Tile>> tiles = ArgumentCaptor.forClass(Collection.class);
+            verify(shelterTileCache).invalidate(tiles.capture());
+            assertThat(tiles.getValue())
+                    .containsAll(MapTiles.affectedBy(36.1, 127.1))
+                    .containsAll(MapTiles.affectedBy(36.2, 127.2));
             verifyNoInteractions(cacheManager);
         }
+
+        @Test
+        @DisplayName("선택 무효화가 실패하면 세대를 올리고, 그마저 실패하면 전체 캐시를 clear한다. ")
+        void invalidate_fallsBackToGenerationThenClear_onFailure() {
+            when(shelterTileCache.invalidate(any())).thenThrow(
+                    new DataAccessResourceFailureException("down"));
+            when(shelterTileCache.invalidateAll()).thenThrow(new IllegalStateException("down"));
+            when(cacheManager.getCache("sheltersMap")).thenReturn(sheltersCache);
+
+            service.doInvalidate(List.of(new ChangedPoint(1L, null, null, bd(36.2), bd(127.2))));
+
+            verify(shelterTileCache).invalidateAll();
+            verify(sheltersCache).clear();
+        }
     }
 
     private static BigDecimal bd(double v) {
@@ -1,10 +1,13 @@
 package com.team19.musuimsa.shelter.service;
 
-import com.team19.musuimsa.shelter.dto.OperatingHoursResponse;
+import com.team19.musuimsa.config.HotKeys;
 import com.team19.musuimsa.shelter.dto.map.MapBoundsRequest;
 import com.team19.musuimsa.shelter.dto.map.MapResponse;
-import com.team19.musuimsa.shelter.dto.map.MapShelterResponse;
+import com.team19.musuimsa.shelter.index.ShelterSpatialIndex;
+import com.team19.musuimsa.shelter.repository.PortableShelterGeoQuery;
 import com.team19.musuimsa.shelter.repository.ShelterRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -15,13 +18,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
+import java.util.Optional;
 
+import static com.team19.musuimsa.shelter.dto.map.MapShelterRowFixture.row;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -31,19 +34,19 @@ class ShelterMapServiceCachingTest {
             .withUserConfiguration(TestConfig.class);
 
     @Test
-    @DisplayName("같은 bbox/zoom/page/size → 두 번째 호출은 캐시 적중으로 repo 1번만 호출")
+    @DisplayName("같은 bbox/zoom/page/size → 두 번째 호출은 타일 캐시 적중으로 repo 미호출")
     void cacheHit_onSameKey() {
         runner.run(ctx -> {
             ShelterMapService svc = ctx.getBean(ShelterMapService.class);
             ShelterRepository repo = ctx.getBean(ShelterRepository.class);
 
-            when(repo.findInBbox(any(), any(), any(), any(), any()))
+            when(repo.findRowsInGeocellRanges(any(), any(), any(), any(), any()))
                     .thenReturn(List.of(
-                            new MapShelterResponse(1L, "A", "주소 A", 37.1, 127.1, null, true, 10, null, new OperatingHoursResponse(null, null), 0.0)
+                            row(1L, 37.1, 127.05)
                     ));
-            when(repo.countInBbox(any(), any(), any(), any())).thenReturn(1);
 
-            MapBoundsRequest req = new MapBoundsRequest(37.0, 127.0, 37.2, 127.2, 14, null, null, 0, 200);
+            MapBoundsRequest req = new MapBoundsRequest(37.05, 127.0, 37.15, 127.1, 14, null, null, 0, 200,
+                    null, null, null, null);
 
             // 1st: DB hit
             MapResponse r1 = svc.getByBbox(req);
@@ -60,22 +63,48 @@ class ShelterMapServiceCachingTest {
     }
 
     @Test
-    @DisplayName("page/size/zoom 달라지면 다른 키 → 캐시 미적용")
-    void differentKey_onDifferentPageOrZoom() {
+    @DisplayName("page 만 다르면 같은 타일을 쓰므로 두 번째 요청은 DB를 호출하지 않는다.")
+    void sameTiles_onDifferentPage() {
         runner.run(ctx -> {
             ShelterMapService svc = ctx.getBean(ShelterMapService.class);
             ShelterRepository repo = ctx.getBean(ShelterRepository.class);
 
-            when(repo.findInBboxWithHours(any(), any(), any(), any(), any()))
+            when(repo.findRowsInGeocellRanges(any(), any(), any(), any(), any()))
                     .thenReturn(List.of());
 
-            MapBoundsRequest page0 = new MapBoundsRequest(37.0, 127.0, 37.2, 127.2, 14, null, null, 0, 200);
-            MapBoundsRequest page1 = new MapBoundsRequest(37.0, 127.0, 37.2, 127.2, 14, null, null, 1, 200);
+            MapBoundsRequest page0 = new MapBoundsRequest(37.05, 127.0, 37.15, 127.1, 14, null, null, 0, 200,
+                    null, null, null, null);
+            MapBoundsRequest page1 = new MapBoundsRequest(37.05, 127.0, 37.15, 127.1, 14, null, null, 1, 200,
+                    null, null, null, null);
 
             svc.getByBbox(page0); // miss
-            svc.getByBbox(page1); // miss (다른 키)
+            clearInvocations(repo);
+            svc.getByBbox(page1); // 모든 타일 hit
 
-            verify(repo, times(2)).findInBboxWithHours(any(), any(), any(), any(), any());
+            verifyNoInteractions(repo);
+        });
+    }
+
+    @Test
+    @DisplayName("타일 단위 hit/miss 가 shelter.map.tile.cache 메트릭으로 기록된다.")
+    void recordsTileHitAndMiss() {
+        runner.run(ctx -> {
+            ShelterMapService svc = ctx.getBean(ShelterMapService.class);
+            ShelterRepository repo = ctx.getBean(ShelterRepository.class);
+            MeterRegistry registry = ctx.getBean(MeterRegistry.class);
+
+            when(repo.findRowsInGeocellRanges(any(), any(), any(), any(), any()))
+                    .thenReturn(List.of());
+
+            MapBoundsRequest req = new MapBoundsRequest(37.56, 126.97, 37.57, 126.985, 16, null, null, 0, 200,
+                    null, null, null, null);
+            svc.getByBbox(req);
+            svc.getByBbox(req);
+
+            double hit = registry.counter("shelter.map.tile.cache", "result", "hit").count();
+            double miss = registry.counter("shelter.map.tile.cache", "result", "miss").count();
+            assertThat(miss).isGreaterThan(0.0);
+            assertThat(hit).isEqualTo(miss);
         });
     }
 
@@ -83,8 +112,20 @@ class ShelterMapServiceCachingTest {
     @Configuration
     static class TestConfig {
         @Bean
-        ShelterMapService shelterMapService(ShelterRepository repo) {
-            return new ShelterMapService(repo);
+        ShelterMapService shelterMapService(ShelterRepository repo, ShelterTileCache tileCache) {
+            return new ShelterMapService(repo, new ShelterSpatialIndex(repo, Optional.empty(), Optional.empty()), new PortableShelterGeoQuery(repo), tileCache,
+                    new ShelterTileAccessStats(Optional.empty(), new HotKeys()));
+        }
+
+        @Bean
+        ShelterTileCache shelterTileCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+            return new ShelterTileCache(cacheManager, Optional.empty(),
+                    new ShelterDatasetGeneration(Optional.empty()), meterRegistry);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
         }
 
         @Bean
@@ -0,0 +1,118 @@
+package com.team19.musuimsa.shelter.service;
+
+import com.team19.musuimsa.config.HotKeys;
+import com.team19.musuimsa.shelter.dto.map.MapBoundsRequest;
+import com.team19.musuimsa.shelter.dto.map.MapResponse;
+import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.index.ShelterSpatialIndex;
+import com.team19.musuimsa.shelter.repository.PortableShelterGeoQuery;
+import com.team19.musuimsa.shelter.repository.ShelterRepository;
+import com.team19.musuimsa.shelter.util.MapTiles;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.team19.musuimsa.shelter.dto.map.MapShelterRowFixture.row;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShelterMapServiceSingleFlightTest {
+
+    private static final int NODES = 4;
+    private static final int CALLERS = 32;
+
+    @Test
+    @DisplayName("여러 노드에서 같은 타일을 동시에 놓쳐도 DB 조회는 한 번이고 모두 같은 결과를 받는다.")
+    void concurrentMissesAcrossNodes_queryDbOnce() throws Exception {
+        // z16 타일 한 장 안쪽의 뷰포트, 쉼터는 타일 중앙에 하나
+        double[] b = MapTiles.of(16, MapTiles.tileX(126.9780, 16), MapTiles.tileY(37.5665, 16)).bounds();
+        double padLat = (b[2] - b[0]) / 4;
+        double padLng = (b[3] - b[1]) / 4;
+        MapBoundsRequest req = new MapBoundsRequest(
+                b[0] + padLat, b[1] + padLng, b[2] - padLat, b[3] - padLng, 16, null, null, null, null, null,
+                null, null, null);
+        MapShelterRow center = row(1L, (b[0] + b[2]) / 2, (b[1] + b[3]) / 2);
+
+        ShelterRepository repo = mock(ShelterRepository.class);
+        AtomicInteger dbQueries = new AtomicInteger();
+        when(repo.findRowsInGeocellRanges(any(), any(), any(), any(), any())).thenAnswer(inv -> {
+            dbQueries.incrementAndGet();
+            Thread.sleep(150);
+            return List.of(center);
+        });
+
+        // 노드들이 공유하는 것: 원격 캐시(L2 역할)와 Redis 락 저장소
+        CacheManager sharedCache = new ConcurrentMapCacheManager("sheltersMap");
+        StringRedisTemplate sharedRedis = inMemoryLockRedis();
+
+        List<ShelterMapService> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            ShelterTileCache tileCache = new ShelterTileCache(sharedCache, Optional.of(sharedRedis),
+                    new ShelterDatasetGeneration(Optional.empty()), new SimpleMeterRegistry());
+            nodes.add(new ShelterMapService(repo, new ShelterSpatialIndex(repo, Optional.empty(), Optional.empty()),
+                    new PortableShelterGeoQuery(repo), tileCache,
+                    new ShelterTileAccessStats(Optional.empty(), new HotKeys())));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MapResponse>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLERS; i++) {
+                ShelterMapService node = nodes.get(i % NODES);
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return node.getByBbox(req);
+                }));
+            }
+            start.countDown();
+
+            for (Future<MapResponse> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS).total()).isEqualTo(1);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(dbQueries.get()).isEqualTo(1);
+    }
+
+    // SET NX PX / 토큰 비교 DEL 만 흉내 내는 Redis. 모든 노드가 같은 인스턴스를 본다
+    @SuppressWarnings("unchecked")
+    private static StringRedisTemplate inMemoryLockRedis() {
+        Map<String, String> locks = new ConcurrentHashMap<>();
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(ops);
+        when(ops.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(inv -> locks.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+        when(redis.execute(any(RedisScript.class), anyList(), any())).thenAnswer(inv -> {
+            String lockKey = inv.<List<String>>getArgument(1).get(0);
+            return locks.remove(lockKey, inv.getArgument(2)) ? 1L : 0L;
+        });
+        return redis;
+    }
+
+}
@@ -1,23 +1,43 @@
 package com.team19.musuimsa.shelter.service;
 
-import com.team19.musuimsa.shelter.dto.OperatingHoursResponse;
+import com.team19.musuimsa.config.HotKeys;
+import com.team19.musuimsa.exception.invalid.InvalidMapCursorException;
+import com.team19.musuimsa.exception.invalid.InvalidMapPageException;
+import com.team19.musuimsa.exception.invalid.InvalidTileException;
+import com.team19.musuimsa.shelter.dto.ShelterFilter;
+import com.team19.musuimsa.shelter.dto.map.ClusterFeature;
 import com.team19.musuimsa.shelter.dto.map.MapBoundsRequest;
 import com.team19.musuimsa.shelter.dto.map.MapResponse;
 import com.team19.musuimsa.shelter.dto.map.MapShelterResponse;
 import com.team19.musuimsa.shelter.dto.map.MapShelterRow;
+import com.team19.musuimsa.shelter.index.ShelterSpatialIndex;
+import com.team19.musuimsa.shelter.repository.PortableShelterGeoQuery;
 import com.team19.musuimsa.shelter.repository.ShelterRepository;
+import com.team19.musuimsa.shelter.util.MapCursor;
+import com.team19.musuimsa.shelter.util.MapTiles;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import java.math.BigDecimal;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
+import static com.team19.musuimsa.shelter.dto.map.MapShelterRowFixture.row;
+import static com.team19.musuimsa.shelter.dto.map.MapShelterRowFixture.shelterRow;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class ShelterMapServiceTest {
@@ -26,30 +46,38 @@ class ShelterMapServiceTest {
     @DisplayName("zoom<13 또는 스팬>3도 → cluster 레벨 반환")
     void clusterLevel_whenZoomLowOrSpanWide() {
         ShelterRepository repo = mock(ShelterRepository.class);
-        ShelterMapService svc = new ShelterMapService(repo);
+        ShelterMapService svc = service(repo);
 
-        OperatingHoursResponse hours = new OperatingHoursResponse("09:00~18:00", "10:00~16:00");
-
-        // repo summary 결과를 3개로 가정 (클러스터링 결과 count는 그룹 수)
-        List<MapShelterResponse> three = List.of(
-                new MapShelterResponse(1L, "A", "주소 A", 37.1, 127.1, "0.5km", true, 10, "u.jpg", hours, 4.0),
-                new MapShelterResponse(2L, "B", "주소 B", 37.1001, 127.1, "0.5km", false, 20, null, hours, 3.0),
-                new MapShelterResponse(3L, "C", "주소 C", 37.5, 127.5, "0.5km", true, 30, null, hours, 5.0)
+        // DB 집계 결과: 쿼리된 범위 안의 셀만 돌려준다
+        List<ClusterFeature> cells = List.of(
+                new ClusterFeature("z11_9880_14015", 37.10005, 127.1, 2, 1, 30L),
+                new ClusterFeature("z11_9899_14038", 37.5, 127.5, 1, 1, 30L)
         );
-        when(repo.findInBbox(any(), any(), any(), any(), any())).thenReturn(three);
+        when(repo.aggregateClusters(anyInt(), any(), any(), any(), any())).thenAnswer(inv -> {
+            double minLat = inv.<BigDecimal>getArgument(1).doubleValue();
+            double minLng = inv.<BigDecimal>getArgument(2).doubleValue();
+            double maxLat = inv.<BigDecimal>getArgument(3).doubleValue();
+            double maxLng = inv.<BigDecimal>getArgument(4).doubleValue();
+            return cells.stream()
+                    .filter(c -> c.latitude() > minLat && c.latitude() <= maxLat
+                            && c.longitude() >= minLng && c.longitude() < maxLng)
+                    .toList();
+        });
 
         // zoom 12 → cluster
         MapResponse r1 = svc.getByBbox(new MapBoundsRequest(
-                37.0, 127.0, 37.6, 127.6, 12, null, null, null, null
+                37.0, 127.0, 37.6, 127.6, 12, null, null, null, null, null, null, null, null
         ));
         assertThat(r1.level()).isEqualTo("cluster");
-        assertThat(r1.items()).isNotEmpty();
-        verify(repo, times(1)).findInBbox(
-                any(BigDecimal.class), any(BigDecimal.class), any(BigDecimal.class), any(BigDecimal.class), any());
+        assertThat(r1.items()).hasSize(2);
+        assertThat(r1.total()).isEqualTo(3);
+        verify(repo, atLeastOnce()).aggregateClusters(anyInt(),
+                any(BigDecimal.class), any(BigDecimal.class), any(BigDecimal.class), any(BigDecimal.class));
+        verify(repo, never()).findRowsInGeocellRanges(any(), any(), any(), any(), any());
 
-        // spanLat > 3.0 → cluster
+        // spanLat > 3.0 → 요청 줌과 무관하게 cluster
         MapResponse r2 = svc.getByBbox(new MapBoundsRequest(
-                30.0, 120.0, 34.5, 122.0, 15, null, null, null, null
+                30.0, 120.0, 34.5, 122.0, 15, null, null, null, null, null, null, null, null
         ));
         assertThat(r2.level()).isEqualTo("cluster");
     }
@@ -58,38 +86,332 @@ class ShelterMapServiceTest {
     @DisplayName("13≤zoom<16 → summary, 16≤zoom → detail")
     void summaryAndDetailLevels_byZoom() {
         ShelterRepository repo = mock(ShelterRepository.class);
-        ShelterMapService svc = new ShelterMapService(repo);
-
-        when(repo.countInBbox(any(), any(), any(), any())).thenReturn(42);
+        ShelterMapService svc = service(repo);
 
         List<MapShelterRow> stubRows = List.of(
-                new MapShelterRow(
-                        1L, "A", "서울시 종로구", 37.5665, 126.9780, true, 10, "u.jpg",
-                        "0900", "1800", "1000", "1600",
-                        42L, 10L // totalRating, reviewCount 추가
-                )
+                shelterRow(1L, 37.5665, 126.9780)
+                        .photoUrl("u.jpg")
+                        .weekday(540, 1080)
+                        .weekend(600, 960)
+                        .rating(42L, 10L)
+                        .build()
         );
 
-        when(repo.findInBboxWithHours(any(), any(), any(), any(), any()))
+        when(repo.findRowsInGeocellRanges(any(), any(), any(), any(), any()))
                 .thenReturn(stubRows);
 
         MapResponse summary = svc.getByBbox(new MapBoundsRequest(
-                37.0, 127.0, 37.2, 127.2, 14, null, null, 0, 200
+                37.55, 126.96, 37.58, 126.99, 14, null, null, 0, 200, null, null, null, null
         ));
         assertThat(summary.level()).isEqualTo("summary");
-        assertThat(summary.total()).isEqualTo(42);
+        assertThat(summary.total()).isEqualTo(1);
         assertThat(((MapShelterResponse) summary.items().get(0)).distance()).isNull();
 
-        // 호출 기록만 초기화(스텁은 유지)
-        clearInvocations(repo);
-
-        // zoom 16 → detail (거리 미계산 테스트)
+        // zoom 16 → detail (사용자 위치가 있으면 요청마다 거리 계산)
         MapResponse detail = svc.getByBbox(new MapBoundsRequest(
-                37.0, 127.0, 37.02, 127.02, 16, null, null, 0, 200
+                37.56, 126.97, 37.57, 126.985, 16, 37.5665, 126.9780, 0, 200, null, null, null, null
         ));
         assertThat(detail.level()).isEqualTo("detail");
-        assertThat(detail.total()).isEqualTo(42);
-        assertThat(((MapShelterResponse) summary.items().get(0)).distance()).isNull();
+        assertThat(detail.total()).isEqualTo(1);
+        assertThat(((MapShelterResponse) detail.items().get(0)).distance()).isEqualTo("0m");
+    }
+
+    @Test
+    @DisplayName("같은 타일을 쓰는 뷰포트는 캐시를 재사용하고, 거리는 요청한 사용자 기준으로 따로 붙는다.")
+    void reusesTiles_andDecoratesDistancePerRequest() {
+        ShelterRepository repo = mock(ShelterRepository.class);
+        ShelterMapService svc = service(repo);
+
+        when(repo.findRowsInGeocellRanges(any(), any(), any(), any(), any())).thenReturn(List.of(
+                row(1L, 37.5665, 126.9780)
+        ));
+
+        MapResponse first = svc.getByBbox(new MapBoundsRequest(
+                37.56, 126.97, 37.57, 126.985, 16, 37.5665, 126.9780, 0, 200, null, null, null, null
+        ));
+        clearInvocations(repo);
+
+        // 살짝 이동한 뷰포트 + 다른 사용자
+        MapResponse second = svc.getByBbox(new MapBoundsRequest(
+                37.5601, 126.9701, 37.5699, 126.9849, 16, 37.5755, 126.9780, 0, 200, null, null, null, null
+        ));
+
+        verifyNoInteractions(repo);
+        assertThat(((MapShelterResponse) first.items().get(0)).distance()).isEqualTo("0m");
+        assertThat(((MapShelterResponse) second.items().get(0)).distance()).isEqualTo("1.0km");
+    }
+
+    @Test
+    @DisplayName("summary 레벨 페이지는 타일을 합친 뒤 shelterId 순으로 자른다.")
+    void pagesComposedTiles_byShelterId() {
+        ShelterRepository repo = mock(ShelterRepository.class);
+        when(repo.findAllMapRows()).thenReturn(List.of(
+                row(3L, 37.561, 126.971), row(1L, 37.569, 126.984),
+                row(2L, 37.565, 126.978), row(4L, 37.9, 127.5)
+        ));
+        ShelterSpatialIndex index = new ShelterSpatialIndex(repo, Optional.empty(), Optional.empty());
+        index.rebuild();
+        ShelterMapService svc = new ShelterMapService(repo, index, new PortableShelterGeoQuery(repo), tileCache(),
+                new ShelterTileAccessStats(Optional.empty(), new HotKeys()));
+
+        MapBoundsRequest page0 = new MapBoundsRequest(37.56, 126.97, 37.57, 126.985, 14, null, null, 0, 2,
+                null, null, null, null);
+        MapBoundsRequest page1 = new MapBoundsRequest(37.56, 126.97, 37.57, 126.985, 14, null, null, 1, 2,
+                null, null, null, null);
+
+        assertThat(svc.getByBbox(page0).items()).extracting(f -> ((MapShelterResponse) f).id())
+                .containsExactly(1L, 2L);
+        assertThat(svc.getByBbox(page1).items()).extracting(f -> ((MapShelterResponse) f).id())
+                .containsExactly(3L);
+        assertThat(svc.getByBbox(page1).total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("cursor 를 넘기면 직전 페이지 마지막 shelterId 다음부터 이어서 반환하고, 마지막 페이지는 nextCursor 가 없다.")
+    void keysetPaging_followsNextCursor() {
+        ShelterRepository repo = mock(ShelterRepository.class);
+        when(repo.findAllMapRows()).thenReturn(List.of(
+                row(5L, 37.562, 126.972), row(2L, 37.563, 126.973), row(9L, 37.564, 126.974),
+                row(7L, 37.565, 126.975), row(3L, 37.566, 126.976)
+        ));
+        ShelterSpatialIndex index = new ShelterSpatialIndex(repo, Optional.empty(), Optional.empty());
+        index.rebuild();
+        ShelterMapService svc = new ShelterMapService(repo, index, new PortableShelterGeoQuery(repo), tileCache(),
+                new ShelterTileAccessStats(Optional.empty(), new HotKeys()));
+
+        MapResponse first = svc.getByBbox(new MapBoundsRequest(
+                37.56, 126.97, 37.57, 126.985, 16, null, null, null, 2, null, false, null, null));
+        assertThat(first.items()).extracting(f -> ((MapShelterResponse) f).id()).containsExactly(2L, 3L);
+        assertThat(first.total()).isNull();
+        assertThat(first.nextCursor()).isEqualTo(MapCursor.encode(3L));
+
+        MapResponse second = svc.getByBbox(new MapBoundsRequest(
+                37.56, 126.97, 37.57, 126.985, 16, null, null, null, 2, first.nextCursor(), null, null, null));
+        assertThat(second.items()).extracting(f -> ((MapShelterResponse) f).id()).containsExactly(5L, 7L);
+        assertThat(second.total()).isEqualTo(5);
+
+        MapResponse last = svc.getByBbox(new MapBoundsRequest(
+                37.56, 126.97, 37.57, 126.985, 16, null, null, null, 2, second.nextCursor(), null, null, null));
+        assertThat(last.items()).extracting(f -> ((MapShelterResponse) f).id()).containsExactly(9L);
+        assertThat(last.nextCursor()).isNull();
+
+        assertThatThrownBy(() -> svc.getByBbox(new MapBoundsRequest(
+                37.56, 126.97, 37.57, 126.985, 16, null, null, null, 2, "not-a-cursor", null, null, null)))
+                .isInstanceOf(InvalidMapCursorException.class);
+    }
+
+    @Test
+    @DisplayName("음수 page 나 1 미만 size 는 잘못된 요청으로 거절한다.")
+    void invalidPageOrSize_isRejected() {
+        ShelterRepository repo = mock(ShelterRepository.class);
+        when(repo.findAllMapRows()).thenReturn(List.of(row(1L, 37.562, 126.972)));
+        ShelterSpatialIndex index = new ShelterSpatialIndex(repo, Optional.empty(), Optional.empty());
+        index.rebuild();
+        ShelterMapService svc = new ShelterMapService(repo, index, new PortableShelterGeoQuery(repo), tileCache(),
+                new ShelterTileAccessStats(Optional.empty(), new HotKeys()));
+
+        assertThatThrownBy(() -> svc.getByBbox(new MapBoundsRequest(
+                37.56, 126.97, 37.57, 126.985, 16, null, null, -1, 2, null, null, null, null)))
+                .isInstanceOf(InvalidMapPageException.class);
+        assertThatThrownBy(() -> svc.getByBbox(new MapBoundsRequest(
+                37.56, 126.97, 37.57, 126.985, 16, null, null, 0, 0, null, null, null, null)))
+                .isInstanceOf(InvalidMapPageException.class);
+        assertThatThrownBy(() -> svc.getByBbox(new MapBoundsRequest(
+                37.56, 126.97, 37.57, 126.985, 16, null, null, 0, -5, null, null, null, null)))
+                .isInstanceOf(InvalidMapPageException.class);
+    }
+
+    @Test
+    @DisplayName("getTile - 타일에 속한 쉼터만 반환하고, 범위를 벗어난 타일 좌표는 예외를 던진다.")
+    void getTile_returnsOwnedSheltersOnly() {
+        ShelterRepository repo = mock(ShelterRepository.class);
+        when(repo.findAllMapRows()).thenReturn(List.of(
+                row(1L, 37.5665, 126.9780), row(2L, 35.1, 129.0)
+        ));
+        ShelterSpatialIndex index = new ShelterSpatialIndex(repo, Optional.empty(), Optional.empty());
+        index.rebuild();
+        ShelterMapService svc = new ShelterMapService(repo, index, new PortableShelterGeoQuery(repo), tileCache(),
+                new ShelterTileAccessStats(Optional.empty(), new HotKeys()));
+
+        int x = MapTiles.tileX(126.9780, 16);
+        int y = MapTiles.tileY(37.5665, 16);
+        MapResponse tile = svc.getTile(16, x, y, null, null);
+
+        assertThat(tile.level()).isEqualTo("detail");
+        assertThat(tile.items()).extracting(f -> ((MapShelterResponse) f).id()).containsExactly(1L);
+
+        assertThatThrownBy(() -> svc.getTile(16, 1 << 16, y, null, null))
+                .isInstanceOf(InvalidTileException.class);
+        assertThatThrownBy(() -> svc.getTile(19, 0, 0, null, null))
+                .isInstanceOf(InvalidTileException.class);
+    }
+
+    @Test
+    @DisplayName("인덱스 스냅샷이 있으면 DB를 호출하지 않고 메모리에서 응답한다.")
+    void servesFromIndex_whenSnapshotReady() {
+        ShelterRepository repo = mock(ShelterRepository.class);
+        when(repo.findAllMapRows()).thenReturn(List.of(
+                shelterRow(1L, 37.1, 127.1).weekday(540, 1080).rating(8L, 2L).build(),
+                shelterRow(2L, 37.5, 127.5).aircon(false).capacity(20).build()
+        ));
+        ShelterSpatialIndex index = new ShelterSpatialIndex(repo, Optional.empty(), Optional.empty());
+        index.rebuild();
+        clearInvocations(repo);
+
+        ShelterMapService svc = new ShelterMapService(repo, index, new PortableShelterGeoQuery(repo), tileCache(),
+                new ShelterTileAccessStats(Optional.empty(), new HotKeys()));
+
+        MapResponse summary = svc.getByBbox(new MapBoundsRequest(
+                37.0, 127.0, 37.2, 127.2, 14, null, null, 0, 200, null, null, null, null
+        ));
+        assertThat(summary.level()).isEqualTo("summary");
+        assertThat(summary.total()).isEqualTo(1);
+        MapShelterResponse item = (MapShelterResponse) summary.items().get(0);
+        assertThat(item.id()).isEqualTo(1L);
+        assertThat(item.operatingHours().weekday()).isEqualTo("09:00~18:00");
+        assertThat(item.averageRating()).isEqualTo(4.0);
+
+        MapResponse cluster = svc.getByBbox(new MapBoundsRequest(
+                37.0, 127.0, 37.6, 127.6, 12, null, null, null, null, null, null, null, null
+        ));
+        assertThat(cluster.level()).isEqualTo("cluster");
+        assertThat(cluster.total()).isEqualTo(2);
+
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    @DisplayName("openNow=true 면 타일에 저장된 운영시간(분)으로 운영 중인 쉼터만 남긴다.")
+    void openNow_filtersByPrecomputedMinutes() {
+        ShelterRepository repo = mock(ShelterRepository.class);
+        ShelterMapService svc = service(repo);
+
+        when(repo.findRowsInGeocellRanges(any(), any(), any(), any(), any())).thenReturn(List.of(
+                // 평일/주말 모두 24시간
+                shelterRow(1L, 37.5665, 126.9780).allDay().build(),
+                // 운영시간 정보 없음
+                row(2L, 37.5666, 126.9781)
+        ));
+
+        MapResponse all = svc.getByBbox(new MapBoundsRequest(
+                37.56, 126.97, 37.57, 126.985, 16, null, null, 0, 200, null, null, false, null));
+        MapResponse open = svc.getByBbox(new MapBoundsRequest(
+                37.56, 126.97, 37.57, 126.985, 16, null, null, 0, 200, null, null, true, null));
+
+        assertThat(all.total()).isEqualTo(2);
+        assertThat(open.total()).isEqualTo(1);
+        assertThat(((MapShelterResponse) open.items().get(0)).id()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("운영시간 분이 아직 백필되지 않은 행은 원본 시간으로 openNow 를 판단하고 표시 문자열을 만든다.")
+    void openNow_fallsBackToRawTimes_beforeBackfill() {
+        ShelterRepository repo = mock(ShelterRepository.class);
+        ShelterMapService svc = service(repo);
+
+        when(repo.findRowsInGeocellRanges(any(), any(), any(), any(), any())).thenReturn(List.of(
+                // 원본 시간만 있는 24시간 쉼터
+                shelterRow(1L, 37.5665, 126.9780).rawTimesOnly(LocalTime.MIDNIGHT, LocalTime.MIDNIGHT).build(),
+                row(2L, 37.5666, 126.9781)
+        ));
+
+        MapResponse open = svc.getByBbox(new MapBoundsRequest(
+                37.56, 126.97, 37.57, 126.985, 16, null, null, 0, 200, null, null, true, null));
+
+        assertThat(open.total()).isEqualTo(1);
+        MapShelterResponse item = (MapShelterResponse) open.items().get(0);
+        assertThat(item.id()).isEqualTo(1L);
+        assertThat(item.operatingHours().weekday()).isEqualTo("00:00~00:00");
+        assertThat(item.operatingHours().weekend()).isEqualTo("00:00~00:00");
+    }
+
+    @Test
+    @DisplayName("속성 필터(실내/에어컨/최소 수용인원)는 타일을 합치는 순회에서 적용되고 total 도 필터 후 개수다.")
+    void attributeFilter_appliedWhileComposing() {
+        ShelterRepository repo = mock(ShelterRepository.class);
+        ShelterMapService svc = service(repo);
+
+        when(repo.findRowsInGeocellRanges(any(), any(), any(), any(), any())).thenReturn(List.of(
+                shelterRow(1L, 37.5665, 126.9780).capacity(80).build(),
+                shelterRow(2L, 37.5666, 126.9781).outdoors(true).capacity(80).build(), // 야외
+                shelterRow(3L, 37.5667, 126.9782).capacity(20).build(), // 수용인원 부족
+                shelterRow(4L, 37.5668, 126.9783).aircon(false).capacity(80).build()  // 에어컨 없음
+        ));
+
+        MapResponse res = svc.getByBbox(new MapBoundsRequest(
+                37.56, 126.97, 37.57, 126.985, 16, null, null, 0, 200, null, null, null,
+                new ShelterFilter(true, false, 50, null)));
+
+        assertThat(res.total()).isEqualTo(1);
+        assertThat(((MapShelterResponse) res.items().get(0)).id()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("타일 수 상한을 넘는 넓은 뷰포트도 요청 줌의 레벨로 응답하고, 타일 캐시 없이 뷰포트를 한 번에 조회한다.")
+    void wideViewport_keepsRequestedLevel() {
+        ShelterRepository repo = mock(ShelterRepository.class);
+        ShelterMapService svc = service(repo);
+        when(repo.findRowsInGeocellRanges(any(), any(), any(), any(), any(), anyInt())).thenReturn(List.of(
+                row(1L, 37.4, 126.8), row(2L, 37.7, 127.2)));
+
+        MapResponse res = svc.getByBbox(new MapBoundsRequest(
+                37.3, 126.7, 37.8, 127.3, 14, null, null, 0, 200, null, null, null, null));
+
+        assertThat(res.level()).isEqualTo("summary");
+        assertThat(res.total()).isEqualTo(2);
+        // 타일 단위로 나눠 조회하지 않고 뷰포트 bbox 로 한 번만, 행 수 상한을 걸어 조회한다
+        verify(repo).findRowsInGeocellRanges(any(), any(), any(), any(), any(),
+                eq(ShelterMapService.MAX_VIEWPORT_ROWS));
+        verify(repo, never()).findRowsInGeocellRanges(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("cluster 레벨에서도 속성 필터/openNow 를 적용해 걸러낸 쉼터만 집계한다 (DB 폴백은 필터를 집계 쿼리로 넘긴다).")
+    void clusterLevel_appliesFilters() {
+        List<MapShelterRow> rows = List.of(
+                shelterRow(1L, 37.1, 127.1).capacity(80).allDay().build(),
+                shelterRow(2L, 37.1001, 127.1001).aircon(false).capacity(80).allDay().build(), // 에어컨 없음
+                shelterRow(3L, 37.5, 127.5).capacity(80).build() // 운영시간 정보 없음
+        );
+        MapBoundsRequest airconOnly = new MapBoundsRequest(37.0, 127.0, 37.6, 127.6, 12, null, null,
+                null, null, null, null, null, new ShelterFilter(true, null, null, null));
+        MapBoundsRequest airconOpenNow = new MapBoundsRequest(37.0, 127.0, 37.6, 127.6, 12, null, null,
+                null, null, null, null, true, new ShelterFilter(true, null, null, null));
+
+        // 스냅샷 경로
+        ShelterRepository indexed = mock(ShelterRepository.class);
+        when(indexed.findAllMapRows()).thenReturn(rows);
+        ShelterSpatialIndex index = new ShelterSpatialIndex(indexed, Optional.empty(), Optional.empty());
+        index.rebuild();
+        ShelterMapService fromIndex = new ShelterMapService(indexed, index, new PortableShelterGeoQuery(indexed),
+                tileCache(), new ShelterTileAccessStats(Optional.empty(), new HotKeys()));
+
+        MapResponse cluster = fromIndex.getByBbox(airconOnly);
+        assertThat(cluster.level()).isEqualTo("cluster");
+        assertThat(cluster.total()).isEqualTo(2);
+        assertThat(fromIndex.getByBbox(airconOpenNow).total()).isEqualTo(1);
+
+        // DB 폴백 경로 (스냅샷 없음): 미리 집계된 셀도, 뷰포트 행도 읽지 않고 필터 집계 쿼리 한 번으로 받는다
+        ShelterRepository repo = mock(ShelterRepository.class);
+        when(repo.aggregateFilteredClusters(anyInt(), any(), any(), any(), any(), any(), any())).thenReturn(List.of(
+                new ClusterFeature("z12_1_1", 37.1, 127.1, 2, 2, 160L)));
+        ShelterMapService fromDb = service(repo);
+
+        assertThat(fromDb.getByBbox(airconOpenNow).total()).isEqualTo(2);
+        verify(repo).aggregateFilteredClusters(eq(12), any(), any(), any(), any(),
+                eq(new ShelterFilter(true, null, null, null)), any());
+        verify(repo, never()).aggregateClusters(anyInt(), any(), any(), any(), any());
+        verify(repo, never()).findRowsInGeocellRanges(any(), any(), any(), any(), any());
+    }
+
+    private static ShelterMapService service(ShelterRepository repo) {
+        return new ShelterMapService(repo, new ShelterSpatialIndex(repo, Optional.empty(), Optional.empty()), new PortableShelterGeoQuery(repo), tileCache(),
+                new ShelterTileAccessStats(Optional.empty(), new HotKeys()));
+    }
+
+    private static ShelterTileCache tileCache() {
+        return new ShelterTileCache(new ConcurrentMapCacheManager("sheltersMap"), Optional.empty(),
+                new ShelterDatasetGeneration(Optional.empty()), new SimpleMeterRegistry());
     }
 
 }
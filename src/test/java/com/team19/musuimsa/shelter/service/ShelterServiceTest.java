@@ -2,8 +2,12 @@ package com.team19.musuimsa.shelter.service;
 
 import com.team19.musuimsa.exception.notfound.ShelterNotFoundException;
 import com.team19.musuimsa.shelter.domain.Shelter;
+import com.team19.musuimsa.shelter.dto.NearbySearchRequest;
 import com.team19.musuimsa.shelter.dto.NearbyShelterResponse;
 import com.team19.musuimsa.shelter.dto.ShelterResponse;
+import com.team19.musuimsa.shelter.index.ShelterIndexSnapshot;
+import com.team19.musuimsa.shelter.index.ShelterSpatialIndex;
+import com.team19.musuimsa.shelter.repository.ShelterGeoQuery;
 import com.team19.musuimsa.shelter.repository.ShelterRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,9 +21,13 @@ import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
+import static com.team19.musuimsa.shelter.dto.map.MapShelterRowFixture.row;
+import static com.team19.musuimsa.shelter.dto.map.MapShelterRowFixture.shelterRow;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +35,10 @@ class ShelterServiceTest {
 
     @Mock
     ShelterRepository repository;
+    @Mock
+    ShelterSpatialIndex shelterSpatialIndex;
+    @Mock
+    ShelterGeoQuery shelterGeoQuery;
     @InjectMocks
     ShelterService service;
 
@@ -75,10 +87,13 @@ class ShelterServiceTest {
                 .photoUrl("https://example.com/shelter2.jpg")
                 .build();
 
-        when(repository.findNearbyShelters(userLat, userLng, 1000)).thenReturn(List.of(s1, s2));
+        // 인덱스 미적재 → bbox 프리필터 쿼리 결과를 거리순으로 정렬
+        when(shelterSpatialIndex.current()).thenReturn(Optional.empty());
+        when(shelterGeoQuery.findNearbyCandidates(anyDouble(), anyDouble(), anyDouble())).thenReturn(List.of(s2, s1));
 
         // when
-        List<NearbyShelterResponse> list = service.findNearbyShelters(userLat, userLng);
+        List<NearbyShelterResponse> list = service.findNearbyShelters(
+                new NearbySearchRequest(userLat, userLng, null, null, null, null));
 
         // then
         assertThat(list).hasSize(2);
@@ -174,4 +189,69 @@ class ShelterServiceTest {
             assertThat(dto.photoUrl()).isEqualTo("https://example.com/shelter1.jpg");
         });
     }
+
+    @DisplayName("findNearbyShelters - 반경 밖 후보는 제외하고 limit 개수만큼 가까운 순으로 자른다.")
+    @Test
+    void findNearbyShelters_appliesRadiusAndLimit() {
+        Shelter near = shelter(1L, 37.5665, 126.9780);
+        Shelter mid = shelter(2L, 37.5700, 126.9780);   // 약 390m
+        Shelter far = shelter(3L, 37.5665, 126.9900);   // 약 1.06km (bbox 모서리 후보)
+
+        when(shelterSpatialIndex.current()).thenReturn(Optional.empty());
+        when(shelterGeoQuery.findNearbyCandidates(anyDouble(), anyDouble(), anyDouble())).thenReturn(List.of(far, mid, near));
+
+        List<NearbyShelterResponse> limited = service.findNearbyShelters(
+                new NearbySearchRequest(37.5665, 126.9780, 1000, 1, null, null));
+        assertThat(limited).extracting(NearbyShelterResponse::shelterId).containsExactly(1L);
+
+        List<NearbyShelterResponse> all = service.findNearbyShelters(
+                new NearbySearchRequest(37.5665, 126.9780, 1000, null, null, null));
+        assertThat(all).extracting(NearbyShelterResponse::shelterId).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("getAllShelters - 인덱스가 있으면 상위 k개 id만 PK로 조회해 거리순으로 반환한다.")
+    @Test
+    void getAllShelters_usesIndex_whenReady() {
+        ShelterIndexSnapshot snapshot = ShelterIndexSnapshot.build(List.of(
+                row(1L, 37.5665, 126.9780),
+                row(2L, 37.5700, 126.9780),
+                row(3L, 37.7000, 126.9780) // 약 14.8km
+        ));
+        when(shelterSpatialIndex.current()).thenReturn(Optional.of(snapshot));
+        when(repository.findAllById(List.of(2L, 1L))).thenReturn(List.of(
+                shelter(1L, 37.5665, 126.9780), shelter(2L, 37.5700, 126.9780)));
+
+        List<NearbyShelterResponse> list = service.getAllShelters(
+                new NearbySearchRequest(37.5700, 126.9780, null, null, null, null));
+
+        assertThat(list).extracting(NearbyShelterResponse::shelterId).containsExactly(2L, 1L);
+        assertThat(list).allSatisfy(dto -> assertThat(dto.distance()).isNull());
+    }
+
+    @DisplayName("findNearbyShelters - openNow=true 면 인덱스의 운영시간(분)으로 운영 중인 쉼터만 top-k 후보로 본다.")
+    @Test
+    void findNearbyShelters_openNow_filtersInIndex() {
+        ShelterIndexSnapshot snapshot = ShelterIndexSnapshot.build(List.of(
+                row(1L, 37.5665, 126.9780), // 운영시간 정보 없음
+                shelterRow(2L, 37.5700, 126.9780).allDay().build() // 24시간
+        ));
+        when(shelterSpatialIndex.current()).thenReturn(Optional.of(snapshot));
+        when(repository.findAllById(List.of(2L))).thenReturn(List.of(shelter(2L, 37.5700, 126.9780)));
+
+        List<NearbyShelterResponse> list = service.findNearbyShelters(
+                new NearbySearchRequest(37.5665, 126.9780, 1000, null, true, null));
+
+        assertThat(list).extracting(NearbyShelterResponse::shelterId).containsExactly(2L);
+    }
+
+    private static Shelter shelter(Long id, double lat, double lng) {
+        return Shelter.builder()
+                .shelterId(id)
+                .name("쉼터" + id)
+                .address("주소" + id)
+                .latitude(BigDecimal.valueOf(lat))
+                .longitude(BigDecimal.valueOf(lng))
+                .build();
+    }
+
 }
@@ -0,0 +1,158 @@
+package com.team19.musuimsa.shelter.service;
+
+import com.team19.musuimsa.shelter.dto.map.MapTile;
+import com.team19.musuimsa.shelter.util.MapTiles;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShelterTileCacheTest {
+
+    private static final MapTile TILE = MapTile.ofClusters("cluster", List.of());
+
+    @Test
+    @DisplayName("Redis 가 아니면 전체 clear 대신 타일 키만 evict 한다.")
+    void invalidate_local_evictsOnlyTileKeys() {
+        ShelterTileCache cache = localCache();
+        MapTiles.Tile moved = MapTiles.of(16, 55880, 25360);
+        MapTiles.Tile untouched = MapTiles.of(16, 55881, 25360);
+        cache.put(moved, moved.cacheKey(0), TILE);
+        cache.put(untouched, untouched.cacheKey(0), TILE);
+
+        cache.invalidate(List.of(moved));
+
+        assertThat(cache.getAll(List.of(moved.cacheKey(0), untouched.cacheKey(0))))
+                .containsOnlyKeys(untouched.cacheKey(0));
+    }
+
+    @Test
+    @DisplayName("invalidateAll 은 세대를 올려 이후 조회 키가 모두 바뀐다.")
+    void invalidateAll_bumpsGeneration() {
+        ShelterTileCache cache = localCache();
+        MapTiles.Tile tile = MapTiles.of(16, 55880, 25360);
+        long before = cache.generation();
+        cache.put(tile, tile.cacheKey(before), TILE);
+
+        cache.invalidateAll();
+
+        long after = cache.generation();
+        assertThat(after).isGreaterThan(before);
+        assertThat(cache.getAll(List.of(tile.cacheKey(after)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis 가 있으면 세대는 INCR 로 올리고 다른 노드가 올린 값도 GET 으로 읽는다.")
+    void generation_sharedThroughRedis() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(ops);
+        when(ops.get(ShelterDatasetGeneration.KEY)).thenReturn("7");
+        when(ops.increment(ShelterDatasetGeneration.KEY)).thenReturn(8L);
+        ShelterDatasetGeneration generation = new ShelterDatasetGeneration(Optional.of(redis));
+
+        assertThat(generation.current()).isEqualTo(7L);
+        assertThat(generation.bump()).isEqualTo(8L);
+        assertThat(generation.current()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("Redis 에 쓸 때 타일 태그 집합에 키를 등록하고 항목 TTL 의 2배로 만료를 건다.")
+    void put_registersKeyInTileTag() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ShelterTileCache cache = redisBackedCache(redis);
+        MapTiles.Tile tile = MapTiles.of(16, 55880, 25360);
+
+        cache.put(tile, tile.cacheKey(0), TILE);
+
+        ArgumentCaptor<RedisCallback> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redis).executePipelined(callback.capture());
+        RedisConnection conn = mock(RedisConnection.class);
+        RedisSetCommands sets = mock(RedisSetCommands.class);
+        RedisKeyCommands keys = mock(RedisKeyCommands.class);
+        when(conn.setCommands()).thenReturn(sets);
+        when(conn.keyCommands()).thenReturn(keys);
+        callback.getValue().doInRedis(conn);
+
+        byte[] tagKey = bytes("musuimsa::sheltersMap::" + tile.tag());
+        verify(sets).sAdd(tagKey, bytes(tile.cacheKey(0)));
+        verify(keys).expire(tagKey, 240L);
+    }
+
+    @Test
+    @DisplayName("무효화는 SCAN 없이 태그 집합의 키와 태그를 UNLINK 한다.")
+    void invalidate_redis_unlinksTaggedKeysWithoutScan() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        RedisConnection conn = mock(RedisConnection.class);
+        RedisKeyCommands keys = mock(RedisKeyCommands.class);
+        when(conn.keyCommands()).thenReturn(keys);
+        when(redis.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of(Set.of("tile:v4:g0:z16:55880:25360")));
+        when(redis.execute(any(RedisCallback.class)))
+                .thenAnswer(inv -> inv.<RedisCallback<?>>getArgument(0).doInRedis(conn));
+
+        ShelterTileCache cache = redisBackedCache(redis);
+        MapTiles.Tile tile = MapTiles.of(16, 55880, 25360);
+
+        int deleted = cache.invalidate(List.of(tile));
+
+        ArgumentCaptor<byte[][]> unlinked = ArgumentCaptor.forClass(byte[][].class);
+        verify(keys).unlink(unlinked.capture());
+        assertThat(Arrays.stream(unlinked.getValue()).map(k -> new String(k, StandardCharsets.UTF_8)))
+                .containsExactlyInAnyOrder(
+                        "musuimsa::sheltersMap::tile:v4:g0:z16:55880:25360",
+                        "musuimsa::sheltersMap::" + tile.tag());
+        verify(keys, never()).scan(any(ScanOptions.class));
+        assertThat(deleted).isEqualTo(1);
+    }
+
+    private static ShelterTileCache localCache() {
+        return new ShelterTileCache(new CaffeineCacheManager("sheltersMap"), Optional.empty(),
+                new ShelterDatasetGeneration(Optional.empty()), new SimpleMeterRegistry());
+    }
+
+    private static ShelterTileCache redisBackedCache(StringRedisTemplate redis) {
+        return new ShelterTileCache(redisCacheManager(), Optional.of(redis),
+                new ShelterDatasetGeneration(Optional.of(redis)), new SimpleMeterRegistry());
+    }
+
+    private static CacheManager redisCacheManager() {
+        RedisCache redisCache = mock(RedisCache.class);
+        when(redisCache.getName()).thenReturn("sheltersMap");
+        when(redisCache.getCacheConfiguration()).thenReturn(RedisCacheConfiguration.defaultCacheConfig()
+                .prefixCacheNameWith("musuimsa::")
+                .entryTtl(Duration.ofSeconds(120)));
+        CacheManager manager = mock(CacheManager.class);
+        when(manager.getCache("sheltersMap")).thenReturn(redisCache);
+        return manager;
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,70 @@
+package com.team19.musuimsa.shelter.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class GeoCellTest {
+
+    @Test
+    @DisplayName("encode - 위/경도 양자화 비트를 교차하고 latBits/lngBits 로 다시 꺼낼 수 있다.")
+    void encode_roundTripsQuantizedBits() {
+        long cell = GeoCell.encode(37.5665, 126.9780);
+
+        assertSoftly(softly -> {
+            softly.assertThat(cell).isPositive();
+            softly.assertThat(GeoCell.latBits(cell)).isEqualTo(GeoCell.quantize(37.5665));
+            softly.assertThat(GeoCell.lngBits(cell)).isEqualTo(GeoCell.quantize(126.9780));
+        });
+    }
+
+    @Test
+    @DisplayName("clusterIndex - 양자화 값의 상위 비트가 ClusterGrid 셀 계산(floor((v + 180) / cellDegrees))과 같다.")
+    void clusterIndex_matchesClusterGridCell() {
+        Random random = new Random(19);
+        for (int i = 0; i < 1000; i++) {
+            double lat = 33 + random.nextDouble() * 6;
+            double lng = 124 + random.nextDouble() * 8;
+            for (int z = 0; z <= ClusterGrid.MAX_CLUSTER_ZOOM; z++) {
+                assertThat(ClusterGrid.row(lat, z))
+                        .isEqualTo((int) Math.floor((lat + 180.0) / ClusterGrid.cellDegrees(z)));
+                assertThat(ClusterGrid.col(lng, z))
+                        .isEqualTo((int) Math.floor((lng + 180.0) / ClusterGrid.cellDegrees(z)));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("ranges - 상한 이하의 정렬된 구간으로 bbox 안 모든 점의 키를 덮는다.")
+    void ranges_coverEveryPointInBbox() {
+        double minLat = 37.40, minLng = 126.80, maxLat = 37.70, maxLng = 127.20;
+        List<GeoCell.Range> ranges = GeoCell.ranges(minLat, minLng, maxLat, maxLng, GeoCell.MAX_RANGES);
+
+        assertThat(ranges).isNotEmpty().hasSizeLessThanOrEqualTo(GeoCell.MAX_RANGES);
+        for (int i = 1; i < ranges.size(); i++) {
+            assertThat(ranges.get(i).from()).isGreaterThan(ranges.get(i - 1).to());
+        }
+
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            double lat = minLat + random.nextDouble() * (maxLat - minLat);
+            double lng = minLng + random.nextDouble() * (maxLng - minLng);
+            long cell = GeoCell.encode(lat, lng);
+            assertThat(ranges).anyMatch(r -> r.from() <= cell && cell <= r.to());
+        }
+        // 모서리 포함
+        long corner = GeoCell.encode(maxLat, maxLng);
+        assertThat(ranges).anyMatch(r -> r.from() <= corner && corner <= r.to());
+    }
+
+    @Test
+    @DisplayName("ranges - 뒤집힌 bbox 는 빈 구간을 반환한다.")
+    void ranges_emptyForInvertedBbox() {
+        assertThat(GeoCell.ranges(38.0, 127.0, 37.0, 128.0, GeoCell.MAX_RANGES)).isEmpty();
+    }
+}
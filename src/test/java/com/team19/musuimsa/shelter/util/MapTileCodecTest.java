@@ -0,0 +1,96 @@
+package com.team19.musuimsa.shelter.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team19.musuimsa.config.RedisCacheConfig;
+import com.team19.musuimsa.shelter.dto.OperatingHoursResponse;
+import com.team19.musuimsa.shelter.dto.map.ClusterFeature;
+import com.team19.musuimsa.shelter.dto.map.MapShelterResponse;
+import com.team19.musuimsa.shelter.dto.map.MapTile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MapTileCodecTest {
+
+    @Test
+    @DisplayName("쉼터 타일은 null 필드와 운영시간/야외 배열까지 그대로 복원된다.")
+    void roundTrip_shelters() {
+        MapTile tile = shelterTile(3);
+
+        MapTile back = MapTileCodec.decode(MapTileCodec.encode(tile));
+
+        assertThat(back.level()).isEqualTo("detail");
+        assertThat(back.shelters()).isEqualTo(tile.shelters());
+        assertThat(back.clusters()).isEmpty();
+        assertThat(back.openMinutes()).containsExactly(tile.openMinutes());
+        assertThat(back.outdoors()).containsExactly(tile.outdoors());
+    }
+
+    @Test
+    @DisplayName("클러스터 타일이 그대로 복원된다.")
+    void roundTrip_clusters() {
+        MapTile tile = MapTile.ofClusters("cluster", List.of(
+                new ClusterFeature("c:12:1:2", 37.5, 127.0, 12, 3, 4_000_000_000L),
+                new ClusterFeature("c:12:1:3", -33.9, 151.2, 1)));
+
+        MapTile back = MapTileCodec.decode(MapTileCodec.encode(tile));
+
+        assertThat(back.level()).isEqualTo("cluster");
+        assertThat(back.clusters()).isEqualTo(tile.clusters());
+        assertThat(back.shelters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("본문이 임계값을 넘으면 압축하고, 기존 JSON 보다 작다.")
+    void largeTile_isCompressedAndSmallerThanJson() {
+        MapTile tile = shelterTile(200);
+
+        byte[] encoded = MapTileCodec.encode(tile);
+        byte[] json = new GenericJackson2JsonRedisSerializer(
+                RedisCacheConfig.cacheObjectMapper(new ObjectMapper())).serialize(tile);
+
+        assertThat(encoded[1] & 1).isEqualTo(1);
+        assertThat(encoded.length).isLessThan(json.length / 4);
+        assertThat(MapTileCodec.decode(encoded).shelters()).isEqualTo(tile.shelters());
+    }
+
+    @Test
+    @DisplayName("형식 버전이 다르면 예외가 난다.")
+    void decode_rejectsUnknownFormat() {
+        assertThatThrownBy(() -> MapTileCodec.decode("{\"level\":1}".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MapTile shelterTile(int n) {
+        List<MapShelterResponse> shelters = new ArrayList<>();
+        int[] minutes = MapTile.newOpenMinutes(n);
+        boolean[] outdoors = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            boolean sparse = i % 3 == 0;
+            shelters.add(new MapShelterResponse(
+                    sparse ? null : 1000L + i * 7L,
+                    "쉼터 " + i,
+                    "서울특별시 중구 세종대로 " + i,
+                    37.5 + i * 1e-4,
+                    126.9 + i * 1e-4,
+                    null,
+                    sparse ? null : i % 2 == 0,
+                    sparse ? null : 10 + i,
+                    sparse ? null : "https://example.com/" + i + ".jpg",
+                    sparse ? null : new OperatingHoursResponse("09:00~18:00", null),
+                    sparse ? null : 4.5));
+            minutes[i * 4] = sparse ? -1 : 540;
+            minutes[i * 4 + 1] = sparse ? -1 : 1080;
+            minutes[i * 4 + 2] = -1;
+            minutes[i * 4 + 3] = 1439;
+            outdoors[i] = i % 5 == 0;
+        }
+        return MapTile.ofShelters("detail", shelters, minutes, outdoors);
+    }
+}
@@ -0,0 +1,70 @@
+package com.team19.musuimsa.shelter.util;
+
+import com.team19.musuimsa.shelter.util.MapTiles.Tile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapTilesTest {
+
+    @Test
+    @DisplayName("좌표가 속한 타일의 경계 안에 그 좌표가 들어가고, 그 타일만 좌표를 소유한다.")
+    void tileBoundsContainOwnedPoint() {
+        double lat = 37.5665;
+        double lng = 126.9780;
+        for (int z = MapTiles.MIN_TILE_ZOOM; z <= MapTiles.MAX_TILE_ZOOM; z++) {
+            Tile tile = MapTiles.of(z, MapTiles.tileX(lng, z), MapTiles.tileY(lat, z));
+            double[] b = tile.bounds();
+
+            assertThat(lat).isBetween(b[0], b[2]);
+            assertThat(lng).isBetween(b[1], b[3]);
+            assertThat(tile.owns(lat, lng)).isTrue();
+            assertThat(new Tile(z, tile.x() + 1, tile.y()).owns(lat, lng)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("레벨과 타일 줌은 요청 줌으로 정하고, 뷰포트 타일 수는 따로 상한을 판단한다.")
+    void levelAndTileZoom_followRequestedZoom() {
+        // 서울 도심 작은 화면: 요청 줌 그대로, 타일 수 상한 이내
+        assertThat(MapTiles.levelFor(37.56, 126.97, 37.57, 126.985, 16)).isEqualTo("detail");
+        assertThat(MapTiles.tileZoomFor("detail", 16)).isEqualTo(16);
+        assertThat(MapTiles.withinTileBudget(37.56, 126.97, 37.57, 126.985, 16)).isTrue();
+
+        // 같은 줌에서 화면만 넓어져도 레벨/타일 줌은 바뀌지 않고 타일 수 상한만 넘는다
+        assertThat(MapTiles.levelFor(37.3, 126.7, 37.8, 127.3, 14)).isEqualTo("summary");
+        assertThat(MapTiles.tileZoomFor("summary", 14)).isEqualTo(14);
+        assertThat(MapTiles.withinTileBudget(37.3, 126.7, 37.8, 127.3, 14)).isFalse();
+
+        // 스팬 3도 초과는 기존과 같이 cluster, 타일 줌은 cluster 상한(12)으로 맞춘다
+        assertThat(MapTiles.levelFor(33.0, 124.5, 38.6, 131.0, 15)).isEqualTo("cluster");
+        assertThat(MapTiles.tileZoomFor("cluster", 15)).isEqualTo(ClusterGrid.MAX_CLUSTER_ZOOM);
+        assertThat(MapTiles.tileZoomFor("cluster", 8)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("covering 은 bbox 네 모서리가 속한 타일을 모두 포함한다.")
+    void covering_includesCornerTiles() {
+        List<Tile> tiles = MapTiles.covering(37.0, 127.0, 37.2, 127.2, 12);
+
+        assertThat(tiles).contains(
+                new Tile(12, MapTiles.tileX(127.0, 12), MapTiles.tileY(37.0, 12)),
+                new Tile(12, MapTiles.tileX(127.2, 12), MapTiles.tileY(37.2, 12)));
+        assertThat(tiles).allMatch(t -> t.cacheKey(0).startsWith("tile:v4:g0:z12:"));
+    }
+
+    @Test
+    @DisplayName("affectedBy 는 모든 타일 줌에서 좌표가 속한 타일을 포함한다.")
+    void affectedBy_containsOwningTileAtEveryZoom() {
+        Set<Tile> affected = MapTiles.affectedBy(37.5665, 126.9780);
+
+        for (int z = MapTiles.MIN_TILE_ZOOM; z <= MapTiles.MAX_TILE_ZOOM; z++) {
+            assertThat(affected).contains(
+                    new Tile(z, MapTiles.tileX(126.9780, z), MapTiles.tileY(37.5665, z)));
+        }
+    }
+}
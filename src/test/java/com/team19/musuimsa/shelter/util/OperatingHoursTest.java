@@ -0,0 +1,60 @@
+package com.team19.musuimsa.shelter.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class OperatingHoursTest {
+
+    @Test
+    @DisplayName("isOpen - 시작 <= 현재 < 종료, 자정을 넘기는 운영, 24시간, 모르는 시간을 구분한다.")
+    void isOpen_handlesRangesAndUnknown() {
+        assertSoftly(softly -> {
+            softly.assertThat(OperatingHours.isOpen(540, 1080, 540)).isTrue();
+            softly.assertThat(OperatingHours.isOpen(540, 1080, 1079)).isTrue();
+            softly.assertThat(OperatingHours.isOpen(540, 1080, 1080)).isFalse();
+            softly.assertThat(OperatingHours.isOpen(540, 1080, 300)).isFalse();
+
+            // 22:00 ~ 06:00
+            softly.assertThat(OperatingHours.isOpen(1320, 360, 1400)).isTrue();
+            softly.assertThat(OperatingHours.isOpen(1320, 360, 100)).isTrue();
+            softly.assertThat(OperatingHours.isOpen(1320, 360, 720)).isFalse();
+
+            softly.assertThat(OperatingHours.isOpen(0, 0, 720)).isTrue();
+            softly.assertThat(OperatingHours.isOpen(OperatingHours.UNKNOWN, 1080, 720)).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("display/minutes - import 시 미리 만드는 표시 문자열과 분 값")
+    void display_andMinutes() {
+        assertSoftly(softly -> {
+            softly.assertThat(OperatingHours.display(LocalTime.of(9, 0), LocalTime.of(18, 30)))
+                    .isEqualTo("09:00~18:30");
+            softly.assertThat(OperatingHours.display(LocalTime.of(9, 0), null)).isEqualTo("09:00~");
+            softly.assertThat(OperatingHours.display(null, null)).isNull();
+            softly.assertThat(OperatingHours.minutes(LocalTime.of(18, 30))).isEqualTo(1110);
+            softly.assertThat(OperatingHours.minutes(null)).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Now.of - UTC 시계를 KST 요일/분으로 바꾼다.")
+    void now_usesKst() {
+        // 2025-08-08(금) 15:30 UTC = 2025-08-09(토) 00:30 KST
+        Clock clock = Clock.fixed(Instant.parse("2025-08-08T15:30:00Z"), ZoneOffset.UTC);
+
+        OperatingHours.Now now = OperatingHours.Now.of(clock);
+
+        assertSoftly(softly -> {
+            softly.assertThat(now.weekend()).isTrue();
+            softly.assertThat(now.minute()).isEqualTo(30);
+        });
+    }
+}
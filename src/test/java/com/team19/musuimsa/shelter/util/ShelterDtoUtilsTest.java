@@ -40,6 +40,27 @@ class ShelterDtoUtilsTest {
         assertThat(ShelterDtoUtils.formatDistance(1500.0)).isEqualTo("1.5km");
     }
 
+    @DisplayName("formatDistance - 포매터 없이 만든 km 문자열이 String.format(\"%.1fkm\") 과 같다.")
+    @Test
+    void formatDistance_matchesStringFormat() {
+        for (int i = 0; i < 200_000; i++) {
+            double meters = 1000 + i * 0.25;
+            assertThat(ShelterDtoUtils.formatDistance(meters))
+                    .isEqualTo(String.format(java.util.Locale.US, "%.1fkm", meters / 1000.0));
+        }
+    }
+
+    @DisplayName("DistanceOrigin - 사용자 쪽 값을 미리 계산해도 haversineMeters 와 같은 거리를 낸다.")
+    @Test
+    void distanceOrigin_matchesHaversine() {
+        DistanceOrigin origin = new DistanceOrigin(37.5665, 126.9780);
+        assertThat(origin.metersTo(37.5651, 126.9895))
+                .isEqualTo(ShelterDtoUtils.haversineMeters(37.5665, 126.9780, 37.5651, 126.9895));
+        assertThat(origin.metersTo(35.1796, 129.0756))
+                .isCloseTo(ShelterDtoUtils.haversineMeters(37.5665, 126.9780, 35.1796, 129.0756),
+                        offset(1e-6));
+    }
+
     @DisplayName("distanceBetween - 동일 좌표면 '0m', 떨어져 있으면 'Y.Ykm' 형식")
     @Test
     void distanceBetween_formatsString() {
@@ -0,0 +1,99 @@
+package com.team19.musuimsa.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeySketchTest {
+
+    @Test
+    @DisplayName("동시 기록에서도 소수의 핫 키가 상위를 차지하고, 추정치는 실제보다 작지 않다.")
+    void concurrentRecording_findsHeavyHitters() throws Exception {
+        HotKeySketch sketch = new HotKeySketch(1024, 10, 100);
+        int threads = 8;
+        int perThread = 50_000;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> done = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            done.add(pool.submit(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < perThread; i++) {
+                    // 25% 는 핫 키 3개, 나머지는 2만 개 롱테일
+                    String key = random.nextInt(4) == 0 ? "hot" + random.nextInt(3) : "cold" + random.nextInt(20_000);
+                    sketch.add(key);
+                }
+            }));
+        }
+        for (Future<?> f : done) {
+            f.get();
+        }
+        pool.shutdown();
+
+        assertThat(sketch.total()).isEqualTo((long) threads * perThread);
+        assertThat(sketch.top(3)).extracting(HotKeySketch.Entry::key)
+                .containsExactlyInAnyOrder("hot0", "hot1", "hot2");
+        // 핫 키 하나당 실제 약 33,000 회
+        assertThat(sketch.estimate("hot0")).isGreaterThan(30_000);
+        assertThat(sketch.isHot("hot1")).isTrue();
+        assertThat(sketch.isHot("cold7")).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘라내기 전이라도 추정치가 최소 기준에 못 미치는 후보는 핫 키가 아니다.")
+    void isHot_requiresMinimumEstimate() {
+        HotKeySketch sketch = new HotKeySketch(1024, 10, 5);
+        for (int i = 0; i < 5; i++) {
+            sketch.add("busy");
+        }
+        sketch.add("once");
+
+        assertThat(sketch.top(10)).extracting(HotKeySketch.Entry::key).contains("busy", "once");
+        assertThat(sketch.isHot("busy")).isTrue();
+        assertThat(sketch.isHot("once")).isFalse();
+
+        // decay 로 floor 가 0 으로 내려가도 기준은 그대로다
+        sketch.decay();
+        assertThat(sketch.isHot("busy")).isFalse();
+    }
+
+    @Test
+    @DisplayName("String.hashCode 가 같은 키끼리도 행마다 다른 칸에 기록되어 추정치가 섞이지 않는다.")
+    void equalHashCodes_doNotShareCounters() {
+        HotKeySketch sketch = new HotKeySketch(1024, 10, 1);
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        for (int i = 0; i < 1_000; i++) {
+            sketch.add("Aa");
+        }
+
+        assertThat(sketch.estimate("Aa")).isEqualTo(1_000);
+        assertThat(sketch.estimate("BB")).isZero();
+    }
+
+    @Test
+    @DisplayName("decay 는 카운터를 절반으로 줄여 예전 핫 키가 밀려나게 한다.")
+    void decay_halvesCounts() {
+        HotKeySketch sketch = new HotKeySketch(256, 2, 1);
+        for (int i = 0; i < 100; i++) {
+            sketch.add("old");
+        }
+
+        sketch.decay();
+        sketch.decay();
+        for (int i = 0; i < 40; i++) {
+            sketch.add("new");
+        }
+
+        assertThat(sketch.estimate("old")).isEqualTo(25);
+        assertThat(sketch.top(1)).extracting(HotKeySketch.Entry::key).containsExactly("new");
+    }
+}
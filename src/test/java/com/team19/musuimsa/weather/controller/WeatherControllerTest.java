@@ -1,6 +1,7 @@
 package com.team19.musuimsa.weather.controller;
 
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -8,8 +9,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team19.musuimsa.weather.dto.HeatForecastResponse;
+import com.team19.musuimsa.weather.dto.Nowcast;
 import com.team19.musuimsa.weather.dto.WeatherResponse;
 import com.team19.musuimsa.weather.service.WeatherService;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -57,4 +61,48 @@ public class WeatherControllerTest {
                 .andExpect(jsonPath("$.baseDate").value("20251003"))
                 .andExpect(jsonPath("$.baseTime").value("1500"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("/api/weather/nowcast 호출 시 200 OK와 체감온도를 포함한 실황을 반환한다")
+    void getNowcast_ReturnsApparentTemperature_200OK() throws Exception {
+        // Given
+        Nowcast nowcast = new Nowcast(33.0, 90.0, 1.0, null, "20251003", "1500");
+
+        given(weatherService.getNowcast(anyDouble(), anyDouble())).willReturn(nowcast);
+
+        // When & Then
+        mockMvc.perform(get("/api/weather/nowcast")
+                        .param("latitude", String.valueOf(36.3504))
+                        .param("longitude", String.valueOf(127.3845))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.temperature").value(33.0))
+                .andExpect(jsonPath("$.apparentTemperature").value(36.0))
+                .andExpect(jsonPath("$.humidity").value(90.0))
+                .andExpect(jsonPath("$.rainfall1h").doesNotExist())
+                .andExpect(jsonPath("$.baseTime").value("1500"));
+    }
+
+    @Test
+    @DisplayName("/api/weather/forecast/hours-above 호출 시 기준 기온 기본값 33도로 예보 시간 수를 반환한다")
+    void getHoursAbove_DefaultThreshold_200OK() throws Exception {
+        // Given
+        HeatForecastResponse response = new HeatForecastResponse(33.0, 1, "202510031600",
+                List.of(new HeatForecastResponse.HourlyTemperature("202510031500", 32.0, 60.0, false),
+                        new HeatForecastResponse.HourlyTemperature("202510031600", 33.5, 55.0, true)),
+                "20251003", "1430");
+
+        given(weatherService.getHoursAbove(anyDouble(), anyDouble(), eq(33.0))).willReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/weather/forecast/hours-above")
+                        .param("latitude", String.valueOf(36.3504))
+                        .param("longitude", String.valueOf(127.3845))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hoursAbove").value(1))
+                .andExpect(jsonPath("$.firstAboveAt").value("202510031600"))
+                .andExpect(jsonPath("$.hours[1].above").value(true))
+                .andExpect(jsonPath("$.baseTime").value("1430"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.team19.musuimsa.weather.service;
+
+import com.team19.musuimsa.weather.dto.UltraShortForecast;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForecastCacheTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("Redis 저장 형식은 결측(NaN)까지 그대로 복원된다.")
+    void encode_roundTrip() {
+        UltraShortForecast forecast = new UltraShortForecast("20250701", "1330", 484_000L,
+                new float[]{31.5f, Float.NaN, 33.0f}, new float[]{60f, 55f, Float.NaN});
+
+        UltraShortForecast decoded = ForecastCache.decode(ForecastCache.encode(forecast));
+
+        assertThat(decoded.baseDate()).isEqualTo("20250701");
+        assertThat(decoded.baseTime()).isEqualTo("1330");
+        assertThat(decoded.firstHour()).isEqualTo(484_000L);
+        assertThat(decoded.temperatures()).containsExactly(31.5f, Float.NaN, 33.0f);
+        assertThat(decoded.humidity()).containsExactly(60f, 55f, Float.NaN);
+        assertThat(ForecastCache.decode("broken")).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis 없이도 노드 로컬 캐시에서 마지막 수집분을 읽는다.")
+    void get_withoutRedis_readsLocal() {
+        Clock clock = Clock.fixed(ZonedDateTime.of(2025, 7, 1, 14, 50, 0, 0, KST).toInstant(), KST);
+        ForecastCache cache = new ForecastCache(Optional.empty(), 100, clock);
+        UltraShortForecast forecast = new UltraShortForecast("20250701", "1330", 484_000L,
+                new float[]{31.5f}, new float[]{60f});
+
+        cache.put("60-127", forecast);
+
+        assertThat(cache.get("60-127")).containsSame(forecast);
+        assertThat(cache.get("61-127")).isEmpty();
+    }
+}
@@ -0,0 +1,144 @@
+package com.team19.musuimsa.weather.service;
+
+import com.team19.musuimsa.weather.dto.NxNy;
+import com.team19.musuimsa.weather.util.KmaTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KmaHedgedFetcherTest {
+
+    private static final KmaTime.Base BASE = new KmaTime.Base("20250701", "1400");
+    private static final NxNy GRID = new NxNy(60, 127);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("최신 기준시각이 바로 성공하면 폴백 후보는 호출하지 않는다.")
+    void latestSucceeds_noFallbackCalls() throws Exception {
+        KmaHedgedFetcher<Double> fetcher = fetcher(Duration.ofMillis(500), (base, grid) -> 33.0);
+
+        KmaHedgedFetcher.Result<Double> result = fetcher.fetch(BASE, GRID, 0, 1, 2);
+
+        assertThat(result.value()).isEqualTo(33.0);
+        assertThat(result.minusHours()).isZero();
+        Thread.sleep(700);
+        assertThat(calls.keySet()).containsExactly("1400");
+    }
+
+    @Test
+    @DisplayName("최신 기준시각이 늦으면 폴백을 겹쳐 보내되, 최신 기준시각 응답을 쓴다.")
+    void latestSlow_hedgesButFreshestWins() {
+        KmaHedgedFetcher<Double> fetcher = fetcher(Duration.ofMillis(20), (base, grid) -> {
+            if (base.time().equals("1400")) {
+                sleep(300);
+                return 33.0;
+            }
+            return 31.0;
+        });
+
+        KmaHedgedFetcher.Result<Double> result = fetcher.fetch(BASE, GRID, 0, 1, 2);
+
+        assertThat(result.value()).isEqualTo(33.0);
+        assertThat(result.usedBase()).isEqualTo(BASE);
+        assertThat(calls).containsKeys("1400", "1300");
+    }
+
+    @Test
+    @DisplayName("무자료 후보는 기다리지 않고 다음 후보로 넘어가 가장 최신 성공 응답을 쓴다.")
+    void emptyLatest_fallsBackWithoutWaitingForDelay() {
+        KmaHedgedFetcher<Double> fetcher = fetcher(Duration.ofSeconds(10), (base, grid) -> {
+            if (base.time().equals("1400")) {
+                return null;
+            }
+            if (base.time().equals("1300")) {
+                throw new IllegalStateException("timeout");
+            }
+            return 30.0;
+        });
+
+        long t0 = System.nanoTime();
+        KmaHedgedFetcher.Result<Double> result = fetcher.fetch(BASE, GRID, 0, 1, 2);
+
+        assertThat(result.value()).isEqualTo(30.0);
+        assertThat(result.usedBase()).isEqualTo(new KmaTime.Base("20250701", "1200"));
+        assertThat(result.minusHours()).isEqualTo(2);
+        assertThat(Duration.ofNanos(System.nanoTime() - t0)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("모든 후보가 무자료면 빈 결과를 돌려준다.")
+    void allEmpty_returnsEmpty() {
+        KmaHedgedFetcher<Double> fetcher = fetcher(Duration.ofMillis(10), (base, grid) -> null);
+
+        assertThat(fetcher.fetch(BASE, GRID, 0, 1, 2).value()).isNull();
+        assertThat(calls.keySet()).containsExactlyInAnyOrder("1400", "1300", "1200");
+    }
+
+    @Test
+    @DisplayName("같은 격자·기준시각의 동시 요청은 진행 중인 KMA 호출 하나를 공유한다.")
+    void concurrentRequests_shareInFlightCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        KmaHedgedFetcher<Double> fetcher = fetcher(Duration.ofSeconds(10), (base, grid) -> {
+            await(release);
+            return 33.0;
+        });
+
+        List<Future<KmaHedgedFetcher.Result<Double>>> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 16; i++) {
+                results.add(callers.submit(() -> fetcher.fetch(BASE, GRID, 0, 1, 2)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+        }
+
+        for (Future<KmaHedgedFetcher.Result<Double>> result : results) {
+            assertThat(result.get().value()).isEqualTo(33.0);
+        }
+        assertThat(calls.get("1400").get()).isEqualTo(1);
+    }
+
+    private KmaHedgedFetcher<Double> fetcher(Duration hedgeDelay, KmaHedgedFetcher.Fetch<Double> kma) {
+        return new KmaHedgedFetcher<>((base, grid) -> {
+            calls.computeIfAbsent(base.time(), t -> new AtomicInteger()).incrementAndGet();
+            return kma.fetch(base, grid);
+        }, executor, hedgeDelay);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.team19.musuimsa.weather.service;
+
+import com.team19.musuimsa.weather.domain.GridTemperatureHistory;
+import com.team19.musuimsa.weather.dto.Nowcast;
+import com.team19.musuimsa.weather.repository.GridTemperatureHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TemperatureHistoryTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final String GRID = "60-127";
+
+    // 14:30 KST → 최신 기준시각 1400
+    private final Clock clock = Clock.fixed(ZonedDateTime.of(2025, 7, 1, 14, 30, 0, 0, KST).toInstant(), KST);
+    private final GridTemperatureHistoryRepository repository = mock(GridTemperatureHistoryRepository.class);
+
+    @Test
+    @DisplayName("최근 관측과 n시간 전 관측의 차이로 상승 폭을 구한다.")
+    void rise_comparesLatestWithHoursAgo() {
+        TemperatureHistory history = new TemperatureHistory(repository, clock);
+        record(history, "1100", 30.5);
+        record(history, "1200", 31.0);
+        record(history, "1300", 32.0);
+        record(history, "1400", 33.0);
+        // 같은 기준시각은 덮어쓴다
+        record(history, "1400", 33.5);
+
+        assertThat(history.rise(GRID, 3).getAsDouble()).isCloseTo(3.0, within(1e-6));
+        assertThat(history.rise(GRID, 1).getAsDouble()).isCloseTo(1.5, within(1e-6));
+        assertThat(history.rise(GRID, 4)).isEmpty();
+        assertThat(history.rise("61-127", 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("관측이 빠진 시각이나 오래된 최근 관측으로는 추세를 판단하지 않는다.")
+    void rise_emptyWhenMissingOrStale() {
+        TemperatureHistory history = new TemperatureHistory(repository, clock);
+        record(history, "0900", 29.0);
+        record(history, "1100", 31.0);
+
+        // 14시 기준 최근 관측(11시)이 2시간 넘게 지났다
+        assertThat(history.rise(GRID, 2)).isEmpty();
+
+        record(history, "1400", 33.0);
+        // 11시는 있지만 13시 -1h(=13시)는 빠져 있다
+        assertThat(history.rise(GRID, 3).getAsDouble()).isCloseTo(2.0, within(1e-6));
+        assertThat(history.rise(GRID, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장 시 다른 노드가 남긴 시각을 합치고, 재기동하면 복구한다.")
+    @SuppressWarnings("unchecked")
+    void flush_mergesExistingRowAndLoadRestores() {
+        long hour14 = TemperatureHistory.epochHour("20250701", "1400");
+        float[] other = new float[TemperatureHistory.HOURS];
+        Arrays.fill(other, Float.NaN);
+        other[(int) ((hour14 - 3) % TemperatureHistory.HOURS)] = 30.0f;
+        other[(int) (hour14 % TemperatureHistory.HOURS)] = 99.0f;
+        GridTemperatureHistory existing = new GridTemperatureHistory(GRID, hour14, TemperatureHistory.encode(other));
+        when(repository.findAllById(any())).thenReturn(List.of(existing));
+
+        TemperatureHistory history = new TemperatureHistory(repository, clock);
+        record(history, "1400", 33.0);
+        history.flush();
+
+        ArgumentCaptor<List<GridTemperatureHistory>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(saved.capture());
+        verify(repository).deleteStaleBefore(anyLong());
+        GridTemperatureHistory row = saved.getValue().get(0);
+        assertThat(row.getLatestHour()).isEqualTo(hour14);
+
+        // 이 노드 값(33.0)은 유지하고 비어 있던 11시만 채운다
+        when(repository.findByLatestHourGreaterThanEqual(anyLong())).thenReturn(List.of(row));
+        TemperatureHistory restarted = new TemperatureHistory(repository, clock);
+        restarted.load();
+        assertThat(restarted.rise(GRID, 3).getAsDouble()).isCloseTo(3.0, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("24시간 기온은 96바이트로 저장된다.")
+    void encode_roundTrip() {
+        float[] values = new float[TemperatureHistory.HOURS];
+        Arrays.fill(values, Float.NaN);
+        values[5] = -3.5f;
+        values[23] = 36.1f;
+
+        byte[] bytes = TemperatureHistory.encode(values);
+
+        assertThat(bytes).hasSize(96);
+        assertThat(TemperatureHistory.decode(bytes)).containsExactly(values);
+    }
+
+    private static void record(TemperatureHistory history, String baseTime, double temperature) {
+        history.record(GRID, new Nowcast(temperature, null, null, null, "20250701", baseTime));
+    }
+}
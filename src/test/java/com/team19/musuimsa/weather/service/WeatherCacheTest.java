@@ -0,0 +1,152 @@
+package com.team19.musuimsa.weather.service;
+
+import com.team19.musuimsa.weather.dto.Nowcast;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherCacheTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // 14:30 KST → 최신 기준시각 1400
+    private final MutableClock clock = new MutableClock(ZonedDateTime.of(2025, 7, 1, 14, 30, 0, 0, KST).toInstant());
+
+    @Test
+    @DisplayName("값이 없으면 KMA 를 한 번 기다리고, 최신 기준시각 값은 다음 조회부터 캐시에서 읽는다.")
+    void miss_loadsOnceThenServesFromCache() {
+        WeatherCache cache = cache(Runnable::run);
+        AtomicInteger calls = new AtomicInteger();
+
+        Nowcast first = cache.get("60-127", () -> {
+            calls.incrementAndGet();
+            return nowcast(33.5, "20250701", "1400");
+        });
+        clock.advance(Duration.ofMinutes(30));
+        Nowcast second = cache.get("60-127", () -> {
+            calls.incrementAndGet();
+            return nowcast(0.0, "20250701", "1400");
+        });
+
+        assertThat(first.temperature()).isEqualTo(33.5);
+        assertThat(second).isEqualTo(first);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(cache.activeGrids()).containsExactly("60-127");
+    }
+
+    @Test
+    @DisplayName("오래된 값은 KMA 를 기다리지 않고 바로 반환하고, 갱신은 백그라운드에서 격자당 한 번만 한다.")
+    void stale_servedImmediatelyWhileRevalidating() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        WeatherCache cache = cache(executor);
+        // KMA 지연으로 한 시간 전 기준시각 값을 받아 둔 상태
+        cache.get("60-127", () -> nowcast(31.0, "20250701", "1300"));
+        clock.advance(Duration.ofMinutes(11));
+
+        CountDownLatch kmaSlow = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            for (int i = 0; i < 5; i++) {
+                Nowcast stale = cache.get("60-127", () -> {
+                    calls.incrementAndGet();
+                    await(kmaSlow);
+                    return nowcast(33.0, "20250701", "1400");
+                });
+                assertThat(stale.baseTime()).isEqualTo("1300");
+            }
+            kmaSlow.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(cache.get("60-127", () -> {
+            throw new AssertionError("KMA 를 다시 호출하면 안 된다");
+        }).temperature()).isEqualTo(33.0);
+    }
+
+    @Test
+    @DisplayName("refresh-ahead 는 재확인 간격 안이어도 최신 기준시각 값이 아니면 다시 받는다.")
+    void refresh_forcesLatestBase() {
+        WeatherCache cache = cache(Runnable::run);
+        cache.get("60-127", () -> nowcast(31.0, "20250701", "1300"));
+
+        Nowcast refreshed = cache.refresh("60-127", () -> nowcast(32.0, "20250701", "1400"));
+        Nowcast again = cache.refresh("60-127", () -> {
+            throw new AssertionError("이미 최신 기준시각이면 다시 받지 않는다");
+        });
+
+        assertThat(refreshed.baseTime()).isEqualTo("1400");
+        assertThat(again).isEqualTo(refreshed);
+    }
+
+    @Test
+    @DisplayName("Redis 저장 형식은 그대로 복원된다.")
+    void encode_roundTrip() {
+        WeatherCache.CachedWeather entry = new WeatherCache.CachedWeather(
+                new Nowcast(-3.5, 45.0, 4.2, null, "20250101", "0600"), 1_735_680_000_000L);
+
+        assertThat(WeatherCache.decode(WeatherCache.encode(entry))).isEqualTo(entry);
+        assertThat(WeatherCache.decode("broken")).isNull();
+    }
+
+    private static Nowcast nowcast(double temperature, String baseDate, String baseTime) {
+        return new Nowcast(temperature, 60.0, 1.5, 0.0, baseDate, baseTime);
+    }
+
+    private WeatherCache cache(Executor executor) {
+        return new WeatherCache(Optional.empty(), 100, Duration.ofHours(3), Duration.ofMinutes(10), clock, executor);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return KST;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
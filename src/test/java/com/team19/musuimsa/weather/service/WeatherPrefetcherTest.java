@@ -0,0 +1,129 @@
+package com.team19.musuimsa.weather.service;
+
+import com.team19.musuimsa.shelter.repository.ShelterRepository;
+import com.team19.musuimsa.user.repository.UserRepository;
+import com.team19.musuimsa.weather.dto.Nowcast;
+import com.team19.musuimsa.weather.dto.NxNy;
+import com.team19.musuimsa.weather.util.KmaGrid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WeatherPrefetcherTest {
+
+    private final ShelterRepository shelterRepository = mock(ShelterRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final WeatherService weatherService = mock(WeatherService.class);
+    private final WeatherCache weatherCache = mock(WeatherCache.class);
+
+    @Test
+    @DisplayName("최근 요청·사용자·쉼터 격자를 중복 없이 한 번씩, 요청 격자부터 선조회한다.")
+    void targetGrids_unionWithoutDuplicates() {
+        NxNy seoul = KmaGrid.fromLatLon(37.5665, 126.9780);
+        NxNy daejeon = KmaGrid.fromLatLon(36.3504, 127.3845);
+        NxNy busan = KmaGrid.fromLatLon(35.1796, 129.0756);
+        when(weatherCache.activeGrids()).thenReturn(List.of(daejeon.nx() + "-" + daejeon.ny(), "broken"));
+        when(userRepository.findAllLastLocations()).thenReturn(List.<Object[]>of(
+                new Object[]{new BigDecimal("37.5665"), new BigDecimal("126.9780")},
+                new Object[]{new BigDecimal("36.3504"), new BigDecimal("127.3845")}));
+        when(shelterRepository.findAllCoordinates()).thenReturn(List.<Object[]>of(
+                new Object[]{37.5666, 126.9781},
+                new Object[]{35.1796, 129.0756},
+                new Object[]{null, 127.0}));
+
+        assertThat(prefetcher(8).targetGrids()).containsExactly(daejeon, seoul, busan);
+    }
+
+    @Test
+    @DisplayName("초단기예보는 최근 요청·사용자 격자만 받고 쉼터 격자는 받지 않는다.")
+    void prefetchForecasts_skipsShelterGrids() {
+        NxNy seoul = KmaGrid.fromLatLon(37.5665, 126.9780);
+        NxNy daejeon = KmaGrid.fromLatLon(36.3504, 127.3845);
+        when(weatherCache.tryAcquireRefreshSlot(any())).thenReturn(true);
+        when(weatherCache.activeGrids()).thenReturn(List.of(daejeon.nx() + "-" + daejeon.ny()));
+        when(userRepository.findAllLastLocations()).thenReturn(List.<Object[]>of(
+                new Object[]{new BigDecimal("37.5665"), new BigDecimal("126.9780")}));
+        Set<NxNy> called = ConcurrentHashMap.newKeySet();
+        when(weatherService.refreshForecast(any())).thenAnswer(inv -> {
+            called.add(inv.getArgument(0));
+            return null;
+        });
+
+        assertThat(prefetcher(8).prefetchForecasts()).isEqualTo(2);
+        assertThat(called).containsExactlyInAnyOrder(daejeon, seoul);
+        verify(shelterRepository, never()).findAllCoordinates();
+        verify(weatherService, never()).refresh(any());
+    }
+
+    @Test
+    @DisplayName("KMA 동시 호출은 parallelism 개를 넘지 않고, 실패한 격자는 건너뛴다.")
+    void prefetch_boundedParallelism() {
+        List<Object[]> shelters = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            // 위도 0.1도 간격 → 서로 다른 격자
+            shelters.add(new Object[]{33.5 + i * 0.1, 126.5});
+        }
+        when(weatherCache.tryAcquireRefreshSlot(any())).thenReturn(true);
+        when(weatherCache.activeGrids()).thenReturn(List.of());
+        when(userRepository.findAllLastLocations()).thenReturn(List.of());
+        when(shelterRepository.findAllCoordinates()).thenReturn(shelters);
+
+        NxNy failing = KmaGrid.fromLatLon(33.5, 126.5);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Set<NxNy> called = ConcurrentHashMap.newKeySet();
+        when(weatherService.refresh(any())).thenAnswer(inv -> {
+            NxNy grid = inv.getArgument(0);
+            called.add(grid);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            if (grid.equals(failing)) {
+                throw new IllegalStateException("KMA 무자료");
+            }
+            return new Nowcast(30.0, 60.0, 1.5, 0.0, "20250701", "1400");
+        });
+
+        int refreshed = prefetcher(4).prefetch();
+
+        assertThat(called).hasSize(40);
+        assertThat(refreshed).isEqualTo(39);
+        assertThat(maxInFlight.get()).isBetween(1, 4);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이번 기준시각을 맡았으면 선조회하지 않는다.")
+    void prefetch_skipsWhenSlotTaken() {
+        when(weatherCache.tryAcquireRefreshSlot(any())).thenReturn(false);
+
+        assertThat(prefetcher(8).prefetch()).isZero();
+        verify(shelterRepository, never()).findAllCoordinates();
+        verify(weatherService, never()).refresh(any());
+    }
+
+    private WeatherPrefetcher prefetcher(int parallelism) {
+        WeatherPrefetcher prefetcher = new WeatherPrefetcher(shelterRepository, userRepository, weatherService,
+                weatherCache);
+        ReflectionTestUtils.setField(prefetcher, "parallelism", parallelism);
+        ReflectionTestUtils.setField(prefetcher, "budget", Duration.ofMinutes(1));
+        return prefetcher;
+    }
+}
@@ -0,0 +1,190 @@
+package com.team19.musuimsa.weather.service;
+
+import com.team19.musuimsa.config.HotKeys;
+import com.team19.musuimsa.exception.external.ExternalApiException;
+import com.team19.musuimsa.weather.dto.HeatForecastResponse;
+import com.team19.musuimsa.weather.dto.NxNy;
+import com.team19.musuimsa.weather.util.KmaGrid;
+import com.team19.musuimsa.weather.util.KmaTime;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+// 로컬 KMA 목 서버(MockWebServer)로 초단기예보 수집 → 캐시 → 조회 경로를 확인한다
+class WeatherServiceForecastTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LON = 126.9780;
+    private static final NxNy GRID = KmaGrid.fromLatLon(LAT, LON);
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final double[] TEMPERATURES = {31.0, 32.0, 33.0, 34.5, 35.0, 32.9};
+    // 2026-07-01 14:50 KST: 최신 초단기예보 발표는 14:30
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-07-01T05:50:00Z"), ZoneId.of("Asia/Seoul"));
+
+    private final MockWebServer kma = new MockWebServer();
+    // 무자료(resultCode 03)로 응답할 발표 시각 (yyyyMMddHHmm)
+    private final Set<String> noDataBases = ConcurrentHashMap.newKeySet();
+    private final WeatherCache weatherCache = mock(WeatherCache.class);
+
+    private WeatherService weatherService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        kma.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                HttpUrl url = request.getRequestUrl();
+                String baseDate = url.queryParameter("base_date");
+                String baseTime = url.queryParameter("base_time");
+                String body = noDataBases.contains(baseDate + baseTime)
+                        ? noData()
+                        : forecast(baseDate, baseTime);
+                return new MockResponse().setHeader("Content-Type", "application/json").setBody(body);
+            }
+        });
+        kma.start();
+
+        weatherService = new WeatherService(RestClient.create(), weatherCache, new HotKeys(),
+                mock(TemperatureHistory.class), new ForecastCache(Optional.empty(), 100, CLOCK), CLOCK);
+        ReflectionTestUtils.setField(weatherService, "baseUrl", kma.url("/api/typ02/openApi/VilageFcstInfoService_2.0")
+                .toString());
+        ReflectionTestUtils.setField(weatherService, "authKey", "test-key");
+        ReflectionTestUtils.setField(weatherService, "hedgeDelay", Duration.ofSeconds(5));
+        weatherService.init();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        kma.shutdown();
+    }
+
+    @Test
+    @DisplayName("수집한 6시간 예보에서 기준 기온 이상인 시간을 세고, 조회 시에는 KMA 를 호출하지 않는다.")
+    void getHoursAbove_readsIngestedForecastWithoutCallingKma() throws Exception {
+        KmaTime.Base base = latestForecastBase();
+
+        weatherService.refreshForecast(GRID);
+
+        RecordedRequest request = kma.takeRequest();
+        assertThat(request.getRequestUrl().encodedPath()).endsWith("/getUltraSrtFcst");
+        assertThat(request.getRequestUrl().queryParameter("base_time")).endsWith("30");
+        assertThat(request.getRequestUrl().queryParameter("numOfRows")).isEqualTo("60");
+
+        HeatForecastResponse response = weatherService.getHoursAbove(LAT, LON, 33.0);
+        weatherService.getHoursAbove(LAT, LON, 30.0);
+
+        assertThat(kma.getRequestCount()).isEqualTo(1);
+        assertThat(response.baseDate()).isEqualTo(base.date());
+        assertThat(response.baseTime()).isEqualTo(base.time());
+        assertThat(response.hours()).hasSize(6);
+        assertThat(response.hoursAbove()).isEqualTo(3);
+        assertThat(response.firstAboveAt()).isEqualTo(forecastAt(base, 3));
+        assertThat(response.hours().get(0).humidity()).isEqualTo(60.0);
+        assertThat(response.hours()).extracting(HeatForecastResponse.HourlyTemperature::above)
+                .containsExactly(false, false, true, true, true, false);
+    }
+
+    @Test
+    @DisplayName("최신 발표분이 무자료면 한 시간 전 발표분으로 폴백한다.")
+    void refreshForecast_fallsBackToPreviousBase() {
+        KmaTime.Base base = latestForecastBase();
+        noDataBases.add(base.date() + base.time());
+
+        weatherService.refreshForecast(GRID);
+
+        KmaTime.Base previous = KmaTime.minusHours(base, 1);
+        assertThat(kma.getRequestCount()).isEqualTo(2);
+        assertThat(weatherService.getHoursAbove(LAT, LON, 33.0).baseTime()).isEqualTo(previous.time());
+    }
+
+    @Test
+    @DisplayName("폴백 후보가 모두 무자료면 ExternalApiException 을 던지고 캐시를 비워 둔다.")
+    void refreshForecast_throwsWhenAllBasesEmpty() {
+        KmaTime.Base base = latestForecastBase();
+        KmaTime.Base previous = KmaTime.minusHours(base, 1);
+        noDataBases.add(base.date() + base.time());
+        noDataBases.add(previous.date() + previous.time());
+
+        assertThatThrownBy(() -> weatherService.refreshForecast(GRID))
+                .isInstanceOf(ExternalApiException.class);
+        assertThat(weatherService.getHoursAbove(LAT, LON, 33.0).hours()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("아직 수집되지 않은 격자는 빈 결과를 주고 다음 수집 대상에 넣는다.")
+    void getHoursAbove_notIngested_returnsEmptyAndMarksActive() {
+        HeatForecastResponse response = weatherService.getHoursAbove(LAT, LON, 33.0);
+
+        assertThat(response.hoursAbove()).isZero();
+        assertThat(response.hours()).isEmpty();
+        assertThat(response.baseTime()).isNull();
+        assertThat(kma.getRequestCount()).isZero();
+        verify(weatherCache).markActive(GRID.nx() + "-" + GRID.ny());
+    }
+
+    private static KmaTime.Base latestForecastBase() {
+        return KmaTime.latestForecastBase(CLOCK);
+    }
+
+    // 발표 시각 + h 시간의 정시 (yyyyMMddHHmm)
+    private static String forecastAt(KmaTime.Base base, int h) {
+        return LocalDateTime.parse(base.date() + base.time(), DATE_TIME)
+                .withMinute(0)
+                .plusHours(h)
+                .format(DATE_TIME);
+    }
+
+    // 실제 응답처럼 시간대별로 여러 요소(T1H, REH, SKY)가 섞여 온다
+    private static String forecast(String baseDate, String baseTime) {
+        KmaTime.Base base = new KmaTime.Base(baseDate, baseTime);
+        StringJoiner items = new StringJoiner(",");
+        for (int h = 1; h <= TEMPERATURES.length; h++) {
+            String at = forecastAt(base, h);
+            String date = at.substring(0, 8);
+            String time = at.substring(8);
+            items.add(item("T1H", date, time, String.valueOf(TEMPERATURES[h - 1])));
+            items.add(item("REH", date, time, "60"));
+            items.add(item("SKY", date, time, "1"));
+        }
+        return """
+                {"response":{"header":{"resultCode":"00","resultMsg":"NORMAL_SERVICE"},
+                "body":{"items":{"item":[%s]}}}}
+                """.formatted(items);
+    }
+
+    private static String item(String category, String date, String time, String value) {
+        return """
+                {"category":"%s","fcstDate":"%s","fcstTime":"%s","fcstValue":"%s"}\
+                """.formatted(category, date, time, value);
+    }
+
+    private static String noData() {
+        return """
+                {"response":{"header":{"resultCode":"03","resultMsg":"NO_DATA"}}}
+                """;
+    }
+}
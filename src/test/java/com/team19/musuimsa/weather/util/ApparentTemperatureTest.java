@@ -0,0 +1,32 @@
+package com.team19.musuimsa.weather.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ApparentTemperatureTest {
+
+    @Test
+    @DisplayName("여름철에는 습도가 높을수록 체감온도가 높다.")
+    void summer_increasesWithHumidity() {
+        assertThat(ApparentTemperature.of(33.0, 20.0, 1.0)).isEqualTo(28.7);
+        assertThat(ApparentTemperature.of(33.0, 60.0, 1.0)).isEqualTo(33.5);
+        assertThat(ApparentTemperature.of(33.0, 90.0, 1.0)).isEqualTo(36.0);
+    }
+
+    @Test
+    @DisplayName("10°C 이하에서는 바람이 강할수록 체감온도가 낮다.")
+    void winter_windChill() {
+        assertThat(ApparentTemperature.of(-5.0, 50.0, 5.0)).isEqualTo(-11.2);
+        // 4.8km/h 미만 바람은 기온 그대로
+        assertThat(ApparentTemperature.of(5.0, 50.0, 1.0)).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("필요한 관측 요소가 없으면 기온을 그대로 쓴다.")
+    void missingElements_fallsBackToTemperature() {
+        assertThat(ApparentTemperature.of(33.0, null, 1.0)).isEqualTo(33.0);
+        assertThat(ApparentTemperature.of(0.0, 50.0, null)).isEqualTo(0.0);
+    }
+}
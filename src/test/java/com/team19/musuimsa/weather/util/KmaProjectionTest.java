@@ -0,0 +1,63 @@
+package com.team19.musuimsa.weather.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.team19.musuimsa.weather.dto.NxNy;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KmaProjectionTest {
+
+    private final KmaProjection projection = KmaProjection.KMA;
+
+    @Test
+    @DisplayName("일괄 변환은 단건 변환과 같은 격자를 돌려준다.")
+    void batch_matchesSingle() {
+        Random random = new Random(19);
+        int n = 5_000;
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = 33.0 + random.nextDouble() * 5.5;
+            lons[i] = 125.0 + random.nextDouble() * 5.0;
+        }
+        int[] nx = new int[n];
+        int[] ny = new int[n];
+
+        projection.toGrid(lats, lons, nx, ny);
+
+        for (int i = 0; i < n; i++) {
+            assertThat(new NxNy(nx[i], ny[i])).isEqualTo(projection.toGrid(lats[i], lons[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("격자 중심 위경도를 다시 변환하면 같은 격자가 된다.")
+    void inverse_roundTrip() {
+        for (int nx = 1; nx <= 149; nx += 4) {
+            for (int ny = 1; ny <= 253; ny += 4) {
+                KmaProjection.LatLon center = projection.toLatLon(nx, ny);
+                assertThat(projection.toGrid(center.lat(), center.lon())).isEqualTo(new NxNy(nx, ny));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("기준점 격자(43, 136)의 중심은 북위 38도, 동경 126도다.")
+    void inverse_originIsReferencePoint() {
+        KmaProjection.LatLon origin = projection.toLatLon(43, 136);
+
+        assertThat(origin.lat()).isCloseTo(38.0, within(1e-9));
+        assertThat(origin.lon()).isCloseTo(126.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("좌표 배열 길이가 다르면 예외를 던진다.")
+    void batch_rejectsLengthMismatch() {
+        assertThatThrownBy(() -> projection.toGrid(new double[2], new double[1], new int[2], new int[2]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
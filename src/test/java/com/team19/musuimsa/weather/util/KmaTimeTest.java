@@ -57,4 +57,37 @@ class KmaTimeTest {
         assertEquals("20251002", prev.date());
         assertEquals("2200", prev.time());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("latestForecastBase: 45분 미만이면 이전 시간 HH30 발표를 반환")
+    void latestForecastBase_Before45Minutes() {
+        // KST 00:40 → 전날 23:30 발표
+        Clock clock = Clock.fixed(Instant.parse("2025-10-02T15:40:00Z"), KST);
+
+        KmaTime.Base base = KmaTime.latestForecastBase(clock);
+
+        assertEquals("20251002", base.date());
+        assertEquals("2330", base.time());
+    }
+
+    @Test
+    @DisplayName("latestForecastBase: 45분 이후면 현재 시간 HH30 발표를 반환")
+    void latestForecastBase_After45Minutes() {
+        // KST 15:50
+        Clock clock = Clock.fixed(Instant.parse("2025-10-03T06:50:00Z"), KST);
+
+        KmaTime.Base base = KmaTime.latestForecastBase(clock);
+
+        assertEquals("20251003", base.date());
+        assertEquals("1530", base.time());
+    }
+
+    @Test
+    @DisplayName("minusHours: 분(HH30)은 유지한다")
+    void minusHours_KeepsMinutes() {
+        KmaTime.Base prev = KmaTime.minusHours(new KmaTime.Base("20251003", "0030"), 1);
+
+        assertEquals("20251002", prev.date());
+        assertEquals("2330", prev.time());
+    }
+}
@@ -33,6 +33,7 @@ import java.util.List;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
@@ -96,7 +97,7 @@ class WishControllerTest {
         WishListItemResponse item =
                 new WishListItemResponse(10L, "Shelter A", "Seoul", "", 0.0, null, "1.2km");
         WishListResponse expected = new WishListResponse(List.of(item));
-        given(wishService.getWishes(any(User.class), any(), any())).willReturn(expected);
+        given(wishService.getWishes(any(User.class), any(), any(), anyBoolean())).willReturn(expected);
 
         MvcResult result = mockMvc.perform(get("/api/users/me/wishes")
                         .param("latitude", "37.5")
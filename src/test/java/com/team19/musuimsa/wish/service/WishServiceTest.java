@@ -160,7 +160,7 @@ class WishServiceTest {
         given(wishRepository.findAllWithShelterByUserIdOrderByCreatedAtDesc(userId))
                 .willReturn(List.of(wish));
 
-        WishListResponse list = wishService.getWishes(user, null, null);
+        WishListResponse list = wishService.getWishes(user, null, null, false);
 
         assertSoftly(softly -> {
             softly.assertThat(list.items()).hasSize(1);
@@ -188,7 +188,7 @@ class WishServiceTest {
         given(wishRepository.findAllWithShelterByUserIdOrderByCreatedAtDesc(userId))
                 .willReturn(List.of(Wish.of(user, shelter)));
 
-        WishListResponse list = wishService.getWishes(user, 37.5665, 126.9780);
+        WishListResponse list = wishService.getWishes(user, 37.5665, 126.9780, false);
 
         WishListItemResponse item = list.items().get(0);
         assertSoftly(softly -> {
@@ -198,6 +198,32 @@ class WishServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("getWishes - openNow 면 지금 운영 중인 쉼터만 남긴다(운영시간을 모르면 제외)")
+    void getWishes_shouldKeepOnlyOpenShelters_whenOpenNow() {
+        // 시작 == 종료는 24시간이라 요청 시각과 무관하게 운영 중
+        Shelter allDay = Shelter.builder()
+                .shelterId(1L).name("24시간").address("서울")
+                .weekdayOpenTime(LocalTime.MIDNIGHT).weekdayCloseTime(LocalTime.MIDNIGHT)
+                .weekendOpenTime(LocalTime.MIDNIGHT).weekendCloseTime(LocalTime.MIDNIGHT)
+                .totalRating(0).reviewCount(0)
+                .build();
+        Shelter unknown = Shelter.builder()
+                .shelterId(2L).name("운영시간 모름").address("서울")
+                .totalRating(0).reviewCount(0)
+                .build();
+
+        given(wishRepository.findAllWithShelterByUserIdOrderByCreatedAtDesc(userId))
+                .willReturn(List.of(Wish.of(user, allDay), Wish.of(user, unknown)));
+
+        WishListResponse open = wishService.getWishes(user, null, null, true);
+        WishListResponse all = wishService.getWishes(user, null, null, false);
+
+        assertSoftly(softly -> {
+            softly.assertThat(open.items()).extracting(WishListItemResponse::shelterId).containsExactly(1L);
+            softly.assertThat(all.items()).extracting(WishListItemResponse::shelterId).containsExactly(1L, 2L);
+        });
+    }
 
     private User principal(long id) {
         User user = Mockito.mock(User.class);